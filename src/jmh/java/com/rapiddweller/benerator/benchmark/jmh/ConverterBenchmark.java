@@ -0,0 +1,98 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark.jmh;
+
+import com.rapiddweller.benerator.converter.MD5Hash;
+import com.rapiddweller.benerator.converter.Mask;
+import com.rapiddweller.benerator.converter.SHA256Hash;
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.common.converter.AnyConverter;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.DefaultDescriptorProvider;
+import com.rapiddweller.model.data.Entity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of type conversions, entity component assignment and
+ * the anonymization converters.<br/><br/>
+ * Created: 19.10.2026 11:51:40
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+  private final AnyConverter<Integer> intConverter = new AnyConverter<>(Integer.class);
+  private final AnyConverter<Date> dateConverter = new AnyConverter<>(Date.class, "yyyy-MM-dd");
+  private final MD5Hash md5 = new MD5Hash();
+  private final SHA256Hash sha256 = new SHA256Hash();
+  private final Mask mask = new Mask();
+
+  private Entity typedEntity;
+  private Entity untypedEntity;
+  private int counter;
+
+  @Setup
+  public void setUp() {
+    BeneratorContext context = JmhSupport.createContext();
+    ComplexTypeDescriptor type = JmhSupport.createPersonType(context);
+    typedEntity = JmhSupport.createPerson(type, 1);
+    untypedEntity = new Entity("person", new DefaultDescriptorProvider("untyped", context.getDataModel()));
+  }
+
+  @Benchmark
+  public Integer stringToInteger() {
+    return intConverter.convert("12345");
+  }
+
+  @Benchmark
+  public Date stringToDate() {
+    return dateConverter.convert("1987-12-31");
+  }
+
+  @Benchmark
+  public Object setTypedComponent() {
+    // the string is converted to the component's declared type
+    typedEntity.setComponent("age", "42");
+    return typedEntity.get("age");
+  }
+
+  @Benchmark
+  public Object setUntypedComponent() {
+    untypedEntity.setComponent("age", ++counter);
+    return untypedEntity.get("age");
+  }
+
+  @Benchmark
+  public String md5Hash() {
+    return md5.convert("Alice Miller");
+  }
+
+  @Benchmark
+  public String sha256Hash() {
+    return sha256.convert("Alice Miller");
+  }
+
+  @Benchmark
+  public String mask() {
+    return mask.convert("Alice Miller");
+  }
+
+}
@@ -0,0 +1,74 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark.jmh;
+
+import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.domain.address.AddressGenerator;
+import com.rapiddweller.domain.person.PersonGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the composite person and address generators of the domain packages
+ * for different datasets.<br/><br/>
+ * Created: 19.10.2026 11:42:18
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainGeneratorBenchmark {
+
+  @Param({ "person", "address" })
+  public String generator;
+
+  @Param({ "US", "DE" })
+  public String dataset;
+
+  private Generator<?> target;
+  private ProductWrapper wrapper;
+
+  @Setup
+  public void setUp() {
+    BeneratorContext context = JmhSupport.createContext();
+    switch (generator) {
+      case "person":  target = new PersonGenerator(dataset); break;
+      case "address": target = new AddressGenerator(dataset); break;
+      default: throw BeneratorExceptionFactory.getInstance().illegalArgument("Unknown generator: " + generator);
+    }
+    target.init(context);
+    wrapper = new ProductWrapper<>();
+  }
+
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public Object generate() {
+    return target.generate(wrapper).unwrap();
+  }
+
+  @TearDown
+  public void tearDown() {
+    IOUtil.close(target);
+  }
+
+}
@@ -0,0 +1,115 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark.jmh;
+
+import com.rapiddweller.benerator.Consumer;
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.csv.CSVEntityExporter;
+import com.rapiddweller.platform.db.SQLEntityExporter;
+import com.rapiddweller.platform.dbunit.DbUnitEntityExporter;
+import com.rapiddweller.platform.fixedwidth.FixedWidthEntityExporter;
+import com.rapiddweller.platform.xls.XLSEntityExporter;
+import com.rapiddweller.platform.xls.XLSXEntityExporter;
+import com.rapiddweller.platform.xml.XMLEntityExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the file exporters. Each measurement iteration exports to a fresh exporter
+ * which is closed afterwards, so the cost of writing trailers and finishing documents is included.
+ * The output is written to /dev/null where available, so the disk speed does not distort the results.
+ * The XLS exporter holds the complete document in memory and is limited to 65536 rows per sheet,
+ * so it starts a new document after 65000 entities.<br/><br/>
+ * Created: 19.10.2026 12:03:55
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExporterBenchmark {
+
+  private static final int ENTITY_COUNT = 1000;
+  private static final int MAX_XLS_ROWS = 65000;
+
+  @Param({ "csv", "fixedwidth", "xml", "xls", "xlsx", "sql", "dbunit" })
+  public String format;
+
+  private Entity[] entities;
+  private Consumer exporter;
+  private ProductWrapper<Entity> wrapper;
+  private int index;
+  private int rowCount;
+
+  @Setup
+  public void setUp() {
+    BeneratorContext context = JmhSupport.createContext();
+    ComplexTypeDescriptor type = JmhSupport.createPersonType(context);
+    entities = new Entity[ENTITY_COUNT];
+    for (int i = 0; i < ENTITY_COUNT; i++) {
+      entities[i] = JmhSupport.createPerson(type, i);
+    }
+    wrapper = new ProductWrapper<>();
+  }
+
+  @Setup(Level.Iteration)
+  public void openExporter() {
+    exporter = createExporter(format, JmhSupport.sinkUri("." + format));
+    rowCount = 0;
+  }
+
+  @Benchmark
+  public void export() {
+    if ("xls".equals(format) && rowCount == MAX_XLS_ROWS) {
+      closeExporter();
+      openExporter();
+    }
+    wrapper.wrap(entities[index]);
+    exporter.startConsuming(wrapper);
+    exporter.finishConsuming(wrapper);
+    index = (index + 1) % ENTITY_COUNT;
+    rowCount++;
+  }
+
+  @TearDown(Level.Iteration)
+  public void closeExporter() {
+    IOUtil.close(exporter);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static Consumer createExporter(String format, String uri) {
+    switch (format) {
+      case "csv":        return new CSVEntityExporter(uri, "id,name,age,income,birthDate,active");
+      case "fixedwidth": return new FixedWidthEntityExporter(uri, "id[10r0],name[24],age[3r0],income[10.2r0]");
+      case "xml":        return new XMLEntityExporter(uri);
+      case "xls":        return new XLSEntityExporter(uri);
+      case "xlsx":       return new XLSXEntityExporter(uri);
+      case "sql":        return new SQLEntityExporter(uri, "hsql");
+      case "dbunit":     return new DbUnitEntityExporter(uri);
+      default: throw BeneratorExceptionFactory.getInstance().illegalArgument("Unknown format: " + format);
+    }
+  }
+
+}
@@ -0,0 +1,146 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark.jmh;
+
+import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.distribution.SequenceManager;
+import com.rapiddweller.benerator.distribution.WeightedLongGenerator;
+import com.rapiddweller.benerator.distribution.sequence.BitReverseLongGenerator;
+import com.rapiddweller.benerator.distribution.sequence.CumulatedLongGenerator;
+import com.rapiddweller.benerator.distribution.sequence.RandomDoubleGenerator;
+import com.rapiddweller.benerator.distribution.sequence.RandomLongGenerator;
+import com.rapiddweller.benerator.distribution.sequence.RandomWalkLongGenerator;
+import com.rapiddweller.benerator.distribution.sequence.ShuffleLongGenerator;
+import com.rapiddweller.benerator.distribution.sequence.StepLongGenerator;
+import com.rapiddweller.benerator.distribution.sequence.WedgeLongGenerator;
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.primitive.BooleanGenerator;
+import com.rapiddweller.benerator.primitive.CharacterGenerator;
+import com.rapiddweller.benerator.primitive.DefaultVarLengthStringGenerator;
+import com.rapiddweller.benerator.primitive.IncrementGenerator;
+import com.rapiddweller.benerator.primitive.LuhnGenerator;
+import com.rapiddweller.benerator.primitive.RegexStringGenerator;
+import com.rapiddweller.benerator.primitive.UUIDGenerator;
+import com.rapiddweller.benerator.sample.ArrayIndexedSource;
+import com.rapiddweller.benerator.sample.AttachedWeightSampleGenerator;
+import com.rapiddweller.benerator.sample.IndexedSampleGenerator;
+import com.rapiddweller.benerator.sample.SampleGenerator;
+import com.rapiddweller.benerator.sample.WeightedCSVSampleGenerator;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.common.IOUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the core {@link Generator} implementations of the packages
+ * 'primitive', 'distribution.sequence' and 'sample'. Bounded generators are reset
+ * when they become unavailable, which is included in the measurement.<br/><br/>
+ * Created: 19.10.2026 11:17:02
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratorBenchmark {
+
+  private static final int RANGE = 1000000;
+
+  @Param({
+      "increment", "regex", "uuid", "character", "varLengthString", "luhn", "boolean",
+      "randomLong", "randomDouble", "weightedLong", "step", "shuffle", "bitReverse", "randomWalk", "cumulated", "wedge",
+      "sample", "attachedWeightSample", "weightedCSVSample", "indexedSample"
+  })
+  public String generator;
+
+  private Generator<Object> target;
+  private ProductWrapper<Object> wrapper;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    BeneratorContext context = JmhSupport.createContext();
+    target = (Generator<Object>) createGenerator(generator, context);
+    target.init(context);
+    wrapper = new ProductWrapper<>();
+  }
+
+  @Benchmark
+  public Object generate() {
+    ProductWrapper<Object> result = target.generate(wrapper);
+    if (result == null) {
+      target.reset();
+      result = target.generate(wrapper);
+    }
+    return result.unwrap();
+  }
+
+  @TearDown
+  public void tearDown() {
+    IOUtil.close(target);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static Generator<?> createGenerator(String name, BeneratorContext context) {
+    switch (name) {
+      // primitive
+      case "increment":            return new IncrementGenerator(1);
+      case "regex":                return new RegexStringGenerator("[A-Z][a-z]{3,8} [0-9]{2,4}(-[A-Z]{2})?");
+      case "uuid":                 return new UUIDGenerator();
+      case "character":            return new CharacterGenerator("[A-Za-z0-9]");
+      case "varLengthString":      return new DefaultVarLengthStringGenerator("[a-z]", 5, 15, 1);
+      case "luhn":                 return new LuhnGenerator();
+      case "boolean":              return new BooleanGenerator(0.3);
+      // distribution.sequence
+      case "randomLong":           return new RandomLongGenerator(0, (long) RANGE);
+      case "randomDouble":         return new RandomDoubleGenerator(0, RANGE);
+      case "weightedLong":         return new WeightedLongGenerator(0, 1000);
+      case "step":                 return new StepLongGenerator(0, RANGE);
+      case "shuffle":              return new ShuffleLongGenerator(0, RANGE);
+      case "bitReverse":           return new BitReverseLongGenerator(0, RANGE);
+      case "randomWalk":           return new RandomWalkLongGenerator(0, RANGE);
+      case "cumulated":            return new CumulatedLongGenerator(0, RANGE);
+      case "wedge":                return new WedgeLongGenerator(0, RANGE);
+      // sample
+      case "sample":               return new SampleGenerator<>(String.class, "Alice", "Bob", "Charly", "Doris", "Eve");
+      case "attachedWeightSample": return createAttachedWeightSampleGenerator();
+      case "weightedCSVSample":    return new WeightedCSVSampleGenerator<String>(
+                                       "/com/rapiddweller/domain/person/familyName_US.csv", "UTF-8", ',');
+      case "indexedSample":        return createIndexedSampleGenerator(context);
+      default: throw BeneratorExceptionFactory.getInstance().illegalArgument("Unknown generator: " + name);
+    }
+  }
+
+  private static Generator<String> createAttachedWeightSampleGenerator() {
+    AttachedWeightSampleGenerator<String> generator = new AttachedWeightSampleGenerator<>(String.class);
+    generator.addSample("rare", 1);
+    generator.addSample("medium", 10);
+    generator.addSample("common", 100);
+    generator.addSample("frequent", 1000);
+    return generator;
+  }
+
+  private static Generator<Long> createIndexedSampleGenerator(BeneratorContext context) {
+    StepLongGenerator values = new StepLongGenerator(0, 99999);
+    values.init(context);
+    return new IndexedSampleGenerator<>(ArrayIndexedSource.of(values), SequenceManager.RANDOM_SEQUENCE, false);
+  }
+
+}
@@ -0,0 +1,83 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark.jmh;
+
+import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.engine.BeneratorRootContext;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.DataModel;
+import com.rapiddweller.model.data.DefaultDescriptorProvider;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.model.data.PartDescriptor;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Provides contexts, types, entities and output sinks for the JMH benchmarks.<br/><br/>
+ * Created: 19.10.2026 11:05:31
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class JmhSupport {
+
+  private static final File DEV_NULL = new File("/dev/null");
+
+  private JmhSupport() {
+    // private constructor to prevent instantiation
+  }
+
+  /** Creates a root context with the default imports, as used by a Benerator run. */
+  public static BeneratorContext createContext() {
+    BeneratorRootContext context = BeneratorFactory.getInstance().createRootContext(".");
+    context.importDefaults();
+    return context;
+  }
+
+  /** Provides a URI to which an exporter can write without the cost of storing the data:
+   *  /dev/null where available, otherwise a temporary file which is deleted on JVM exit.
+   *  @param suffix the file suffix to use for a temporary file, e.g. ".csv" */
+  public static String sinkUri(String suffix) {
+    if (DEV_NULL.exists() && DEV_NULL.canWrite()) {
+      return DEV_NULL.getAbsolutePath();
+    }
+    try {
+      File file = File.createTempFile("benerator-jmh-", suffix);
+      file.deleteOnExit();
+      return file.getAbsolutePath();
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().fileAccessException("Unable to create benchmark sink file", e);
+    }
+  }
+
+  /** Creates a 'person' type with typed string, integer, decimal, date and boolean attributes. */
+  public static ComplexTypeDescriptor createPersonType(BeneratorContext context) {
+    DataModel dataModel = context.getDataModel();
+    DefaultDescriptorProvider provider = new DefaultDescriptorProvider("jmh", dataModel);
+    ComplexTypeDescriptor type = new ComplexTypeDescriptor("person", provider);
+    type.setComponent(new PartDescriptor("id", provider, dataModel.getPrimitiveTypeDescriptor(Long.class)));
+    type.setComponent(new PartDescriptor("name", provider, dataModel.getPrimitiveTypeDescriptor(String.class)));
+    type.setComponent(new PartDescriptor("age", provider, dataModel.getPrimitiveTypeDescriptor(Integer.class)));
+    type.setComponent(new PartDescriptor("income", provider, dataModel.getPrimitiveTypeDescriptor(BigDecimal.class)));
+    type.setComponent(new PartDescriptor("birthDate", provider, dataModel.getPrimitiveTypeDescriptor(Date.class)));
+    type.setComponent(new PartDescriptor("active", provider, dataModel.getPrimitiveTypeDescriptor(Boolean.class)));
+    provider.addTypeDescriptor(type);
+    return type;
+  }
+
+  /** Creates an entity of the type created by {@link #createPersonType(BeneratorContext)}. */
+  public static Entity createPerson(ComplexTypeDescriptor type, long id) {
+    return new Entity(type,
+        "id", id,
+        "name", "Alice Miller-" + id,
+        "age", (int) (id % 100),
+        "income", new BigDecimal("12345.67"),
+        "birthDate", new Date(86400000L * (id % 20000)),
+        "active", (id % 2 == 0));
+  }
+
+}
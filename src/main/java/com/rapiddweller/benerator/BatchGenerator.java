@@ -0,0 +1,31 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator;
+
+/**
+ * {@link Generator} which is able to create several products in one invocation,
+ * saving the per-product overhead of wrapping, delegation and state checks.
+ * Arbitrary generators can be used in batch mode with the adapter method
+ * {@link com.rapiddweller.benerator.util.GeneratorUtil#generateBatch(Generator, Object[], int)}.<br/><br/>
+ * Created: 19.10.2026 14:02:37
+ * @param <E> the type of the generated products
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public interface BatchGenerator<E> extends Generator<E> {
+
+  /** Generates up to count products and stores them in the target array, starting at index 0.
+   *  The result is the same as from count subsequent calls to {@link #generate(com.rapiddweller.benerator.wrapper.ProductWrapper)}.
+   *  @param target the array to receive the products, it must have a length of at least count
+   *  @param count the number of products to generate
+   *  @return the number of products generated. If it is less than count,
+   *      the generator has become unavailable */
+  int generateBatch(Object[] target, int count);
+
+  /** Tells if the products may be generated in advance of their usage.
+   *  This requires that they do not depend on context data which changes between generations,
+   *  like the entity under construction.
+   *  @return true if the products may be generated ahead, otherwise false */
+  boolean isBatchable();
+
+}
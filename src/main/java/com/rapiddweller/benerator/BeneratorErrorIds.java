@@ -299,6 +299,9 @@ public class BeneratorErrorIds {
   public static final String SYN_GENERATE_ON_ERROR     = "BEN-0421";
   public static final String SYN_GENERATE_TEMPLATE     = "BEN-0422";
   public static final String SYN_GENERATE_CONSUMER     = "BEN-0423";
+  public static final String SYN_GENERATE_PIPELINE     = "BEN-0424";
+  public static final String SYN_GENERATE_CONSUMER_THREADS = "BEN-0425";
+  public static final String SYN_GENERATE_ORDERED      = "BEN-0426";
 
   // Syntax Errors regarding <iterate> -------------------------------------------------------------------------------
 
@@ -339,6 +342,9 @@ public class BeneratorErrorIds {
   public static final String SYN_ITERATE_ON_ERROR        = "BEN-0484";
   public static final String SYN_ITERATE_TEMPLATE        = "BEN-0485";
   public static final String SYN_ITERATE_CONSUMER        = "BEN-0486";
+  public static final String SYN_ITERATE_PIPELINE        = "BEN-0487";
+  public static final String SYN_ITERATE_CONSUMER_THREADS = "BEN-0488";
+  public static final String SYN_ITERATE_ORDERED         = "BEN-0489";
 
   // Syntax Errors regarding <variable> -----------------------------------------------------------------------------
 
@@ -473,6 +479,9 @@ public class BeneratorErrorIds {
   public static final String SYN_DB_ENV_GROUP_INCOMPLETE = "BEN-1022";
   public static final String SYN_DB_URL_AND_ENV_GROUP    = "BEN-1023";
   public static final String SYN_DB_NO_URL_AND_ENV_GROUP = "BEN-1024";
+  public static final String SYN_DB_BATCH_SIZE           = "BEN-1025";
+  public static final String SYN_DB_BATCH_BYTES          = "BEN-1026";
+  public static final String SYN_DB_BATCH_REWRITE        = "BEN-1027";
 
 
   public static final String DB_CONNECT_FAILED = "BEN-1100";
@@ -486,6 +495,8 @@ public class BeneratorErrorIds {
   public static final String SYN_TRANSCODING_TASK_TARGET         = "BEN-1203";
   public static final String SYN_TRANSCODING_TASK_PAGE_SIZE      = "BEN-1204";
   public static final String SYN_TRANSCODING_TASK_ON_ERROR       = "BEN-1205";
+  public static final String SYN_TRANSCODING_TASK_KEY_MAPPER     = "BEN-1206";
+  public static final String SYN_TRANSCODING_TASK_KEY_MAPPER_MEM = "BEN-1207";
 
   public static final String SYN_TRANSCODE_ILLEGAL_ATTR = "BEN-1210";
   public static final String SYN_TRANSCODE_SOURCE       = "BEN-1211";
@@ -644,6 +655,9 @@ public class BeneratorErrorIds {
   public static final String SYN_MONGO_SYS = "BEN-2409";
   public static final String SYN_MONGO_AUTH_DB = "BEN-2410";
   public static final String SYN_MONGO_AUTH_MECHANISM = "BEN-2411";
+  public static final String SYN_MONGO_BATCH = "BEN-2412";
+  public static final String SYN_MONGO_BATCH_SIZE = "BEN-2413";
+  public static final String SYN_MONGO_BATCH_BYTES = "BEN-2414";
 
   // Syntax Errors regarding <meta-model> ------------------------------------------------------------------------------
 
@@ -26,6 +26,7 @@
 
 package com.rapiddweller.benerator;
 
+import com.rapiddweller.benerator.csv.CSVTableCache;
 import com.rapiddweller.benerator.environment.Environment;
 import com.rapiddweller.benerator.environment.EnvironmentUtil;
 import com.rapiddweller.benerator.environment.SystemRef;
@@ -241,6 +242,7 @@ public static void printEnvKafkas(TextPrinter printer) {
   public static void clearCaches() {
     configLogger.info("Deleting caches");
     FileUtil.deleteDirectory(ConfigUtil.commonCacheFolder());
+    CSVTableCache.clear();
   }
 
   // private helpers -------------------------------------------------------------------------------------------------
@@ -49,6 +49,12 @@
  *        When <i>unavailable</i>, the generator must be in a state in which it can be safely garbage collected.</li>
  * </ul>
  *
+ * <b>Multithreading</b><br/>
+ * When a &lt;generate&gt; or &lt;iterate&gt; element is executed by several threads, each thread uses
+ * a clone of each generator which is {@link #isParallelizable() parallelizable}, while the other generators
+ * are shared by all threads. Generators which create a sequence (like steps, shuffles and increments)
+ * are not parallelizable, since clones would repeat each other's sequence.<br/>
+ * <br/>
  * <b>Developer Notes:</b><br/>
  * When implementing a custom generator, you should make it a JavaBean:
  * <ul>
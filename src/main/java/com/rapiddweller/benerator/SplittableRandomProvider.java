@@ -0,0 +1,28 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * {@link RandomProvider} which draws its numbers from a stream of the current thread.
+ * Child streams are derived from the provider's seed, so concurrent workers can each be bound
+ * to an independent stream of their own and a seeded run produces the same data on each execution.<br/><br/>
+ * Created: 19.10.2026 17:02:18
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public interface SplittableRandomProvider extends RandomProvider {
+
+  /** Splits an independent child stream from the stream of the current thread.
+   *  Subsequent calls create different streams, in a sequence which is determined by the provider's seed
+   *  and the numbers drawn by the current thread before.
+   *  @return a new random number stream */
+  SplittableRandom split();
+
+  /** Makes the current thread draw its random numbers from the given stream.
+   *  @param stream the stream to use or null for restoring the thread's default stream
+   *  @return the stream previously bound to the thread or null if it used its default stream */
+  SplittableRandom bind(SplittableRandom stream);
+
+}
@@ -4,9 +4,15 @@
 
 import com.rapiddweller.benerator.environment.EnvironmentUtil;
 import com.rapiddweller.benerator.environment.SystemRef;
+import com.rapiddweller.benerator.sensor.LatencySnapshot;
 import com.rapiddweller.common.ArrayBuilder;
 import com.rapiddweller.common.HF;
 
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Collection;
+import java.util.Locale;
+
 /**
  * Abstract parent class to use for {@link BenchmarkResultExporter} implementations.<br/><br/>
  * Created: 16.11.2021 10:43:36
@@ -63,6 +69,65 @@ protected static Object[] formatColumnHeaders(ExecutionMode[] executionModes, bo
     return header;
   }
 
+  /** Creates a table of the entity latency percentiles of each sensor and execution mode
+   *  with a last column for the latencies merged over all modes.
+   *  @return the table including a header row or null if no latencies have been recorded */
+  protected static Object[][] formatLatencyTable(BenchmarkToolReport result, boolean insertLf) {
+    ExecutionMode[] executionModes = result.getExecutionModes();
+    ArrayBuilder<Object[]> table = new ArrayBuilder<>(Object[].class);
+    Object[] header = new Object[executionModes.length + 2];
+    System.arraycopy(formatColumnHeaders(executionModes, insertLf), 0, header, 0, executionModes.length + 1);
+    header[0] = "Latency " + formatPercentileLabels() + " (\u00b5s)";
+    header[executionModes.length + 1] = "All";
+    table.add(header);
+    boolean latenciesFound = false;
+    for (BenchmarkResult benchmarkResult : result.getResults()) {
+      Collection<String> sensors = benchmarkResult.getSensors();
+      for (String sensor : sensors) {
+        Object[] row = new Object[executionModes.length + 2];
+        row[0] = rowHeader(benchmarkResult, sensor, sensors.size());
+        SensorSummary sensorSummary = benchmarkResult.getSensorSummary(sensor);
+        int i = 1;
+        for (ExecutionMode mode : executionModes) {
+          SensorResult sensorResult = sensorSummary.getResult(mode);
+          row[i++] = formatLatencies(sensorResult != null ? sensorResult.getLatencies() : null);
+        }
+        LatencySnapshot merged = sensorSummary.getMergedLatencies();
+        row[i] = formatLatencies(merged);
+        latenciesFound |= (merged != null);
+        table.add(row);
+      }
+    }
+    return (latenciesFound ? table.toArray() : null);
+  }
+
+  /** Formats the standard percentiles of nanosecond latencies in microseconds, e.g. '1.2/1.5/3/12.1'. */
+  protected static String formatLatencies(LatencySnapshot latencies) {
+    if (latencies == null || latencies.sampleCount() == 0) {
+      return "N/A";
+    }
+    DecimalFormat format = new DecimalFormat("0.#", DecimalFormatSymbols.getInstance(Locale.US));
+    StringBuilder builder = new StringBuilder();
+    for (double percentile : LatencySnapshot.STANDARD_PERCENTILES) {
+      if (builder.length() > 0) {
+        builder.append('/');
+      }
+      builder.append(format.format(latencies.valueAtPercentile(percentile) / 1000.));
+    }
+    return builder.toString();
+  }
+
+  private static String formatPercentileLabels() {
+    StringBuilder builder = new StringBuilder();
+    for (double percentile : LatencySnapshot.STANDARD_PERCENTILES) {
+      if (builder.length() > 0) {
+        builder.append('/');
+      }
+      builder.append(LatencySnapshot.percentileLabel(percentile));
+    }
+    return builder.toString();
+  }
+
   protected static String environmentName(BenchmarkResult result) {
     SystemRef system = result.getSystem();
     return (system != null ? system.toString() : null);
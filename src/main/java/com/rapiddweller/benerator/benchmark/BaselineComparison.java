@@ -0,0 +1,140 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compares the throughput of a benchmark run with a {@link BenchmarkBaseline}.
+ * A sensor result counts as regression if its mean throughput is lower than the
+ * baseline's mean reduced by the tolerance.<br/><br/>
+ * Created: 19.10.2026 13:58:26
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class BaselineComparison {
+
+  private final BenchmarkBaseline baseline;
+  private final BenchmarkBaseline current;
+  private final double tolerance;
+  private final List<Deviation> deviations;
+
+  public BaselineComparison(BenchmarkBaseline baseline, BenchmarkBaseline current, double tolerance) {
+    if (tolerance < 0 || tolerance >= 1) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument(
+          "Tolerance must be at least 0 and less than 1: " + tolerance);
+    }
+    this.baseline = baseline;
+    this.current = current;
+    this.tolerance = tolerance;
+    this.deviations = new ArrayList<>();
+    for (BenchmarkBaseline.Entry entry : current.getEntries()) {
+      BenchmarkBaseline.Entry reference = baseline.getEntry(entry.getKey());
+      if (reference != null) {
+        deviations.add(new Deviation(entry.getKey(), reference.getStatistics(), entry.getStatistics()));
+      }
+    }
+  }
+
+  public double getTolerance() {
+    return tolerance;
+  }
+
+  /** @return the comparisons of all sensor results which exist in the baseline as well as in the current run */
+  public List<Deviation> getDeviations() {
+    return deviations;
+  }
+
+  public List<Deviation> getRegressions() {
+    List<Deviation> result = new ArrayList<>();
+    for (Deviation deviation : deviations) {
+      if (deviation.isRegression()) {
+        result.add(deviation);
+      }
+    }
+    return result;
+  }
+
+  public boolean hasRegressions() {
+    return !getRegressions().isEmpty();
+  }
+
+  /** @return the keys of the current results for which the baseline has no reference */
+  public List<String> getUnmatchedKeys() {
+    List<String> result = new ArrayList<>();
+    for (BenchmarkBaseline.Entry entry : current.getEntries()) {
+      if (baseline.getEntry(entry.getKey()) == null) {
+        result.add(entry.getKey());
+      }
+    }
+    return result;
+  }
+
+  public void print(PrintStream printer) {
+    printer.println("Comparison with baseline of " + baseline.getCreated()
+        + " (Benerator " + baseline.getVersion() + ", tolerance "
+        + String.format(Locale.US, "%.1f%%", tolerance * 100) + "):");
+    if (!baseline.isSameMachine(current)) {
+      printer.println("WARNING: The baseline was recorded on a different machine: "
+          + baseline.getMachine() + " with " + baseline.getCpuAndMemInfo());
+    }
+    for (Deviation deviation : deviations) {
+      printer.println((deviation.isRegression() ? "REGRESSION " : "ok         ") + deviation);
+    }
+    for (String key : getUnmatchedKeys()) {
+      printer.println("new        " + key + ": not in baseline");
+    }
+  }
+
+  static String formatPercent(double ratio) {
+    return String.format(Locale.US, "%+.1f%%", ratio * 100);
+  }
+
+  /** Compares the baseline and the current throughput of one sensor of a benchmark in one execution mode. */
+  public class Deviation {
+
+    private final String key;
+    private final ThroughputStatistics reference;
+    private final ThroughputStatistics measured;
+
+    public Deviation(String key, ThroughputStatistics reference, ThroughputStatistics measured) {
+      this.key = key;
+      this.reference = reference;
+      this.measured = measured;
+    }
+
+    public String getKey() {
+      return key;
+    }
+
+    public ThroughputStatistics getReference() {
+      return reference;
+    }
+
+    public ThroughputStatistics getMeasured() {
+      return measured;
+    }
+
+    /** @return the relative change of the mean throughput, e.g. -0.05 for a decrease of 5% */
+    public double getChange() {
+      return (reference.getMean() > 0 ? measured.getMean() / reference.getMean() - 1 : 0);
+    }
+
+    public boolean isRegression() {
+      return measured.getMean() < reference.getMean() * (1 - tolerance);
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.US, "%s: %.1f -> %.1f E/s (%s)",
+          key, reference.getMean(), measured.getMean(), formatPercent(getChange()));
+    }
+
+  }
+
+}
@@ -0,0 +1,261 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark;
+
+import com.rapiddweller.benerator.environment.SystemRef;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.IOUtil;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonParseException;
+import org.bson.json.JsonWriterSettings;
+
+import java.io.File;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Machine-readable snapshot of the throughput statistics of a benchmark run,
+ * which is saved as JSON file and serves as reference for later runs on the same machine.<br/><br/>
+ * Created: 19.10.2026 13:31:07
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class BenchmarkBaseline {
+
+  private final String version;
+  private final String machine;
+  private final String osInfo;
+  private final String cpuAndMemInfo;
+  private final String javaVersion;
+  private final String mode;
+  private final String created;
+  private final Map<String, Entry> entries;
+
+  public BenchmarkBaseline(String version, String machine, String osInfo, String cpuAndMemInfo,
+                           String javaVersion, String mode, String created) {
+    this.version = version;
+    this.machine = machine;
+    this.osInfo = osInfo;
+    this.cpuAndMemInfo = cpuAndMemInfo;
+    this.javaVersion = javaVersion;
+    this.mode = mode;
+    this.created = created;
+    this.entries = new LinkedHashMap<>();
+  }
+
+  /** Creates a baseline of the results of a benchmark run on the local machine. */
+  public static BenchmarkBaseline of(BenchmarkToolReport report) {
+    BenchmarkBaseline baseline = new BenchmarkBaseline(report.getVersionInfo().getVersion(), machineName(),
+        report.getOsInfo(), report.getCpuAndMemInfo(), report.getJavaVersion(), report.getMode().getCode(),
+        report.getStartDateTime().toString());
+    for (BenchmarkResult benchmarkResult : report.getResults()) {
+      SystemRef system = benchmarkResult.getSystem();
+      for (String sensor : benchmarkResult.getSensors()) {
+        SensorSummary summary = benchmarkResult.getSensorSummary(sensor);
+        for (ExecutionMode executionMode : report.getExecutionModes()) {
+          SensorResult result = summary.getResult(executionMode);
+          if (result != null) {
+            baseline.addEntry(new Entry(benchmarkResult.getBenchmark().getName(),
+                (system != null ? system.toString() : null), sensor, executionMode.getLabel(),
+                result.getStatistics()));
+          }
+        }
+      }
+    }
+    return baseline;
+  }
+
+  /** @return the default baseline file name of the local machine, e.g. 'benchmark-baseline-myhost.json' */
+  public static String defaultFileName() {
+    return "benchmark-baseline-" + machineName().replaceAll("[^A-Za-z0-9._-]", "_") + ".json";
+  }
+
+  public String getVersion() {
+    return version;
+  }
+
+  public String getMachine() {
+    return machine;
+  }
+
+  public String getOsInfo() {
+    return osInfo;
+  }
+
+  public String getCpuAndMemInfo() {
+    return cpuAndMemInfo;
+  }
+
+  public String getJavaVersion() {
+    return javaVersion;
+  }
+
+  public String getMode() {
+    return mode;
+  }
+
+  public String getCreated() {
+    return created;
+  }
+
+  public List<Entry> getEntries() {
+    return new ArrayList<>(entries.values());
+  }
+
+  public Entry getEntry(String key) {
+    return entries.get(key);
+  }
+
+  public void addEntry(Entry entry) {
+    entries.put(entry.getKey(), entry);
+  }
+
+  /** Tells if the baseline was recorded on a machine of the same name and hardware as the other one */
+  public boolean isSameMachine(BenchmarkBaseline that) {
+    return Objects.equals(this.machine, that.machine) && Objects.equals(this.cpuAndMemInfo, that.cpuAndMemInfo);
+  }
+
+  /** Compares the results of this run with a baseline.
+   *  @param baseline the baseline to compare with
+   *  @param tolerance the relative throughput decrease which is tolerated, e.g. 0.1 for 10%
+   *  @return the comparison */
+  public BaselineComparison compareWith(BenchmarkBaseline baseline, double tolerance) {
+    return new BaselineComparison(baseline, this, tolerance);
+  }
+
+  // persistence -----------------------------------------------------------------------------------------------------
+
+  public void save(String path) {
+    File file = new File(path);
+    if (file.getParentFile() != null) {
+      file.getParentFile().mkdirs();
+    }
+    IOUtil.writeTextFile(path, toJson());
+  }
+
+  public static BenchmarkBaseline load(String path) {
+    if (!new File(path).exists()) {
+      throw BeneratorExceptionFactory.getInstance().configurationError("Baseline file not found: " + path);
+    }
+    return parseJson(IOUtil.getContentOfURI(path));
+  }
+
+  public String toJson() {
+    List<Document> results = new ArrayList<>();
+    for (Entry entry : entries.values()) {
+      ThroughputStatistics statistics = entry.getStatistics();
+      results.add(new Document("benchmark", entry.getBenchmark())
+          .append("system", entry.getSystem())
+          .append("sensor", entry.getSensor())
+          .append("executionMode", entry.getExecutionMode())
+          .append("iterations", statistics.getCount())
+          .append("mean", statistics.getMean())
+          .append("stdDev", statistics.getStdDev())
+          .append("confidence95", statistics.getConfidence95()));
+    }
+    Document document = new Document("benerator", version)
+        .append("machine", machine)
+        .append("os", osInfo)
+        .append("cpuAndMem", cpuAndMemInfo)
+        .append("java", javaVersion)
+        .append("mode", mode)
+        .append("created", created)
+        .append("unit", "entities/s")
+        .append("results", results);
+    return document.toJson(JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).indent(true).build()) + "\n";
+  }
+
+  public static BenchmarkBaseline parseJson(String json) {
+    Document root;
+    try {
+      root = Document.parse(json);
+    } catch (JsonParseException e) {
+      throw BeneratorExceptionFactory.getInstance().parsingError("Illegal baseline JSON: " + e.getMessage());
+    }
+    BenchmarkBaseline baseline = new BenchmarkBaseline(root.getString("benerator"), root.getString("machine"),
+        root.getString("os"), root.getString("cpuAndMem"), root.getString("java"),
+        root.getString("mode"), root.getString("created"));
+    List<Document> results = root.getList("results", Document.class);
+    if (results != null) {
+      for (Document result : results) {
+        ThroughputStatistics statistics = new ThroughputStatistics(
+            result.get("iterations", Number.class).intValue(),
+            result.get("mean", Number.class).doubleValue(),
+            result.get("stdDev", Number.class).doubleValue());
+        baseline.addEntry(new Entry(result.getString("benchmark"), result.getString("system"),
+            result.getString("sensor"), result.getString("executionMode"), statistics));
+      }
+    }
+    return baseline;
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static String machineName() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      String name = System.getenv("HOSTNAME");
+      if (name == null) {
+        name = System.getenv("COMPUTERNAME");
+      }
+      return (name != null ? name : "localhost");
+    }
+  }
+
+  /** The baseline throughput of one sensor of a benchmark in one execution mode. */
+  public static class Entry {
+
+    private final String benchmark;
+    private final String system;
+    private final String sensor;
+    private final String executionMode;
+    private final ThroughputStatistics statistics;
+
+    public Entry(String benchmark, String system, String sensor, String executionMode,
+                 ThroughputStatistics statistics) {
+      this.benchmark = benchmark;
+      this.system = system;
+      this.sensor = sensor;
+      this.executionMode = executionMode;
+      this.statistics = statistics;
+    }
+
+    public String getKey() {
+      return benchmark + " " + sensor + (system != null ? " @ " + system : "") + " (" + executionMode + ")";
+    }
+
+    public String getBenchmark() {
+      return benchmark;
+    }
+
+    public String getSystem() {
+      return system;
+    }
+
+    public String getSensor() {
+      return sensor;
+    }
+
+    public String getExecutionMode() {
+      return executionMode;
+    }
+
+    public ThroughputStatistics getStatistics() {
+      return statistics;
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + ": " + statistics;
+    }
+
+  }
+
+}
@@ -11,6 +11,9 @@
 import com.rapiddweller.benerator.environment.SystemRef;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
 import com.rapiddweller.benerator.main.Benerator;
+import com.rapiddweller.benerator.sensor.CounterRepository;
+import com.rapiddweller.benerator.sensor.LatencyCounter;
+import com.rapiddweller.benerator.sensor.LatencyRecorder;
 import com.rapiddweller.common.BeanUtil;
 import com.rapiddweller.common.CollectionUtil;
 import com.rapiddweller.common.FileUtil;
@@ -19,13 +22,12 @@
 import com.rapiddweller.common.log.LoggingPrinter;
 import com.rapiddweller.common.time.ElapsedTimeFormatter;
 import com.rapiddweller.jdbacl.DatabaseDialect;
-import com.rapiddweller.stat.CounterRepository;
-import com.rapiddweller.stat.LatencyCounter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -82,7 +84,7 @@ private static void runBenchmark(Benchmark benchmark, BenchmarkToolReport report
       } else {
         logger.info("Skipping Kafka test since no Kafka cluster was specified");
       }
-    } else if (report.getSystems().length == 0) {
+    } else if (report.getSystems().length == 0 || report.isNoNetwork()) {
       runBenchmarkOnEnvironment(benchmark, null, report);
     }
   }
@@ -113,19 +115,62 @@ public static void runBenchmarkOnEnvironment(Benchmark benchmark, SystemRef envi
     for (ExecutionMode executionMode : executionModes) {
       if (executionMode.isEe() || !benchmark.isReqEE()) {
         String filePath = benchmark.getFileName();
-        List<SensorResult> results = runUntilMinDuration(filePath, environment, summary.getMinSecs(), initialCount, executionMode);
+        AtomicLong count = new AtomicLong();
+        List<SensorResult> calibration = runUntilMinDuration(
+            filePath, environment, summary.getMinSecs(), initialCount, executionMode, count);
+        List<SensorResult> results = measure(filePath, environment, count.get(), executionMode,
+            calibration, summary.getWarmup(), summary.getIterations());
         for (SensorResult result : results) {
           benchmarkResult.addResult(result);
         }
-        initialCount = results.get(0).getCount();
+        initialCount = calibration.get(0).getCount();
       }
     }
   }
 
-  private static List<SensorResult> runUntilMinDuration(
-      String filePath, SystemRef system, long minDurationSecs, long countBase, ExecutionMode executionMode) {
+  /** Performs the warm-up rounds and measured iterations with the calibrated count.
+   *  The calibration run counts as first warm-up round or, if no warm-up is requested, as first iteration. */
+  private static List<SensorResult> measure(String filePath, SystemRef system, long count,
+      ExecutionMode executionMode, List<SensorResult> calibration, int warmup, int iterations) {
+    if (warmup <= 0 && iterations <= 1) {
+      return calibration;
+    }
+    List<List<SensorResult>> measurements = new ArrayList<>();
+    if (warmup <= 0) {
+      measurements.add(calibration);
+    }
+    for (int round = 2; round <= warmup; round++) {
+      logger.info("Warm-up round {} of {}", round, warmup);
+      runFile(filePath, system, count, executionMode, new AtomicLong());
+    }
+    while (measurements.size() < iterations) {
+      logger.info("Measured iteration {} of {}", measurements.size() + 1, iterations);
+      measurements.add(runFile(filePath, system, count, executionMode, new AtomicLong()));
+    }
+    return mergeIterations(measurements);
+  }
+
+  private static List<SensorResult> mergeIterations(List<List<SensorResult>> measurements) {
+    Map<String, List<SensorResult>> iterationsBySensor = new LinkedHashMap<>();
+    for (List<SensorResult> measurement : measurements) {
+      for (SensorResult result : measurement) {
+        iterationsBySensor.computeIfAbsent(result.getSensor(), k -> new ArrayList<>()).add(result);
+      }
+    }
+    List<SensorResult> result = new ArrayList<>();
+    for (List<SensorResult> iterations : iterationsBySensor.values()) {
+      SensorResult merged = SensorResult.merge(iterations);
+      logger.info("{} in {}: {}", merged.getSensor(), merged.getExecutionMode().getLabel(), merged.getStatistics());
+      result.add(merged);
+    }
+    return result;
+  }
+
+  private static List<SensorResult> runUntilMinDuration(String filePath, SystemRef system, long minDurationSecs,
+      long countBase, ExecutionMode executionMode, AtomicLong usedCount) {
     if (minDurationSecs == 0) {
       // this indicates a unit test, so call it that each thread creates only one product
+      usedCount.set(executionMode.getThreadCount());
       return runFile(filePath, system, executionMode.getThreadCount(), executionMode, new AtomicLong());
     }
     // normal test execution
@@ -133,6 +178,7 @@ private static List<SensorResult> runUntilMinDuration(
     long minDurationMillis = minDurationSecs * 1000;
     do {
       AtomicLong maxFileSize = new AtomicLong(0);
+      usedCount.set(count);
       List<SensorResult> measurements = runFile(filePath, system, count, executionMode, maxFileSize);
       int actualMinDuration = minDurationOf(measurements);
       if (actualMinDuration >= minDurationMillis) {
@@ -291,7 +337,9 @@ private static List<SensorResult> evaluateSensors(ExecutionMode executionMode) {
                 HF.pluralize(threads, "thread"));
           }
         }
-        result.add(new SensorResult(sensor, countUsed, executionMode, (int) latencyCount.totalLatency()));
+        LatencyRecorder recorder = CounterRepository.getInstance().getRecorder(key);
+        result.add(new SensorResult(sensor, countUsed, executionMode, (int) latencyCount.totalLatency(),
+            (recorder != null ? recorder.snapshot() : null)));
       }
     }
     return result;
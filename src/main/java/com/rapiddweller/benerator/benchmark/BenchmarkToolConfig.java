@@ -29,6 +29,8 @@ public class BenchmarkToolConfig extends CommandLineConfig {
   private boolean uiResult;
   private BeneratorMode mode;
   private int minSecs;
+  private int warmup;
+  private int iterations;
   private int maxThreads;
   private SystemRef[] systems;
   private String csv;
@@ -36,6 +38,11 @@ public class BenchmarkToolConfig extends CommandLineConfig {
   private String xls;
   private String txt;
   private String name;
+  private boolean saveBaseline;
+  private boolean compare;
+  private String baseline;
+  private double tolerance;
+  private boolean noNetwork;
   private Benchmark[] benchmarks;
   private ExecutionMode[] executionModes;
 
@@ -51,12 +58,19 @@ public BenchmarkToolConfig() {
     this.uiResult = false;
     this.mode = BeneratorMode.STRICT;
     this.minSecs = 10;
+    this.warmup = 0;
+    this.iterations = 1;
     this.maxThreads = 0;
     this.systems = new SystemRef[0];
     this.csv = null;
     this.csvSep = ',';
     this.xls = null;
     this.txt = null;
+    this.saveBaseline = false;
+    this.compare = false;
+    this.baseline = null;
+    this.tolerance = 10;
+    this.noNetwork = false;
     this.benchmarks = Benchmark.getInstances();
   }
 
@@ -167,6 +181,24 @@ public void setMinSecs(int minSecs) {
     this.minSecs = minSecs;
   }
 
+  /** @return the number of warm-up rounds to execute before measuring, the calibration run counting as the first */
+  public int getWarmup() {
+    return warmup;
+  }
+
+  public void setWarmup(int warmup) {
+    this.warmup = warmup;
+  }
+
+  /** @return the number of measured iterations of each benchmark and execution mode */
+  public int getIterations() {
+    return iterations;
+  }
+
+  public void setIterations(int iterations) {
+    this.iterations = iterations;
+  }
+
   public int getMaxThreads() {
     return maxThreads;
   }
@@ -184,6 +216,49 @@ public void setName(String name) {
     this.benchmarks = new Benchmark[] { Benchmark.getInstance(name) };
   }
 
+  public boolean isSaveBaseline() {
+    return saveBaseline;
+  }
+
+  public void setSaveBaseline(boolean saveBaseline) {
+    this.saveBaseline = saveBaseline;
+  }
+
+  public boolean isCompare() {
+    return compare;
+  }
+
+  public void setCompare(boolean compare) {
+    this.compare = compare;
+  }
+
+  /** @return the baseline file to save or compare with, by default a file named by the local machine */
+  public String getBaseline() {
+    return (baseline != null ? baseline : BenchmarkBaseline.defaultFileName());
+  }
+
+  public void setBaseline(String baseline) {
+    this.baseline = baseline;
+  }
+
+  /** @return the throughput decrease in percent which is tolerated when comparing with a baseline */
+  public double getTolerance() {
+    return tolerance;
+  }
+
+  public void setTolerance(double tolerance) {
+    this.tolerance = tolerance;
+  }
+
+  /** @return true if only benchmarks are run which need no network: plain, file and built-in H2 benchmarks */
+  public boolean isNoNetwork() {
+    return noNetwork;
+  }
+
+  public void setNoNetwork(boolean noNetwork) {
+    this.noNetwork = noNetwork;
+  }
+
   public Benchmark[] getBenchmarks() {
     return benchmarks;
   }
@@ -120,4 +120,16 @@ public long getMinSecs() {
     return config.getMinSecs();
   }
 
+  public int getWarmup() {
+    return config.getWarmup();
+  }
+
+  public int getIterations() {
+    return config.getIterations();
+  }
+
+  public boolean isNoNetwork() {
+    return config.isNoNetwork();
+  }
+
 }
@@ -84,6 +84,17 @@ private void exportPerformance(BenchmarkToolReport result, CSVWriter writer) thr
         writer.writeRow(row);
       }
     }
+    exportLatencies(result, writer);
+  }
+
+  private static void exportLatencies(BenchmarkToolReport result, CSVWriter writer) throws IOException {
+    Object[][] latencyTable = formatLatencyTable(result, false);
+    if (latencyTable != null) {
+      writer.writeRow(new Object[] { "" });
+      for (Object[] row : latencyTable) {
+        writer.writeRow(row);
+      }
+    }
   }
 
 }
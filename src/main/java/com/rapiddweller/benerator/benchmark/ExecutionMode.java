@@ -34,6 +34,14 @@ public int getThreadCount() {
     return threadCount;
   }
 
+  /** @return a label like 'CE', 'EE 1 Thread' or 'EE 4 Threads' */
+  public String getLabel() {
+    if (!ee) {
+      return "CE";
+    }
+    return "EE " + threadCount + (threadCount > 1 ? " Threads" : " Thread");
+  }
+
   @Override
   public int compareTo(ExecutionMode that) {
     // ce < ee
@@ -2,6 +2,11 @@
 
 package com.rapiddweller.benerator.benchmark;
 
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.sensor.LatencySnapshot;
+
+import java.util.List;
+
 /**
  * Holds the result of one sensor in one benchmark run.<br/><br/>
  * Created: 02.11.2021 07:30:29
@@ -14,12 +19,52 @@ public class SensorResult {
   private final long count;
   private final ExecutionMode executionMode;
   private final int duration;
+  private final LatencySnapshot latencies;
+  private final ThroughputStatistics statistics;
 
   public SensorResult(String sensor, long count, ExecutionMode executionMode, int duration) {
+    this(sensor, count, executionMode, duration, null);
+  }
+
+  public SensorResult(String sensor, long count, ExecutionMode executionMode, int duration, LatencySnapshot latencies) {
+    this(sensor, count, executionMode, duration, latencies, null);
+  }
+
+  public SensorResult(String sensor, long count, ExecutionMode executionMode, int duration,
+                      LatencySnapshot latencies, ThroughputStatistics statistics) {
     this.sensor = sensor;
     this.count = count;
     this.executionMode = executionMode;
     this.duration = duration;
+    this.latencies = latencies;
+    this.statistics = statistics;
+  }
+
+  /** Merges the results of several measured iterations of the same sensor and execution mode.
+   *  Counts, durations and latencies are summed up, the throughput of the iterations
+   *  is summarized in {@link ThroughputStatistics}.
+   *  @param iterations the results of the single iterations
+   *  @return the merged result */
+  public static SensorResult merge(List<SensorResult> iterations) {
+    if (iterations.isEmpty()) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("No iterations to merge");
+    }
+    SensorResult first = iterations.get(0);
+    long count = 0;
+    int duration = 0;
+    LatencySnapshot latencies = null;
+    double[] throughputs = new double[iterations.size()];
+    for (int i = 0; i < throughputs.length; i++) {
+      SensorResult iteration = iterations.get(i);
+      count += iteration.count;
+      duration += iteration.duration;
+      if (iteration.latencies != null) {
+        latencies = (latencies != null ? latencies.merge(iteration.latencies) : iteration.latencies);
+      }
+      throughputs[i] = iteration.runThroughput();
+    }
+    return new SensorResult(first.sensor, count, first.executionMode, duration, latencies,
+        ThroughputStatistics.of(throughputs));
   }
 
   public String getSensor() {
@@ -38,11 +83,30 @@ public int getDuration() {
     return duration;
   }
 
+  /** @return the distribution of the generation time of single entities in nanoseconds, or null if not recorded */
+  public LatencySnapshot getLatencies() {
+    return latencies;
+  }
+
+  /** @return the throughput statistics of the measured iterations,
+   *  or statistics of a single sample if the result stems from one run */
+  public ThroughputStatistics getStatistics() {
+    return (statistics != null ? statistics : ThroughputStatistics.of(runThroughput()));
+  }
+
   public double entitiesPerSecond() {
-    return (double) count / duration * 1000.;
+    return (statistics != null ? statistics.getMean() : (double) count / duration * 1000.);
   }
 
   public double entitiesPerHour() {
     return 3600. * entitiesPerSecond() / 1000000.;
   }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** Calculates the throughput of a single run, treating durations below 1 ms as 1 ms */
+  private double runThroughput() {
+    return (double) count / Math.max(duration, 1) * 1000.;
+  }
+
 }
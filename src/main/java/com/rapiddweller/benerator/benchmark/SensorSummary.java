@@ -2,6 +2,8 @@
 
 package com.rapiddweller.benerator.benchmark;
 
+import com.rapiddweller.benerator.sensor.LatencySnapshot;
+
 import java.util.TreeMap;
 
 /**
@@ -26,4 +28,17 @@ public SensorResult getResult(ExecutionMode executionMode) {
     return sensorResults.get(executionMode);
   }
 
+  /** Merges the entity latencies of all execution modes.
+   *  @return the merged latencies or null if no result provides latencies */
+  public LatencySnapshot getMergedLatencies() {
+    LatencySnapshot merged = null;
+    for (SensorResult result : sensorResults.values()) {
+      LatencySnapshot latencies = result.getLatencies();
+      if (latencies != null) {
+        merged = (merged != null ? merged.merge(latencies) : latencies);
+      }
+    }
+    return merged;
+  }
+
 }
@@ -31,6 +31,10 @@ public void export(BenchmarkToolReport result) {
     String[] title = createAndPrintInfos(result);
     Object[][] table = createTable(result);
     printTable(title, table);
+    Object[][] latencyTable = formatLatencyTable(result, true);
+    if (latencyTable != null) {
+      printTable(null, latencyTable);
+    }
   }
 
   private static String[] createAndPrintInfos(BenchmarkToolReport result) {
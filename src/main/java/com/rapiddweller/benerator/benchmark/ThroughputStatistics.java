@@ -0,0 +1,98 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+
+import java.util.Locale;
+
+/**
+ * Summarizes the throughput of the measured iterations of a benchmark sensor
+ * by mean, standard deviation and 95% confidence interval of the mean.<br/><br/>
+ * Created: 19.10.2026 13:12:40
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class ThroughputStatistics {
+
+  /** Two-sided 95% quantiles of Student's t distribution for 1 to 30 degrees of freedom */
+  private static final double[] T_95 = {
+      12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+      2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+      2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042 };
+
+  /** Quantile of the normal distribution, used for more than 30 degrees of freedom */
+  private static final double Z_95 = 1.960;
+
+  private final int count;
+  private final double mean;
+  private final double stdDev;
+
+  public ThroughputStatistics(int count, double mean, double stdDev) {
+    if (count < 1) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("Statistics need at least one sample");
+    }
+    this.count = count;
+    this.mean = mean;
+    this.stdDev = stdDev;
+  }
+
+  /** Calculates the statistics of the throughput samples of several iterations.
+   *  @param samples the throughput of each iteration in entities per second */
+  public static ThroughputStatistics of(double... samples) {
+    if (samples.length == 0) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("No samples provided");
+    }
+    double sum = 0;
+    for (double sample : samples) {
+      sum += sample;
+    }
+    double mean = sum / samples.length;
+    double squareSum = 0;
+    for (double sample : samples) {
+      squareSum += (sample - mean) * (sample - mean);
+    }
+    double stdDev = (samples.length > 1 ? Math.sqrt(squareSum / (samples.length - 1)) : 0);
+    return new ThroughputStatistics(samples.length, mean, stdDev);
+  }
+
+  /** @return the number of measured iterations */
+  public int getCount() {
+    return count;
+  }
+
+  /** @return the mean throughput in entities per second */
+  public double getMean() {
+    return mean;
+  }
+
+  /** @return the sample standard deviation of the throughput in entities per second */
+  public double getStdDev() {
+    return stdDev;
+  }
+
+  /** @return the half width of the 95% confidence interval of the mean, or 0 for a single iteration */
+  public double getConfidence95() {
+    if (count < 2) {
+      return 0;
+    }
+    int degreesOfFreedom = count - 1;
+    double t = (degreesOfFreedom <= T_95.length ? T_95[degreesOfFreedom - 1] : Z_95);
+    return t * stdDev / Math.sqrt(count);
+  }
+
+  public double getLowerBound() {
+    return mean - getConfidence95();
+  }
+
+  public double getUpperBound() {
+    return mean + getConfidence95();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.US, "%.1f E/s ±%.1f (stdDev %.1f, n=%d)",
+        mean, getConfidence95(), stdDev, count);
+  }
+
+}
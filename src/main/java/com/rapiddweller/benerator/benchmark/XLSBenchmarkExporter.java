@@ -51,6 +51,7 @@ public void export(BenchmarkToolReport result) throws IOException {
     HSSFSheet sheet = workbook.createSheet("Results");
     exportInfo(result, sheet);
     exportPerformance(result, sheet);
+    exportLatencies(result, sheet);
     XLSUtil.autoSizeColumns(workbook);
     saveWorkbook(workbook);
   }
@@ -145,6 +146,17 @@ private void exportPerformance(BenchmarkToolReport result, HSSFSheet sheet) {
     }
   }
 
+  private void exportLatencies(BenchmarkToolReport result, HSSFSheet sheet) {
+    Object[][] latencyTable = formatLatencyTable(result, false);
+    if (latencyTable != null) {
+      addInfoRow("", null, latencyTable[0].length, sheet);
+      addRow(latencyTable[0], colHeadStyle, sheet);
+      for (int i = 1; i < latencyTable.length; i++) {
+        addRow(latencyTable[i], rowHeadStyle, sheet);
+      }
+    }
+  }
+
   private static void addInfoRow(String content, HSSFCellStyle style, int colCount, HSSFSheet sheet) {
     HSSFRow row = addRow(sheet);
     HSSFCell cell = row.createCell(0);
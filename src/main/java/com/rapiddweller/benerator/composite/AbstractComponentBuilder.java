@@ -28,8 +28,11 @@
 
 import com.rapiddweller.benerator.BeneratorErrorIds;
 import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.engine.BatchStatement;
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.util.BatchBuffer;
+import com.rapiddweller.benerator.util.GeneratorUtil;
 import com.rapiddweller.benerator.util.WrapperProvider;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 import com.rapiddweller.common.Mutator;
@@ -47,27 +50,45 @@
  * @author Volker Bergmann
  * @since 0.6.1
  */
-public abstract class AbstractComponentBuilder<E> extends SourcedGenerationStep<E> implements ComponentBuilder<E> {
+public abstract class AbstractComponentBuilder<E> extends SourcedGenerationStep<E>
+    implements ComponentBuilder<E>, BatchStatement {
 
   protected final Mutator mutator;
   private final Logger logger = LoggerFactory.getLogger(getClass());
   private final WrapperProvider<Object> wrapperProvider = new WrapperProvider<>();
   private final TextFileLocation fileLocation;
+  private final BatchBuffer buffer;
+  private Object[] column;
 
   protected AbstractComponentBuilder(
       Generator<?> source, Mutator mutator, String scope, TextFileLocation fileLocation) {
     super(source, scope);
     this.mutator = mutator;
     this.fileLocation = fileLocation;
+    this.buffer = new BatchBuffer(source);
+    this.column = new Object[0];
   }
 
+  // BatchStatement interface implementation -------------------------------------------------------------------------
+
+  @Override
+  public boolean isBatchable() {
+    return GeneratorUtil.isBatchable(source);
+  }
+
+  @Override
+  public void prepareBatch(int count) {
+    buffer.prefetch(count);
+  }
+
+  // GenerationStep interface implementation -------------------------------------------------------------------------
+
   @Override
-  @SuppressWarnings({"unchecked", "rawtypes"})
   public boolean execute(BeneratorContext context) {
     message = null;
     Object target = context.getCurrentProduct().unwrap();
     try {
-      ProductWrapper<?> wrapper = source.generate((ProductWrapper) wrapperProvider.get());
+      ProductWrapper<?> wrapper = buffer.next(wrapperProvider.get());
       logger.debug("execute(): {} := {}", mutator, wrapper);
       if (wrapper == null) {
         message = "Generator unavailable: " + source;
@@ -75,15 +96,62 @@ public boolean execute(BeneratorContext context) {
       }
       mutator.setValue(target, wrapper.unwrap());
       return true;
-    } catch (ScriptException e) {
-      e.setLocation(fileLocation);
-      e.setErrorId(BeneratorErrorIds.SCRIPT_FAILED);
-      throw e;
-    } catch (ApplicationException e) {
-      e.setLocation(fileLocation);
-      throw e;
     } catch (Exception e) {
-      throw BeneratorExceptionFactory.getInstance().operationFailed(
+      throw handleException(e);
+    }
+  }
+
+  /** Generates the component values of several targets in one batch and assigns them column-wise.
+   *  This is only appropriate if the builder {@link #isBatchable()}.
+   *  @param targets the objects to receive the component values
+   *  @param count the number of targets to process
+   *  @return the number of targets which received a value. If it is less than count,
+   *      the source generator has become unavailable */
+  public int executeBatch(Object[] targets, int count) {
+    message = null;
+    try {
+      if (column.length < count) {
+        column = new Object[count];
+      }
+      int n = GeneratorUtil.generateBatch(source, column, count);
+      for (int i = 0; i < n; i++) {
+        mutator.setValue(targets[i], column[i]);
+        column[i] = null;
+      }
+      if (n < count) {
+        message = "Generator unavailable: " + source;
+      }
+      return n;
+    } catch (Exception e) {
+      throw handleException(e);
+    }
+  }
+
+  @Override
+  public void reset() {
+    buffer.clear();
+    super.reset();
+  }
+
+  @Override
+  public void close() {
+    buffer.clear();
+    super.close();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private RuntimeException handleException(Exception e) {
+    if (e instanceof ScriptException) {
+      ScriptException se = (ScriptException) e;
+      se.setLocation(fileLocation);
+      se.setErrorId(BeneratorErrorIds.SCRIPT_FAILED);
+      return se;
+    } else if (e instanceof ApplicationException) {
+      ((ApplicationException) e).setLocation(fileLocation);
+      return (ApplicationException) e;
+    } else {
+      return BeneratorExceptionFactory.getInstance().operationFailed(
           e.getMessage(), e, BeneratorErrorIds.UNSPECIFIC, ExitCodes.MISCELLANEOUS_ERROR);
     }
   }
@@ -26,6 +26,7 @@
 
 package com.rapiddweller.benerator.composite;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.util.ThreadSafeGenerator;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 import com.rapiddweller.common.Assert;
@@ -37,7 +38,7 @@
  * Created: 01.09.2007 07:39:52
  * @author Volker Bergmann
  */
-public class BlankEntityGenerator extends ThreadSafeGenerator<Entity> {
+public class BlankEntityGenerator extends ThreadSafeGenerator<Entity> implements BatchGenerator<Entity> {
 
   private final ComplexTypeDescriptor descriptor;
 
@@ -57,6 +58,19 @@ public ProductWrapper<Entity> generate(ProductWrapper<Entity> wrapper) {
     return wrapper.wrap(new Entity(descriptor));
   }
 
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    for (int i = 0; i < count; i++) {
+      target[i] = new Entity(descriptor);
+    }
+    return count;
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return true;
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + "[" + descriptor.getName() + "]";
@@ -26,10 +26,12 @@
 
 package com.rapiddweller.benerator.composite;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.BeneratorConstants;
 import com.rapiddweller.benerator.Generator;
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.util.GeneratorUtil;
 import com.rapiddweller.benerator.wrapper.GeneratorProxy;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 import com.rapiddweller.common.MessageHolder;
@@ -43,11 +45,13 @@
  * {@link Generator} that takes a (genrated or imported) 'source' {@link Entity} from a source generator
  * and applies a list of {@link GenerationStep}s to evaluate variables and generate or overwrite
  * the source entity's properties.
+ * In batch mode, the entities are built column by column if all steps support it,
+ * otherwise one by one.<br/><br/>
  * Created: 29.08.2010 09:59:03
  * @author Volker Bergmann
  * @since 0.6.4
  */
-public class CompositeEntityGenerator extends GeneratorProxy<Entity> implements MessageHolder {
+public class CompositeEntityGenerator extends GeneratorProxy<Entity> implements BatchGenerator<Entity>, MessageHolder {
 
   private static final Logger stateLogger = LoggerFactory.getLogger(BeneratorConstants.STATE_LOGGER);
 
@@ -97,6 +101,26 @@ public ProductWrapper<Entity> generate(ProductWrapper<Entity> wrapper) {
     }
   }
 
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    if (instanceName != null || !support.isBatchable()) {
+      return generateEach(target, count);
+    }
+    int n = GeneratorUtil.generateBatch(getSource(), target, count);
+    if (n < count) {
+      stateLogger.debug("Source for entity '{}' is not available: {}", instanceName, getSource());
+    }
+    return support.applyBatch(target, n);
+  }
+
+  /** Tells if the entities may be generated ahead, which requires a batchable source and generation steps.
+   *  A named instance is published in the context for the scripts of its siblings,
+   *  so it must be generated when it is used. */
+  @Override
+  public boolean isBatchable() {
+    return instanceName == null && GeneratorUtil.isBatchable(getSource()) && support.isBatchable();
+  }
+
   @Override
   public void reset() {
     support.reset();
@@ -119,6 +143,21 @@ public String getMessage() {
   }
 
 
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private int generateEach(Object[] target, int count) {
+    ProductWrapper<Entity> wrapper = new ProductWrapper<>();
+    for (int i = 0; i < count; i++) {
+      ProductWrapper<Entity> result = generate(wrapper);
+      if (result == null) {
+        return i;
+      }
+      target[i] = result.unwrap();
+    }
+    return count;
+  }
+
+
   // java.lang.Object overrides --------------------------------------------------------------------------------------
 
   @Override
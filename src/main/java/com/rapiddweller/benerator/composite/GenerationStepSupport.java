@@ -88,6 +88,41 @@ public boolean apply(E target, BeneratorContext context) {
     return true;
   }
 
+  /** Tells if the steps can be applied to several targets column by column,
+   *  which is the case if all of them are {@link AbstractComponentBuilder}s with batchable sources. */
+  public boolean isBatchable() {
+    for (GenerationStep<E> step : steps) {
+      if (!(step instanceof AbstractComponentBuilder) || !((AbstractComponentBuilder<?>) step).isBatchable()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Applies the steps to several targets, each step being executed for all targets before the next one.
+   *  This requires {@link #isBatchable()}.
+   *  @param targets the objects to be processed
+   *  @param count the number of targets to process
+   *  @return the number of targets to which all steps have been applied */
+  public int applyBatch(Object[] targets, int count) {
+    int n = count;
+    for (GenerationStep<E> step : steps) {
+      int processed;
+      try {
+        processed = ((AbstractComponentBuilder<?>) step).executeBatch(targets, n);
+      } catch (Exception e) {
+        throw BeneratorExceptionFactory.getInstance().operationFailed(
+            "Failure in generation of '" + instanceName + "', Failed step: " + step, e);
+      }
+      if (processed < n) {
+        message = "generation step for '" + instanceName + "' is not available any longer: " + step;
+        stateLogger.debug(message);
+        n = processed;
+      }
+    }
+    return n;
+  }
+
   @Override
   public void reset() {
     for (GenerationStep<E> step : steps) {
@@ -0,0 +1,106 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.composite;
+
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.common.Assert;
+
+/**
+ * Makes a {@link GenerationStep} of one task available to worker tasks which run in other threads.
+ * If the step is not thread-safe, invocations are serialized. Since the step's life cycle is managed
+ * by the owning task, calls to {@link #init(BeneratorContext)} and {@link #close()} are ignored.<br/><br/>
+ * Created: 18.10.2026 12:34:10
+ * @param <E> the type of the products to build
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class SharedGenerationStep<E> implements ComponentBuilder<E> {
+
+  private final GenerationStep<E> target;
+  private final Object lock;
+
+  public SharedGenerationStep(GenerationStep<E> target) {
+    Assert.notNull(target, "target");
+    this.target = target;
+    this.lock = (target.isThreadSafe() ? null : target);
+  }
+
+  public GenerationStep<E> getTarget() {
+    return target;
+  }
+
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
+  @Override
+  public void init(BeneratorContext context) {
+    // the target is initialized by its owner
+  }
+
+  @Override
+  public boolean execute(BeneratorContext context) {
+    if (lock == null) {
+      return target.execute(context);
+    }
+    synchronized (lock) {
+      return target.execute(context);
+    }
+  }
+
+  @Override
+  public String getScope() {
+    return target.getScope();
+  }
+
+  @Override
+  public void setScope(String scope) {
+    target.setScope(scope);
+  }
+
+  @Override
+  public boolean isResetNeeded() {
+    return target.isResetNeeded();
+  }
+
+  @Override
+  public void setResetNeeded(boolean resetNeeded) {
+    target.setResetNeeded(resetNeeded);
+  }
+
+  @Override
+  public void resetIfNeeded() {
+    synchronized (target) {
+      target.resetIfNeeded();
+    }
+  }
+
+  @Override
+  public void reset() {
+    synchronized (target) {
+      target.reset();
+    }
+  }
+
+  @Override
+  public String getMessage() {
+    return target.getMessage();
+  }
+
+  @Override
+  public void close() {
+    // the target is closed by its owner
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '[' + target + ']';
+  }
+
+}
@@ -0,0 +1,279 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.consumer;
+
+import com.rapiddweller.benerator.Consumer;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.ThreadAware;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * {@link Consumer} which decouples the generating thread from its target consumer(s):
+ * Each member of a {@link ConsumerChain} (or the single target consumer) becomes a stage
+ * with a bounded queue and one or more threads of its own, which receive every product.
+ * If a queue is full, {@link #finishConsuming(ProductWrapper)} blocks until the stage
+ * has caught up (back-pressure).<br/><br/>
+ * Stages with a single thread receive the products in generation order,
+ * stages with more threads consume them concurrently and in arbitrary order,
+ * which requires a thread-safe consumer. Each stage calls both
+ * {@link Consumer#startConsuming(ProductWrapper)} and {@link Consumer#finishConsuming(ProductWrapper)}
+ * of its consumer when the product is complete, so pipelining is not applicable
+ * to products with nested generation.<br/><br/>
+ * {@link #flush()} waits until all stages have processed the products received so far
+ * and then flushes the target consumers, so page and transaction boundaries are the same
+ * as with synchronous consumption. Exceptions of the target consumers are rethrown
+ * on the next invocation of {@link #finishConsuming(ProductWrapper)}, {@link #flush()}
+ * or {@link #await()}.<br/><br/>
+ * Created: 19.10.2026 09:12:40
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class PipelinedConsumer implements Consumer, ThreadAware {
+
+  private static final Logger logger = LoggerFactory.getLogger(PipelinedConsumer.class);
+
+  private static final ProductWrapper<?> END = new ProductWrapper<>();
+
+  private final String name;
+  private final List<Stage> stages;
+  private final Queue<RuntimeException> failures;
+  private boolean closed;
+
+  /** Creates a pipeline for a consumer.
+   *  @param name the name to use in thread names and log messages
+   *  @param target a consumer or a {@link ConsumerChain} whose members shall be executed in separate stages
+   *  @param capacity the maximum number of products which may be queued for a stage
+   *  @param ordered if true, each consumer receives the products in generation order
+   *  @param threadCounts the number of threads for each stage, the last value applies to all remaining ones */
+  public PipelinedConsumer(String name, Consumer target, int capacity, boolean ordered, int... threadCounts) {
+    if (capacity <= 0) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("Pipeline capacity must be positive: " + capacity);
+    }
+    this.name = name;
+    this.failures = new ConcurrentLinkedQueue<>();
+    this.closed = false;
+    List<Consumer> members = (target instanceof ConsumerChain ?
+        ((ConsumerChain) target).getComponents() : List.of(target));
+    this.stages = new ArrayList<>(members.size());
+    for (int i = 0; i < members.size(); i++) {
+      Consumer member = members.get(i);
+      int threadCount = threadCount(i, threadCounts, member, ordered);
+      this.stages.add(new Stage(member, capacity, threadCount, i));
+    }
+    logger.debug("Created {}", this);
+  }
+
+  // Consumer interface ----------------------------------------------------------------------------------------------
+
+  @Override
+  public void startConsuming(ProductWrapper<?> wrapper) {
+    // the product is handed over to the stages when it is complete
+  }
+
+  @Override
+  public synchronized void finishConsuming(ProductWrapper<?> wrapper) {
+    checkFailures();
+    if (closed) {
+      throw BeneratorExceptionFactory.getInstance().illegalOperation("Consumer " + this + " has already been closed");
+    }
+    ProductWrapper<?> item = wrapper.copy();
+    for (Stage stage : stages) {
+      stage.put(stages.size() > 1 ? item.copy() : item);
+    }
+  }
+
+  /** Waits until all products received so far have been consumed and then flushes the target consumers. */
+  @Override
+  public synchronized void flush() {
+    await();
+    for (Stage stage : stages) {
+      stage.consumer.flush();
+    }
+  }
+
+  /** Waits until all products received so far have been consumed, without flushing the target consumers. */
+  public synchronized void await() {
+    for (Stage stage : stages) {
+      stage.awaitCompletion();
+    }
+    checkFailures();
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    for (Stage stage : stages) {
+      stage.stop();
+    }
+    for (Stage stage : stages) {
+      IOUtil.close(stage.consumer);
+    }
+    RuntimeException failure;
+    while ((failure = failures.poll()) != null) {
+      logger.error("Unreported error in consumption by " + this, failure);
+    }
+  }
+
+  // ThreadAware interface -------------------------------------------------------------------------------------------
+
+  @Override
+  public boolean isThreadSafe() {
+    return false;
+  }
+
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '[' + name + ", " + stages + ']';
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private int threadCount(int stageIndex, int[] threadCounts, Consumer member, boolean ordered) {
+    int result = 1;
+    if (threadCounts != null && threadCounts.length > 0) {
+      result = threadCounts[Math.min(stageIndex, threadCounts.length - 1)];
+    }
+    if (result <= 0) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument(
+          "Consumer thread count must be positive: " + result);
+    }
+    if (result > 1 && ordered) {
+      throw BeneratorExceptionFactory.getInstance().configurationError(
+          "Consuming with " + result + " threads requires unordered delivery: " + member);
+    }
+    if (result > 1 && !(member instanceof ThreadAware && ((ThreadAware) member).isThreadSafe())) {
+      logger.warn("Consumer {} is not thread-safe and is fed by a single thread", member);
+      result = 1;
+    }
+    return result;
+  }
+
+  private void checkFailures() {
+    RuntimeException failure = failures.poll();
+    if (failure != null) {
+      RuntimeException further;
+      while ((further = failures.poll()) != null) {
+        failure.addSuppressed(further);
+      }
+      throw failure;
+    }
+  }
+
+  private final class Stage {
+
+    final Consumer consumer;
+    final BlockingQueue<ProductWrapper<?>> queue;
+    final Thread[] threads;
+    long submitted;
+    long completed;
+
+    Stage(Consumer consumer, int capacity, int threadCount, int index) {
+      this.consumer = consumer;
+      this.queue = new ArrayBlockingQueue<>(capacity);
+      this.submitted = 0;
+      this.completed = 0;
+      this.threads = new Thread[threadCount];
+      for (int i = 0; i < threadCount; i++) {
+        Thread thread = new Thread(this::run, "pipeline-" + name + '-' + index + '-' + i);
+        thread.setDaemon(true);
+        thread.start();
+        threads[i] = thread;
+      }
+    }
+
+    void put(ProductWrapper<?> item) {
+      synchronized (this) {
+        submitted++;
+      }
+      try {
+        queue.put(item);
+      } catch (InterruptedException e) {
+        synchronized (this) {
+          submitted--;
+        }
+        Thread.currentThread().interrupt();
+        throw BeneratorExceptionFactory.getInstance().operationFailed(
+            "Interrupted while passing a product to " + consumer, e);
+      }
+    }
+
+    synchronized void awaitCompletion() {
+      try {
+        while (completed < submitted) {
+          wait();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw BeneratorExceptionFactory.getInstance().operationFailed(
+            "Interrupted while waiting for " + consumer, e);
+      }
+    }
+
+    void stop() {
+      try {
+        for (int i = 0; i < threads.length; i++) {
+          queue.put(END);
+        }
+        for (Thread thread : threads) {
+          thread.join();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        for (Thread thread : threads) {
+          thread.interrupt();
+        }
+      }
+    }
+
+    private void run() {
+      try {
+        ProductWrapper<?> item;
+        while ((item = queue.take()) != END) {
+          try {
+            consumer.startConsuming(item);
+            consumer.finishConsuming(item);
+          } catch (RuntimeException e) {
+            failures.add(e);
+          } finally {
+            itemCompleted();
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private synchronized void itemCompleted() {
+      if (++completed >= submitted) {
+        notifyAll();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return consumer + (threads.length > 1 ? " x" + threads.length : "");
+    }
+
+  }
+
+}
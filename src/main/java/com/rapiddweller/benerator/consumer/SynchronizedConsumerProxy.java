@@ -0,0 +1,51 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.consumer;
+
+import com.rapiddweller.benerator.Consumer;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+
+/**
+ * {@link Consumer} proxy which serializes all invocations of its delegate,
+ * allowing a non-thread-safe consumer to be fed by concurrent worker threads.<br/><br/>
+ * Created: 18.10.2026 12:21:44
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class SynchronizedConsumerProxy extends ConsumerProxy {
+
+  public SynchronizedConsumerProxy(Consumer target) {
+    super(target);
+  }
+
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
+  @Override
+  public synchronized void startConsuming(ProductWrapper<?> wrapper) {
+    super.startConsuming(wrapper);
+  }
+
+  @Override
+  public synchronized void finishConsuming(ProductWrapper<?> wrapper) {
+    super.finishConsuming(wrapper);
+  }
+
+  @Override
+  public synchronized void flush() {
+    super.flush();
+  }
+
+  @Override
+  public synchronized void close() {
+    super.close();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '[' + target + ']';
+  }
+
+}
@@ -28,8 +28,6 @@
 
 import com.rapiddweller.benerator.dataset.DatasetUtil;
 import com.rapiddweller.common.Converter;
-import com.rapiddweller.format.DataContainer;
-import com.rapiddweller.format.csv.CSVLineIterator;
 import com.rapiddweller.script.WeightedSample;
 
 import java.util.ArrayList;
@@ -70,20 +68,18 @@ public static <T> List<WeightedSample<T>> parseFile(String filename, char separa
 
   public static <T> List<WeightedSample<T>> parseFile(String filename, char separator, String encoding,
                                                       Converter<String, T> converter, List<WeightedSample<T>> samples) {
-    try (CSVLineIterator iterator = new CSVLineIterator(filename, separator, encoding)) {
-      DataContainer<String[]> container = new DataContainer<>();
-      while ((container = iterator.next(container)) != null) {
-        String[] tokens = container.getData();
-        if (tokens.length == 0) {
-          continue;
-        }
-        double weight = (tokens.length < 2 || tokens[1] == null || tokens[1].trim().length() == 0 ? 1. : Double.parseDouble(tokens[1].trim()));
-        T value = converter.convert(tokens[0]);
-        WeightedSample<T> sample = new WeightedSample<>(value, weight);
-        samples.add(sample);
+    CSVTable table = CSVTableCache.getTable(filename, separator, false, encoding);
+    double[] weights = table.getWeights();
+    for (int i = 0; i < table.getRowCount(); i++) {
+      String[] tokens = table.getRow(i);
+      if (tokens.length == 0) {
+        continue;
       }
-      return samples;
+      T value = converter.convert(tokens[0]);
+      WeightedSample<T> sample = new WeightedSample<>(value, weights[i]);
+      samples.add(sample);
     }
+    return samples;
   }
 
 }
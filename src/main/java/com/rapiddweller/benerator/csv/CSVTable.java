@@ -0,0 +1,52 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.csv;
+
+/**
+ * Immutable table of the rows of a CSV file, as provided by the {@link CSVTableCache}.
+ * Equal cell values share the same String instance. Tables may be shared by several generators,
+ * so the row arrays must not be modified.<br/><br/>
+ * Created: 19.10.2026 16:02:37
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class CSVTable {
+
+  private final String[][] rows;
+  private volatile double[] weights;
+
+  public CSVTable(String[][] rows) {
+    this.rows = rows;
+    this.weights = null;
+  }
+
+  public int getRowCount() {
+    return rows.length;
+  }
+
+  public String[] getRow(int index) {
+    return rows[index];
+  }
+
+  /** Provides the weight of each row as specified in its second column of a weighted CSV file.
+   *  Rows without weight have the weight 1. The array is created on first invocation and shared
+   *  by all users of the table, so it must not be modified. */
+  public double[] getWeights() {
+    double[] result = weights;
+    if (result == null) {
+      result = new double[rows.length];
+      for (int i = 0; i < rows.length; i++) {
+        String[] row = rows[i];
+        result[i] = (row.length < 2 || row[1] == null || row[1].trim().length() == 0 ? 1. : Double.parseDouble(row[1].trim()));
+      }
+      weights = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '[' + rows.length + " rows]";
+  }
+
+}
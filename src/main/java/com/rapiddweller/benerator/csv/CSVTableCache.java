@@ -0,0 +1,253 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.csv;
+
+import com.rapiddweller.benerator.engine.BeneratorOpts;
+import com.rapiddweller.common.ConfigUtil;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.csv.CSVLineIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides the content of CSV files from the class path as {@link CSVTable}s which are shared in the JVM.
+ * On first use, a CSV file is parsed and compiled to a binary file in the cache folder, which is loaded
+ * memory-mapped in subsequent runs. Binary files contain a table of the distinct cell values and the rows
+ * as indexes into it. They are recompiled when the modification time or size of their CSV source changes.
+ * The binary cache can be switched off by the system property {@value BeneratorOpts#OPTS_DATASET_CACHE}=false,
+ * files from the file system are always parsed directly.<br/><br/>
+ * Created: 19.10.2026 16:09:12
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class CSVTableCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(CSVTableCache.class);
+
+  private static final int MAGIC = 0x42435356;
+  private static final int VERSION = 1;
+  private static final int NULL_INDEX = -1;
+  private static final String CACHE_FOLDER_NAME = "datasets";
+  private static final String[] EMPTY_ROW = new String[0];
+
+  private static final Map<String, Entry> tables = new ConcurrentHashMap<>();
+  private static final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+  private CSVTableCache() {
+    // private constructor to prevent instantiation
+  }
+
+  /** Provides the content of a CSV file like it is parsed by a {@link CSVLineIterator} with the same settings. */
+  public static CSVTable getTable(String uri, char separator, boolean ignoreEmptyLines, String encoding) {
+    URL url = resolveResource(uri);
+    String stamp = (url != null ? stampOf(url) : null);
+    if (stamp == null) {
+      return new CSVTable(parse(uri, separator, ignoreEmptyLines, encoding));
+    }
+    String key = uri + '|' + separator + '|' + ignoreEmptyLines + '|' + encoding;
+    CSVTable table = lookup(key, stamp);
+    if (table == null) {
+      synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+        table = lookup(key, stamp);
+        if (table == null) {
+          table = new CSVTable(load(uri, separator, ignoreEmptyLines, encoding, key, stamp));
+          tables.put(key, new Entry(stamp, table));
+        }
+      }
+    }
+    return table;
+  }
+
+  /** Removes all tables from memory. */
+  public static void clear() {
+    tables.clear();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static CSVTable lookup(String key, String stamp) {
+    Entry entry = tables.get(key);
+    return (entry != null && entry.stamp.equals(stamp) ? entry.table.get() : null);
+  }
+
+  private static String[][] load(String uri, char separator, boolean ignoreEmptyLines, String encoding,
+                                 String key, String stamp) {
+    File cacheFile = (BeneratorOpts.isDatasetCaching() ? cacheFile(uri, key) : null);
+    if (cacheFile != null && cacheFile.exists()) {
+      String[][] rows = readCacheFile(cacheFile, key, stamp);
+      if (rows != null) {
+        logger.debug("Loaded {} from cache file {}", uri, cacheFile);
+        return rows;
+      }
+    }
+    String[][] rows = parse(uri, separator, ignoreEmptyLines, encoding);
+    if (cacheFile != null) {
+      writeCacheFile(rows, cacheFile, key, stamp);
+    }
+    return rows;
+  }
+
+  static String[][] parse(String uri, char separator, boolean ignoreEmptyLines, String encoding) {
+    Map<String, String> pool = new HashMap<>();
+    List<String[]> rows = new ArrayList<>();
+    try (CSVLineIterator iterator = new CSVLineIterator(uri, separator, ignoreEmptyLines, encoding)) {
+      DataContainer<String[]> container = new DataContainer<>();
+      while ((container = iterator.next(container)) != null) {
+        String[] cells = container.getData();
+        String[] row = (cells.length > 0 ? new String[cells.length] : EMPTY_ROW);
+        for (int i = 0; i < cells.length; i++) {
+          row[i] = (cells[i] != null ? pool.computeIfAbsent(cells[i], s -> s) : null);
+        }
+        rows.add(row);
+      }
+    }
+    return rows.toArray(new String[rows.size()][]);
+  }
+
+  private static URL resolveResource(String uri) {
+    if (uri.contains("://") || new File(uri).exists()) {
+      return null;
+    }
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    return (classLoader != null ? classLoader.getResource(uri.startsWith("/") ? uri.substring(1) : uri) : null);
+  }
+
+  private static String stampOf(URL url) {
+    try {
+      if ("file".equals(url.getProtocol())) {
+        File file = new File(url.toURI());
+        return file.lastModified() + ":" + file.length() + ":" + url;
+      }
+      URLConnection connection = url.openConnection();
+      return connection.getLastModified() + ":" + connection.getContentLengthLong() + ":" + url;
+    } catch (IOException | URISyntaxException | RuntimeException e) {
+      logger.debug("Unable to determine the state of {}", url, e);
+      return null;
+    }
+  }
+
+  private static File cacheFile(String uri, String key) {
+    String name = uri.substring(Math.max(uri.lastIndexOf('/'), uri.lastIndexOf('\\')) + 1);
+    return new File(new File(ConfigUtil.commonCacheFolder(), CACHE_FOLDER_NAME),
+        name + '-' + Integer.toHexString(key.hashCode()) + ".bin");
+  }
+
+  static void writeCacheFile(String[][] rows, File cacheFile, String key, String stamp) {
+    File tempFile = null;
+    try {
+      File folder = cacheFile.getParentFile();
+      if (!folder.exists() && !folder.mkdirs()) {
+        throw new IOException("Unable to create folder " + folder);
+      }
+      tempFile = File.createTempFile(cacheFile.getName(), ".tmp", folder);
+      Map<String, Integer> indexes = new LinkedHashMap<>();
+      for (String[] row : rows) {
+        for (String cell : row) {
+          if (cell != null) {
+            indexes.putIfAbsent(cell, indexes.size());
+          }
+        }
+      }
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeString(key, out);
+        writeString(stamp, out);
+        out.writeInt(indexes.size());
+        for (String value : indexes.keySet()) {
+          writeString(value, out);
+        }
+        out.writeInt(rows.length);
+        for (String[] row : rows) {
+          out.writeInt(row.length);
+          for (String cell : row) {
+            out.writeInt(cell != null ? indexes.get(cell) : NULL_INDEX);
+          }
+        }
+      }
+      Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      logger.debug("Created cache file {}", cacheFile);
+    } catch (IOException | RuntimeException e) {
+      logger.debug("Unable to write cache file {}", cacheFile, e);
+      if (tempFile != null && tempFile.exists() && !tempFile.delete()) {
+        logger.debug("Unable to delete {}", tempFile);
+      }
+    }
+  }
+
+  /** Reads the rows of a cache file.
+   *  @return the rows or null, if the file does not match the key and stamp or is not readable */
+  static String[][] readCacheFile(File cacheFile, String key, String stamp) {
+    try (FileChannel channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ)) {
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+          || !key.equals(readString(buffer)) || !stamp.equals(readString(buffer))) {
+        return null;
+      }
+      String[] values = new String[buffer.getInt()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = readString(buffer);
+      }
+      String[][] rows = new String[buffer.getInt()][];
+      for (int i = 0; i < rows.length; i++) {
+        int length = buffer.getInt();
+        String[] row = (length > 0 ? new String[length] : EMPTY_ROW);
+        for (int j = 0; j < length; j++) {
+          int index = buffer.getInt();
+          row[j] = (index != NULL_INDEX ? values[index] : null);
+        }
+        rows[i] = row;
+      }
+      return rows;
+    } catch (IOException | RuntimeException e) {
+      logger.debug("Unable to read cache file {}", cacheFile, e);
+      return null;
+    }
+  }
+
+  private static void writeString(String value, DataOutputStream out) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static class Entry {
+
+    final String stamp;
+    final SoftReference<CSVTable> table;
+
+    Entry(String stamp, CSVTable table) {
+      this.stamp = stamp;
+      this.table = new SoftReference<>(table);
+    }
+  }
+
+}
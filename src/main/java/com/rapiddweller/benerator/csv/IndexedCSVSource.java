@@ -0,0 +1,43 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.csv;
+
+import com.rapiddweller.benerator.sample.IndexedSource;
+import com.rapiddweller.benerator.sample.IndexedSourceProvider;
+import com.rapiddweller.common.SystemInfo;
+import com.rapiddweller.format.csv.CSVSource;
+
+import java.io.File;
+import java.nio.charset.Charset;
+
+/**
+ * {@link CSVSource} which provides random access to the rows of a local CSV file by a {@link MappedCSVIndex}.<br/><br/>
+ * Created: 18.10.2026 23:31:47
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class IndexedCSVSource extends CSVSource implements IndexedSourceProvider<String[]> {
+
+  private final boolean rowBased;
+
+  public IndexedCSVSource(String uri, char separator, String encoding, boolean ignoreEmptyLines, boolean rowBased) {
+    super(uri, separator, encoding, ignoreEmptyLines, rowBased);
+    this.rowBased = rowBased;
+  }
+
+  /** @return a {@link MappedCSVIndex} if the rows of a local file are iterated in an ASCII-compatible encoding,
+   *  otherwise null */
+  @Override
+  public IndexedSource<String[]> createIndexedSource() {
+    File file = new File(uri);
+    if (!rowBased || !file.isFile()) {
+      return null;
+    }
+    Charset charset = Charset.forName(encoding != null ? encoding : SystemInfo.getFileEncoding());
+    if (!MappedCSVIndex.supportsEncoding(charset, separator)) {
+      return null;
+    }
+    return new MappedCSVIndex(file, separator, charset, ignoreEmptyLines);
+  }
+
+}
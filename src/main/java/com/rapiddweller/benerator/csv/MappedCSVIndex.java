@@ -0,0 +1,406 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.csv;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.sample.IndexedSource;
+import com.rapiddweller.format.csv.CSVLineIterator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Provides random access to the rows of a CSV file by a compact index of row offsets in a memory-mapped file.
+ * On creation, the file is scanned once, storing the start offset of each row: The offset of every
+ * {@value #BLOCK_SIZE}th row is stored as long, the others relative to it as int, which requires about
+ * 4 bytes per row. Rows are parsed on access, so the file content itself is left to the operating
+ * system's page cache. Rows are parsed like by the {@link CSVLineIterator}, including its handling
+ * of comment lines, escape sequences and empty cells.
+ * The file encoding must be UTF-8 or a single-byte encoding which is compatible with ASCII,
+ * see {@link #supportsEncoding(Charset, char)}.<br/><br/>
+ * Created: 18.10.2026 23:14:55
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class MappedCSVIndex implements IndexedSource<String[]> {
+
+  private static final int SEGMENT_BITS = 30;
+  private static final long SEGMENT_MASK = (1L << SEGMENT_BITS) - 1;
+  private static final int BLOCK_BITS = 6;
+  private static final int BLOCK_SIZE = 1 << BLOCK_BITS;
+
+  private static final int EOF = -1;
+  private static final int NONE = -2;
+  private static final int QUOTE = '"';
+  private static final int CR = '\r';
+  private static final int LF = '\n';
+  private static final int ESCAPE = '\\';
+  private static final int COMMENT = '#';
+
+  private final String uri;
+  private final char separator;
+  private final Charset charset;
+  private final long fileSize;
+  private final MappedByteBuffer[] segments;
+
+  private long[] blockOffsets;
+  private int[] rowOffsets;
+  private int rowCount;
+
+  public MappedCSVIndex(File file, char separator, Charset charset, boolean ignoreEmptyLines) {
+    if (!supportsEncoding(charset, separator)) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument(
+          "Encoding " + charset + " is not supported for indexing CSV files");
+    }
+    this.uri = file.getPath();
+    this.separator = separator;
+    this.charset = charset;
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      this.fileSize = channel.size();
+      this.segments = new MappedByteBuffer[(int) ((fileSize >> SEGMENT_BITS) + 1)];
+      for (int i = 0; i < segments.length; i++) {
+        long start = (long) i << SEGMENT_BITS;
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(1L << SEGMENT_BITS, fileSize - start));
+      }
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().fileAccessException("Error mapping CSV file " + uri, e);
+    }
+    this.blockOffsets = new long[16];
+    this.rowOffsets = new int[16 * BLOCK_SIZE];
+    this.rowCount = 0;
+    scan(ignoreEmptyLines);
+  }
+
+  /** Tells if a CSV file can be indexed in the given encoding:
+   *  This requires the encoding to be UTF-8 or a single-byte encoding which is compatible with ASCII,
+   *  so that the characters relevant for CSV parsing can be identified by a single byte. */
+  public static boolean supportsEncoding(Charset charset, char separator) {
+    if (separator > 127) {
+      return false;
+    }
+    if (charset.equals(StandardCharsets.UTF_8)) {
+      return true;
+    }
+    if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1) {
+      return false;
+    }
+    String structure = "\"\\#\r\n" + separator;
+    return Arrays.equals(structure.getBytes(charset), structure.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  // IndexedSource interface implementation --------------------------------------------------------------------------
+
+  @Override
+  public Class<String[]> getType() {
+    return String[].class;
+  }
+
+  @Override
+  public long size() {
+    return rowCount;
+  }
+
+  @Override
+  public String[] get(long index) {
+    if (index < 0 || index >= rowCount) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument(
+          "Row index " + index + " out of range 0.." + (rowCount - 1) + " of " + uri);
+    }
+    int row = (int) index;
+    long start = rowOffset(row);
+    long end = (row + 1 < rowCount ? rowOffset(row + 1) : fileSize);
+    byte[] bytes = new byte[(int) (end - start)];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = byteAt(start + i);
+    }
+    List<String> cells = new ArrayList<>();
+    parseRow(new StringInput(new String(bytes, charset)), cells);
+    return cells.toArray(new String[0]);
+  }
+
+  @Override
+  public void close() {
+    // mapped buffers are released by the garbage collector
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private byte byteAt(long position) {
+    return segments[(int) (position >> SEGMENT_BITS)].get((int) (position & SEGMENT_MASK));
+  }
+
+  private long rowOffset(int row) {
+    return blockOffsets[row >> BLOCK_BITS] + rowOffsets[row];
+  }
+
+  private void scan(boolean ignoreEmptyLines) {
+    long dataStart = skipByteOrderMark();
+    ByteInput input = new ByteInput(dataStart);
+    while (input.position() < fileSize) {
+      long rowStart = input.position();
+      if (rowStart > dataStart && byteAt(rowStart) == COMMENT) {
+        skipLine(input);
+      } else if (parseRow(input, null) > 0 || (!ignoreEmptyLines && input.position() > rowStart)) {
+        addRow(rowStart);
+      }
+    }
+    this.rowOffsets = Arrays.copyOf(rowOffsets, rowCount);
+    this.blockOffsets = Arrays.copyOf(blockOffsets, (rowCount + BLOCK_SIZE - 1) >> BLOCK_BITS);
+  }
+
+  private long skipByteOrderMark() {
+    if (charset.equals(StandardCharsets.UTF_8) && fileSize >= 3
+        && byteAt(0) == (byte) 0xEF && byteAt(1) == (byte) 0xBB && byteAt(2) == (byte) 0xBF) {
+      return 3;
+    }
+    return 0;
+  }
+
+  private void addRow(long offset) {
+    if (rowCount == Integer.MAX_VALUE) {
+      throw BeneratorExceptionFactory.getInstance().illegalOperation(
+          "CSV file " + uri + " has too many rows to be indexed");
+    }
+    int block = rowCount >> BLOCK_BITS;
+    if ((rowCount & (BLOCK_SIZE - 1)) == 0) {
+      if (block == blockOffsets.length) {
+        blockOffsets = Arrays.copyOf(blockOffsets, block * 2);
+      }
+      blockOffsets[block] = offset;
+    }
+    long relativeOffset = offset - blockOffsets[block];
+    if (relativeOffset > Integer.MAX_VALUE) {
+      throw BeneratorExceptionFactory.getInstance().illegalOperation(
+          "Rows of CSV file " + uri + " are too long to be indexed");
+    }
+    if (rowCount == rowOffsets.length) {
+      rowOffsets = Arrays.copyOf(rowOffsets, (int) Math.min(rowOffsets.length * 2L, Integer.MAX_VALUE));
+    }
+    rowOffsets[rowCount++] = (int) relativeOffset;
+  }
+
+  private static void skipLine(Input input) {
+    int c;
+    do {
+      c = input.read();
+    } while (c != EOF && c != CR && c != LF);
+    if (c == CR) {
+      skipLF(input);
+    }
+  }
+
+  private static void skipLF(Input input) {
+    int c = input.read();
+    if (c != LF && c != EOF) {
+      input.unread(c);
+    }
+  }
+
+  /** Parses the cells of a row up to the end of the line. Empty cells are represented by null values.
+   *  @param cells the list to add the cells to, or null if only the cells shall be counted
+   *  @return the number of cells */
+  private int parseRow(Input input, List<String> cells) {
+    int count = 0;
+    boolean afterCell = false;
+    while (true) {
+      int c = input.read();
+      if (c == EOF) {
+        return count;
+      }
+      if (c == separator && afterCell) {
+        c = input.read();
+      }
+      StringBuilder cell = (cells != null ? new StringBuilder() : null);
+      if (c == EOF) {
+        cell = null;
+      } else if (c == separator) {
+        input.unread(c);
+        cell = null;
+      } else if (c == CR) {
+        skipLF(input);
+        return count;
+      } else if (c == LF) {
+        return count;
+      } else if (c == QUOTE) {
+        parseQuotedCell(input, cell);
+      } else {
+        parseSimpleCell(c, input, cell);
+      }
+      if (cells != null) {
+        cells.add(cell != null ? cell.toString() : null);
+      }
+      count++;
+      afterCell = true;
+    }
+  }
+
+  private void parseQuotedCell(Input input, StringBuilder cell) {
+    boolean escaped = false;
+    while (true) {
+      int c = input.read();
+      if (c == QUOTE) {
+        c = input.read();
+        if (c == QUOTE) {
+          append((char) c, cell);
+          continue;
+        }
+        // the character following the closing quote is skipped unless it ends the cell
+        if (c == CR || c == LF || c == separator) {
+          input.unread(c);
+        }
+        return;
+      } else if (c == EOF) {
+        return;
+      } else if (escaped) {
+        append(unescape((char) c), cell);
+        escaped = false;
+      } else if (c == ESCAPE) {
+        escaped = true;
+      } else {
+        append((char) c, cell);
+      }
+    }
+  }
+
+  private void parseSimpleCell(int first, Input input, StringBuilder cell) {
+    append((char) first, cell);
+    boolean escaped = false;
+    int c;
+    while ((c = input.read()) != EOF && c != CR && c != LF) {
+      if (escaped) {
+        c = unescape((char) c);
+        escaped = false;
+      } else if (c == ESCAPE) {
+        escaped = true;
+        continue;
+      }
+      if (c == separator) {
+        input.unread(c);
+        return;
+      }
+      append((char) c, cell);
+    }
+    if (c != EOF) {
+      input.unread(c);
+    }
+  }
+
+  private static char unescape(char c) {
+    switch (c) {
+      case 't': return '\t';
+      case 'r': return '\r';
+      case 'n': return '\n';
+      default: return c;
+    }
+  }
+
+  private static void append(char c, StringBuilder cell) {
+    if (cell != null) {
+      cell.append(c);
+    }
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + uri + ", " + rowCount + " rows]";
+  }
+
+  // input helper classes --------------------------------------------------------------------------------------------
+
+  /** Character input with a pushback buffer of one character. */
+  private abstract static class Input {
+
+    private int pushback = NONE;
+
+    int read() {
+      if (pushback != NONE) {
+        int c = pushback;
+        pushback = NONE;
+        return c;
+      }
+      return doRead();
+    }
+
+    void unread(int c) {
+      pushback = c;
+    }
+
+    boolean hasPushback() {
+      return (pushback != NONE);
+    }
+
+    abstract int doRead();
+  }
+
+  /** Reads the bytes of the mapped file, which is sufficient for finding the row boundaries,
+   *  since the characters relevant for parsing are encoded by single bytes. A multibyte UTF-8 sequence
+   *  is read as one character (or two for a surrogate pair), represented by a non-ASCII placeholder. */
+  private class ByteInput extends Input {
+
+    private final boolean utf8;
+    private long position;
+    private long lastCharPosition;
+    private boolean pendingLowSurrogate;
+
+    ByteInput(long position) {
+      this.utf8 = charset.equals(StandardCharsets.UTF_8);
+      this.position = position;
+      this.lastCharPosition = position;
+      this.pendingLowSurrogate = false;
+    }
+
+    long position() {
+      return (hasPushback() ? lastCharPosition : position);
+    }
+
+    @Override
+    int doRead() {
+      if (pendingLowSurrogate) {
+        pendingLowSurrogate = false;
+        return Character.MIN_LOW_SURROGATE;
+      }
+      if (position >= fileSize) {
+        return EOF;
+      }
+      lastCharPosition = position;
+      int b = byteAt(position++) & 0xFF;
+      if (utf8 && b >= 0xC0) {
+        int length = (b >= 0xF0 ? 4 : (b >= 0xE0 ? 3 : 2));
+        for (int i = 1; i < length && position < fileSize && (byteAt(position) & 0xC0) == 0x80; i++) {
+          position++;
+        }
+        pendingLowSurrogate = (length == 4);
+        return Character.MIN_HIGH_SURROGATE;
+      }
+      return b;
+    }
+  }
+
+  /** Reads the characters of a decoded row. */
+  private static class StringInput extends Input {
+
+    private final String text;
+    private int position;
+
+    StringInput(String text) {
+      this.text = text;
+      this.position = 0;
+    }
+
+    @Override
+    int doRead() {
+      return (position < text.length() ? text.charAt(position++) : EOF);
+    }
+  }
+
+}
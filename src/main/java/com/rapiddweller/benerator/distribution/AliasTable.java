@@ -0,0 +1,106 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.distribution;
+
+import com.rapiddweller.benerator.RandomProvider;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+
+/**
+ * Samples indices with individual weights in constant time, using Vose's variant of Walker's alias method.
+ * Each bucket holds the probability of its own index and the alias index which is chosen otherwise,
+ * so a draw needs a single random number, independent of the number of buckets.
+ * Weights are processed with double precision. If all weights are zero, the indices are uniformly distributed.
+ * Instances are immutable and can be shared between threads.<br/><br/>
+ * Created: 18.10.2026 18:41:15
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class AliasTable {
+
+  private final double[] probabilities;
+  private final int[] aliases;
+
+  public AliasTable(double[] weights) {
+    int n = weights.length;
+    if (n == 0) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("Cannot create an alias table without weights");
+    }
+    this.probabilities = new double[n];
+    this.aliases = new int[n];
+    double sum = 0;
+    for (double weight : weights) {
+      if (weight < 0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+        throw BeneratorExceptionFactory.getInstance().illegalArgument("Invalid weight: " + weight);
+      }
+      sum += weight;
+    }
+    if (sum == 0) {
+      for (int i = 0; i < n; i++) {
+        probabilities[i] = 1;
+        aliases[i] = i;
+      }
+    } else {
+      build(weights, sum);
+    }
+  }
+
+  public int size() {
+    return probabilities.length;
+  }
+
+  /** @return a random index, drawing a single double value from the random provider */
+  public int sample(RandomProvider random) {
+    return sample(random.randomDouble());
+  }
+
+  /** Maps a random value in [0, 1) to an index: The integral part of the value scaled to the table size
+   *  selects the bucket, the fractional part decides between the bucket's index and its alias. */
+  public int sample(double random) {
+    double scaled = random * probabilities.length;
+    int bucket = (int) scaled;
+    if (bucket >= probabilities.length) {
+      bucket = probabilities.length - 1;
+    }
+    return (scaled - bucket < probabilities[bucket] ? bucket : aliases[bucket]);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void build(double[] weights, double sum) {
+    int n = weights.length;
+    // the work lists of small and large buckets share one array, small ones from the start, large ones from the end
+    int[] work = new int[n];
+    int smallCount = 0;
+    int largeStart = n;
+    for (int i = 0; i < n; i++) {
+      probabilities[i] = weights[i] * n / sum;
+      if (probabilities[i] < 1) {
+        work[smallCount++] = i;
+      } else {
+        work[--largeStart] = i;
+      }
+    }
+    while (smallCount > 0 && largeStart < n) {
+      int small = work[--smallCount];
+      int large = work[largeStart];
+      aliases[small] = large;
+      probabilities[large] = (probabilities[large] + probabilities[small]) - 1;
+      if (probabilities[large] < 1) {
+        largeStart++;
+        work[smallCount++] = large;
+      }
+    }
+    // remaining buckets are full except for rounding errors
+    while (largeStart < n) {
+      int large = work[largeStart++];
+      probabilities[large] = 1;
+      aliases[large] = large;
+    }
+    while (smallCount > 0) {
+      int small = work[--smallCount];
+      probabilities[small] = 1;
+      aliases[small] = small;
+    }
+  }
+
+}
@@ -26,8 +26,10 @@
 
 package com.rapiddweller.benerator.distribution;
 
+import com.rapiddweller.benerator.BeneratorFactory;
 import com.rapiddweller.benerator.Generator;
 import com.rapiddweller.benerator.NonNullGenerator;
+import com.rapiddweller.benerator.RandomProvider;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
 import com.rapiddweller.benerator.primitive.number.AbstractNonNullNumberGenerator;
 import com.rapiddweller.benerator.sample.ConstantGenerator;
@@ -37,7 +39,6 @@
 import com.rapiddweller.common.converter.ConverterManager;
 
 import java.util.List;
-import java.util.Random;
 
 /**
  * {@link Distribution} implementation which uses the inverse of a probability function integral
@@ -95,7 +96,7 @@ public String toString() {
   public static class IPINumberGenerator<E extends Number> extends AbstractNonNullNumberGenerator<E> {
 
     private final CumulativeDistributionFunction fcn;
-    private final Random random = new Random();
+    private final RandomProvider random = BeneratorFactory.getInstance().getRandomProvider();
     private final Converter<Double, E> converter;
     private final double minProb;
     private final double probScale;
@@ -117,7 +118,7 @@ public IPINumberGenerator(CumulativeDistributionFunction fcn, Class<E> targetTyp
     @Override
     public E generate() {
       double tmp;
-      double prob = minProb + random.nextDouble() * probScale;
+      double prob = minProb + random.randomDouble() * probScale;
       tmp = fcn.inverse(prob);
       tmp = Math.floor((tmp - minD) / granularityD) * granularityD + minD;
       return converter.convert(tmp);
@@ -28,16 +28,19 @@
 
 import com.rapiddweller.benerator.Generator;
 import com.rapiddweller.benerator.GeneratorContext;
-import com.rapiddweller.benerator.sample.SampleGenerator;
-import com.rapiddweller.benerator.util.GeneratorUtil;
+import com.rapiddweller.benerator.sample.IndexedSampleGenerator;
+import com.rapiddweller.benerator.sample.IndexedSource;
+import com.rapiddweller.benerator.sample.IndexedSourceUtil;
 import com.rapiddweller.benerator.wrapper.GeneratorProxy;
+import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.ThreadUtil;
 
-import java.util.List;
-
 /**
- * Internal generator which reads all products of a source generator and provides them with an index-based strategy.
- * Reevaluates source on reset.<br/><br/>
+ * Internal generator which provides the products of a source generator with an index-based strategy.
+ * If the source's data is available by random access (e.g. from a local CSV file or a database table),
+ * the products are read on demand and the index is kept on reset, only the index-based strategy restarts.
+ * Otherwise all products are read into memory and the source is reevaluated on reset,
+ * since it may depend on the context, e.g. a database query with a script selector.<br/><br/>
  * Created: 21.07.2010 01:57:31
  * @param <E> the type parameter
  * @author Volker Bergmann
@@ -48,6 +51,7 @@
   private final Generator<E> dataProvider;
   private final Distribution distribution;
   private final boolean unique;
+  private boolean randomAccess;
 
   public IndexBasedSampleGeneratorProxy(Generator<E> dataProvider, Distribution distribution, boolean unique) {
     super(dataProvider.getGeneratedType());
@@ -68,17 +72,19 @@ public boolean isParallelizable() {
 
   @Override
   public void init(GeneratorContext context) {
-    if (!dataProvider.wasInitialized()) {
-      dataProvider.init(context);
-    }
-    initMembers(context);
+    IndexedSource<E> index = IndexedSourceUtil.createRandomAccessSource(dataProvider);
+    this.randomAccess = (index != null);
+    initMembers(index, context);
     super.init(context);
   }
 
   @Override
   public void reset() {
-    dataProvider.reset();
-    initMembers(context);
+    if (!randomAccess) {
+      dataProvider.reset();
+      IOUtil.close(getSource());
+      initMembers(null, context);
+    }
     super.reset();
   }
 
@@ -88,10 +94,11 @@ public void close() {
     super.close();
   }
 
-  private void initMembers(GeneratorContext context) {
-    List<E> products = GeneratorUtil.allProducts(dataProvider);
-    SampleGenerator<E> sampleGen = new SampleGenerator<>(
-        dataProvider.getGeneratedType(), distribution, unique, products);
+  private void initMembers(IndexedSource<E> index, GeneratorContext context) {
+    if (index == null) {
+      index = IndexedSourceUtil.createIndexedSource(dataProvider, context);
+    }
+    IndexedSampleGenerator<E> sampleGen = new IndexedSampleGenerator<>(index, distribution, unique);
     sampleGen.init(context);
     setSource(sampleGen);
   }
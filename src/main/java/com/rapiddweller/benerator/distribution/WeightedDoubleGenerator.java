@@ -26,14 +26,15 @@
 
 package com.rapiddweller.benerator.distribution;
 
+import com.rapiddweller.benerator.BeneratorFactory;
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.InvalidGeneratorSetupException;
+import com.rapiddweller.benerator.RandomProvider;
 import com.rapiddweller.benerator.distribution.function.ConstantFunction;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
-import com.rapiddweller.benerator.primitive.number.AbstractNonNullNumberGenerator;
+import com.rapiddweller.benerator.primitive.number.AbstractNonNullDoubleGenerator;
 
 import java.util.Arrays;
-import java.util.Random;
 
 /**
  * Double Generator that supports a weight function.<br/><br/>
@@ -41,10 +42,10 @@
  * @author Volker Bergmann
  * @since 0.1
  */
-public class WeightedDoubleGenerator extends AbstractNonNullNumberGenerator<Double> {
+public class WeightedDoubleGenerator extends AbstractNonNullDoubleGenerator {
 
   private final WeightFunction function;
-  private final Random random;
+  private final RandomProvider random;
 
   private double[] value;
   private double[] probSum;
@@ -56,9 +57,9 @@ public WeightedDoubleGenerator() {
   }
 
   public WeightedDoubleGenerator(double min, double max, double granularity, WeightFunction function) {
-    super(Double.class, min, max, granularity);
+    super(min, max, granularity);
     this.function = function;
-    this.random = new Random();
+    this.random = BeneratorFactory.getInstance().getRandomProvider();
   }
 
   public Distribution getDistribution() {
@@ -105,8 +106,13 @@ public void init(GeneratorContext context) {
 
   @Override
   public Double generate() {
+    return nextDouble();
+  }
+
+  @Override
+  public double nextDouble() {
     assertInitialized();
-    double randomValue = random.nextDouble();
+    double randomValue = random.randomDouble();
     int n = intervallNoOfRandom(randomValue);
     return value[n];
   }
@@ -26,27 +26,31 @@
 
 package com.rapiddweller.benerator.distribution;
 
+import com.rapiddweller.benerator.BeneratorFactory;
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.InvalidGeneratorSetupException;
+import com.rapiddweller.benerator.RandomProvider;
 import com.rapiddweller.benerator.distribution.function.ConstantFunction;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
-import com.rapiddweller.benerator.primitive.number.AbstractNonNullNumberGenerator;
-
-import java.util.Arrays;
-import java.util.Random;
+import com.rapiddweller.benerator.primitive.number.AbstractNonNullLongGenerator;
 
 /**
- * Long Generator that supports a weight function.<br/><br/>
+ * Long Generator that supports a weight function.
+ * The weights of all values are evaluated on initialization and stored in an {@link AliasTable},
+ * so each value is drawn in constant time with a single random number.<br/><br/>
  * Created: 18.06.2006 15:00:41
  * @author Volker Bergmann
  * @since 0.1
  */
-public class WeightedLongGenerator extends AbstractNonNullNumberGenerator<Long> {
+public class WeightedLongGenerator extends AbstractNonNullLongGenerator {
 
   private WeightFunction function;
 
-  private final Random randomizer;
-  private float[] probSum;
+  /** The maximum number of values, limited by the array size of the {@link AliasTable} */
+  private static final long MAX_SAMPLE_COUNT = Integer.MAX_VALUE - 8;
+
+  private RandomProvider random;
+  private AliasTable aliasTable;
 
   // constructors ----------------------------------------------------------------------------------------------------
 
@@ -67,9 +71,9 @@ public WeightedLongGenerator(long min, long max, WeightFunction function) {
   }
 
   public WeightedLongGenerator(long min, long max, long granularity, WeightFunction function) {
-    super(Long.class, min, max, granularity);
+    super(min, max, granularity);
     this.function = function;
-    this.randomizer = new Random();
+    this.random = BeneratorFactory.getInstance().getRandomProvider();
   }
 
   // properties ------------------------------------------------------------------------------------------------------
@@ -85,6 +89,10 @@ public void setDistribution(Distribution distribution) {
     this.function = (WeightFunction) distribution;
   }
 
+  public void setRandomProvider(RandomProvider random) {
+    this.random = random;
+  }
+
   // Generator implementation ----------------------------------------------------------------------------------------
 
   @Override
@@ -95,55 +103,41 @@ public void init(GeneratorContext context) {
 
   @Override
   public Long generate() {
+    return nextLong();
+  }
+
+  @Override
+  public long nextLong() {
     assertInitialized();
-    float random = randomizer.nextFloat();
-    long n = intervalNoOfRandom(random);
-    return min + n * granularity;
+    return min + aliasTable.sample(random) * granularity;
   }
 
   // private helpers -------------------------------------------------------------------------------------------------
 
-  private long intervalNoOfRandom(float random) {
-    int i = Arrays.binarySearch(probSum, random);
-    if (i < 0) {
-      i = -i - 1;
-    }
-    if (i >= probSum.length) {
-      return probSum.length - 1L;
-    }
-    return i;
-  }
-
   private void normalize() {
-    int sampleCount = (int) ((max - min) / granularity) + 1;
-    if (sampleCount > 100000) {
+    long sampleCount = (max - min) / granularity + 1;
+    if (sampleCount <= 0 || sampleCount > MAX_SAMPLE_COUNT) {
+      throw new InvalidGeneratorSetupException("granularity",
+          "too small for the range " + min + ".." + max + ", resulting in too many samples");
+    }
+    if (sampleCount > 10000000) {
       logger.warn("granularity too small, resulting in a set of {} samples", sampleCount);
     }
-    probSum = new float[sampleCount];
+    double[] weights = new double[(int) sampleCount];
     if (sampleCount == 1) {
-      probSum[0] = 1;
+      weights[0] = 1;
     } else {
-      double sum = 0;
+      long dx = (max - min) / (sampleCount - 1);
       for (int i = 0; i < sampleCount; i++) {
-        long dx = (max - min) / (sampleCount - 1);
-        long x = min + i * dx;
-        sum += function.value(x);
-        probSum[i] = (float) sum;
-      }
-      if (sum == 0) {
-        sum = 1;
-        float avgProp = (float) 1. / sampleCount;
-        for (int i = 0; i < sampleCount; i++) {
-          probSum[i] = (i + 1) * avgProp;
+        double weight = function.value(min + i * dx);
+        if (weight < 0) {
+          throw BeneratorExceptionFactory.getInstance().illegalGeneratorState(
+              "Invalid WeightFunction: Negative weight (" + weight + ") for " + function);
         }
-      } else if (sum < 0) {
-        throw BeneratorExceptionFactory.getInstance().illegalGeneratorState(
-            "Invalid WeightFunction: Sum is negative (" + sum + ") for " + function);
-      }
-      for (int i = 0; i < sampleCount; i++) {
-        probSum[i] /= (float) sum;
+        weights[i] = weight;
       }
     }
+    aliasTable = new AliasTable(weights);
   }
 
 }
@@ -74,6 +74,11 @@ public void init(GeneratorContext context) {
     super.init(context);
   }
 
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
   @Override
   public synchronized Long generate() {
     assertInitialized();
@@ -28,7 +28,7 @@
 
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.InvalidGeneratorSetupException;
-import com.rapiddweller.benerator.primitive.number.AbstractNonNullNumberGenerator;
+import com.rapiddweller.benerator.primitive.number.AbstractNonNullDoubleGenerator;
 
 /**
  * Double Generator that implements a 'cumulated' Double Sequence.<br/>
@@ -36,7 +36,7 @@
  * @author Volker Bergmann
  * @since 0.1
  */
-public class CumulatedDoubleGenerator extends AbstractNonNullNumberGenerator<Double> {
+public class CumulatedDoubleGenerator extends AbstractNonNullDoubleGenerator {
 
   private RandomDoubleGenerator baseGen;
 
@@ -49,7 +49,7 @@ public CumulatedDoubleGenerator(double min, double max) {
   }
 
   public CumulatedDoubleGenerator(double min, double max, double granularity) {
-    super(Double.class, min, max, granularity);
+    super(min, max, granularity);
   }
 
   @Override
@@ -64,9 +64,14 @@ public void init(GeneratorContext context) {
 
   @Override
   public Double generate() {
+    return nextDouble();
+  }
+
+  @Override
+  public double nextDouble() {
     assertInitialized();
-    double exactValue = (baseGen.generate() + baseGen.generate() + baseGen.generate() +
-        baseGen.generate() + baseGen.generate()) / 5.;
+    double exactValue = (baseGen.nextDouble() + baseGen.nextDouble() + baseGen.nextDouble() +
+        baseGen.nextDouble() + baseGen.nextDouble()) / 5.;
     return min + (int) (Math.round((exactValue - min) / granularity)) * granularity;
   }
 
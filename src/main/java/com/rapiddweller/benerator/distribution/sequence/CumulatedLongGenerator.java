@@ -28,7 +28,7 @@
 
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.InvalidGeneratorSetupException;
-import com.rapiddweller.benerator.primitive.number.AbstractNonNullNumberGenerator;
+import com.rapiddweller.benerator.primitive.number.AbstractNonNullLongGenerator;
 
 /**
  * Long Generator that implements a 'cumulated' Long Sequence.
@@ -38,7 +38,7 @@
  * @author Volker Bergmann
  * @since 0.1
  */
-public class CumulatedLongGenerator extends AbstractNonNullNumberGenerator<Long> {
+public class CumulatedLongGenerator extends AbstractNonNullLongGenerator {
 
   public static final long DEFAULT_MAX = Long.MAX_VALUE / 10;
   public static final long DEFAULT_MIN = Long.MIN_VALUE / 10;
@@ -56,7 +56,7 @@ public CumulatedLongGenerator(long min, long max) {
   }
 
   public CumulatedLongGenerator(long min, long max, long granularity) {
-    super(Long.class, min, max, granularity);
+    super(min, max, granularity);
   }
 
   // properties ------------------------------------------------------------------------------------------------------
@@ -69,8 +69,13 @@ public float average() {
 
   @Override
   public synchronized Long generate() {
-    long index = (baseGen.generate() + baseGen.generate() + baseGen.generate() +
-        baseGen.generate() + baseGen.generate() + 2) / 5L;
+    return nextLong();
+  }
+
+  @Override
+  public synchronized long nextLong() {
+    long index = (baseGen.nextLong() + baseGen.nextLong() + baseGen.nextLong() +
+        baseGen.nextLong() + baseGen.nextLong() + 2) / 5L;
     return min + index * granularity;
   }
 
@@ -57,6 +57,11 @@ public Class<E> getGeneratedType() {
     return numberType;
   }
 
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
   @Override
   public ProductWrapper<E> generate(ProductWrapper<E> wrapper) {
     int i = cursor.getAndIncrement();
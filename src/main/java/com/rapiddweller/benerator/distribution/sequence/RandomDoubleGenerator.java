@@ -28,7 +28,7 @@
 
 import com.rapiddweller.benerator.BeneratorFactory;
 import com.rapiddweller.benerator.RandomProvider;
-import com.rapiddweller.benerator.primitive.number.AbstractNonNullNumberGenerator;
+import com.rapiddweller.benerator.primitive.number.AbstractNonNullDoubleGenerator;
 import org.apache.commons.math3.util.Precision;
 
 /**
@@ -37,7 +37,7 @@
  * @author Volker Bergmann
  * @since 0.1
  */
-public class RandomDoubleGenerator extends AbstractNonNullNumberGenerator<Double> {
+public class RandomDoubleGenerator extends AbstractNonNullDoubleGenerator {
 
   private final int decimalPlaces;
   private RandomProvider random;
@@ -51,7 +51,7 @@ public RandomDoubleGenerator(double min, double max) {
   }
 
   public RandomDoubleGenerator(double min, double max, double granularity) {
-    super(Double.class, min, max, granularity);
+    super(min, max, granularity);
     String granularityText = Double.toString(Math.abs(granularity));
     int integerPlaces = granularityText.indexOf('.');
     decimalPlaces = granularityText.length() - integerPlaces - 1;
@@ -62,6 +62,11 @@ public RandomDoubleGenerator(double min, double max, double granularity) {
 
   @Override
   public Double generate() {
+    return nextDouble();
+  }
+
+  @Override
+  public double nextDouble() {
     // generate an offset value which will include 'max' if a granularity is defined.
     // Otherwise granularity is 0 and its addition does not matter.
     double offset = random.randomDouble() * (max - min + granularity);
@@ -26,13 +26,13 @@
 
 package com.rapiddweller.benerator.distribution.sequence;
 
+import com.rapiddweller.benerator.BeneratorFactory;
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.InvalidGeneratorSetupException;
 import com.rapiddweller.benerator.PropertyMessage;
+import com.rapiddweller.benerator.RandomProvider;
 import com.rapiddweller.benerator.primitive.number.AbstractNonNullNumberGenerator;
 
-import java.util.Random;
-
 /**
  * Creates random {@link Integer} values with a uniform distribution.<br/><br/>
  * Created at 24.06.2009 00:57:52
@@ -45,7 +45,7 @@ public class RandomIntegerGenerator extends AbstractNonNullNumberGenerator<Integ
   private static final int DEFAULT_MAX = Integer.MAX_VALUE / 2 - 1;
   private static final int DEFAULT_GRANULARITY = 1;
 
-  private static final Random random = new Random();
+  private static final RandomProvider random = BeneratorFactory.getInstance().getRandomProvider();
 
   // constructors ----------------------------------------------------------------------------------------------------
 
@@ -82,17 +82,8 @@ public static int generate(int min, int max, int granularity) {
     if (min > max) {
       throw new InvalidGeneratorSetupException(new PropertyMessage("min", "greater than max"));
     }
-    int range = (max - min + granularity) / granularity;
-    int result;
-    if (range != 0) {
-      result = min + Math.abs(random.nextInt() % range) * granularity;
-    } else {
-      result = random.nextInt() * granularity;
-    }
-    if (result < min) {
-      result += range;
-    }
-    return result;
+    long range = ((long) max - min) / granularity + 1;
+    return (int) (min + random.randomLong(range) * granularity);
   }
 
 }
@@ -31,7 +31,7 @@
 import com.rapiddweller.benerator.InvalidGeneratorSetupException;
 import com.rapiddweller.benerator.PropertyMessage;
 import com.rapiddweller.benerator.RandomProvider;
-import com.rapiddweller.benerator.primitive.number.AbstractNonNullNumberGenerator;
+import com.rapiddweller.benerator.primitive.number.AbstractNonNullLongGenerator;
 
 /**
  * Long Generator that implements a 'random' Long Sequence.<br/><br/>
@@ -39,7 +39,7 @@
  * @author Volker Bergmann
  * @since 0.1
  */
-public class RandomLongGenerator extends AbstractNonNullNumberGenerator<Long> {
+public class RandomLongGenerator extends AbstractNonNullLongGenerator {
 
   public static final long DEFAULT_MIN = Long.MIN_VALUE / 2 + 1;
   public static final long DEFAULT_MAX = Long.MAX_VALUE / 2 - 1;
@@ -57,7 +57,7 @@ public RandomLongGenerator(long min, Long max) {
   }
 
   public RandomLongGenerator(long min, Long max, long granularity) {
-    super(Long.class, min, max, granularity);
+    super(min, max, granularity);
   }
 
   // Generator implementation ----------------------------------------------------------------------------------------
@@ -77,9 +77,25 @@ public void init(GeneratorContext context) {
 
   @Override
   public synchronized Long generate() {
+    return nextLong();
+  }
+
+  @Override
+  public synchronized long nextLong() {
     return generate(min, max, granularity);
   }
 
+  @Override
+  public synchronized int generateLongs(long[] target, int count) {
+    long base = min;
+    long step = granularity;
+    long range = (max - base) / step;
+    for (int i = 0; i < count; i++) {
+      target[i] = (range != 0 ? base + random.randomLong(0, range) * step : base);
+    }
+    return count;
+  }
+
   // public convenience method ---------------------------------------------------------------------------------------
 
   public static long generate(long min, long max, long granularity) {
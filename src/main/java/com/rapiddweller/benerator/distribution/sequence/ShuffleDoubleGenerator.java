@@ -28,7 +28,8 @@
 
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.InvalidGeneratorSetupException;
-import com.rapiddweller.benerator.primitive.number.AbstractNonNullNumberGenerator;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.primitive.number.AbstractNonNullDoubleGenerator;
 
 /**
  * Double Generator that implements a 'shuffle' Double Sequence.<br/><br/>
@@ -36,17 +37,18 @@
  * @author Volker Bergmann
  * @since 0.1
  */
-public class ShuffleDoubleGenerator extends AbstractNonNullNumberGenerator<Double> {
+public class ShuffleDoubleGenerator extends AbstractNonNullDoubleGenerator {
 
   private double increment;
-  private Double next;
+  private double next;
+  private boolean available;
 
   public ShuffleDoubleGenerator() {
     this(Double.MIN_VALUE, Double.MAX_VALUE, 2, 1);
   }
 
   public ShuffleDoubleGenerator(double min, double max, double granularity, double increment) {
-    super(Double.class, min, max, granularity);
+    super(min, max, granularity);
     this.increment = increment;
     reset();
   }
@@ -77,29 +79,51 @@ public void init(GeneratorContext context) throws InvalidGeneratorSetupException
     if (min < max && increment <= 0) {
       throw new InvalidGeneratorSetupException("Unsupported increment value: " + increment);
     }
-    next = min;
+    reset();
     super.init(context);
   }
 
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
   @Override
   public synchronized Double generate() {
     assertInitialized();
-    if (next == null) {
-      return null;
+    return (available ? nextDouble() : null);
+  }
+
+  @Override
+  public synchronized double nextDouble() {
+    if (!available) {
+      throw BeneratorExceptionFactory.getInstance().illegalGeneratorState("Generator unavailable: " + this);
     }
     double result = next;
     if (next + increment <= max) {
       next += increment;
     } else {
       double newOffset = (next - min + granularity) % increment;
-      next = (newOffset > 0 ? min + newOffset : null);
+      next = min + newOffset;
+      available = (newOffset > 0);
     }
     return result;
   }
 
+  @Override
+  public synchronized int generateDoubles(double[] target, int count) {
+    assertInitialized();
+    int i = 0;
+    for (; i < count && available; i++) {
+      target[i] = nextDouble();
+    }
+    return i;
+  }
+
   @Override
   public synchronized void reset() {
     this.next = min;
+    this.available = true;
   }
 
 }
@@ -28,7 +28,8 @@
 
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.InvalidGeneratorSetupException;
-import com.rapiddweller.benerator.primitive.number.AbstractNonNullNumberGenerator;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.primitive.number.AbstractNonNullLongGenerator;
 
 /**
  * Long Generator that implements a 'shuffle' Long Sequence:
@@ -40,10 +41,11 @@
  * @author Volker Bergmann
  * @since 0.1
  */
-public class ShuffleLongGenerator extends AbstractNonNullNumberGenerator<Long> {
+public class ShuffleLongGenerator extends AbstractNonNullLongGenerator {
 
   private long increment;
-  private Long next;
+  private long next;
+  private boolean available;
 
   public ShuffleLongGenerator() {
     this(Long.MIN_VALUE, Long.MAX_VALUE);
@@ -54,7 +56,7 @@ public ShuffleLongGenerator(long min, long max) {
   }
 
   public ShuffleLongGenerator(long min, long max, long granularity, long increment) {
-    super(Long.class, min, max, granularity);
+    super(min, max, granularity);
     this.increment = increment;
     reset();
   }
@@ -80,29 +82,51 @@ public void init(GeneratorContext context) {
     if (min < max && increment <= 0) {
       throw new InvalidGeneratorSetupException("Unsupported increment value: " + increment);
     }
-    next = min;
+    reset();
     super.init(context);
   }
 
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
   @Override
   public synchronized Long generate() {
     assertInitialized();
-    if (next == null) {
-      return null;
+    return (available ? nextLong() : null);
+  }
+
+  @Override
+  public synchronized long nextLong() {
+    if (!available) {
+      throw BeneratorExceptionFactory.getInstance().illegalGeneratorState("Generator unavailable: " + this);
     }
     long result = next;
     if (next + increment <= max) {
       next += increment;
     } else {
       long newOffset = (next - min + granularity) % increment;
-      next = (newOffset > 0 ? min + newOffset : null);
+      next = min + newOffset;
+      available = (newOffset > 0);
     }
     return result;
   }
 
+  @Override
+  public synchronized int generateLongs(long[] target, int count) {
+    assertInitialized();
+    int i = 0;
+    for (; i < count && available; i++) {
+      target[i] = nextLong();
+    }
+    return i;
+  }
+
   @Override
   public synchronized void reset() {
     this.next = min;
+    this.available = true;
   }
 
 }
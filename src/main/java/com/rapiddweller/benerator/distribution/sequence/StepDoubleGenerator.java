@@ -27,14 +27,15 @@
 package com.rapiddweller.benerator.distribution.sequence;
 
 import com.rapiddweller.benerator.GeneratorContext;
-import com.rapiddweller.benerator.primitive.number.AbstractNonNullNumberGenerator;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.primitive.number.AbstractNonNullDoubleGenerator;
 
 /**
  * Double Generator that implements a 'step' Double Sequence.<br/><br/>
  * Created: 26.07.2007 18:36:45
  * @author Volker Bergmann
  */
-public class StepDoubleGenerator extends AbstractNonNullNumberGenerator<Double> {
+public class StepDoubleGenerator extends AbstractNonNullDoubleGenerator {
 
   private final double increment;
   private final double initial;
@@ -56,7 +57,7 @@ public StepDoubleGenerator(double min, double max, double increment) {
   }
 
   public StepDoubleGenerator(double min, Double max, double increment, Double initial) {
-    super(Double.class, min, max, Math.abs(increment));
+    super(min, max, Math.abs(increment));
     this.increment = increment;
     this.initial = (initial != null ? initial : (increment >= 0 ? min : max));
     reset();
@@ -72,15 +73,35 @@ public void init(GeneratorContext context) {
   }
 
   @Override
-  public Double generate() {
+  public boolean isParallelizable() {
+    return false;
+  }
+
+  @Override
+  public synchronized Double generate() {
     assertInitialized();
-    if (increment == 0 || (increment > 0 && (max == null || next <= max)) || (increment < 0 && next >= min)) {
-      double value = next;
+    return (hasNext() ? nextDouble() : null);
+  }
+
+  @Override
+  public synchronized double nextDouble() {
+    if (!hasNext()) {
+      throw BeneratorExceptionFactory.getInstance().illegalGeneratorState("Generator unavailable: " + this);
+    }
+    double value = next;
+    next += increment;
+    return value;
+  }
+
+  @Override
+  public synchronized int generateDoubles(double[] target, int count) {
+    assertInitialized();
+    int i = 0;
+    for (; i < count && hasNext(); i++) {
+      target[i] = next;
       next += increment;
-      return value;
-    } else {
-      return null;
     }
+    return i;
   }
 
   @Override
@@ -92,4 +113,8 @@ private void resetMembers() {
     next = initial;
   }
 
+  private boolean hasNext() {
+    return (increment == 0 || (increment > 0 && (max == null || next <= max)) || (increment < 0 && next >= min));
+  }
+
 }
@@ -27,14 +27,15 @@
 package com.rapiddweller.benerator.distribution.sequence;
 
 import com.rapiddweller.benerator.GeneratorContext;
-import com.rapiddweller.benerator.primitive.number.AbstractNonNullNumberGenerator;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.primitive.number.AbstractNonNullLongGenerator;
 
 /**
  * Long Generator that implements a 'step' Long Sequence.<br/><br/>
  * Created: 26.07.2007 18:36:45
  * @author Volker Bergmann
  */
-public class StepLongGenerator extends AbstractNonNullNumberGenerator<Long> {
+public class StepLongGenerator extends AbstractNonNullLongGenerator {
 
   private long increment;
   private final long initial;
@@ -56,7 +57,7 @@ public StepLongGenerator(long min, long max, long increment) {
   }
 
   public StepLongGenerator(long min, Long max, long increment, Long initial) {
-    super(Long.class, min, max, Math.abs(increment));
+    super(min, max, Math.abs(increment));
     this.increment = increment;
     this.initial = (initial != null ? initial : (increment >= 0 ? min : max));
     reset();
@@ -76,15 +77,47 @@ public void init(GeneratorContext context) {
     super.init(context);
   }
 
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
   @Override
   public synchronized Long generate() {
-    if ((increment == 0 || (increment > 0 && (max == null || next <= max)) || (increment < 0 && next >= min))) {
-      long value = next;
-      next += increment;
-      return value;
+    return (hasNext() ? nextLong() : null);
+  }
+
+  @Override
+  public synchronized long nextLong() {
+    if (!hasNext()) {
+      throw BeneratorExceptionFactory.getInstance().illegalGeneratorState("Generator unavailable: " + this);
+    }
+    long value = next;
+    next += increment;
+    return value;
+  }
+
+  @Override
+  public synchronized int generateLongs(long[] target, int count) {
+    long value = next;
+    int i = 0;
+    if (increment == 0) {
+      for (; i < count; i++) {
+        target[i] = value;
+      }
+    } else if (increment > 0) {
+      long limit = (max != null ? max : Long.MAX_VALUE);
+      for (; i < count && value <= limit; i++, value += increment) {
+        target[i] = value;
+      }
     } else {
-      return null;
+      long limit = min;
+      for (; i < count && value >= limit; i++, value += increment) {
+        target[i] = value;
+      }
     }
+    next = value;
+    return i;
   }
 
   @Override
@@ -92,4 +125,10 @@ public synchronized void reset() {
     next = initial;
   }
 
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private boolean hasNext() {
+    return (increment == 0 || (increment > 0 && (max == null || next <= max)) || (increment < 0 && next >= min));
+  }
+
 }
@@ -71,7 +71,12 @@ public void init(GeneratorContext context) {
   }
 
   @Override
-  public Double generate() {
+  public boolean isParallelizable() {
+    return false;
+  }
+
+  @Override
+  public synchronized Double generate() {
     assertInitialized();
     if (cursor == null) {
       return null;
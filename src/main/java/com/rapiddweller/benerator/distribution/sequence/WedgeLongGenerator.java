@@ -65,6 +65,11 @@ public void init(GeneratorContext context) {
     super.init(context);
   }
 
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
   @Override
   public synchronized Long generate() {
     assertInitialized();
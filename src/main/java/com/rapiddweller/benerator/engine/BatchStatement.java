@@ -0,0 +1,22 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine;
+
+/**
+ * {@link Statement} which is able to generate the data for several executions in one batch.<br/><br/>
+ * Created: 19.10.2026 14:24:51
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public interface BatchStatement extends Statement {
+
+  /** Tells if the data of subsequent executions may be generated in advance.
+   *  @return true if {@link #prepareBatch(int)} is supported, otherwise false */
+  boolean isBatchable();
+
+  /** Generates the data for the next count executions in one batch.
+   *  Executions beyond the prepared ones generate their data individually.
+   *  @param count the number of executions to prepare */
+  void prepareBatch(int count);
+
+}
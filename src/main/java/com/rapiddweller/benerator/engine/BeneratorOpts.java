@@ -38,6 +38,13 @@ public class BeneratorOpts {
 
   public static final String OPTS_VALIDATE = "benerator.validate";
   public static final String OPTS_CACHE_SIZE = "benerator.cacheSize";
+  /** Makes entities store their components in an array which is indexed by the
+   *  {@link com.rapiddweller.model.data.ComponentIndex} of their type. */
+  public static final String OPTS_SLOT_ENTITIES = "benerator.slotEntities";
+  /** Seeds the random numbers of all generators, making repeated runs produce the same data. */
+  public static final String OPTS_RANDOM_SEED = "benerator.randomSeed";
+  /** Makes dataset CSV files be stored in a precompiled binary format in the cache folder for faster loading. */
+  public static final String OPTS_DATASET_CACHE = "benerator.datasetCache";
 
   private static final int DEFAULT_CACHE_SIZE = 100000;
 
@@ -53,6 +60,27 @@ public static boolean isValidating() {
     return !("false".equals(System.getProperty(OPTS_VALIDATE)));
   }
 
+  public static void setSlotEntities(boolean slotEntities) {
+    System.setProperty(OPTS_SLOT_ENTITIES, String.valueOf(slotEntities));
+  }
+
+  public static boolean isSlotEntities() {
+    return "true".equals(System.getProperty(OPTS_SLOT_ENTITIES));
+  }
+
+  public static void setDatasetCaching(boolean datasetCaching) {
+    System.setProperty(OPTS_DATASET_CACHE, String.valueOf(datasetCaching));
+  }
+
+  public static boolean isDatasetCaching() {
+    return !("false".equals(System.getProperty(OPTS_DATASET_CACHE)));
+  }
+
+  public static Long getRandomSeed() {
+    String propertyValue = System.getProperty(OPTS_RANDOM_SEED);
+    return (StringUtil.isEmpty(propertyValue) ? null : Long.valueOf(propertyValue.trim()));
+  }
+
   public static int getCacheSize() {
     return parseIntProperty(OPTS_CACHE_SIZE, DEFAULT_CACHE_SIZE);
   }
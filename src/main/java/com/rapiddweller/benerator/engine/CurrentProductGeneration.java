@@ -27,8 +27,11 @@
 package com.rapiddweller.benerator.engine;
 
 import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.util.BatchBuffer;
+import com.rapiddweller.benerator.util.GeneratorUtil;
 import com.rapiddweller.benerator.util.WrapperProvider;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.common.ThreadAware;
 
 /**
  * Uses a {@link Generator} to create the currently processed object.<br/><br/>
@@ -36,27 +39,67 @@
  * @author Volker Bergmann
  * @since 0.7.0
  */
-public class CurrentProductGeneration implements Statement, LifeCycleHolder {
+public class CurrentProductGeneration implements BatchStatement, LifeCycleHolder, ThreadAware {
 
   private final String instanceName;
   private final Generator<?> source;
   private final WrapperProvider<?> provider;
+  private final boolean shared;
+  private final Object lock;
+  private final BatchBuffer buffer;
 
-  @SuppressWarnings({"unchecked", "rawtypes"})
   public CurrentProductGeneration(String instanceName, Generator<?> source) {
+    this(instanceName, source, false);
+  }
+
+  private CurrentProductGeneration(String instanceName, Generator<?> source, boolean shared) {
     this.instanceName = instanceName;
     this.source = source;
     this.provider = new WrapperProvider<>();
+    this.shared = shared;
+    this.lock = (shared && !source.isThreadSafe() ? source : null);
+    this.buffer = new BatchBuffer(source);
+  }
+
+  /** Creates a CurrentProductGeneration for a worker thread which draws its products
+   *  from this instance's source. Access to a source which is not thread-safe is serialized
+   *  and the source's life cycle stays with this instance.
+   *  @return a new CurrentProductGeneration which shares this one's source */
+  public CurrentProductGeneration createSharingView() {
+    return new CurrentProductGeneration(instanceName, source, true);
+  }
+
+  @Override
+  public boolean isThreadSafe() {
+    return source.isThreadSafe();
+  }
+
+  @Override
+  public boolean isParallelizable() {
+    return source.isParallelizable();
   }
 
   @Override
   public void init(BeneratorContext context) {
-    source.init(context);
+    if (!shared) {
+      source.init(context);
+    }
+  }
+
+  /** Tells if the products may be generated in batches, which is not the case for a sharing view. */
+  @Override
+  public boolean isBatchable() {
+    return !shared && GeneratorUtil.isBatchable(source);
+  }
+
+  @Override
+  public void prepareBatch(int count) {
+    buffer.prefetch(count);
   }
 
   @Override
   public boolean execute(BeneratorContext context) {
-    ProductWrapper<?> wrapper = source.generate((ProductWrapper) provider.get());
+    ProductWrapper<?> wrapper = generate();
     context.setCurrentProduct(wrapper);
     if (wrapper != null && instanceName != null) {
       BeneratorContext parent = ((BeneratorSubContext) context).getParent();
@@ -67,12 +110,28 @@ public boolean execute(BeneratorContext context) {
 
   @Override
   public void reset() {
-    source.reset();
+    if (!shared) {
+      buffer.clear();
+      source.reset();
+    }
   }
 
   @Override
   public void close() {
-    source.close();
+    if (!shared) {
+      buffer.clear();
+      source.close();
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private ProductWrapper<?> generate() {
+    if (lock == null) {
+      return buffer.next(provider.get());
+    }
+    synchronized (lock) {
+      return source.generate((ProductWrapper) provider.get());
+    }
   }
 
   @Override
@@ -560,7 +560,8 @@ private void addLibFolderToClassLoader() {
   }
 
   protected ExecutorService createExecutorService() {
-    return Executors.newSingleThreadExecutor();
+    // thread count is bounded by the 'threads' settings of the executed statements
+    return Executors.newCachedThreadPool();
   }
 
   protected ContextStack createContextStack(Context... contexts) {
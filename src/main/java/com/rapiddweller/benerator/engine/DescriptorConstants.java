@@ -125,6 +125,9 @@ public class DescriptorConstants {
   public static final String ATT_ON_ERROR = "onError";
   public static final String ATT_CONSUMER = "consumer";
   public static final String ATT_THREADS = "threads";
+  public static final String ATT_PIPELINE = "pipeline";
+  public static final String ATT_CONSUMER_THREADS = "consumerThreads";
+  public static final String ATT_ORDERED = "ordered";
   public static final String ATT_PAGESIZE = "pageSize";
   public static final String ATT_PAGER = "pager";
   public static final String ATT_HOST = "host";
@@ -155,6 +158,9 @@ public class DescriptorConstants {
   public static final String ATT_ACC_UNK_COL_TYPES = "acceptUnknownColumnTypes";
   public static final String ATT_FETCH_SIZE = "fetchSize";
   public static final String ATT_BATCH = "batch";
+  public static final String ATT_BATCH_SIZE = "batchSize";
+  public static final String ATT_BATCH_BYTES = "batchBytes";
+  public static final String ATT_BATCH_REWRITE = "batchRewrite";
   public static final String ATT_META_CACHE = "metaCache";
   public static final String ATT_CATALOG = "catalog";
   public static final String ATT_SCHEMA = "schema";
@@ -211,13 +217,16 @@ public class DescriptorConstants {
 
   public static final String ATT_DEFAULT_SOURCE = "defaultSource";
   public static final String ATT_IDENTITY = "identity";
+  public static final String ATT_KEY_MAPPER = "keyMapper";
+  public static final String ATT_KEY_MAPPER_MEMORY = "keyMapperMemory";
 
   public static final String ATT_NAMESPACE_AWARE = "namespaceAware";
   public static final String ATT_INPUT_URI = "inputUri";
   public static final String ATT_OUTPUT_URI = "outputUri";
 
   public static final Collection<String> CREATE_ENTITIES_EXT_SETUP = Collections.unmodifiableSet(
-      CollectionUtil.toSet(ATT_PAGESIZE, ATT_THREADS, ATT_SENSOR, ATT_CONSUMER, ATT_ON_ERROR));
+      CollectionUtil.toSet(ATT_PAGESIZE, ATT_THREADS, ATT_PIPELINE, ATT_CONSUMER_THREADS, ATT_ORDERED,
+          ATT_SENSOR, ATT_CONSUMER, ATT_ON_ERROR));
 
   public static final Collection<String> COMPONENT_TYPES = Collections.unmodifiableSet(
       CollectionUtil.toSet(EL_ATTRIBUTE, EL_ID, EL_REFERENCE, EL_PART));
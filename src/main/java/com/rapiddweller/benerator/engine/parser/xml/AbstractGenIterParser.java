@@ -49,6 +49,8 @@
 import com.rapiddweller.benerator.engine.parser.attr.ScriptableBooleanAttribute;
 import com.rapiddweller.benerator.engine.parser.attr.ThreadsAttribute;
 import com.rapiddweller.benerator.engine.parser.string.IdParser;
+import com.rapiddweller.benerator.engine.parser.string.ListParser;
+import com.rapiddweller.benerator.engine.parser.string.ScriptableParser;
 import com.rapiddweller.benerator.engine.statement.ConversionStatement;
 import com.rapiddweller.benerator.engine.statement.GenIterStatement;
 import com.rapiddweller.benerator.engine.statement.GenIterTask;
@@ -68,6 +70,7 @@
 import com.rapiddweller.common.exception.ExceptionFactory;
 import com.rapiddweller.common.parser.BooleanParser;
 import com.rapiddweller.common.parser.NonNegativeLongParser;
+import com.rapiddweller.common.parser.PositiveIntegerParser;
 import com.rapiddweller.common.xml.XMLUtil;
 import com.rapiddweller.format.xml.AttrInfo;
 import com.rapiddweller.format.xml.AttrInfoSupport;
@@ -118,6 +121,11 @@ public abstract class AbstractGenIterParser extends AbstractBeneratorDescriptorP
   protected final CountDistributionAttribute countDistributionAttr = new CountDistributionAttribute(null);
 
   protected final ThreadsAttribute threadsAttr = new ThreadsAttribute(null);
+  protected final AttrInfo<Expression<Integer>> pipelineAttr = new AttrInfo<>(
+      ATT_PIPELINE, false, null, new ScriptableParser<>(new PositiveIntegerParser()), null);
+  protected final AttrInfo<Integer[]> consumerThreadsAttr = new AttrInfo<>(
+      ATT_CONSUMER_THREADS, false, null, new ListParser<>(new PositiveIntegerParser()), null);
+  protected final ScriptableBooleanAttribute orderedAttr = new ScriptableBooleanAttribute(ATT_ORDERED, false, null, true);
   protected final ScriptableBooleanAttribute statsAttr = new ScriptableBooleanAttribute(ATT_STATS, false, null, false);
   protected final AttrInfo<String> sensorAttr = new AttrInfo<>(ATT_SENSOR, false, null, null, null);
 
@@ -196,6 +204,10 @@ public GenIterStatement parseGenerate(Element element, Element[] parentXmlPath,
     InstanceDescriptor descriptor = elementToInstanceDesciptorParser.parse(element, context);
     GenIterTask task = parseTask(element, parentXmlPath, statementPath, parsingContext, descriptor, infoLog, context, childContext);
     statement.setTask(task);
+    statement.setPipeline(pipelineAttr.parse(element), consumerThreadsAttr.parse(element), orderedAttr.parse(element));
+    // worker copies for multithreaded execution are parsed from scratch, so each one gets generators of its own
+    statement.setWorkerFactory(workerContext -> parseTask(element, parentXmlPath, statementPath, parsingContext,
+        elementToInstanceDesciptorParser.parse(element, context), false, context, workerContext));
     return statement;
   }
 
@@ -35,6 +35,9 @@ public GenerateParser() {
     this.countDistributionAttr.setErrorId(SYN_GENERATE_COUNT_DIST);
 
     this.threadsAttr.setErrorId(SYN_GENERATE_THREADS);
+    this.pipelineAttr.setErrorId(SYN_GENERATE_PIPELINE);
+    this.consumerThreadsAttr.setErrorId(SYN_GENERATE_CONSUMER_THREADS);
+    this.orderedAttr.setErrorId(SYN_GENERATE_ORDERED);
     this.statsAttr.setErrorId(SYN_GENERATE_STATS);
     this.sensorAttr.setErrorId(SYN_GENERATE_SENSOR);
 
@@ -55,7 +58,7 @@ public GenerateParser() {
     this.attrSupport = new AttrInfoSupport(SYN_GENERATE_ILLEGAL_ATTR, new GenerateValidator(),
         nameAttr, typeAttr, GENERATOR,
         countAttr, minCountAttr, maxCountAttr, countGranularityAttr, countDistributionAttr,
-        threadsAttr, pagesizeAttr, statsAttr, onErrorAttr, templateAttr, consumerAttr, scopeAttr,
+        threadsAttr, pipelineAttr, consumerThreadsAttr, orderedAttr, pagesizeAttr, statsAttr, onErrorAttr, templateAttr, consumerAttr, scopeAttr,
         validatorAttr, converterAttr, nullQuotaAttr, uniqueAttr, distributionAttr,
         cyclicAttr, offsetAttr, sensorAttr);
   }
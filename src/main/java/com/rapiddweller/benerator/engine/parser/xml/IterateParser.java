@@ -54,6 +54,9 @@ public IterateParser() {
     this.countDistributionAttr.setErrorId(SYN_ITERATE_COUNT_DIST);
 
     this.threadsAttr.setErrorId(SYN_ITERATE_THREADS);
+    this.pipelineAttr.setErrorId(SYN_ITERATE_PIPELINE);
+    this.consumerThreadsAttr.setErrorId(SYN_ITERATE_CONSUMER_THREADS);
+    this.orderedAttr.setErrorId(SYN_ITERATE_ORDERED);
     this.statsAttr.setErrorId(SYN_ITERATE_STATS);
     this.sensorAttr.setErrorId(SYN_ITERATE_SENSOR);
 
@@ -74,7 +77,7 @@ public IterateParser() {
     this.attrSupport = new AttrInfoSupport(BeneratorErrorIds.SYN_ITERATE_ILLEGAL_ATTR,
         nameAttr, typeAttr, SOURCE,
         countAttr, minCountAttr, maxCountAttr, countGranularityAttr, countDistributionAttr,
-        threadsAttr, pagesizeAttr, onErrorAttr, statsAttr, templateAttr, consumerAttr, scopeAttr,
+        threadsAttr, pipelineAttr, consumerThreadsAttr, orderedAttr, pagesizeAttr, onErrorAttr, statsAttr, templateAttr, consumerAttr, scopeAttr,
         validatorAttr, converterAttr, nullQuotaAttr, uniqueAttr, distributionAttr, cyclicAttr, offsetAttr, sensorAttr,
         DATASET, NESTING, LOCALE, ENCODING, SEPARATOR, FORMAT, SOURCE_SCRIPTED,
         SEGMENT, ROW_BASED, EMPTY_MARKER, SELECTOR, SUB_SELECTOR, FILTER);
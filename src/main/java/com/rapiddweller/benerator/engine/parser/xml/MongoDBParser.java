@@ -12,6 +12,8 @@
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
 import com.rapiddweller.common.Expression;
 import com.rapiddweller.common.Validator;
+import com.rapiddweller.common.parser.BooleanParser;
+import com.rapiddweller.common.parser.NonNegativeLongParser;
 import com.rapiddweller.common.parser.PositiveIntegerParser;
 import com.rapiddweller.common.parser.StringParser;
 import com.rapiddweller.format.xml.AttrInfo;
@@ -66,10 +68,22 @@ public class MongoDBParser extends AbstractBeneratorDescriptorParser {
   private static final AttrInfo<Expression<Boolean>> CLEAN_ATT_INFO = new ScriptableBooleanAttribute(
       ATT_CLEAN, false, SYN_MONGO_CLEAN, Boolean.TRUE);
 
+  private static final AttrInfo<Expression<Boolean>> BATCH_ATT_INFO = new AttrInfo<>(
+      ATT_BATCH, false, SYN_MONGO_BATCH,
+      new ScriptableParser<>(new BooleanParser()), "false");
+
+  private static final AttrInfo<Expression<Integer>> BATCH_SIZE_ATT_INFO = new AttrInfo<>(
+      ATT_BATCH_SIZE, false, SYN_MONGO_BATCH_SIZE,
+      new ScriptableParser<>(new PositiveIntegerParser()), "1000");
+
+  private static final AttrInfo<Expression<Long>> BATCH_BYTES_ATT_INFO = new AttrInfo<>(
+      ATT_BATCH_BYTES, false, SYN_MONGO_BATCH_BYTES,
+      new ScriptableParser<>(new NonNegativeLongParser()), "0");
+
   private static final AttrInfoSupport ATTR_INFO_SUPPORT =
       new AttrInfoSupport(SYN_MONGO_ILL_ATTR, new MongodbValidator(), ID_ATT_INFO, ENVIRONMENT_ATT_INFO, SYSTEM_ATT_INFO,
           HOST_ATT_INFO, PORT_ATT_INFO, DATABASE_ATT_INFO, USER_ATT_INFO, PASSWORD_ATT_INFO, CLEAN_ATT_INFO, AUTH_DB_ATT_INFO,
-          AUTH_MECHANISM_ATT_INFO);
+          AUTH_MECHANISM_ATT_INFO, BATCH_ATT_INFO, BATCH_SIZE_ATT_INFO, BATCH_BYTES_ATT_INFO);
 
   public MongoDBParser() {
     super(EL_MONGO_DB, ATTR_INFO_SUPPORT, BeneratorRootStatement.class, IfStatement.class);
@@ -90,8 +104,10 @@ public Statement doParse(Element element, Element[] parentXmlPath, Statement[] p
     // mongo db authMechanism
     Expression<String> authMechanism = parseScriptableString(element, ATT_AUTH_MECHANISM, SYN_MONGO_AUTH_MECHANISM);
     Expression<Boolean> clean = parseBooleanExpressionAttribute(ATT_CLEAN, element);
-    return new MongoDBStatement(id, environment, system, host, port, database, user, password, authdb, authMechanism, clean,
-        context.getResourceManager());
+    MongoDBStatement statement = new MongoDBStatement(id, environment, system, host, port, database, user, password, authdb,
+        authMechanism, clean, context.getResourceManager());
+    statement.setBatch(BATCH_ATT_INFO.parse(element), BATCH_SIZE_ATT_INFO.parse(element), BATCH_BYTES_ATT_INFO.parse(element));
+    return statement;
   }
 
   static class MongodbValidator implements Validator<Element> {
@@ -36,6 +36,7 @@
 import com.rapiddweller.common.ErrorHandler;
 import com.rapiddweller.format.xml.AttrInfoSupport;
 import com.rapiddweller.platform.db.AbstractDBSystem;
+import com.rapiddweller.platform.db.identity.SpillingKeyMapper;
 import com.rapiddweller.common.Expression;
 import org.w3c.dom.Element;
 
@@ -59,6 +60,8 @@ public class TranscodingTaskParser extends AbstractTranscodeParser {
     ATTR_INFO.add(ATT_DEFAULT_SOURCE, false, BeneratorErrorIds.SYN_TRANSCODING_TASK_DEFAULT_SOURCE);
     ATTR_INFO.add(ATT_PAGESIZE, false, BeneratorErrorIds.SYN_TRANSCODING_TASK_PAGE_SIZE);
     ATTR_INFO.add(ATT_ON_ERROR, false, BeneratorErrorIds.SYN_TRANSCODING_TASK_ON_ERROR);
+    ATTR_INFO.add(ATT_KEY_MAPPER, false, BeneratorErrorIds.SYN_TRANSCODING_TASK_KEY_MAPPER);
+    ATTR_INFO.add(ATT_KEY_MAPPER_MEMORY, false, BeneratorErrorIds.SYN_TRANSCODING_TASK_KEY_MAPPER_MEM);
   }
 
   public TranscodingTaskParser() {
@@ -73,7 +76,10 @@ public Statement doParse(Element element, Element[] parentXmlPath, Statement[] p
         parseTarget(element),
         parseIdentity(element),
         parsePageSize(element),
-        errorHandlerExpression);
+        errorHandlerExpression,
+        parseScriptableStringAttribute(ATT_KEY_MAPPER, element),
+        DescriptorParserUtil.parseLongAttribute(ATT_KEY_MAPPER_MEMORY, element,
+            SpillingKeyMapper.DEFAULT_MEMORY_LIMIT / 1024 / 1024));
     Element[] subXmlPath = ArrayUtil.append(element, parentXmlPath);
     Statement[] subComponentPath = parsingContext.createSubPath(parentComponentPath, statement);
     statement.setSubStatements(parsingContext.parseChildElementsOf(element, subXmlPath, subComponentPath));
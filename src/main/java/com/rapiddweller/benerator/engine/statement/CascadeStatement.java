@@ -29,13 +29,12 @@
 import com.rapiddweller.benerator.composite.GenerationStepSupport;
 import com.rapiddweller.benerator.composite.GenerationStep;
 import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.engine.Statement;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
 import com.rapiddweller.benerator.factory.GenerationStepFactory;
 import com.rapiddweller.common.ArrayBuilder;
 import com.rapiddweller.common.ArrayFormat;
 import com.rapiddweller.common.Context;
-import com.rapiddweller.format.DataContainer;
-import com.rapiddweller.format.DataIterator;
 import com.rapiddweller.jdbacl.identity.IdentityModel;
 import com.rapiddweller.jdbacl.identity.IdentityProvider;
 import com.rapiddweller.jdbacl.identity.KeyMapper;
@@ -55,13 +54,22 @@
 import java.io.IOException;
 import java.io.StreamTokenizer;
 import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.io.StreamTokenizer.TT_WORD;
 
 /**
  * Cascades the 'transcode' operation to all entities configured to be related
- * to the currently transcoded entity.<br/><br/>
+ * to the currently transcoded entity. The related entities are prefetched for batches of
+ * parent entities with one query per batch.<br/><br/>
  * Created: 18.04.2011 07:14:34
  * @author Volker Bergmann
  * @since 0.6.6
@@ -72,9 +80,13 @@ public class CascadeStatement extends SequentialStatement implements CascadePare
 
   private static final String REF_SYNTAX_MESSAGE = "Expected Syntax: table(column1, column2, ...)";
 
+  /** The maximum number of parent entities for which related entities are queried at once. */
+  static final int BATCH_SIZE = 100;
+
   private final CascadeParent parent;
   private final Reference ref;
   private Entity currentEntity;
+  private final Map<Entity, List<Entity>> prefetched;
   final MutatingTypeExpression typeExpression;
   ComplexTypeDescriptor type;
 
@@ -83,33 +95,91 @@ public CascadeStatement(String ref, MutatingTypeExpression typeExpression, Casca
     this.ref = Reference.parse(ref);
     this.parent = parent;
     this.currentEntity = null;
+    this.prefetched = new IdentityHashMap<>();
   }
 
   @Override
   public boolean execute(BeneratorContext context) {
+    Entity parentEntity = parent.currentEntity();
+    List<Entity> relatedEntities = prefetched.remove(parentEntity);
+    if (relatedEntities == null) {
+      prefetch(Collections.singletonList(parentEntity), context);
+      relatedEntities = prefetched.remove(parentEntity);
+    }
     AbstractDBSystem source = getSource(context);
     getType(source, context);
     IdentityModel identity = parent.getIdentityProvider().getIdentity(type.getName(), false);
     String tableName = type.getName();
-    if (logger.isDebugEnabled()) {
-      logger.debug("Cascading transcode from {} to {}", parent.currentEntity().type(), tableName);
-    }
+    logger.debug("Cascading transcode from {} to {}", parentEntity.type(), tableName);
 
     // iterate rows
     List<GenerationStep<Entity>> generationSteps =
         GenerationStepFactory.createMutatingGenerationSteps(type, true, Uniqueness.NONE, context);
     try (GenerationStepSupport<Entity> support = new GenerationStepSupport<>(tableName, generationSteps)) {
       support.init(context);
-      try (DataIterator<Entity> iterator = ref.resolveReferences(parent.currentEntity(), source, context)) {
-        DataContainer<Entity> container = new DataContainer<>();
-        while ((container = iterator.next(container)) != null) {
-          mutateAndTranscodeEntity(container.getData(), identity, support, context);
+      for (int start = 0; start < relatedEntities.size(); start += BATCH_SIZE) {
+        List<Entity> batch = relatedEntities.subList(start, Math.min(start + BATCH_SIZE, relatedEntities.size()));
+        try {
+          prefetch(batch, subStatements, context);
+          for (Entity sourceEntity : batch) {
+            mutateAndTranscodeEntity(sourceEntity, identity, support, context);
+            this.currentEntity = sourceEntity;
+            executeSubStatements(context);
+            this.currentEntity = null;
+          }
+        } finally {
+          clearPrefetched(subStatements);
         }
       }
-      return true;
+    }
+    return true;
+  }
+
+  /** Queries the entities directly related to a list of parent entities with one query per {@link #BATCH_SIZE}
+   *  parents, so that {@link #execute(BeneratorContext)} needs not query the database for each single parent entity.
+   *  Nested cascades are prefetched batch by batch when this statement is executed,
+   *  so only the related entities of at most {@link #BATCH_SIZE} parents are held per nesting level.
+   *  @param parentEntities the parent entities
+   *  @param context the context to use */
+  void prefetch(List<Entity> parentEntities, BeneratorContext context) {
+    if (parentEntities.isEmpty()) {
+      return;
+    }
+    AbstractDBSystem source = getSource(context);
+    getType(source, context);
+    for (int start = 0; start < parentEntities.size(); start += BATCH_SIZE) {
+      List<Entity> batch = parentEntities.subList(start, Math.min(start + BATCH_SIZE, parentEntities.size()));
+      List<List<Entity>> relatedEntities = ref.resolveReferences(batch, source);
+      for (int i = 0; i < batch.size(); i++) {
+        prefetched.put(batch.get(i), relatedEntities.get(i));
+      }
+    }
+  }
+
+  /** Calls {@link #prefetch(List, BeneratorContext)} on all {@link CascadeStatement}s
+   *  among the sub statements of a {@link CascadeParent}. */
+  static void prefetch(List<Entity> parentEntities, List<Statement> subStatements, BeneratorContext context) {
+    for (Statement subStatement : subStatements) {
+      if (subStatement instanceof CascadeStatement) {
+        ((CascadeStatement) subStatement).prefetch(parentEntities, context);
+      }
     }
   }
 
+  /** Discards the prefetched entities of all {@link CascadeStatement}s among the sub statements
+   *  of a {@link CascadeParent}, including the ones which have not been consumed due to an error. */
+  static void clearPrefetched(List<Statement> subStatements) {
+    for (Statement subStatement : subStatements) {
+      if (subStatement instanceof CascadeStatement) {
+        ((CascadeStatement) subStatement).prefetched.clear();
+      }
+    }
+  }
+
+  int prefetchedCount() {
+    return prefetched.size();
+  }
+
   @Override
   public AbstractDBSystem getSource(BeneratorContext context) {
     return parent.getSource(context);
@@ -169,7 +239,6 @@ private void mutateAndTranscodeEntity(
     mapper.store(source.getId(), identity, nk, sourcePK, targetPK);
     getTarget(context).store(targetEntity);
     logger.debug("transcoded {} to {}", sourceEntity, targetEntity);
-    cascade(sourceEntity, context);
   }
 
   private void transcodeForeignKeys(Entity entity, AbstractDBSystem source, Context context) {
@@ -212,12 +281,6 @@ private void transcodeForeignKeys(Entity entity, AbstractDBSystem source, Contex
     }
   }
 
-  private void cascade(Entity sourceEntity, BeneratorContext context) {
-    this.currentEntity = sourceEntity;
-    executeSubStatements(context);
-    this.currentEntity = null;
-  }
-
   public static class Reference {
 
     private final String refererTableName;
@@ -243,13 +306,23 @@ public String getTargetTableName(String parentTable, AbstractDBSystem db) {
       }
     }
 
-    public DataIterator<Entity> resolveReferences(Entity currentEntity, AbstractDBSystem db, BeneratorContext context) {
-      initIfNecessary(currentEntity.type(), db);
-      DBTable parentTable = database.getTable(currentEntity.type());
+    /** Resolves the references of a batch of parent entities of the same type with one query
+     *  per {@link AbstractDBSystem#queryEntitiesByColumnValues(String, String[], java.util.Collection) chunk}
+     *  and groups the results by the referenced key.
+     *  @param parentEntities the parent entities
+     *  @param db the database to query
+     *  @return the related entities of each parent entity, in the order of the parent entities */
+    public List<List<Entity>> resolveReferences(List<Entity> parentEntities, AbstractDBSystem db) {
+      String parentType = parentEntities.get(0).type();
+      initIfNecessary(parentType, db);
+      DBTable parentTable = database.getTable(parentType);
       if (parentTable.equals(refereeTable)) {
-        return resolveToManyReference(currentEntity, fk, db, context); // including self-recursion
+        // to-many reference, including self-recursion
+        return resolve(parentEntities, fk.getRefereeColumnNames(), fk.getTable().getName(), fk.getColumnNames(), db);
       } else if (parentTable.equals(refererTable)) {
-        return resolveToOneReference(currentEntity, fk, db, context);
+        // to-one reference
+        return resolve(parentEntities, fk.getColumnNames(), fk.getRefereeTable().getName(),
+            fk.getRefereeColumnNames(), db);
       } else {
         throw BeneratorExceptionFactory.getInstance().configurationError("Table '" + parentTable + "' does not relate to the foreign key " +
             refererTableName + '(' + ArrayFormat.format(columnNames) + ')');
@@ -267,34 +340,56 @@ private void initIfNecessary(String parentTable, AbstractDBSystem db) {
       this.targetTable = (parentTable.equalsIgnoreCase(refereeTable.getName()) ? refererTable : refereeTable);
     }
 
-    DataIterator<Entity> resolveToManyReference(
-        Entity fromEntity, DBForeignKeyConstraint fk, AbstractDBSystem db, BeneratorContext context) {
-      StringBuilder selector = new StringBuilder();
-      String[] refererColumnNames = fk.getColumnNames();
-      String[] refereeColumnNames = fk.getRefereeColumnNames();
-      for (int i = 0; i < refererColumnNames.length; i++) {
-        if (selector.length() > 0) {
-          selector.append(" and ");
+    static List<List<Entity>> resolve(List<Entity> parentEntities, String[] parentColumnNames,
+        String relatedTableName, String[] relatedColumnNames, AbstractDBSystem db) {
+      // collect the distinct keys of the parent entities
+      Map<List<Object>, Object[]> keys = new LinkedHashMap<>();
+      for (Entity parentEntity : parentEntities) {
+        Object[] values = valuesOf(parentEntity, parentColumnNames);
+        if (values != null) {
+          keys.putIfAbsent(keyOf(values), values);
         }
-        Object refereeColumnValue = fromEntity.get(refereeColumnNames[i]);
-        selector.append(refererColumnNames[i]).append('=').append(db.getDialect().formatValue(refereeColumnValue));
       }
-      return db.queryEntities(fk.getTable().getName(), selector.toString(), context).iterator();
+      // query the related entities and group them by key
+      Map<List<Object>, List<Entity>> groups = new HashMap<>();
+      if (!keys.isEmpty()) {
+        for (Entity relatedEntity : db.queryEntitiesByColumnValues(relatedTableName, relatedColumnNames, keys.values())) {
+          Object[] values = valuesOf(relatedEntity, relatedColumnNames);
+          if (values != null) {
+            groups.computeIfAbsent(keyOf(values), k -> new ArrayList<>()).add(relatedEntity);
+          }
+        }
+      }
+      // assign the groups to the parent entities
+      List<List<Entity>> result = new ArrayList<>(parentEntities.size());
+      for (Entity parentEntity : parentEntities) {
+        Object[] values = valuesOf(parentEntity, parentColumnNames);
+        List<Entity> group = (values != null ? groups.get(keyOf(values)) : null);
+        result.add(group != null ? group : Collections.emptyList());
+      }
+      return result;
     }
 
-    DataIterator<Entity> resolveToOneReference(
-        Entity fromEntity, DBForeignKeyConstraint fk, AbstractDBSystem db, BeneratorContext context) {
-      StringBuilder selector = new StringBuilder();
-      String[] refererColumnNames = fk.getColumnNames();
-      String[] refereeColumnNames = fk.getRefereeColumnNames();
-      for (int i = 0; i < refererColumnNames.length; i++) {
-        if (selector.length() > 0) {
-          selector.append(" and ");
+    /** @return the values of the given columns, or null if one of them is null, since null never matches */
+    private static Object[] valuesOf(Entity entity, String[] columnNames) {
+      Object[] values = new Object[columnNames.length];
+      for (int i = 0; i < columnNames.length; i++) {
+        values[i] = entity.get(columnNames[i]);
+        if (values[i] == null) {
+          return null;
         }
-        Object refererColumnValue = fromEntity.get(refererColumnNames[i]);
-        selector.append(refereeColumnNames[i]).append('=').append(db.getDialect().formatValue(refererColumnValue));
       }
-      return db.queryEntities(fk.getRefereeTable().getName(), selector.toString(), context).iterator();
+      return values;
+    }
+
+    /** Creates a key that matches for equal values of different number types, e.g. of an INT and a BIGINT column. */
+    private static List<Object> keyOf(Object[] values) {
+      Object[] key = new Object[values.length];
+      for (int i = 0; i < values.length; i++) {
+        Object value = values[i];
+        key[i] = (value instanceof Number ? new BigDecimal(value.toString()).stripTrailingZeros() : value);
+      }
+      return Arrays.asList(key);
     }
 
     @SuppressWarnings("checkstyle:VariableDeclarationUsageDistance")
@@ -26,10 +26,19 @@
 
 package com.rapiddweller.benerator.engine.statement;
 
+import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.Consumer;
 import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.RandomProvider;
+import com.rapiddweller.benerator.SplittableRandomProvider;
+import com.rapiddweller.benerator.consumer.NonClosingConsumerProxy;
+import com.rapiddweller.benerator.consumer.SynchronizedConsumerProxy;
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.engine.BeneratorMonitor;
 import com.rapiddweller.benerator.engine.Statement;
+import com.rapiddweller.benerator.sensor.CounterRepository;
+import com.rapiddweller.benerator.sensor.LatencyRecorder;
+import com.rapiddweller.benerator.sensor.StopWatch;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 import com.rapiddweller.common.Context;
 import com.rapiddweller.common.ErrorHandler;
@@ -37,12 +46,11 @@
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.StringUtil;
 import com.rapiddweller.common.time.ElapsedTimeFormatter;
-import com.rapiddweller.contiperf.StopWatch;
 import com.rapiddweller.profile.Profiler;
 import com.rapiddweller.profile.Profiling;
 import com.rapiddweller.common.Expression;
-import com.rapiddweller.stat.CounterRepository;
 import com.rapiddweller.task.PageListener;
+import com.rapiddweller.task.ParallelTaskExecutor;
 import com.rapiddweller.task.TaskExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +59,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Function;
 
 /**
  * Creates a number of entities in multithreaded execution and a given page size.<br/><br/>
@@ -60,6 +69,9 @@
  */
 public class GenIterStatement extends AbstractStatement implements Closeable, PageListener {
 
+  /** The maximum number of products of which the data is generated in one batch. */
+  static final int MAX_BATCH_SIZE = 1000;
+
   protected Logger logger = LoggerFactory.getLogger(GenIterStatement.class);
 
   // constant attributes -----------------------------------------------------------------------------------------------
@@ -86,6 +98,12 @@ public class GenIterStatement extends AbstractStatement implements Closeable, Pa
 
   protected GenIterTask task;
   protected PageListener pageListener;
+  protected Function<BeneratorContext, GenIterTask> workerFactory;
+  protected Expression<Integer> pipeline;
+  protected Integer[] consumerThreads;
+  protected Expression<Boolean> ordered;
+  private List<GenIterTask> workers;
+  private List<BeneratorContext> workerContexts;
 
   // constructor -------------------------------------------------------------------------------------------------------
 
@@ -116,6 +134,9 @@ public GenIterStatement(
     this.childContext = childContext;
     this.task = null;
     this.pageListener = null;
+    this.workerFactory = null;
+    this.workers = null;
+    this.workerContexts = null;
     this.elapsedTimeFormatter = new ElapsedTimeFormatter(Locale.US, " ", false);
     this.profilerPath = createProfilerPath(parentPath, this);
   }
@@ -136,6 +157,23 @@ public GenIterTask getTask() {
     return task;
   }
 
+  /** Sets a factory which creates a fresh copy of the task for a given context.
+   *  Without a worker factory, the statement is always executed in a single thread.
+   *  @param workerFactory the factory to use */
+  public void setWorkerFactory(Function<BeneratorContext, GenIterTask> workerFactory) {
+    this.workerFactory = workerFactory;
+  }
+
+  /** Configures pipelined consumption of the products.
+   *  @param pipeline the capacity of the queue between generation and each consumer, or null for synchronous consumption
+   *  @param consumerThreads the number of threads for each consumer, the last value applying to all remaining ones
+   *  @param ordered tells if each consumer needs to receive the products in generation order */
+  public void setPipeline(Expression<Integer> pipeline, Integer[] consumerThreads, Expression<Boolean> ordered) {
+    this.pipeline = pipeline;
+    this.consumerThreads = consumerThreads;
+    this.ordered = ordered;
+  }
+
   public BeneratorContext getContext() {
     return context;
   }
@@ -154,9 +192,13 @@ public boolean execute(BeneratorContext context) {
     if (!beInitialized(context)) {
       task.reset();
     }
+    LatencyRecorder latencyRecorder = evaluateLatencyRecorder();
+    task.setLatencyRecorder(latencyRecorder);
     Long requestedCount = generateCount(childContext);
+    ErrorHandler errorHandler = getErrorHandler(childContext);
     executeTask(requestedCount, minCount.evaluate(childContext), pageSize.evaluate(childContext),
-        evaluatePageListeners(childContext), getErrorHandler(childContext));
+        evaluatePageListeners(childContext), errorHandler);
+    task.awaitConsumption(errorHandler);
     if (!isSubCreator) {
       close();
     }
@@ -167,7 +209,7 @@ public boolean execute(BeneratorContext context) {
       Profiler.defaultInstance().addSample(profilerPath, dt);
     }
     if (!isSubCreator) {
-      logPerformance(dt, dc);
+      logPerformance(dt, dc, latencyRecorder);
     }
     return true;
   }
@@ -180,6 +222,7 @@ public Long generateCount(BeneratorContext context) {
 
   @Override
   public void close() {
+    closeWorkers();
     task.close();
     countGenerator.close();
     if (pageListener instanceof Closeable) {
@@ -227,19 +270,113 @@ protected List<PageListener> evaluatePageListeners(Context context) {
   protected boolean beInitialized(BeneratorContext context) {
     if (!countGenerator.wasInitialized()) {
       countGenerator.init(childContext);
+      configurePipeline();
       task.init(childContext);
       return true;
     }
+    if (workers != null) {
+      for (GenIterTask worker : workers) {
+        worker.reset();
+      }
+    }
     return false;
   }
 
   protected void executeTask(Long reqExecutions, Long minExecutions, Long pageSizeValue,
                              List<PageListener> pageListeners, ErrorHandler errorHandler) {
-    TaskExecutor.execute(task, childContext, reqExecutions, minExecutions,
-        pageListeners, pageSizeValue, false, errorHandler, infoLog);
+    int threadCount = evaluateThreads();
+    if (threadCount > 1 && workerFactory != null && task.isParallelizable()) {
+      prepareWorkers(threadCount);
+      for (GenIterTask worker : workers) {
+        worker.setLatencyRecorder(task.getLatencyRecorder());
+      }
+      ParallelTaskExecutor.execute(workers, workerContexts, childContext.getExecutorService(),
+          reqExecutions, minExecutions, pageListeners, pageSizeValue, errorHandler, infoLog);
+    } else {
+      if (threadCount > 1) {
+        logger.info("{} contains nested generation and is executed in a single thread", productName);
+      }
+      task.setBatching(batchSize(pageSizeValue), reqExecutions);
+      TaskExecutor.execute(task, childContext, reqExecutions, minExecutions,
+          pageListeners, pageSizeValue, false, errorHandler, infoLog);
+    }
+  }
+
+  /** Provides a recorder for the latency of each single generation if the statement has
+   *  a custom sensor or stats are enabled, otherwise null. */
+  private LatencyRecorder evaluateLatencyRecorder() {
+    Boolean statsValue = (stats != null ? stats.evaluate(childContext) : null);
+    if (customSensor || (statsValue != null && statsValue)) {
+      return CounterRepository.getInstance().getOrCreateRecorder(sensor);
+    }
+    return null;
   }
 
-  private void logPerformance(int dt, long dc) {
+  private void configurePipeline() {
+    Integer capacity = (pipeline != null ? pipeline.evaluate(childContext) : null);
+    if (capacity != null) {
+      Boolean orderedValue = (ordered != null ? ordered.evaluate(childContext) : null);
+      int[] threadCounts = new int[consumerThreads != null ? consumerThreads.length : 0];
+      for (int i = 0; i < threadCounts.length; i++) {
+        threadCounts[i] = consumerThreads[i];
+      }
+      task.setPipeline(capacity, orderedValue == null || orderedValue, threadCounts);
+    }
+  }
+
+  /** Aligns batch generation with the pages, falling back to the maximum batch size for unpaged execution. */
+  private static int batchSize(Long pageSizeValue) {
+    if (pageSizeValue == null || pageSizeValue <= 0) {
+      return MAX_BATCH_SIZE;
+    }
+    return (int) Math.min(pageSizeValue, MAX_BATCH_SIZE);
+  }
+
+  private int evaluateThreads() {
+    Integer result = (threads != null ? threads.evaluate(childContext) : null);
+    return (result != null ? result : 1);
+  }
+
+  /** Creates the worker tasks for parallel execution, each one with a child context of its own.
+   *  The workers share the prototype task's consumer through a synchronizing proxy.
+   *  Each worker gets a random stream of its own, so with a seed each worker creates the same data
+   *  regardless of the thread which executes it. */
+  private void prepareWorkers(int threadCount) {
+    if (workers != null && workers.size() == threadCount) {
+      return;
+    }
+    closeWorkers();
+    Consumer consumer = task.getConsumer();
+    Consumer sharedConsumer = (consumer != null ?
+        new NonClosingConsumerProxy(new SynchronizedConsumerProxy(consumer)) : null);
+    RandomProvider random = BeneratorFactory.getInstance().getRandomProvider();
+    workers = new ArrayList<>(threadCount);
+    workerContexts = new ArrayList<>(threadCount);
+    for (int i = 0; i < threadCount; i++) {
+      // the intermediate context keeps each worker's product variable away from the shared parent context
+      BeneratorContext workerContext = context.createSubContext(productName).createSubContext(productName);
+      GenIterTask worker = workerFactory.apply(workerContext);
+      worker.shareStatementsOf(task, sharedConsumer);
+      if (random instanceof SplittableRandomProvider) {
+        worker.setRandomStream((SplittableRandomProvider) random, ((SplittableRandomProvider) random).split());
+      }
+      worker.init(workerContext);
+      workers.add(worker);
+      workerContexts.add(workerContext);
+    }
+  }
+
+  private void closeWorkers() {
+    if (workers != null) {
+      for (GenIterTask worker : workers) {
+        IOUtil.close(worker);
+      }
+      workers = null;
+      workerContexts = null;
+    }
+  }
+
+  private void logPerformance(int dt, long dc, LatencyRecorder latencyRecorder) {
     String operation = (iterate ? "iterated" : "generated");
     if (dc == 0) {
       logger.info("No data {} for '{}' setup", operation, sensor);
@@ -251,6 +388,9 @@ private void logPerformance(int dt, long dc) {
         }
         message.append(" in ").append(elapsedTimeFormatter.convert((long) dt));
         message.append(" (").append(HF.format(dc * 1000 / dt)).append("/s)");
+        if (latencyRecorder != null && latencyRecorder.sampleCount() > 0) {
+          message.append(", latency ").append(latencyRecorder.snapshot().formatPercentiles()).append(" ns");
+        }
         logger.info("{}", message);
       }
     } else {
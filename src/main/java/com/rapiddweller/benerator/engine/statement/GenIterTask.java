@@ -27,8 +27,13 @@
 package com.rapiddweller.benerator.engine.statement;
 
 import com.rapiddweller.benerator.Consumer;
+import com.rapiddweller.benerator.SplittableRandomProvider;
 import com.rapiddweller.benerator.composite.ComponentBuilder;
+import com.rapiddweller.benerator.composite.GenerationStep;
+import com.rapiddweller.benerator.composite.SharedGenerationStep;
 import com.rapiddweller.benerator.consumer.ConsumerChain;
+import com.rapiddweller.benerator.consumer.PipelinedConsumer;
+import com.rapiddweller.benerator.engine.BatchStatement;
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.engine.BeneratorMonitor;
 import com.rapiddweller.benerator.engine.CurrentProductGeneration;
@@ -38,6 +43,8 @@
 import com.rapiddweller.benerator.engine.ScopedLifeCycleHolder;
 import com.rapiddweller.benerator.engine.Statement;
 import com.rapiddweller.benerator.engine.StatementUtil;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.sensor.LatencyRecorder;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 import com.rapiddweller.common.Context;
 import com.rapiddweller.common.ErrorHandler;
@@ -45,14 +52,18 @@
 import com.rapiddweller.common.MessageHolder;
 import com.rapiddweller.common.Resettable;
 import com.rapiddweller.common.Expression;
+import com.rapiddweller.script.expression.ConstantExpression;
 import com.rapiddweller.script.expression.ExpressionUtil;
 import com.rapiddweller.task.PageListener;
 import com.rapiddweller.task.Task;
 import com.rapiddweller.task.TaskResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -62,6 +73,8 @@
  */
 public class GenIterTask implements Task, PageListener, ResourceManager, MessageHolder {
 
+  private static final Logger logger = LoggerFactory.getLogger(GenIterTask.class);
+
   // attributes --------------------------------------------------------------------------------------------------------
 
   private final String taskName;
@@ -75,6 +88,16 @@ public class GenIterTask implements Task, PageListener, ResourceManager, Message
   private final AtomicBoolean initialized;
   private Consumer consumer;
   private String message;
+  private volatile LatencyRecorder latencyRecorder;
+  private int pipelineCapacity;
+  private boolean pipelineOrdered;
+  private int[] consumerThreads;
+  private final List<BatchStatement> batchStatements;
+  private int batchSize;
+  private long batchExecutions;
+  private int batchRemainder;
+  private SplittableRandomProvider randomProvider;
+  private SplittableRandom randomStream;
 
 
   // constructor -------------------------------------------------------------------------------------------------------
@@ -86,6 +109,9 @@ public GenIterTask(String taskName, String productName) {
     this.initialized = new AtomicBoolean(false);
     this.statements = new ArrayList<>();
     this.scopes = new ArrayList<>();
+    this.pipelineCapacity = 0;
+    this.batchStatements = new ArrayList<>();
+    this.batchSize = 1;
   }
 
 
@@ -114,11 +140,63 @@ public Consumer getConsumer() {
     return consumer;
   }
 
+  /** Sets a recorder for the duration of each successful generation in nanoseconds, or null for not recording. */
+  public void setLatencyRecorder(LatencyRecorder latencyRecorder) {
+    this.latencyRecorder = latencyRecorder;
+  }
+
+  public LatencyRecorder getLatencyRecorder() {
+    return latencyRecorder;
+  }
+
+  /** Makes the executions of this task draw their random numbers from a stream of their own,
+   *  independent of the thread which performs them.
+   *  @param randomProvider the provider used by the generators
+   *  @param randomStream the stream to bind during execution, or null for using the thread's stream */
+  public void setRandomStream(SplittableRandomProvider randomProvider, SplittableRandom randomStream) {
+    this.randomProvider = randomProvider;
+    this.randomStream = randomStream;
+  }
+
+  /** Makes the consumer(s) run in threads of their own, receiving the products through bounded queues.
+   *  This must be called before {@link #init(BeneratorContext)} and has no effect on tasks with nested generation.
+   *  @param capacity the maximum number of products queued for each consumer
+   *  @param ordered tells if each consumer needs to receive the products in generation order
+   *  @param consumerThreads the number of threads for each consumer, the last value applying to all remaining ones
+   *  @see PipelinedConsumer */
+  public void setPipeline(int capacity, boolean ordered, int... consumerThreads) {
+    this.pipelineCapacity = capacity;
+    this.pipelineOrdered = ordered;
+    this.consumerThreads = consumerThreads;
+  }
+
+  /** Makes the task generate the data of subsequent executions in batches, as far as its statements support it.
+   *  The batches are limited to the announced number of executions, so no data is generated in vain.
+   *  This must be called after {@link #init(BeneratorContext)}.
+   *  @param batchSize the maximum number of executions to prepare at once, 1 for no batching
+   *  @param executions the number of executions to come, or null if it is unknown, which disables batching */
+  public void setBatching(int batchSize, Long executions) {
+    this.batchStatements.clear();
+    if (batchSize > 1 && executions != null) {
+      for (Statement statement : statements) {
+        if (statement instanceof BatchStatement && ((BatchStatement) statement).isBatchable()) {
+          batchStatements.add((BatchStatement) statement);
+        }
+      }
+    }
+    this.batchSize = (batchStatements.isEmpty() ? 1 : batchSize);
+    this.batchExecutions = (executions != null ? executions : 0);
+    this.batchRemainder = 0;
+  }
+
   public void init(BeneratorContext context) {
     synchronized (initialized) {
       if (!initialized.get()) {
         this.context = context;
         this.consumer = ExpressionUtil.evaluate(consumerExpr, context);
+        if (pipelineCapacity > 0 && consumersExist()) {
+          this.consumer = createPipeline();
+        }
         resourceManager.addResource(consumer);
         if (consumersExist()) {
           injectConsumptionStart();
@@ -151,9 +229,56 @@ public boolean isThreadSafe() {
     return false;
   }
 
+  /** Tells if worker copies of this task may be executed concurrently.
+   *  This is not the case if the task contains nested &lt;generate&gt; or &lt;iterate&gt; statements,
+   *  since these come with consumers of their own which cannot be shared by worker threads. */
   @Override
   public boolean isParallelizable() {
-    return false;
+    for (Statement statement : statements) {
+      if (StatementUtil.getRealStatement(statement, context) instanceof GenIterStatement) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Prepares this task to run as a worker of the (initialized) prototype task in a separate thread.
+   *  Parallelizable generation steps of this task are kept as worker-local clones,
+   *  the other ones are replaced with the prototype's instances, accessed synchronously
+   *  if they are not thread-safe. All products are sent to the given consumer.
+   *  @param prototype the initialized task this one is a worker copy of
+   *  @param sharedConsumer a thread-safe consumer to receive all workers' products */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void shareStatementsOf(GenIterTask prototype, Consumer sharedConsumer) {
+    if (initialized.get()) {
+      throw BeneratorExceptionFactory.getInstance().programmerStateError(
+          "Task " + this + " has already been initialized");
+    }
+    List<Statement> protoStatements = new ArrayList<>(prototype.statements.size());
+    for (Statement statement : prototype.statements) {
+      if (!(statement instanceof ConsumptionStatement)) {
+        protoStatements.add(statement);
+      }
+    }
+    if (protoStatements.size() != statements.size()) {
+      throw BeneratorExceptionFactory.getInstance().programmerStateError(
+          "Worker of " + prototype + " does not match the prototype's statement structure");
+    }
+    for (int i = 0; i < statements.size(); i++) {
+      Statement protoStatement = protoStatements.get(i);
+      if (protoStatement instanceof GenerationStep) {
+        GenerationStep step = (GenerationStep) protoStatement;
+        if (!step.isParallelizable()) {
+          statements.set(i, new SharedGenerationStep(step));
+        }
+      } else if (protoStatement instanceof CurrentProductGeneration) {
+        CurrentProductGeneration generation = (CurrentProductGeneration) protoStatement;
+        if (!generation.isParallelizable()) {
+          statements.set(i, generation.createSharingView());
+        }
+      }
+    }
+    this.consumerExpr = new ConstantExpression<>(sharedConsumer);
   }
 
   @Override
@@ -162,7 +287,13 @@ public TaskResult execute(Context ctx, ErrorHandler errorHandler) {
     if (!initialized.get()) {
       init((BeneratorContext) ctx);
     }
+    LatencyRecorder recorder = latencyRecorder;
+    long startTime = (recorder != null ? System.nanoTime() : 0);
+    SplittableRandom previousStream = (randomStream != null ? randomProvider.bind(randomStream) : null);
     try {
+      if (batchSize > 1) {
+        prepareBatch();
+      }
       boolean success = true;
       for (int i = 0; i < statements.size(); i++) {
         Statement statement = statements.get(i);
@@ -181,6 +312,9 @@ public TaskResult execute(Context ctx, ErrorHandler errorHandler) {
       }
       if (success) {
         BeneratorMonitor.INSTANCE.countGenerations(1);
+        if (recorder != null) {
+          recorder.record(System.nanoTime() - startTime);
+        }
       }
       enqueueResets();
       Thread.yield();
@@ -188,6 +322,22 @@ public TaskResult execute(Context ctx, ErrorHandler errorHandler) {
     } catch (Exception e) {
       errorHandler.handleError("Error in execution of task " + getTaskName(), e);
       return TaskResult.EXECUTING; // stay available if the ErrorHandler has not canceled execution
+    } finally {
+      if (randomStream != null) {
+        randomProvider.bind(previousStream);
+      }
+    }
+  }
+
+  /** Waits until a pipelined consumer has processed all products generated so far.
+   *  Errors of the consumer are passed to the errorHandler. */
+  public void awaitConsumption(ErrorHandler errorHandler) {
+    if (consumer instanceof PipelinedConsumer) {
+      try {
+        ((PipelinedConsumer) consumer).await();
+      } catch (Exception e) {
+        errorHandler.handleError("Error in consumption of " + getTaskName(), e);
+      }
     }
   }
 
@@ -264,6 +414,14 @@ private boolean consumersExist() {
     return true;
   }
 
+  private Consumer createPipeline() {
+    if (!isParallelizable()) {
+      logger.info("{} contains nested generation, so its products are consumed synchronously", productName);
+      return consumer;
+    }
+    return new PipelinedConsumer(productName, consumer, pipelineCapacity, pipelineOrdered, consumerThreads);
+  }
+
   private void injectConsumptionStart() {
     // find last sub member generation...
     int lastMemberIndex = -1;
@@ -320,6 +478,22 @@ private void checkScopes(List<Statement> statements, BeneratorContext scopeConte
     }
   }
 
+  /** Lets the batch statements prepare the data of the next page-sized batch of executions
+   *  when the previous batch has been used up. */
+  private void prepareBatch() {
+    if (batchRemainder == 0 && batchExecutions > 0) {
+      int count = (int) Math.min(batchSize, batchExecutions);
+      for (BatchStatement statement : batchStatements) {
+        statement.prepareBatch(count);
+      }
+      batchRemainder = count;
+      batchExecutions -= count;
+    }
+    if (batchRemainder > 0) {
+      batchRemainder--;
+    }
+  }
+
   private void enqueueResets() {
     for (ScopedLifeCycleHolder scoped : scopes) {
       scoped.setResetNeeded(true);
@@ -25,6 +25,9 @@ public class MongoDBStatement implements Statement {
   private final Expression<String> password;
   private final Expression<Boolean> clean;
   private final ResourceManager resourceManager;
+  private Expression<Boolean> batch;
+  private Expression<Integer> batchSize;
+  private Expression<Long> batchBytes;
 
   public MongoDBStatement(Expression<String> id, Expression<String> environment, Expression<String> system, Expression<String> host,
                           Expression<Integer> port,
@@ -45,16 +48,39 @@ public MongoDBStatement(Expression<String> id, Expression<String> environment, E
     this.resourceManager = resourceManager;
   }
 
+  /** Sets the expressions for the bulk write settings, see {@link MongoDBSystem#setBatch(boolean)}. */
+  public void setBatch(Expression<Boolean> batch, Expression<Integer> batchSize, Expression<Long> batchBytes) {
+    this.batch = batch;
+    this.batchSize = batchSize;
+    this.batchBytes = batchBytes;
+  }
+
   @Override
   public boolean execute(BeneratorContext context) {
     logger.debug("Instantiating storage system with id '{}'", id);
     MongoDBSystem mongoDBSystem = createMongoDBSystem(context);
+    applyBatchSettings(mongoDBSystem, context);
     context.setGlobal(id.evaluate(context), mongoDBSystem);
     context.getDataModel().addDescriptorProvider(mongoDBSystem, context.isValidate());
     resourceManager.addResource(mongoDBSystem);
     return true;
   }
 
+  private void applyBatchSettings(MongoDBSystem mongoDBSystem, BeneratorContext context) {
+    Boolean batchValue = ExpressionUtil.evaluate(batch, context);
+    if (batchValue != null) {
+      mongoDBSystem.setBatch(batchValue);
+    }
+    Integer batchSizeValue = ExpressionUtil.evaluate(batchSize, context);
+    if (batchSizeValue != null) {
+      mongoDBSystem.setBatchSize(batchSizeValue);
+    }
+    Long batchBytesValue = ExpressionUtil.evaluate(batchBytes, context);
+    if (batchBytesValue != null) {
+      mongoDBSystem.setBatchBytes(batchBytesValue);
+    }
+  }
+
   private MongoDBSystem createMongoDBSystem(BeneratorContext context) {
     String envName = null;
     String systemName = null;
@@ -53,6 +53,7 @@
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -162,9 +163,28 @@ private void transcodeTable(AbstractDBSystem source, AbstractDBSystem target, lo
       DataIterator<Entity> iterator = iterable.iterator();
       mapper.registerSource(source.getId(), source.getConnection());
       long rowCount = 0;
+      List<Entity> batch = new ArrayList<>(CascadeStatement.BATCH_SIZE);
       DataContainer<Entity> container = new DataContainer<>();
       while ((container = iterator.next(container)) != null) {
-        Entity sourceEntity = container.getData();
+        batch.add(container.getData());
+        if (batch.size() >= CascadeStatement.BATCH_SIZE) {
+          rowCount = transcodeBatch(batch, rowCount, identity, cavs, source, target, pageSize, context);
+        }
+      }
+      transcodeBatch(batch, rowCount, identity, cavs, source, target, pageSize, context);
+      target.flush();
+      logger.info("Finished transcoding {} rows of table {}", source.countEntities(tableName), tableName);
+    }
+  }
+
+  private long transcodeBatch(List<Entity> batch, long rowCount, IdentityModel identity,
+                              GenerationStepSupport<Entity> cavs, AbstractDBSystem source, AbstractDBSystem target,
+                              long pageSize, BeneratorContext context) {
+    try {
+      CascadeStatement.prefetch(batch, subStatements, context);
+      KeyMapper mapper = getKeyMapper();
+      String tableName = typeExpression.evaluate(context).getName();
+      for (Entity sourceEntity : batch) {
         Object sourcePK = sourceEntity.idComponentValues();
         boolean mapNk = parent.needsNkMapping(tableName);
         String nk = null;
@@ -184,9 +204,11 @@ private void transcodeTable(AbstractDBSystem source, AbstractDBSystem target, lo
           target.flush();
         }
       }
-      target.flush();
-      logger.info("Finished transcoding {} rows of table {}", source.countEntities(tableName), tableName);
+    } finally {
+      CascadeStatement.clearPrefetched(subStatements);
     }
+    batch.clear();
+    return rowCount;
   }
 
   private void cascade(Entity sourceEntity, BeneratorContext context) {
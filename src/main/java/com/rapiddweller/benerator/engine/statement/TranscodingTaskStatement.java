@@ -47,8 +47,11 @@
 import com.rapiddweller.model.data.ComplexTypeDescriptor;
 import com.rapiddweller.model.data.ReferenceDescriptor;
 import com.rapiddweller.platform.db.AbstractDBSystem;
+import com.rapiddweller.platform.db.identity.SpillingKeyMapper;
 import com.rapiddweller.common.Expression;
 import com.rapiddweller.script.expression.ExpressionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -65,22 +68,40 @@
  */
 public class TranscodingTaskStatement extends SequentialStatement {
 
+  private static final Logger logger = LoggerFactory.getLogger(TranscodingTaskStatement.class);
+
+  public static final String KEY_MAPPER_MEM = "mem";
+  public static final String KEY_MAPPER_SPILLING = "spilling";
+
   final Expression<AbstractDBSystem> sourceEx;
   final Expression<AbstractDBSystem> targetEx;
   final Expression<String> identityEx;
   final Expression<Long> pageSizeEx;
   final Expression<ErrorHandler> errorHandlerExpression;
+  final Expression<String> keyMapperEx;
+  final Expression<Long> keyMapperMemoryEx;
   final IdentityProvider identityProvider;
   KeyMapper mapper;
   final Map<String, Boolean> tableNkRequirements = OrderedNameMap.createCaseIgnorantMap();
 
   public TranscodingTaskStatement(Expression<AbstractDBSystem> sourceEx, Expression<AbstractDBSystem> targetEx, Expression<String> identityEx,
                                   Expression<Long> pageSizeEx, Expression<ErrorHandler> errorHandlerExpression) {
+    this(sourceEx, targetEx, identityEx, pageSizeEx, errorHandlerExpression, null, null);
+  }
+
+  /** @param keyMapperEx evaluates to the type of {@link KeyMapper} to use: {@link #KEY_MAPPER_MEM} (the default)
+   *      or {@link #KEY_MAPPER_SPILLING} for a {@link SpillingKeyMapper}
+   *  @param keyMapperMemoryEx evaluates to the memory limit of a {@link SpillingKeyMapper} in megabytes */
+  public TranscodingTaskStatement(Expression<AbstractDBSystem> sourceEx, Expression<AbstractDBSystem> targetEx, Expression<String> identityEx,
+                                  Expression<Long> pageSizeEx, Expression<ErrorHandler> errorHandlerExpression,
+                                  Expression<String> keyMapperEx, Expression<Long> keyMapperMemoryEx) {
     this.sourceEx = cache(sourceEx);
     this.targetEx = cache(targetEx);
     this.identityEx = cache(identityEx);
     this.pageSizeEx = cache(pageSizeEx);
     this.errorHandlerExpression = cache(errorHandlerExpression);
+    this.keyMapperEx = cache(keyMapperEx);
+    this.keyMapperMemoryEx = cache(keyMapperMemoryEx);
     this.identityProvider = new IdentityProvider();
   }
 
@@ -112,12 +133,34 @@ KeyMapper getKeyMapper() {
   public boolean execute(BeneratorContext context) {
     AbstractDBSystem target = getTarget(context);
     Database database = target.getDbMetaData();
-    mapper = new MemKeyMapper(null, null, target.getConnection(), target.getId(), identityProvider, database);
-    checkPrecoditions(context);
-    super.execute(context);
+    mapper = createKeyMapper(target, database, context);
+    try {
+      checkPrecoditions(context);
+      super.execute(context);
+    } finally {
+      if (mapper instanceof SpillingKeyMapper) {
+        logger.info("Key mapping: {}", ((SpillingKeyMapper) mapper).getMetrics());
+        ((SpillingKeyMapper) mapper).close();
+      }
+    }
     return true;
   }
 
+  private KeyMapper createKeyMapper(AbstractDBSystem target, Database database, BeneratorContext context) {
+    String type = ExpressionUtil.evaluate(keyMapperEx, context);
+    if (type == null || KEY_MAPPER_MEM.equals(type)) {
+      return new MemKeyMapper(null, null, target.getConnection(), target.getId(), identityProvider, database);
+    } else if (KEY_MAPPER_SPILLING.equals(type)) {
+      Long memory = ExpressionUtil.evaluate(keyMapperMemoryEx, context);
+      long memoryLimit = (memory != null ? memory * 1024 * 1024 : SpillingKeyMapper.DEFAULT_MEMORY_LIMIT);
+      return new SpillingKeyMapper(target.getConnection(), target.getId(), identityProvider, database, memoryLimit);
+    } else {
+      throw ExceptionFactory.getInstance().configurationError(
+          "Illegal keyMapper type in <transcodingTask>: '" + type + "'. " +
+          "Expected '" + KEY_MAPPER_MEM + "' or '" + KEY_MAPPER_SPILLING + "'");
+    }
+  }
+
   private void checkPrecoditions(BeneratorContext context) {
     AbstractDBSystem target = targetEx.evaluate(context);
     boolean identitiesRequired = collectPreconditions(subStatements, context);
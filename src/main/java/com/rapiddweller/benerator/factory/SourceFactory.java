@@ -27,6 +27,7 @@
 package com.rapiddweller.benerator.factory;
 
 import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.csv.IndexedCSVSource;
 import com.rapiddweller.benerator.dataset.DatasetUtil;
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.wrapper.DataSourceGenerator;
@@ -34,7 +35,6 @@
 import com.rapiddweller.common.iterator.TextLineIterable;
 import com.rapiddweller.format.DataSource;
 import com.rapiddweller.format.csv.CSVCellSource;
-import com.rapiddweller.format.csv.CSVSource;
 import com.rapiddweller.format.xls.XLSLineSource;
 import com.rapiddweller.model.data.Uniqueness;
 
@@ -64,7 +64,7 @@ public static Generator<String> createCSVCellGenerator(String uri, char separato
   /** Creates a generator that iterates through the cells of a CSV file. */
   public static Generator<String[]> createCSVGenerator(String uri, char separator, String encoding,
                                                        boolean ignoreEmptyLines, boolean rowBased) {
-    return new DataSourceGenerator<>(new CSVSource(uri, separator, encoding, ignoreEmptyLines, rowBased));
+    return new DataSourceGenerator<>(new IndexedCSVSource(uri, separator, encoding, ignoreEmptyLines, rowBased));
   }
 
   /** Creates a generator that creates lines from a CSV file as String arrays.
@@ -75,7 +75,7 @@ public static Generator<String[]> createCSVGenerator(String uri, char separator,
    *  @return a generator of the desired characteristics */
   public static Generator<String[]> createCSVLineGenerator(String uri, char separator, String encoding,
                                                            boolean ignoreEmptyLines) {
-    return new DataSourceGenerator<>(new CSVSource(uri, separator, encoding, ignoreEmptyLines, true));
+    return new DataSourceGenerator<>(new IndexedCSVSource(uri, separator, encoding, ignoreEmptyLines, true));
   }
 
   /** Creates a generator that creates lines from a XLS file as {@link Object} arrays.
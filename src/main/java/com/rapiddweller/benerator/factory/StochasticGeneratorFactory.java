@@ -35,6 +35,9 @@
 import com.rapiddweller.benerator.primitive.BooleanGenerator;
 import com.rapiddweller.benerator.primitive.IncrementalStringGenerator;
 import com.rapiddweller.benerator.primitive.UniqueScrambledStringGenerator;
+import com.rapiddweller.benerator.primitive.regex.CompiledRegexGenerator;
+import com.rapiddweller.benerator.primitive.regex.RegexProgram;
+import com.rapiddweller.benerator.primitive.regex.UniqueCompiledRegexGenerator;
 import com.rapiddweller.benerator.sample.AttachedWeightSampleGenerator;
 import com.rapiddweller.benerator.sample.ConstantGenerator;
 import com.rapiddweller.benerator.sample.OneShotGenerator;
@@ -49,12 +52,16 @@
 import com.rapiddweller.common.Converter;
 import com.rapiddweller.common.converter.ConverterManager;
 import com.rapiddweller.common.converter.ToStringConverter;
+import com.rapiddweller.common.validator.StringLengthValidator;
 import com.rapiddweller.format.array.ArrayDataSource;
+import com.rapiddweller.format.regex.RegexParser;
+import com.rapiddweller.format.regex.RegexPart;
 import com.rapiddweller.model.data.Uniqueness;
 import com.rapiddweller.script.DatabeneScriptParser;
 import com.rapiddweller.script.WeightedSample;
 
 import java.util.Collection;
+import java.util.Locale;
 import java.util.Set;
 
 /**
@@ -159,6 +166,31 @@ public NonNullGenerator<String> createStringGenerator(Set<Character> chars,
     }
   }
 
+  /** Creates a generator which executes the compiled form of the regular expression.
+   *  Unique strings are rendered by rank if the expression has a countable language,
+   *  otherwise the generator tree of the {@link RegexGeneratorFactory} is used. */
+  @Override
+  public NonNullGenerator<String> createRegexStringGenerator(
+      String pattern, Locale locale, int minLength, Integer maxLength, Uniqueness uniqueness) {
+    RegexPart regex = (pattern != null ? new RegexParser(locale).parseRegex(pattern) : null);
+    if (regex == null) {
+      return super.createRegexStringGenerator(pattern, locale, minLength, maxLength, uniqueness);
+    }
+    Integer defaultMaxCount = defaultsProvider.defaultMaxLength();
+    RegexProgram program = RegexProgram.compile(regex, minLength, maxLength,
+        (defaultMaxCount != null ? defaultMaxCount : 30));
+    if (!uniqueness.isUnique()) {
+      StringLengthValidator validator = new StringLengthValidator(minLength, maxLength);
+      return WrapperFactory.asNonNullGenerator(
+          WrapperFactory.applyValidator(validator, new CompiledRegexGenerator(program)));
+    } else if (program.size() >= 0 && program.fixedLength() >= minLength
+        && (maxLength == null || program.fixedLength() <= maxLength)) {
+      return new UniqueCompiledRegexGenerator(program, uniqueness == Uniqueness.ORDERED);
+    } else {
+      return super.createRegexStringGenerator(pattern, locale, minLength, maxLength, uniqueness);
+    }
+  }
+
   @Override
   public Generator<?> applyNullSettings(Generator<?> source, Boolean nullable, Double nullQuota) {
     if (nullQuota == null) {
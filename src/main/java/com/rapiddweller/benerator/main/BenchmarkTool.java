@@ -3,6 +3,8 @@
 package com.rapiddweller.benerator.main;
 
 import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.benchmark.BaselineComparison;
+import com.rapiddweller.benerator.benchmark.BenchmarkBaseline;
 import com.rapiddweller.benerator.benchmark.BenchmarkToolConfig;
 import com.rapiddweller.benerator.benchmark.BenchmarkToolReport;
 import com.rapiddweller.benerator.benchmark.BenchmarkRunner;
@@ -11,6 +13,7 @@
 import com.rapiddweller.benerator.benchmark.TextTableResultExporter;
 import com.rapiddweller.benerator.benchmark.XLSBenchmarkExporter;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.HF;
 import com.rapiddweller.common.cli.CommandLineParser;
 import com.rapiddweller.common.file.FilePrintStream;
 import com.rapiddweller.common.ui.ConsolePrinter;
@@ -32,15 +35,16 @@ public class BenchmarkTool {
 
   private static final Logger logger = LoggerFactory.getLogger(BenchmarkTool.class);
 
+  /** The exit code used when a comparison with a baseline exhibits a throughput regression */
+  public static final int REGRESSION_EXIT_CODE = 2;
+
   // main ------------------------------------------------------------------------------------------------------------
 
   public static void main(String[] args) throws IOException {
-    if (logger.isInfoEnabled()) {
-      logger.info("benerator-benchmark {}", CommandLineParser.formatArgs(args));
+    int exitCode = run(args);
+    if (exitCode != 0) {
+      System.exit(exitCode);
     }
-    BenchmarkToolConfig config = parseCommandLineConfig(args);
-    BenchmarkToolReport result = BenchmarkRunner.runBenchmarks(config);
-    exportResult(config, result);
   }
 
 
@@ -53,6 +57,19 @@ private BenchmarkTool() {
 
   // run methods -----------------------------------------------------------------------------------------------------
 
+  /** Runs the benchmarks as specified by the command line arguments, exports the results
+   *  and saves or compares them with a baseline if requested.
+   *  @return 0 on success or {@link #REGRESSION_EXIT_CODE} if a regression was detected */
+  static int run(String... args) throws IOException {
+    if (logger.isInfoEnabled()) {
+      logger.info("benerator-benchmark {}", CommandLineParser.formatArgs(args));
+    }
+    BenchmarkToolConfig config = parseCommandLineConfig(args);
+    BenchmarkToolReport result = BenchmarkRunner.runBenchmarks(config);
+    exportResult(config, result);
+    return processBaseline(config, result);
+  }
+
   // private helpers -------------------------------------------------------------------------------------------------
 
   private static void printHelp() {
@@ -80,6 +97,18 @@ private static void printHelp() {
         "--csvSep c        Uses c as separator character in the generated CSV file",
         "--xls <file>      Exports benchmark results to an XLS file of the specified name",
         "--txt <file>      Exports benchmark results to a text file of the specified name",
+        "--warmup n        Runs n warm-up rounds before measuring (default: 0)",
+        "--iterations n    Measures n iterations and reports their mean,",
+        "                  standard deviation and confidence interval (default: 1)",
+        "--saveBaseline    Saves the results as JSON baseline file",
+        "--compare         Compares the results with the baseline file and exits",
+        "                  with code " + REGRESSION_EXIT_CODE + " if a throughput regression is detected",
+        "--baseline <file> The baseline file to save or compare with",
+        "                  (default: benchmark-baseline-<machine>.json)",
+        "--tolerance p     Tolerates a throughput decrease of p percent when",
+        "                  comparing with a baseline (default: 10)",
+        "--noNetwork       Runs all benchmarks which need no network access:",
+        "                  generation, anonymization, file and built-in H2 benchmarks",
         "--help            print this help",
         "--list            lists the available benchmark tests",
         "[name]            is an optional name of a benchmark test to execute.",
@@ -102,6 +131,13 @@ static BenchmarkToolConfig parseCommandLineConfig(String... args) {
     p.addOption("csvSep", "--csvSep", null);
     p.addOption("xls", "--xls", null);
     p.addOption("txt", "--txt", null);
+    p.addOption("warmup", "--warmup", null);
+    p.addOption("iterations", "--iterations", null);
+    p.addFlag("saveBaseline", "--saveBaseline", null);
+    p.addFlag("compare", "--compare", null);
+    p.addOption("baseline", "--baseline", null);
+    p.addOption("tolerance", "--tolerance", null);
+    p.addFlag("noNetwork", "--noNetwork", null);
     p.addArgument("name", false);
     BenchmarkToolConfig config = new BenchmarkToolConfig();
     p.parse(config, args);
@@ -126,6 +162,26 @@ static BenchmarkToolConfig parseCommandLineConfig(String... args) {
       throw BeneratorExceptionFactory.getInstance().configurationError("Benerator Enterprise Edition is not available on this installation");
     }
 
+    // measurement settings
+    if (config.getWarmup() < 0) {
+      throw BeneratorExceptionFactory.getInstance().configurationError("--warmup must not be negative");
+    }
+    if (config.getIterations() < 1) {
+      throw BeneratorExceptionFactory.getInstance().configurationError("--iterations must be at least 1");
+    }
+    if (config.getTolerance() < 0 || config.getTolerance() >= 100) {
+      throw BeneratorExceptionFactory.getInstance().configurationError(
+          "--tolerance must be at least 0 and less than 100");
+    }
+
+    // no-network profile
+    if (config.isNoNetwork()) {
+      if (config.getSystems().length > 0) {
+        throw BeneratorExceptionFactory.getInstance().configurationError("--noNetwork cannot be combined with --env");
+      }
+      config.setSystemsSpec("builtin#h2");
+    }
+
     // maxThreads
     int reportedCores = Runtime.getRuntime().availableProcessors();
     if (config.getMaxThreads() == 0) {
@@ -162,4 +218,30 @@ private static void exportResult(BenchmarkToolConfig config, BenchmarkToolReport
     }
   }
 
+  private static int processBaseline(BenchmarkToolConfig config, BenchmarkToolReport result) {
+    if (!config.isCompare() && !config.isSaveBaseline()) {
+      return 0;
+    }
+    BenchmarkBaseline current = BenchmarkBaseline.of(result);
+    String baselineFile = config.getBaseline();
+    if (config.isCompare()) {
+      BaselineComparison comparison = current.compareWith(
+          BenchmarkBaseline.load(baselineFile), config.getTolerance() / 100.);
+      comparison.print(System.out);
+      if (comparison.hasRegressions()) {
+        logger.error("Detected {} compared to baseline {}",
+            HF.pluralize(comparison.getRegressions().size(), "regression"), baselineFile);
+        if (config.isSaveBaseline()) {
+          logger.warn("Keeping the baseline {} unchanged because of the regressions", baselineFile);
+        }
+        return REGRESSION_EXIT_CODE;
+      }
+    }
+    if (config.isSaveBaseline()) {
+      current.save(baselineFile);
+      logger.info("Saved baseline {}", baselineFile);
+    }
+    return 0;
+  }
+
 }
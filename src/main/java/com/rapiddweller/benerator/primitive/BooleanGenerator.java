@@ -26,10 +26,10 @@
 
 package com.rapiddweller.benerator.primitive;
 
+import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.RandomProvider;
 import com.rapiddweller.benerator.util.ThreadSafeNonNullGenerator;
 
-import java.util.Random;
-
 /**
  * Generates boolean values with a configurable quota of true values.<br/>
  * <br/>
@@ -42,7 +42,7 @@ public class BooleanGenerator extends ThreadSafeNonNullGenerator<Boolean> {
    */
   private double trueQuota;
 
-  private final Random random;
+  private final RandomProvider random;
 
   // constructors ----------------------------------------------------------------------------------------------------
 
@@ -60,7 +60,7 @@ public BooleanGenerator() {
    */
   public BooleanGenerator(double trueQuota) {
     this.trueQuota = trueQuota;
-    this.random = new Random();
+    this.random = BeneratorFactory.getInstance().getRandomProvider();
   }
 
   // config properties -----------------------------------------------------------------------------------------------
@@ -90,12 +90,17 @@ public Class<Boolean> getGeneratedType() {
     return Boolean.class;
   }
 
+  @Override
+  public boolean isBatchable() {
+    return true;
+  }
+
   /**
    * generates boolean values with a quota of true values according to the trueQuota property
    */
   @Override
   public Boolean generate() {
-    return (random.nextFloat() <= trueQuota);
+    return (random.randomDouble() < trueQuota);
   }
 
   // java.lang.Object overrides --------------------------------------------------------------------------------------
@@ -26,9 +26,11 @@
 
 package com.rapiddweller.benerator.primitive;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
 import com.rapiddweller.benerator.sample.NonNullSampleGenerator;
+import com.rapiddweller.benerator.util.GeneratorUtil;
 import com.rapiddweller.benerator.wrapper.NonNullGeneratorProxy;
 import com.rapiddweller.common.LocaleUtil;
 import com.rapiddweller.common.exception.SyntaxError;
@@ -45,7 +47,7 @@
  * @author Volker Bergmann
  * @since 0.1
  */
-public class CharacterGenerator extends NonNullGeneratorProxy<Character> {
+public class CharacterGenerator extends NonNullGeneratorProxy<Character> implements BatchGenerator<Character> {
 
   /** The regular exception */
   private String pattern;
@@ -147,6 +149,17 @@ public Character generate() {
     return generateFromNotNullSource();
   }
 
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    assertInitialized();
+    return GeneratorUtil.generateBatch(getSource(), target, count);
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return true;
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + values;
@@ -0,0 +1,33 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.primitive;
+
+/**
+ * Provides generated numbers as primitive double values, avoiding the boxing of the {@link Double} products
+ * of a {@link com.rapiddweller.benerator.Generator}.
+ * Wrappers implement this interface in order to forward the primitive values of their source,
+ * so they only support it if {@link #supportsDoubles()} returns true.<br/><br/>
+ * Created: 19.10.2026 16:07:40
+ * @author Volker Bergmann
+ * @see com.rapiddweller.benerator.util.GeneratorUtil#asDoubleSource(com.rapiddweller.benerator.Generator)
+ * @since 3.3.0
+ */
+public interface DoubleSource {
+
+  /** Tells if the primitive methods of this interface can be used.
+   *  @return true if {@link #nextDouble()} and {@link #generateDoubles(double[], int)} are supported */
+  boolean supportsDoubles();
+
+  /** Generates the next value. This is intended for callers which ensure the availability of the source,
+   *  for example by a planned count.
+   *  @return the next value
+   *  @throws com.rapiddweller.benerator.IllegalGeneratorStateException if the source has become unavailable */
+  double nextDouble();
+
+  /** Generates up to count values and stores them in the target array, starting at index 0.
+   *  @param target the array to receive the values, it must have a length of at least count
+   *  @param count the number of values to generate
+   *  @return the number of values generated. If it is less than count, the source has become unavailable */
+  int generateDoubles(double[] target, int count);
+
+}
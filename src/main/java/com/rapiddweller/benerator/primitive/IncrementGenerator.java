@@ -102,6 +102,11 @@ public void setIncrement(long increment) {
 
   // Generator interface ---------------------------------------------------------------------------------------------
 
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
   @Override
   public Class<Long> getGeneratedType() {
     return Long.class;
@@ -113,6 +118,26 @@ public Long generate() {
     return (result <= max ? result : null);
   }
 
+  /** Reserves the values of a batch with a single atomic operation,
+   *  so concurrent invocations receive disjoint, gapless ranges. */
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    long start = cursor.getAndAdd(increment * count);
+    for (int i = 0; i < count; i++) {
+      long value = start + i * increment;
+      if (value > max || value < start) {
+        return i;
+      }
+      target[i] = value;
+    }
+    return count;
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return true;
+  }
+
   @Override
   public void reset() {
     this.cursor.set(min);
@@ -102,6 +102,11 @@ public void setIncrement(long increment) {
 
   // Generator interface implementation ------------------------------------------------------------------------------
 
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
   @Override
   public Class<Long> getGeneratedType() {
     return Long.class;
@@ -85,7 +85,12 @@ public Class<int[]> getGeneratedType() {
   }
 
   @Override
-  public int[] generate() {
+  public boolean isParallelizable() {
+    return false;
+  }
+
+  @Override
+  public synchronized int[] generate() {
     if (overrun) {
       return null;
     }
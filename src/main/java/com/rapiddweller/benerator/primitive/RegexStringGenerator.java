@@ -26,11 +26,13 @@
 
 package com.rapiddweller.benerator.primitive;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.Generator;
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.InvalidGeneratorSetupException;
 import com.rapiddweller.benerator.factory.GeneratorFactory;
 import com.rapiddweller.benerator.factory.StochasticGeneratorFactory;
+import com.rapiddweller.benerator.util.GeneratorUtil;
 import com.rapiddweller.benerator.wrapper.NonNullGeneratorProxy;
 import com.rapiddweller.model.data.Uniqueness;
 
@@ -42,7 +44,7 @@
  * @author Volker Bergmann
  * @since 0.1
  */
-public class RegexStringGenerator extends NonNullGeneratorProxy<String> {
+public class RegexStringGenerator extends NonNullGeneratorProxy<String> implements BatchGenerator<String> {
 
   /** Optional String representation of a regular expression */
   private String pattern;
@@ -163,6 +165,17 @@ public void init(GeneratorContext context) {
     }
   }
 
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    return GeneratorUtil.generateBatch(getSource(), target, count);
+  }
+
+  /** Returns true, since the generated strings depend on the pattern only. */
+  @Override
+  public boolean isBatchable() {
+    return true;
+  }
+
   protected GeneratorFactory getGeneratorFactory(GeneratorContext context) {
     return (context != null ? context.getGeneratorFactory() : new StochasticGeneratorFactory());
   }
@@ -26,9 +26,12 @@
 
 package com.rapiddweller.benerator.primitive.datetime;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.distribution.Distribution;
 import com.rapiddweller.benerator.distribution.SequenceManager;
+import com.rapiddweller.benerator.util.GeneratorUtil;
+import com.rapiddweller.benerator.util.LongArrayProvider;
 import com.rapiddweller.benerator.wrapper.NonNullGeneratorWrapper;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 import com.rapiddweller.common.Period;
@@ -44,9 +47,10 @@
  * Created: 07.06.2006 22:54:28 @author Volker Bergmann
  * @since 0.1
  */
-public class DateGenerator extends NonNullGeneratorWrapper<Long, Date> {
+public class DateGenerator extends NonNullGeneratorWrapper<Long, Date> implements BatchGenerator<Date> {
 
   private final DateString2DurationConverter dateConverter = new DateString2DurationConverter();
+  private final LongArrayProvider buffer = new LongArrayProvider();
 
   private long min;
   private long max;
@@ -130,6 +134,23 @@ public Date generate() {
     return new Date(millis);
   }
 
+  /** Generates the millisecond values of the batch as primitive longs */
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    assertInitialized();
+    long[] millis = buffer.get(count);
+    int n = GeneratorUtil.generateLongs(getSource(), millis, count);
+    for (int i = 0; i < n; i++) {
+      target[i] = new Date(millis[i]);
+    }
+    return n;
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return GeneratorUtil.isBatchable(getSource());
+  }
+
   @Override
   public boolean isThreadSafe() {
     return super.isThreadSafe() && dateConverter.isThreadSafe();
@@ -0,0 +1,52 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.primitive.number;
+
+import com.rapiddweller.benerator.primitive.DoubleSource;
+import com.rapiddweller.benerator.util.DoubleArrayProvider;
+
+/**
+ * Abstract parent class for number generators which create their values as primitive doubles.
+ * Child classes implement {@link #nextDouble()} and, if they can become unavailable,
+ * {@link #generateDoubles(double[], int)}.<br/><br/>
+ * Created: 19.10.2026 16:24:33
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public abstract class AbstractNonNullDoubleGenerator extends AbstractNonNullNumberGenerator<Double> implements DoubleSource {
+
+  private final DoubleArrayProvider buffer = new DoubleArrayProvider();
+
+  protected AbstractNonNullDoubleGenerator(Double min, Double max, Double granularity) {
+    super(Double.class, min, max, granularity);
+  }
+
+  // DoubleSource interface --------------------------------------------------------------------------------------------
+
+  @Override
+  public boolean supportsDoubles() {
+    return true;
+  }
+
+  /** Generates count values by {@link #nextDouble()}, so it must be overridden by generators with a limited number of values. */
+  @Override
+  public int generateDoubles(double[] target, int count) {
+    for (int i = 0; i < count; i++) {
+      target[i] = nextDouble();
+    }
+    return count;
+  }
+
+  // BatchGenerator interface ----------------------------------------------------------------------------------------
+
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    double[] values = buffer.get(count);
+    int n = generateDoubles(values, count);
+    for (int i = 0; i < n; i++) {
+      target[i] = values[i];
+    }
+    return n;
+  }
+
+}
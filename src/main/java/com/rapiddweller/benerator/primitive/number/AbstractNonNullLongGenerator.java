@@ -0,0 +1,52 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.primitive.number;
+
+import com.rapiddweller.benerator.primitive.LongSource;
+import com.rapiddweller.benerator.util.LongArrayProvider;
+
+/**
+ * Abstract parent class for number generators which create their values as primitive longs.
+ * Child classes implement {@link #nextLong()} and, if they can become unavailable,
+ * {@link #generateLongs(long[], int)}.<br/><br/>
+ * Created: 19.10.2026 16:21:07
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public abstract class AbstractNonNullLongGenerator extends AbstractNonNullNumberGenerator<Long> implements LongSource {
+
+  private final LongArrayProvider buffer = new LongArrayProvider();
+
+  protected AbstractNonNullLongGenerator(Long min, Long max, Long granularity) {
+    super(Long.class, min, max, granularity);
+  }
+
+  // LongSource interface --------------------------------------------------------------------------------------------
+
+  @Override
+  public boolean supportsLongs() {
+    return true;
+  }
+
+  /** Generates count values by {@link #nextLong()}, so it must be overridden by generators with a limited number of values. */
+  @Override
+  public int generateLongs(long[] target, int count) {
+    for (int i = 0; i < count; i++) {
+      target[i] = nextLong();
+    }
+    return count;
+  }
+
+  // BatchGenerator interface ----------------------------------------------------------------------------------------
+
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    long[] values = buffer.get(count);
+    int n = generateLongs(values, count);
+    for (int i = 0; i < n; i++) {
+      target[i] = values[i];
+    }
+    return n;
+  }
+
+}
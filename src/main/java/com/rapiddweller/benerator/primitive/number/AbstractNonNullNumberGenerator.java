@@ -100,6 +100,12 @@ public boolean isParallelizable() {
     return true;
   }
 
+  /** Returns true, since number sequences do not depend on the context. */
+  @Override
+  public boolean isBatchable() {
+    return true;
+  }
+
   @Override
   public void init(GeneratorContext context) {
     if (min != null && max != null && NumberComparator.compareNumbers(min, max) > 0) {
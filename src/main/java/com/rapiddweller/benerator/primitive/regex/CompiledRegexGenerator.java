@@ -0,0 +1,81 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.primitive.regex;
+
+import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.RandomProvider;
+import com.rapiddweller.benerator.util.ThreadSafeNonNullGenerator;
+
+/**
+ * Generates random strings of a regular expression by executing a {@link RegexProgram}.
+ * Each thread renders into an own {@link StringBuilder} which is reused for all its products,
+ * callers which process the characters further can avoid the final String creation
+ * by rendering into their own buffer with {@link #render(StringBuilder)}.<br/><br/>
+ * Created: 18.10.2026 21:41:07
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class CompiledRegexGenerator extends ThreadSafeNonNullGenerator<String> {
+
+  private final RegexProgram program;
+  private final RandomProvider random;
+  private final ThreadLocal<StringBuilder> buffer;
+
+  public CompiledRegexGenerator(RegexProgram program) {
+    this(program, BeneratorFactory.getInstance().getRandomProvider());
+  }
+
+  public CompiledRegexGenerator(RegexProgram program, RandomProvider random) {
+    this.program = program;
+    this.random = random;
+    this.buffer = ThreadLocal.withInitial(StringBuilder::new);
+  }
+
+  public RegexProgram getProgram() {
+    return program;
+  }
+
+  // Generator interface ---------------------------------------------------------------------------------------------
+
+  @Override
+  public Class<String> getGeneratedType() {
+    return String.class;
+  }
+
+  @Override
+  public String generate() {
+    StringBuilder builder = buffer.get();
+    builder.setLength(0);
+    program.render(builder, random);
+    return builder.toString();
+  }
+
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    StringBuilder builder = buffer.get();
+    for (int i = 0; i < count; i++) {
+      builder.setLength(0);
+      program.render(builder, random);
+      target[i] = builder.toString();
+    }
+    return count;
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return true;
+  }
+
+  /** Appends a generated string to the builder. */
+  public void render(StringBuilder builder) {
+    program.render(builder, random);
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + program + "]";
+  }
+
+}
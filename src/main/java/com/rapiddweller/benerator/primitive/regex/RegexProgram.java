@@ -0,0 +1,416 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.primitive.regex;
+
+import com.rapiddweller.benerator.RandomProvider;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.CollectionUtil;
+import com.rapiddweller.format.regex.Choice;
+import com.rapiddweller.format.regex.Factor;
+import com.rapiddweller.format.regex.Group;
+import com.rapiddweller.format.regex.Quantifier;
+import com.rapiddweller.format.regex.RegexCharClass;
+import com.rapiddweller.format.regex.RegexPart;
+import com.rapiddweller.format.regex.RegexString;
+import com.rapiddweller.format.regex.Sequence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Flattened form of a parsed regular expression: The tree of {@link RegexPart}s is compiled once
+ * into an int array of instructions which refer to literal strings and sorted character tables,
+ * so that rendering a string only appends characters to a caller-provided {@link StringBuilder}
+ * without creating intermediate generators, arrays or strings.
+ * Unbounded quantifiers are limited by the maximum length or a default count.
+ * If each position of the rendered strings has a fixed character table,
+ * the program can count the strings of its language and render each of them by its rank.<br/><br/>
+ * Created: 18.10.2026 21:12:40
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public final class RegexProgram {
+
+  // instruction set -------------------------------------------------------------------------------------------------
+
+  /** LITERAL literalIndex: appends a literal string */
+  static final int LITERAL = 0;
+
+  /** CHARS tableIndex minCount maxCount: appends a random number of random characters of a table */
+  static final int CHARS = 1;
+
+  /** REPEAT minCount maxCount bodyLength body...: executes the body a random number of times */
+  static final int REPEAT = 2;
+
+  /** CHOICE alternativeCount totalLength (bodyLength body...)*: executes a randomly chosen alternative */
+  static final int CHOICE = 3;
+
+  // attributes ------------------------------------------------------------------------------------------------------
+
+  private final int[] code;
+  private final String[] literals;
+  private final char[][] tables;
+  private final char[][] layout;
+  private final long size;
+
+  private RegexProgram(int[] code, String[] literals, char[][] tables) {
+    this.code = code;
+    this.literals = literals;
+    this.tables = tables;
+    if (hasFixedLayout(0, code.length)) {
+      List<char[]> positions = new ArrayList<>();
+      expandLayout(0, code.length, positions);
+      this.layout = positions.toArray(new char[positions.size()][]);
+      this.size = countLayout(layout);
+    } else {
+      this.layout = null;
+      this.size = -1;
+    }
+  }
+
+  /** Compiles a parsed regular expression.
+   *  @param regex the regular expression
+   *  @param minLength the minimum length of the strings to render
+   *  @param maxLength the maximum length of the strings to render, or null for no limit
+   *  @param defaultMaxCount the repetition limit of unbounded quantifiers which are not limited by maxLength
+   *  @return the compiled program */
+  public static RegexProgram compile(RegexPart regex, int minLength, Integer maxLength, int defaultMaxCount) {
+    Compiler compiler = new Compiler(defaultMaxCount);
+    compiler.emit(regex, maxLength, minLength);
+    return compiler.program();
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  /** Appends a random string of the program's language to the builder. */
+  public void render(StringBuilder builder, RandomProvider random) {
+    execute(0, code.length, builder, random);
+  }
+
+  /** Tells if all rendered strings have the same length and each position its own character table,
+   *  which makes the strings of the language countable by {@link #size()} and addressable by rank. */
+  public boolean hasFixedLayout() {
+    return (layout != null);
+  }
+
+  /** @return the length of the rendered strings if the program has a fixed layout, otherwise -1 */
+  public int fixedLength() {
+    return (layout != null ? layout.length : -1);
+  }
+
+  /** @return the number of different strings the program renders, or -1 if they cannot be counted
+   *  or are more than {@link Long#MAX_VALUE} */
+  public long size() {
+    return size;
+  }
+
+  /** Appends the string with the given rank in the lexical order of the program's language to the builder.
+   *  @param rank a number from 0 to {@link #size()} - 1 */
+  public void renderRank(long rank, StringBuilder builder) {
+    if (size < 0 || rank < 0 || rank >= size) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument(
+          "Rank " + rank + " out of range for a language of size " + size);
+    }
+    int start = builder.length();
+    builder.setLength(start + layout.length);
+    for (int i = layout.length - 1; i >= 0; i--) {
+      char[] table = layout[i];
+      builder.setCharAt(start + i, table[(int) (rank % table.length)]);
+      rank /= table.length;
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void execute(int pc, int end, StringBuilder builder, RandomProvider random) {
+    while (pc < end) {
+      switch (code[pc]) {
+        case LITERAL:
+          builder.append(literals[code[pc + 1]]);
+          pc += 2;
+          break;
+        case CHARS:
+          char[] table = tables[code[pc + 1]];
+          int count = count(code[pc + 2], code[pc + 3], random);
+          if (table.length == 1) {
+            for (int i = 0; i < count; i++) {
+              builder.append(table[0]);
+            }
+          } else {
+            for (int i = 0; i < count; i++) {
+              builder.append(table[random.randomInt(table.length)]);
+            }
+          }
+          pc += 4;
+          break;
+        case REPEAT:
+          int repetitions = count(code[pc + 1], code[pc + 2], random);
+          int bodyEnd = pc + 4 + code[pc + 3];
+          for (int i = 0; i < repetitions; i++) {
+            execute(pc + 4, bodyEnd, builder, random);
+          }
+          pc = bodyEnd;
+          break;
+        case CHOICE:
+          int alternative = random.randomInt(code[pc + 1]);
+          int alt = pc + 3;
+          for (int i = 0; i < alternative; i++) {
+            alt += 1 + code[alt];
+          }
+          execute(alt + 1, alt + 1 + code[alt], builder, random);
+          pc += 3 + code[pc + 2];
+          break;
+        default:
+          throw BeneratorExceptionFactory.getInstance().programmerStateError("Illegal instruction: " + code[pc]);
+      }
+    }
+  }
+
+  private static int count(int min, int max, RandomProvider random) {
+    return (min == max ? min : random.randomInt(min, max));
+  }
+
+  private boolean hasFixedLayout(int pc, int end) {
+    while (pc < end) {
+      switch (code[pc]) {
+        case LITERAL:
+          pc += 2;
+          break;
+        case CHARS:
+          if (code[pc + 2] != code[pc + 3]) {
+            return false;
+          }
+          pc += 4;
+          break;
+        case REPEAT:
+          if (code[pc + 1] != code[pc + 2] || !hasFixedLayout(pc + 4, pc + 4 + code[pc + 3])) {
+            return false;
+          }
+          pc += 4 + code[pc + 3];
+          break;
+        default:
+          return false;
+      }
+    }
+    return true;
+  }
+
+  private void expandLayout(int pc, int end, List<char[]> positions) {
+    while (pc < end) {
+      switch (code[pc]) {
+        case LITERAL:
+          for (char c : literals[code[pc + 1]].toCharArray()) {
+            positions.add(new char[] { c });
+          }
+          pc += 2;
+          break;
+        case CHARS:
+          for (int i = 0; i < code[pc + 2]; i++) {
+            positions.add(tables[code[pc + 1]]);
+          }
+          pc += 4;
+          break;
+        default: // REPEAT, since hasFixedLayout() has excluded CHOICE
+          for (int i = 0; i < code[pc + 1]; i++) {
+            expandLayout(pc + 4, pc + 4 + code[pc + 3], positions);
+          }
+          pc += 4 + code[pc + 3];
+      }
+    }
+  }
+
+  private static long countLayout(char[][] layout) {
+    long result = 1;
+    try {
+      for (char[] table : layout) {
+        result = Math.multiplyExact(result, table.length);
+      }
+      return result;
+    } catch (ArithmeticException e) {
+      return -1; // too many strings to count them with a long
+    }
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + code.length + " ints, " + literals.length + " literals, " +
+        tables.length + " tables" + (size >= 0 ? ", size=" + size : "") + "]";
+  }
+
+  // compiler --------------------------------------------------------------------------------------------------------
+
+  /** Translates a tree of {@link RegexPart}s into instructions, distributing the length limits among the parts. */
+  private static final class Compiler {
+
+    private final int defaultMaxCount;
+    private int[] code;
+    private int codeLength;
+    private final List<String> literals;
+    private final List<char[]> tables;
+    private final Map<Set<Character>, Integer> tableIndices;
+    private int lastLiteral;
+
+    Compiler(int defaultMaxCount) {
+      this.defaultMaxCount = defaultMaxCount;
+      this.code = new int[16];
+      this.codeLength = 0;
+      this.literals = new ArrayList<>();
+      this.tables = new ArrayList<>();
+      this.tableIndices = new HashMap<>();
+      this.lastLiteral = -1;
+    }
+
+    RegexProgram program() {
+      return new RegexProgram(Arrays.copyOf(code, codeLength), literals.toArray(new String[0]),
+          tables.toArray(new char[tables.size()][]));
+    }
+
+    /** @param maxLength the maximum length of the part's strings or null for unlimited
+     *  @param minLength the minimum length of the part's strings */
+    void emit(RegexPart part, Integer maxLength, int minLength) {
+      if (part == null) {
+        // an empty expression renders an empty string
+      } else if (part instanceof Factor) {
+        Quantifier quantifier = ((Factor) part).getQuantifier();
+        emitRepetition(((Factor) part).getAtom(), quantifier.getMin(), quantifier.getMax(), maxLength, minLength);
+      } else if (part instanceof Group) {
+        emit(((Group) part).getRegex(), maxLength, minLength);
+      } else if (part instanceof Sequence) {
+        emitSequence(((Sequence) part).getFactors(), maxLength, minLength);
+      } else if (part instanceof Choice) {
+        emitChoice(((Choice) part).getAlternatives(), maxLength, minLength);
+      } else if (part instanceof RegexCharClass || part instanceof RegexString) {
+        emitRepetition(part, 1, 1, maxLength, minLength);
+      } else {
+        throw BeneratorExceptionFactory.getInstance().programmerUnsupported(
+            "Unsupported regex part type: " + part.getClass().getName());
+      }
+    }
+
+    private void emitSequence(RegexPart[] parts, Integer maxLength, int minLength) {
+      int sumOfMins = 0;
+      Integer sumOfMaxs = 0;
+      for (RegexPart part : parts) {
+        sumOfMins += part.minLength();
+        Integer partMax = part.maxLength();
+        sumOfMaxs = (sumOfMaxs != null && partMax != null ? sumOfMaxs + partMax : null);
+      }
+      for (RegexPart part : parts) {
+        // a part can use the length which the other parts leave at least, and must fill what they cannot
+        Integer partMaxLength = null;
+        if (maxLength != null) {
+          partMaxLength = Math.max(part.minLength(), maxLength - (sumOfMins - part.minLength()));
+        }
+        int partMinLength = 0;
+        if (sumOfMaxs != null) {
+          partMinLength = Math.max(0, minLength - (sumOfMaxs - part.maxLength()));
+        }
+        emit(part, partMaxLength, partMinLength);
+      }
+    }
+
+    private void emitChoice(RegexPart[] alternatives, Integer maxLength, int minLength) {
+      int start = emitHeader(CHOICE, alternatives.length, 0);
+      for (RegexPart alternative : alternatives) {
+        int lengthField = emitHeader(0);
+        emit(alternative, maxLength, minLength);
+        endBody(lengthField);
+      }
+      endBody(start + 2);
+    }
+
+    private void emitRepetition(RegexPart atom, int minCount, Integer maxCount, Integer maxLength, int minLength) {
+      while (atom instanceof Group) {
+        atom = ((Group) atom).getRegex();
+      }
+      int atomMin = atom.minLength();
+      Integer atomMax = atom.maxLength();
+      if (maxLength != null && atomMin > 0) {
+        int fittingCount = maxLength / atomMin;
+        maxCount = (maxCount != null ? Math.min(maxCount, fittingCount) : fittingCount);
+      }
+      if (maxCount == null) {
+        maxCount = defaultMaxCount;
+      }
+      if (minLength > 0 && atomMax != null && atomMax > 0) {
+        minCount = Math.max(minCount, (minLength + atomMax - 1) / atomMax);
+      }
+      if (maxCount < minCount) {
+        maxCount = minCount; // the length limits cannot be kept, but the strings still match the expression
+      }
+      if (maxCount == 0) {
+        return;
+      }
+      if (atom instanceof RegexCharClass) {
+        char[] table = CollectionUtil.toCharArray(new TreeSet<>(((RegexCharClass) atom).getCharSet().getSet()));
+        if (table.length == 1 && minCount == maxCount) {
+          emitLiteral(String.valueOf(table[0]).repeat(minCount));
+        } else {
+          emitHeader(CHARS, tableIndex(table), minCount, maxCount);
+        }
+      } else if (atom instanceof RegexString && minCount == maxCount) {
+        emitLiteral(((RegexString) atom).getString().repeat(minCount));
+      } else if (minCount == 1 && maxCount == 1) {
+        emit(atom, maxLength, minLength);
+      } else {
+        Integer bodyMaxLength = atomMax;
+        if (maxLength != null) {
+          int available = maxLength - Math.max(0, minCount - 1) * atomMin;
+          bodyMaxLength = (atomMax != null ? Math.min(atomMax, available) : available);
+        }
+        int start = emitHeader(REPEAT, minCount, maxCount, 0);
+        emit(atom, bodyMaxLength, 0);
+        endBody(start + 3);
+      }
+    }
+
+    private void emitLiteral(String literal) {
+      if (literal.isEmpty()) {
+        return;
+      }
+      if (lastLiteral >= 0 && lastLiteral + 2 == codeLength) {
+        // merges adjacent literals into one
+        int index = code[lastLiteral + 1];
+        literals.set(index, literals.get(index) + literal);
+      } else {
+        int start = emitHeader(LITERAL, literals.size());
+        literals.add(literal);
+        lastLiteral = start;
+      }
+    }
+
+    private int tableIndex(char[] table) {
+      Set<Character> key = CollectionUtil.toCharSet(table);
+      return tableIndices.computeIfAbsent(key, k -> {
+        tables.add(table);
+        return tables.size() - 1;
+      });
+    }
+
+    /** Appends the ints and returns the position of the first one. */
+    private int emitHeader(int... ints) {
+      if (codeLength + ints.length > code.length) {
+        code = Arrays.copyOf(code, Math.max(code.length * 2, codeLength + ints.length));
+      }
+      int start = codeLength;
+      System.arraycopy(ints, 0, code, codeLength, ints.length);
+      codeLength += ints.length;
+      lastLiteral = -1;
+      return start;
+    }
+
+    /** Stores the length of the body which follows the length field. */
+    private void endBody(int lengthField) {
+      code[lengthField] = codeLength - lengthField - 1;
+      lastLiteral = -1;
+    }
+  }
+
+}
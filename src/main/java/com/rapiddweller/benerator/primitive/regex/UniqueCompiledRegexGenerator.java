@@ -0,0 +1,126 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.primitive.regex;
+
+import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.RandomProvider;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.util.AbstractNonNullGenerator;
+
+/**
+ * Generates each string of a regular expression's language once by rendering the ranks
+ * 0 to size-1 of a countable {@link RegexProgram}, so uniqueness does not require
+ * remembering the strings generated so far. In ordered mode, the strings are generated
+ * in lexical order, otherwise the ranks are walked with a random offset and a random
+ * step width which is coprime to the size, which visits every rank once in a scrambled order.
+ * When all strings have been generated, the generator becomes unavailable.<br/><br/>
+ * Created: 18.10.2026 21:53:26
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class UniqueCompiledRegexGenerator extends AbstractNonNullGenerator<String> {
+
+  private static final double GOLDEN_RATIO_FRACTION = 0.6180339887498949;
+
+  private final RegexProgram program;
+  private final long size;
+  private final long offset;
+  private final long step;
+  private final StringBuilder buffer;
+
+  private long count;
+  private long rank;
+
+  public UniqueCompiledRegexGenerator(RegexProgram program, boolean ordered) {
+    this(program, ordered, BeneratorFactory.getInstance().getRandomProvider());
+  }
+
+  public UniqueCompiledRegexGenerator(RegexProgram program, boolean ordered, RandomProvider random) {
+    this.program = program;
+    this.size = program.size();
+    if (size < 0) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument(
+          "Cannot generate unique strings from an uncountable " + program);
+    }
+    if (ordered || size <= 2) {
+      this.offset = 0;
+      this.step = 1;
+    } else {
+      this.offset = random.randomLong(size);
+      this.step = coprimeStep(size, random);
+    }
+    this.buffer = new StringBuilder(program.fixedLength());
+    this.count = 0;
+    this.rank = offset;
+  }
+
+  // Generator interface ---------------------------------------------------------------------------------------------
+
+  @Override
+  public Class<String> getGeneratedType() {
+    return String.class;
+  }
+
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
+  @Override
+  public synchronized String generate() {
+    if (count >= size) {
+      return null;
+    }
+    buffer.setLength(0);
+    program.renderRank(rank, buffer);
+    count++;
+    rank = (rank < size - step ? rank + step : rank - (size - step)); // (rank + step) % size without overflow
+    return buffer.toString();
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return true;
+  }
+
+  @Override
+  public synchronized void reset() {
+    super.reset();
+    this.count = 0;
+    this.rank = offset;
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** Chooses a step width near the golden ratio of the size, which spreads consecutive ranks widely. */
+  static long coprimeStep(long size, RandomProvider random) {
+    long base = Math.max(1, (long) (size * GOLDEN_RATIO_FRACTION));
+    long step = base + random.randomLong(0, Math.min(size - base - 1, base / 8));
+    while (gcd(step, size) != 1) {
+      step = (step + 1 < size ? step + 1 : 1);
+    }
+    return step;
+  }
+
+  private static long gcd(long a, long b) {
+    while (b != 0) {
+      long tmp = a % b;
+      a = b;
+      b = tmp;
+    }
+    return a;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + program + "]";
+  }
+
+}
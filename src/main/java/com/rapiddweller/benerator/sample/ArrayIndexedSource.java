@@ -0,0 +1,188 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sample;
+
+import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.engine.BeneratorOpts;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * {@link IndexedSource} which holds all elements in memory, as fallback for sources without random access.
+ * Long, Integer and Double values are stored in primitive arrays, which need a fraction of the memory
+ * of boxed values in a List.<br/><br/>
+ * Created: 18.10.2026 22:45:31
+ * @param <E> the type of the provided elements
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class ArrayIndexedSource<E> implements IndexedSource<E> {
+
+  private static final Logger logger = LoggerFactory.getLogger(ArrayIndexedSource.class);
+
+  private final Class<E> type;
+  private final int size;
+  private final Class<?> primitiveBoxType;
+  private final long[] longs;
+  private final double[] doubles;
+  private final Object[] objects;
+
+  private ArrayIndexedSource(Class<E> type, Builder builder) {
+    this.type = type;
+    this.size = builder.size;
+    this.primitiveBoxType = builder.primitiveBoxType;
+    this.longs = (builder.longs != null ? Arrays.copyOf(builder.longs, size) : null);
+    this.doubles = (builder.doubles != null ? Arrays.copyOf(builder.doubles, size) : null);
+    this.objects = (builder.objects != null ? Arrays.copyOf(builder.objects, size) : null);
+  }
+
+  /** Reads all products of an initialized generator up to the configured cache size. */
+  public static <E> ArrayIndexedSource<E> of(Generator<E> generator) {
+    Builder builder = new Builder(generator);
+    ProductWrapper<E> wrapper = new ProductWrapper<>();
+    while ((wrapper = generator.generate(wrapper)) != null && builder.add(wrapper.unwrap())) {
+      // the builder stores the product
+    }
+    return new ArrayIndexedSource<>(generator.getGeneratedType(), builder);
+  }
+
+  /** Reads all elements of an iterator up to the configured cache size and closes the iterator. */
+  public static <E> ArrayIndexedSource<E> of(DataIterator<E> iterator) {
+    try {
+      Builder builder = new Builder(iterator);
+      DataContainer<E> container = new DataContainer<>();
+      while ((container = iterator.next(container)) != null && builder.add(container.getData())) {
+        // the builder stores the element
+      }
+      return new ArrayIndexedSource<>(iterator.getType(), builder);
+    } finally {
+      iterator.close();
+    }
+  }
+
+  // IndexedSource interface implementation --------------------------------------------------------------------------
+
+  @Override
+  public Class<E> getType() {
+    return type;
+  }
+
+  @Override
+  public long size() {
+    return size;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(long index) {
+    int i = (int) index;
+    if (longs != null) {
+      return (E) (primitiveBoxType == Integer.class ? (Object) (int) longs[i] : (Object) longs[i]);
+    } else if (doubles != null) {
+      return (E) (Double) doubles[i];
+    } else {
+      return (E) objects[i];
+    }
+  }
+
+  @Override
+  public void close() {
+    // nothing to do
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + size + " " + type.getSimpleName() + "s]";
+  }
+
+  // helper class ----------------------------------------------------------------------------------------------------
+
+  /** Collects elements in a primitive array as long as they are all Longs, Integers or Doubles. */
+  private static class Builder {
+
+    private final Object source;
+    private final int cacheSize;
+    private int size;
+    private Class<?> primitiveBoxType;
+    private long[] longs;
+    private double[] doubles;
+    private Object[] objects;
+
+    Builder(Object source) {
+      this.source = source;
+      this.cacheSize = BeneratorOpts.getCacheSize();
+      this.size = 0;
+    }
+
+    /** @return false if the value was rejected because the cache size is reached */
+    boolean add(Object value) {
+      if (size >= cacheSize) {
+        logger.error("Data set of generator has reached the cache limit and will be reduced to its size " +
+            "of {} elements). If that is not acceptable then choose a distribution that does not cache data sets " +
+            "or increase the cache size. Concerned generator: {}", cacheSize, source);
+        return false;
+      }
+      if (size == 0) {
+        chooseStorage(value);
+      } else if (objects == null && (value == null || value.getClass() != primitiveBoxType)) {
+        switchToObjects();
+      }
+      if (longs != null) {
+        if (size == longs.length) {
+          longs = Arrays.copyOf(longs, grownCapacity(size));
+        }
+        longs[size] = ((Number) value).longValue();
+      } else if (doubles != null) {
+        if (size == doubles.length) {
+          doubles = Arrays.copyOf(doubles, grownCapacity(size));
+        }
+        doubles[size] = (Double) value;
+      } else {
+        if (size == objects.length) {
+          objects = Arrays.copyOf(objects, grownCapacity(size));
+        }
+        objects[size] = value;
+      }
+      size++;
+      return true;
+    }
+
+    private void chooseStorage(Object value) {
+      if (value instanceof Long || value instanceof Integer) {
+        this.primitiveBoxType = value.getClass();
+        this.longs = new long[16];
+      } else if (value instanceof Double) {
+        this.primitiveBoxType = Double.class;
+        this.doubles = new double[16];
+      } else {
+        this.objects = new Object[16];
+      }
+    }
+
+    private void switchToObjects() {
+      objects = new Object[grownCapacity(size)];
+      for (int i = 0; i < size; i++) {
+        if (longs != null) {
+          objects[i] = (primitiveBoxType == Integer.class ? (Object) (int) longs[i] : (Object) longs[i]);
+        } else {
+          objects[i] = doubles[i];
+        }
+      }
+      longs = null;
+      doubles = null;
+      primitiveBoxType = null;
+    }
+
+    private int grownCapacity(int size) {
+      return (int) Math.min(Math.max(16, size * 2L), cacheSize);
+    }
+  }
+
+}
@@ -26,7 +26,9 @@
 
 package com.rapiddweller.benerator.sample;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.GeneratorContext;
+import com.rapiddweller.benerator.RandomProvider;
 import com.rapiddweller.benerator.WeightedGenerator;
 import com.rapiddweller.benerator.distribution.AbstractWeightFunction;
 import com.rapiddweller.benerator.distribution.WeightedLongGenerator;
@@ -45,7 +47,8 @@
  * @author Volker Bergmann
  * @since 0.1
  */
-public class AttachedWeightSampleGenerator<E> extends AbstractSampleGenerator<E> implements WeightedGenerator<E> {
+public class AttachedWeightSampleGenerator<E> extends AbstractSampleGenerator<E>
+    implements WeightedGenerator<E>, BatchGenerator<E> {
 
   /** Keeps the Sample information */
   final List<WeightedSample<E>> samples = new ArrayList<>();
@@ -112,6 +115,11 @@ public void addSample(WeightedSample<E> sample) {
     totalWeight += sample.getWeight();
   }
 
+  /** Sets the source of random numbers for choosing samples */
+  public void setRandomProvider(RandomProvider random) {
+    indexGenerator.setRandomProvider(random);
+  }
+
   // values property -------------------------------------------------------------------------------------------------
 
   /** Adds an unweighted value to the sample list */
@@ -159,6 +167,24 @@ public ProductWrapper<E> generate(ProductWrapper<E> wrapper) {
     return wrapper.wrap(sample.getValue());
   }
 
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    assertInitialized();
+    if (samples.isEmpty()) {
+      return 0;
+    }
+    int n = indexGenerator.generateBatch(target, count);
+    for (int i = 0; i < n; i++) {
+      target[i] = samples.get(((Long) target[i]).intValue()).getValue();
+    }
+    return n;
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return true;
+  }
+
   // implementation --------------------------------------------------------------------------------------------------
 
   /** normalizes the sample weights to a sum of 1 */
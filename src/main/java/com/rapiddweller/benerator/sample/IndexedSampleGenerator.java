@@ -0,0 +1,145 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sample;
+
+import com.rapiddweller.benerator.BatchGenerator;
+import com.rapiddweller.benerator.GeneratorContext;
+import com.rapiddweller.benerator.InvalidGeneratorSetupException;
+import com.rapiddweller.benerator.NonNullGenerator;
+import com.rapiddweller.benerator.distribution.Distribution;
+import com.rapiddweller.benerator.distribution.SequenceManager;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.util.AbstractGenerator;
+import com.rapiddweller.benerator.util.GeneratorUtil;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.ThreadUtil;
+
+/**
+ * Generates values from an {@link IndexedSource}, choosing the index of each value with a {@link Distribution}.
+ * Like the {@link SampleGenerator}, but the values do not need to be held in memory.
+ * On {@link #reset()}, only the index generation is restarted, the source is kept.
+ * If the source {@link IndexedSource#mayMissElements() may miss elements}, missing ones are skipped
+ * and replaced with the next index.<br/><br/>
+ * Created: 18.10.2026 22:58:04
+ * @param <E> the type of the generated values
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class IndexedSampleGenerator<E> extends AbstractGenerator<E> implements BatchGenerator<E> {
+
+  /** Maximum number of subsequent indices for which the source may provide no element */
+  static final int MAX_MISSES = 1000;
+
+  private final IndexedSource<E> source;
+  private final Distribution distribution;
+  private final boolean unique;
+  private NonNullGenerator<? extends Number> indexGenerator;
+
+  public IndexedSampleGenerator(IndexedSource<E> source, Distribution distribution, boolean unique) {
+    this.source = source;
+    this.distribution = (distribution != null ? distribution : SequenceManager.RANDOM_SEQUENCE);
+    this.unique = unique;
+  }
+
+  public IndexedSource<E> getSource() {
+    return source;
+  }
+
+  // Generator interface implementation ------------------------------------------------------------------------------
+
+  @Override
+  public Class<E> getGeneratedType() {
+    return source.getType();
+  }
+
+  @Override
+  public boolean isThreadSafe() {
+    return ThreadUtil.isThreadSafe(distribution);
+  }
+
+  @Override
+  public boolean isParallelizable() {
+    return ThreadUtil.isParallelizable(distribution);
+  }
+
+  @Override
+  public void init(GeneratorContext context) {
+    assertNotInitialized();
+    long size = source.size();
+    if (size == 0) {
+      throw new InvalidGeneratorSetupException("No samples defined in " + this);
+    }
+    // Integer indices are used where possible, since some distributions are optimized for them
+    if (size - 1 <= Integer.MAX_VALUE) {
+      indexGenerator = distribution.createNumberGenerator(Integer.class, 0, (int) (size - 1), 1, unique);
+    } else {
+      indexGenerator = distribution.createNumberGenerator(Long.class, 0L, size - 1, 1L, unique);
+    }
+    indexGenerator.init(context);
+    super.init(context);
+  }
+
+  @Override
+  public ProductWrapper<E> generate(ProductWrapper<E> wrapper) {
+    assertInitialized();
+    Number index;
+    int misses = 0;
+    while ((index = indexGenerator.generate()) != null) {
+      E value = source.get(index.longValue());
+      if (value != null || !source.mayMissElements()) {
+        return wrapper.wrap(value);
+      } else if (++misses >= MAX_MISSES) {
+        throw BeneratorExceptionFactory.getInstance().illegalGeneratorState(
+            "No element available for " + misses + " subsequent indices of " + source);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    assertInitialized();
+    int n = GeneratorUtil.generateBatch(indexGenerator, target, count);
+    boolean skipNulls = source.mayMissElements();
+    int found = 0;
+    for (int i = 0; i < n; i++) {
+      E value = source.get(((Number) target[i]).longValue());
+      if (value != null || !skipNulls) {
+        target[found++] = value;
+      }
+    }
+    // replace missing elements
+    ProductWrapper<E> wrapper = new ProductWrapper<>();
+    while (found < n && generate(wrapper) != null) {
+      target[found++] = wrapper.unwrap();
+    }
+    return found;
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return GeneratorUtil.isBatchable(indexGenerator);
+  }
+
+  @Override
+  public void reset() {
+    indexGenerator.reset();
+    super.reset();
+  }
+
+  @Override
+  public void close() {
+    IOUtil.close(indexGenerator);
+    IOUtil.close(source);
+    super.close();
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + source + ", " + distribution + "]";
+  }
+
+}
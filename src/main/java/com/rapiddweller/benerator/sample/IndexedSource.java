@@ -0,0 +1,37 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sample;
+
+import java.io.Closeable;
+
+/**
+ * Provides random access to a fixed number of data elements by their index,
+ * without necessarily holding them all in memory.<br/><br/>
+ * Created: 18.10.2026 22:38:12
+ * @param <E> the type of the provided elements
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public interface IndexedSource<E> extends Closeable {
+
+  Class<E> getType();
+
+  /** @return the number of elements */
+  long size();
+
+  /** @param index a number from 0 to {@link #size()} - 1
+   *  @return the element with the given index, or null if it is null or,
+   *      if {@link #mayMissElements()} is true, not available any more */
+  E get(long index);
+
+  /** Tells if elements may become unavailable after the source has been created,
+   *  like database rows which are deleted meanwhile.
+   *  @return true if a null value from {@link #get(long)} means that the element is missing */
+  default boolean mayMissElements() {
+    return false;
+  }
+
+  @Override
+  void close();
+
+}
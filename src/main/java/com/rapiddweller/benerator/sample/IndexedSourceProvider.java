@@ -0,0 +1,21 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sample;
+
+/**
+ * Implemented by generators and data sources which can provide their data by random access
+ * more efficiently than by iterating all of it into memory.<br/><br/>
+ * Created: 18.10.2026 22:40:47
+ * @param <E> the type of the provided elements
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public interface IndexedSourceProvider<E> {
+
+  /** Since an {@link IndexedSource} may be used across resets of its consumers, it is only provided
+   *  for data which does not depend on the context, like a file or a table without selector.
+   *  @return an {@link IndexedSource} over the provider's data,
+   *  or null if the data is not available by random access in the current setup */
+  IndexedSource<E> createIndexedSource();
+
+}
@@ -0,0 +1,114 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sample;
+
+import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.GeneratorContext;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.wrapper.ConvertingGenerator;
+import com.rapiddweller.benerator.wrapper.DataSourceGenerator;
+import com.rapiddweller.common.ConversionException;
+import com.rapiddweller.common.Converter;
+
+/**
+ * Provides utility methods for {@link IndexedSource}s.<br/><br/>
+ * Created: 18.10.2026 23:06:19
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class IndexedSourceUtil {
+
+  private IndexedSourceUtil() {
+    // private constructor to prevent instantiation
+  }
+
+  /** Creates an {@link IndexedSource} over the products of a generator: If the generator's data is available
+   *  by random access, possibly behind a {@link DataSourceGenerator} and {@link ConvertingGenerator}s,
+   *  the elements are read on demand, otherwise all products are read into an {@link ArrayIndexedSource}. */
+  public static <E> IndexedSource<E> createIndexedSource(Generator<E> generator, GeneratorContext context) {
+    IndexedSource<E> result = createRandomAccessSource(generator);
+    if (result == null) {
+      if (!generator.wasInitialized()) {
+        generator.init(context);
+      }
+      result = ArrayIndexedSource.of(generator);
+    }
+    return result;
+  }
+
+  /** @return an {@link IndexedSource} which reads the generator's data on demand,
+   *  or null if the generator does not provide random access */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static <E> IndexedSource<E> createRandomAccessSource(Generator<E> generator) {
+    if (generator instanceof IndexedSourceProvider) {
+      return ((IndexedSourceProvider<E>) generator).createIndexedSource();
+    } else if (generator instanceof DataSourceGenerator) {
+      Object source = ((DataSourceGenerator<E>) generator).getSource();
+      return (source instanceof IndexedSourceProvider ? ((IndexedSourceProvider<E>) source).createIndexedSource() : null);
+    } else if (generator instanceof ConvertingGenerator) {
+      ConvertingGenerator<?, E> converting = (ConvertingGenerator<?, E>) generator;
+      IndexedSource<?> source = createRandomAccessSource(converting.getSource());
+      return (source != null ?
+          new ConvertingIndexedSource(source, converting.getGeneratedType(), converting.getConverters()) : null);
+    } else {
+      return null;
+    }
+  }
+
+  /** Applies the converters of a {@link ConvertingGenerator} to the elements of an {@link IndexedSource}. */
+  private static class ConvertingIndexedSource<S, E> implements IndexedSource<E> {
+
+    private final IndexedSource<S> source;
+    private final Class<E> type;
+    private final Converter<?, ?>[] converters;
+
+    ConvertingIndexedSource(IndexedSource<S> source, Class<E> type, Converter<?, ?>[] converters) {
+      this.source = source;
+      this.type = type;
+      this.converters = converters;
+    }
+
+    @Override
+    public Class<E> getType() {
+      return type;
+    }
+
+    @Override
+    public long size() {
+      return source.size();
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public E get(long index) {
+      try {
+        Object tmp = source.get(index);
+        if (tmp == null) {
+          return null;
+        }
+        for (Converter converter : converters) {
+          tmp = converter.convert(tmp);
+        }
+        return (E) tmp;
+      } catch (ConversionException e) {
+        throw BeneratorExceptionFactory.getInstance().illegalGeneratorState("Conversion error", e);
+      }
+    }
+
+    @Override
+    public boolean mayMissElements() {
+      return source.mayMissElements();
+    }
+
+    @Override
+    public void close() {
+      source.close();
+    }
+
+    @Override
+    public String toString() {
+      return source.toString();
+    }
+  }
+
+}
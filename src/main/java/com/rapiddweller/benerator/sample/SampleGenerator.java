@@ -26,6 +26,7 @@
 
 package com.rapiddweller.benerator.sample;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.BeneratorFactory;
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.InvalidGeneratorSetupException;
@@ -34,6 +35,7 @@
 import com.rapiddweller.benerator.distribution.Distribution;
 import com.rapiddweller.benerator.distribution.SequenceManager;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.util.GeneratorUtil;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 import com.rapiddweller.common.CollectionUtil;
 import com.rapiddweller.common.IOUtil;
@@ -48,7 +50,7 @@
  * @author Volker Bergmann
  * @since 0.1
  */
-public class SampleGenerator<E> extends AbstractSampleGenerator<E> {
+public class SampleGenerator<E> extends AbstractSampleGenerator<E> implements BatchGenerator<E> {
 
   /** Holds the Sample information. */
   private final List<E> samples;
@@ -172,6 +174,22 @@ public ProductWrapper<E> generate(ProductWrapper<E> wrapper) {
     }
   }
 
+  /** Generates a batch of indices in the target array and replaces each one with its sample. */
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    assertInitialized();
+    int n = GeneratorUtil.generateBatch(indexGenerator, target, count);
+    for (int i = 0; i < n; i++) {
+      target[i] = samples.get((Integer) target[i]);
+    }
+    return n;
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return GeneratorUtil.isBatchable(indexGenerator);
+  }
+
   @Override
   public void reset() {
     indexGenerator.reset();
@@ -0,0 +1,51 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.script;
+
+import com.rapiddweller.model.data.Entity;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.graalvm.polyglot.proxy.ProxyObject;
+
+/**
+ * Provides the components of an {@link Entity} as members of a GraalVM guest object.
+ * It reads the entity's current state on each access, so it can stay bound
+ * while the entity's components are being generated.<br/><br/>
+ * Created: 18.10.2026 15:36:12
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+class EntityProxy implements ProxyObject {
+
+  private final Entity entity;
+
+  EntityProxy(Entity entity) {
+    this.entity = entity;
+  }
+
+  @Override
+  public Object getMember(String key) {
+    return PolyglotContext.toGuest(entity.get(key));
+  }
+
+  @Override
+  public Object getMemberKeys() {
+    return ProxyArray.fromArray(entity.getComponents().keySet().toArray());
+  }
+
+  @Override
+  public boolean hasMember(String key) {
+    return entity.getComponents().containsKey(key);
+  }
+
+  @Override
+  public void putMember(String key, Value value) {
+    entity.setComponent(key, GraalValueConverter.value2JavaConverter(value));
+  }
+
+  @Override
+  public String toString() {
+    return entity.toString();
+  }
+
+}
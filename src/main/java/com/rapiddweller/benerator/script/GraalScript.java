@@ -31,44 +31,65 @@
 import com.rapiddweller.common.exception.ScriptException;
 import com.rapiddweller.format.script.Script;
 import org.graalvm.polyglot.Engine;
-import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.Source;
 
 import java.io.IOException;
 import java.io.Writer;
 
 /**
- * Provides {@link Script} functionality based on GraalVM: Scripting for the Java platform.<br/><br/>
+ * Provides {@link Script} functionality based on GraalVM: Scripting for the Java platform.
+ * The script text is parsed once into a {@link Source} which is shared by all pooled
+ * {@link PolyglotContext}s, so that threads can evaluate it concurrently.<br/><br/>
  * Created at 30.12.2020
  *
  * @author Alexander Kell
  * @since 1.1.0
  */
 public class GraalScript implements Script {
-    static final PolyglotContext globalPolyglotCtx = new PolyglotContext();
     private final String text;
     private final String language;
+    private final Source source;
+    private volatile boolean definitionChecked;
 
     public GraalScript(String text, Engine scriptEngine, String languageId) {
         Assert.notEmpty(text, "text");
         Assert.notNull(scriptEngine, "engine");
         this.text = text;
         this.language = languageId;
+        this.source = Source.create(languageId, text);
+        this.definitionChecked = false;
+    }
+
+    /** @return the {@link Engine} which is shared by all script evaluations */
+    public static Engine getEngine() {
+        return PolyglotContext.ENGINE;
+    }
+
+    String getLanguage() {
+        return language;
+    }
+
+    Source getSource() {
+        return source;
+    }
+
+    boolean isDefinitionChecked() {
+        return definitionChecked;
+    }
+
+    void setDefinitionChecked() {
+        this.definitionChecked = true;
     }
 
     @Override
-    public synchronized Object evaluate(Context context) throws ScriptException {
+    public Object evaluate(Context context) throws ScriptException {
+        PolyglotContext polyglotCtx = PolyglotContext.borrow();
         try {
-            Value returnValue = globalPolyglotCtx.evalScript(context, text, language);
-            GraalValueConverter converter = new GraalValueConverter();
-            return converter.convert(returnValue);
+            return polyglotCtx.evaluate(context, this);
         } catch (IllegalStateException e) {
-            if(e.getMessage().contains("Multi threaded access requested")) {
-                throw new ScriptException(String.format("Multi thread access requested. GraalVM Context is not thread safe. " +
-                        "Please check your script and make sure there is no multi thread access with '%s'", text), null);
-            }
-            else {
-                throw new ScriptException("Error evaluating script: " + text, e);
-            }
+            throw new ScriptException("Error evaluating script: " + text, e);
+        } finally {
+            polyglotCtx.release();
         }
     }
 
@@ -82,5 +103,3 @@ public String toString() {
         return text;
     }
 }
-
-
@@ -3,110 +3,190 @@
 import com.rapiddweller.common.Context;
 import com.rapiddweller.common.exception.ScriptException;
 import com.rapiddweller.model.data.Entity;
-import com.rapiddweller.platform.map.Entity2MapConverter;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
-import org.graalvm.polyglot.proxy.ProxyObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
+/**
+ * Wraps a GraalVM polyglot context for the evaluation of {@link GraalScript}s.
+ * All contexts are created on a shared {@link Engine}, so that parsed and compiled code
+ * is shared between them, and are pooled, so that each thread evaluates scripts in
+ * a context of its own without locking. Benerator context variables are bound lazily
+ * when a script refers to them and are rebound before an evaluation only if they have changed.
+ * Scripts which define new global members (like functions of an &lt;execute&gt; script)
+ * are recorded and replayed in contexts which are created later.
+ */
 class PolyglotContext {
 
   private static final Logger logger = LoggerFactory.getLogger(PolyglotContext.class);
-  private String previousMissingObject;
+
+  static final Engine ENGINE = Engine.newBuilder().build();
+
+  private static final ConcurrentLinkedDeque<PolyglotContext> POOL = new ConcurrentLinkedDeque<>();
+
+  /** Scripts which defined global members, in the order of their evaluation. */
+  private static final List<Source> DEFINITIONS = new ArrayList<>();
+
   private final org.graalvm.polyglot.Context polyglotCtx;
 
-  public void updatePolyglotLocalFromGlobal(Context context, String language) {
-    for (String entry : polyglotCtx.getBindings(language).getMemberKeys()) {
-      migrateBeneratorContext2GraalVM(context, language, entry);
+  /** The Benerator context values which have been bound, by language and name. */
+  private final Map<String, Map<String, Object>> boundValues;
+
+  /** The number of {@link #DEFINITIONS} which have been evaluated in this context. */
+  private int definitionCount;
+
+  PolyglotContext() {
+    org.graalvm.polyglot.Context.Builder builder;
+    if (isGraalVM()) {
+      builder = org.graalvm.polyglot.Context
+          .newBuilder("js", "python")
+          .option("python.ForceImportSite", "true");
+    } else {
+      builder = org.graalvm.polyglot.Context
+          .newBuilder("js");
     }
+    this.polyglotCtx = builder.engine(ENGINE).allowIO(true).allowAllAccess(true).build();
+    this.boundValues = new HashMap<>();
+    this.definitionCount = 0;
+  }
+
+  /** Takes an unused context from the pool or creates a new one.
+   *  It must be given back by calling {@link #release()} */
+  static PolyglotContext borrow() {
+    PolyglotContext context = POOL.pollFirst();
+    return (context != null ? context : new PolyglotContext());
+  }
+
+  /** Puts the context back into the pool. The latest released context is borrowed first,
+   *  so that single-threaded evaluation always uses the same context. */
+  void release() {
+    POOL.offerFirst(this);
   }
 
-  public void migrateBeneratorContext2GraalVM(Context context, String language, String valueKey) {
-    Object valueType;
-    try {
-      Object obj = context.get(valueKey);
-      if (obj != null) {
-        valueType = obj.getClass();
-        // check if Entity Object
-        if (Entity.class.equals(valueType)) {
-          logger.debug("Entity found : {}", valueKey);
-          Map<String, Object> map = new Entity2MapConverter().convert((Entity) obj);
-          // to access items of map in polyglotCtx it is nessesary to create an ProxyObject
-          ProxyObject proxy = ProxyObject.fromMap(map);
-          polyglotCtx.getBindings(language).putMember(valueKey, proxy);
-        } else {
-          logger.debug("{} found : {}", valueType.getClass(), valueKey);
-          polyglotCtx.getBindings(language).putMember(valueKey, obj);
+  /** Evaluates a script and converts its result to a Java object. */
+  Object evaluate(Context context, GraalScript script) throws ScriptException {
+    replayDefinitions(context);
+    String language = script.getLanguage();
+    refreshBindings(context, language);
+    Value bindings = polyglotCtx.getBindings(language);
+    boolean checkDefinitions = !script.isDefinitionChecked();
+    Set<String> keysBefore = (checkDefinitions ? new HashSet<>(bindings.getMemberKeys()) : null);
+    Value result = eval(context, script.getSource());
+    Object javaResult = GraalValueConverter.value2JavaConverter(result);
+    if (checkDefinitions) {
+      Set<String> newKeys = new HashSet<>(bindings.getMemberKeys());
+      newKeys.removeAll(keysBefore);
+      newKeys.removeAll(bindings(language).keySet());
+      if (!newKeys.isEmpty()) {
+        logger.debug("Script defines {}: {}", newKeys, script);
+        synchronized (DEFINITIONS) {
+          if (definitionCount == DEFINITIONS.size()) {
+            definitionCount++;
+          }
+          DEFINITIONS.add(script.getSource());
         }
       }
-    } catch (NullPointerException e) {
-      logger.error("Context {} was NULL, this should not happen!", context);
+      script.setDefinitionChecked();
     }
+    return javaResult;
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
 
+  private void replayDefinitions(Context context) {
+    while (true) {
+      Source definition;
+      synchronized (DEFINITIONS) {
+        if (definitionCount >= DEFINITIONS.size()) {
+          return;
+        }
+        definition = DEFINITIONS.get(definitionCount++);
+      }
+      try {
+        refreshBindings(context, definition.getLanguage());
+        eval(context, definition);
+      } catch (ScriptException e) {
+        logger.warn("Error replaying script definitions: {}", e.getMessage());
+      }
+    }
   }
 
-  synchronized public Value evalScript(Context context, String text, String language) throws ScriptException {
-    final int MAX_ATTEMPTS = 3;  // Maximum attempts for the same missing object
-    Value returnValue = null;
-
-    try {
-      this.updatePolyglotLocalFromGlobal(context, language);
-      returnValue = polyglotCtx.eval(language, text);
-    } catch (org.graalvm.polyglot.PolyglotException e) {
-      String missingObject = extractMissingObjectName(e.getMessage());
-      if (missingObject != null) {
-        if (!Objects.equals(previousMissingObject, missingObject)) {
-          previousMissingObject = missingObject;
-          missingObjectAttempts = 1;  // Reset the attempt count for a new missing object
-          this.migrateBeneratorContext2GraalVM(context, language, missingObject);
-          returnValue = evalScript(context, text, language);
-        } else if (missingObjectAttempts < MAX_ATTEMPTS) {
-          missingObjectAttempts++;  // Increment attempt count for the same missing object
-          this.migrateBeneratorContext2GraalVM(context, language, missingObject);
-          returnValue = evalScript(context, text, language);
-        } else {
+  private Value eval(Context context, Source source) throws ScriptException {
+    String language = source.getLanguage();
+    Set<String> triedNames = null;
+    while (true) {
+      try {
+        return polyglotCtx.eval(source);
+      } catch (PolyglotException e) {
+        String missingObject = extractMissingObjectName(e.getMessage());
+        if (missingObject == null) {
+          throw new ScriptException(e.getMessage(), null);
+        }
+        if (triedNames == null) {
+          triedNames = new HashSet<>();
+        }
+        if (!triedNames.add(missingObject) || !bind(context, language, missingObject)) {
           throw new ScriptException("This object couldn't be found: " + missingObject, null);
         }
-      } else {
-        throw new ScriptException(e.getMessage(), null);
       }
     }
-    return returnValue;
   }
 
-  private String extractMissingObjectName(String errorMessage) {
-    if (errorMessage.contains("ReferenceError: ")) {
-      return errorMessage.replace("ReferenceError: ", "").replace(" is not defined", "");
-    } else if (errorMessage.contains("NameError: ")) {
-      return errorMessage.replace("NameError: name '", "").replace("' is not defined", "");
+  private Map<String, Object> bindings(String language) {
+    return boundValues.computeIfAbsent(language, k -> new HashMap<>());
+  }
+
+  private void refreshBindings(Context context, String language) {
+    for (Map.Entry<String, Object> entry : bindings(language).entrySet()) {
+      Object value = context.get(entry.getKey());
+      if (value != null && value != entry.getValue()) {
+        polyglotCtx.getBindings(language).putMember(entry.getKey(), toGuest(value));
+        entry.setValue(value);
+      }
     }
-    return null;
   }
 
-  private int missingObjectAttempts = 0;
+  private boolean bind(Context context, String language, String name) {
+    Object value = context.get(name);
+    if (value == null) {
+      return false;
+    }
+    logger.debug("Binding {} to {}", name, value);
+    polyglotCtx.getBindings(language).putMember(name, toGuest(value));
+    bindings(language).put(name, value);
+    return true;
+  }
 
-  public PolyglotContext() {
+  static Object toGuest(Object value) {
+    // Entities are provided as objects with member access to their components
+    return (value instanceof Entity ? new EntityProxy((Entity) value) : value);
+  }
 
-    if (isGraalVM()) {
-      this.polyglotCtx = org.graalvm.polyglot.Context
-          .newBuilder("js", "python")
-          .allowIO(true)
-          .option("python.ForceImportSite", "true")
-          .allowAllAccess(true).build();
-    } else {
-      this.polyglotCtx = org.graalvm.polyglot.Context
-          .newBuilder("js")
-          .allowIO(true)
-          .allowAllAccess(true).build();
+  private static String extractMissingObjectName(String errorMessage) {
+    if (errorMessage == null) {
+      return null;
+    } else if (errorMessage.contains("ReferenceError: ")) {
+      return errorMessage.replace("ReferenceError: ", "").replace(" is not defined", "");
+    } else if (errorMessage.contains("NameError: ")) {
+      return errorMessage.replace("NameError: name '", "").replace("' is not defined", "");
     }
+    return null;
   }
 
-  private boolean isGraalVM() {
+  private static boolean isGraalVM() {
     String javaVmName = System.getProperty("org.graalvm.home");
     return javaVmName != null;
   }
+
 }
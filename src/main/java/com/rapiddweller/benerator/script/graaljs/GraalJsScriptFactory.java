@@ -36,7 +36,7 @@ public class GraalJsScriptFactory implements ScriptFactory {
   private final Engine jsEngine;
 
   public GraalJsScriptFactory() {
-    this.jsEngine = Engine.newBuilder().build();
+    this.jsEngine = GraalScript.getEngine();
   }
 
   @Override
@@ -20,14 +20,16 @@
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Repository that binds {@link LatencyCounter}s to a name and makes them available to clients.<br/><br/>
+ * Repository that binds {@link LatencyCounter}s to a name and makes them available to clients.
+ * Additionally, it holds {@link LatencyRecorder}s for fine-grained latencies in nanoseconds,
+ * e.g. the generation time of each entity of a sensor. Both are accessed without locking.<br/><br/>
  * Created: 14.01.2011 11:26:09
  * @since 2.0.0
  * @author Volker Bergmann
@@ -35,6 +37,7 @@
 public class CounterRepository {
 	
 	private final Map<String, LatencyCounter> counters;
+	private final Map<String, LatencyRecorder> recorders;
 
 
 	// construction and singleton management ---------------------------------------------------------------------------
@@ -42,7 +45,8 @@ public class CounterRepository {
 	private static final CounterRepository INSTANCE = new CounterRepository();
 	
 	private CounterRepository() {
-		counters = new HashMap<>();
+		counters = new ConcurrentHashMap<>();
+		recorders = new ConcurrentHashMap<>();
 	}
 
 	public static CounterRepository getInstance() {
@@ -64,9 +68,20 @@ public LatencyCounter getCounter(String name) {
 	public Set<Map.Entry<String, LatencyCounter>> getCounters() {
 		return counters.entrySet();
 	}
-	
+
+	/** Provides the recorder of nanosecond latencies for a name, creating it if necessary. */
+	public LatencyRecorder getOrCreateRecorder(String name) {
+		return recorders.computeIfAbsent(name, k -> new LatencyRecorder());
+	}
+
+	/** @return the recorder of nanosecond latencies for a name or null if there is none */
+	public LatencyRecorder getRecorder(String name) {
+		return recorders.get(name);
+	}
+
 	public void clear() {
 		counters.clear();
+		recorders.clear();
 	}
 
 	public void printSummary() {
@@ -80,47 +95,61 @@ public String formatSummary() {
 		sortedCounters.sort((c1, c2) -> -Long
 			.compare(c1.totalLatency(), c2.totalLatency()));
 		for (LatencyCounter counter : sortedCounters) {
-			list.add(new String[] {
-				counter.getName() + ":",
-				counter.totalLatency() + " ms total,",
-				counter.sampleCount() + " inv,",
-				df.format(counter.averageLatency()) + " ms/inv (avg.)" });
+			LatencyRecorder recorder = recorders.get(counter.getName());
+			String[] row = new String[recorder != null ? 5 : 4];
+			row[0] = counter.getName() + ":";
+			row[1] = counter.totalLatency() + " ms total,";
+			row[2] = counter.sampleCount() + " inv,";
+			row[3] = df.format(counter.averageLatency()) + " ms/inv (avg.)";
+			if (recorder != null) {
+				row[4] = formatMicros(recorder.snapshot(), df);
+			}
+			list.add(row);
 		}
 		return formatSummaryTable(list);
 	}
 
 
 	// helper methods --------------------------------------------------------------------------------------------------
-	
-	private LatencyCounter getOrCreateCounter(String name) {
-		LatencyCounter counter = getCounter(name);
-		if (counter == null)
-			counter = createCounter(name);
-		return counter;
-	}
 
-	private synchronized LatencyCounter createCounter(String name) {
-		LatencyCounter counter = getCounter(name);
-		if (counter == null) {
-			counter = new LatencyCounter(name);
-			counters.put(name, counter);
+	/** Formats the standard percentiles of nanosecond latencies in microseconds,
+	 *  e.g. 'p50/p90/p99/p99.9: 1.2/1.5/3.0/12.1 µs' */
+	private static String formatMicros(LatencySnapshot snapshot, DecimalFormat df) {
+		StringBuilder labels = new StringBuilder();
+		StringBuilder values = new StringBuilder();
+		for (double percentile : LatencySnapshot.STANDARD_PERCENTILES) {
+			if (labels.length() > 0) {
+				labels.append('/');
+				values.append('/');
+			}
+			labels.append(LatencySnapshot.percentileLabel(percentile));
+			values.append(df.format(snapshot.valueAtPercentile(percentile) / 1000.));
 		}
-		return counter;
+		return labels + ": " + values + " \u00b5s";
+	}
+	
+	private LatencyCounter getOrCreateCounter(String name) {
+		LatencyCounter counter = counters.get(name);
+		return (counter != null ? counter : counters.computeIfAbsent(name, LatencyCounter::new));
 	}
 
 	private static String formatSummaryTable(List<String[]> list) {
 		StringBuilder result = new StringBuilder();
 		// determine column widths
-		int[] widths = new int[4];
-		for (int col = 0; col < 4; col++) {
+		int colCount = 4;
+		for (String[] strings : list)
+			colCount = Math.max(colCount, strings.length);
+		int[] widths = new int[colCount];
+		for (int col = 0; col < colCount; col++) {
 			int width = 0;
 			for (String[] strings : list)
-				width = Math.max(width, strings[col].length());
+				if (col < strings.length)
+					width = Math.max(width, strings[col].length());
 			widths[col] = width;
 		}
 		// print rows
 		for (String[] strings : list) {
-			for (int col = 0; col < 4; col++) {
+			for (int col = 0; col < strings.length; col++) {
 				String text = strings[col];
 				if (col > 0) {
 					pad(widths[col] - text.length(), result);
@@ -129,7 +158,7 @@ private static String formatSummaryTable(List<String[]> list) {
 					result.append(text);
 					pad(widths[col] - text.length(), result);
 				}
-				if (col < 3)
+				if (col < strings.length - 1)
 					result.append(' ');
 			}
 			result.append(SystemInfo.LF);
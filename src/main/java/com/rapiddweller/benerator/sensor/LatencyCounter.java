@@ -20,7 +20,9 @@
 import java.io.PrintWriter;
 
 /**
- * Counts latencies and calculates performance-related statistics.<br/><br/>
+ * Counts latencies and calculates performance-related statistics.
+ * Samples are recorded without locking in a {@link LatencyRecorder},
+ * so the counter can be shared by concurrent threads.<br/><br/>
  * Created: Created: 14.12.2006 18:11:58
  * @since 1.0
  * @author Volker Bergmann
@@ -30,28 +32,23 @@ public final class LatencyCounter {
 	private final String name;
 	private final String clockName;
 	
-    private int minLatency;
-    private int maxLatency;
-    private long[] latencyCounts;
+    private final LatencyRecorder recorder;
+    private volatile long sampleCountOverride;
 
     private boolean running;
     private long startTime;
     private long endTime;
-    private long sampleCount;
-    private long totalLatency;
 
     public LatencyCounter(String name) {
         this(name, SystemClock.NAME, 1000);
     }
 
+    /** @param expectedMaxLatency is ignored since the histogram covers all latencies */
     public LatencyCounter(String name, String clockName, int expectedMaxLatency) {
     	this.name = name;
     	this.clockName = clockName;
-        this.latencyCounts = new long[1 + expectedMaxLatency];
-        this.sampleCount = 0;
-        this.totalLatency = 0;
-        this.minLatency = -1;
-        this.maxLatency = -1;
+        this.recorder = new LatencyRecorder();
+        this.sampleCountOverride = -1;
         this.startTime = -1;
         this.endTime = -1;
     }
@@ -74,16 +71,8 @@ public void start() {
     	this.running = true;
     }
     
-    public synchronized void addSample(int latency) {
-        if (latency >= latencyCounts.length)
-            resize(latency);
-        latencyCounts[latency]++;
-        sampleCount++;
-        totalLatency += latency;
-        if (minLatency == -1 || latency < minLatency)
-            minLatency = latency;
-        if (latency > maxLatency)
-            maxLatency = latency;
+    public void addSample(int latency) {
+        recorder.record(latency);
     }
 
     public void stop() {
@@ -103,85 +92,74 @@ public long getStartTime() {
 	    return startTime;
     }
 
+    /** @return the number of samples in the histogram bucket of the latency.
+     *  Below 128, each bucket holds a single latency value. */
     public long getLatencyCount(long latency) {
-        if (latency < latencyCounts.length) {
-			return latencyCounts[(int) latency];
-		} else {
-			return 0;
-		}
+        return recorder.snapshot().countOf(latency);
     }
 
     public long totalLatency() {
-        return totalLatency;
+        return recorder.total();
     }
 
     public double averageLatency() {
-        return (double) totalLatency / sampleCount;
+        return (double) recorder.total() / sampleCount();
     }
 
     public long minLatency() {
-        return Math.max(minLatency, 0);
+        return Math.max(recorder.min(), 0);
     }
 
     public long maxLatency() {
-        return Math.max(maxLatency, 0);
+        return Math.max(recorder.max(), 0);
     }
 
     public long sampleCount() {
-        return sampleCount;
+        long override = sampleCountOverride;
+        return (override >= 0 ? override : recorder.sampleCount());
     }
 
+    /** Overrides the number of samples, e.g. for reporting the number of entities
+     *  generated in the sampled time. Statistics of the latencies are not affected. */
     public void setSampleCount(long sampleCount) {
-      this.sampleCount = sampleCount;
+      this.sampleCountOverride = sampleCount;
     }
 
     public long percentileLatency(int percentile) {
-        long targetCount = percentile * sampleCount / 100;
-        long count = 0;
-        for (long value = minLatency(); value <= maxLatency; value++) {
-            count += getLatencyCount(value);
-            if (count >= targetCount)
-                return value;
-        }
-        return maxLatency;
+        LatencySnapshot snapshot = recorder.snapshot();
+        return Math.max(snapshot.valueAtPercentile(percentile), 0);
     }
-    
+
     public double percentileAboveLatency(int latency) {
-        long count = 0;
-        for (long value = (long) latency + 1; value <= maxLatency; value++)
-            count += getLatencyCount(value);
-        return (count * 100.) / sampleCount;
+        LatencySnapshot snapshot = recorder.snapshot();
+        return (snapshot.countAbove(latency) * 100.) / snapshot.sampleCount();
     }
-    
+
+    /** Provides an immutable copy of the recorded latencies, e.g. for querying several percentiles. */
+    public LatencySnapshot snapshot() {
+        return recorder.snapshot();
+    }
+
     public double throughput() {
     	if (startTime == -1 || endTime == -1) {
           throw BeneratorExceptionFactory.getInstance().illegalOperation(
               "Invalid call: Use start() and stop() to indicate test start and end!");
         }
-    	return 1000. * sampleCount / duration();
+    	return 1000. * sampleCount() / duration();
     }
 
 	public long duration() {
 	    return endTime - startTime;
     }
     
-    // private helpers -------------------------------------------------------------------------------------------------
-
-    private void resize(int requestedIndex) {
-        int sizingFactor = (requestedIndex + latencyCounts.length) / latencyCounts.length;
-        int newLength = sizingFactor * latencyCounts.length;
-        long[] newLatencyCounts = new long[newLength];
-        System.arraycopy(latencyCounts, 0, newLatencyCounts, 0, latencyCounts.length);
-        latencyCounts = newLatencyCounts;
-    }
-
 	public void printSummary(PrintWriter out, int... percentiles) {
-    	out.println("samples: " + sampleCount);
+    	LatencySnapshot snapshot = recorder.snapshot();
+    	out.println("samples: " + sampleCount());
     	out.println("max:     " + maxLatency());
     	out.println("average: " + averageLatency());
-    	out.println("median:  " + percentileLatency(50));
+    	out.println("median:  " + Math.max(snapshot.valueAtPercentile(50), 0));
     	for (int percentile : percentiles)
-    		out.println(percentile + "%:     " + percentileLatency(percentile));
+    		out.println(percentile + "%:     " + Math.max(snapshot.valueAtPercentile(percentile), 0));
     	out.flush();
     }
 	
@@ -0,0 +1,149 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sensor;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records latencies into a histogram with logarithmic buckets without locking.
+ * Values below {@link #SUB_BUCKET_COUNT} are counted exactly, larger values in buckets
+ * whose width is less than 1/64 of their lower bound, so that percentiles have a relative error
+ * below 1.6 % for any value up to {@link Long#MAX_VALUE}. Concurrent threads record into
+ * different stripes of buckets, which are allocated on first use and summed up
+ * by {@link #snapshot()}. The unit of the values is defined by the caller.<br/><br/>
+ * Created: 18.10.2026 17:12:48
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class LatencyRecorder {
+
+  /** The number of values which are counted exactly, and twice the number of buckets per power of two above. */
+  static final int SUB_BUCKET_COUNT = 128;
+  private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+  private static final int SUB_BUCKET_BITS = 7;
+
+  /** The number of buckets required for covering all non-negative long values. */
+  static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (63 - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT;
+
+  private static final int STRIPE_COUNT = stripeCount();
+
+  private final AtomicReferenceArray<AtomicLongArray> stripes;
+  private final LongAdder sampleCount;
+  private final LongAdder total;
+  private final LongAccumulator min;
+  private final LongAccumulator max;
+
+  public LatencyRecorder() {
+    this.stripes = new AtomicReferenceArray<>(STRIPE_COUNT);
+    this.sampleCount = new LongAdder();
+    this.total = new LongAdder();
+    this.min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    this.max = new LongAccumulator(Math::max, -1);
+  }
+
+  /** Records a latency. Negative values are counted as 0. */
+  public void record(long latency) {
+    if (latency < 0) {
+      latency = 0;
+    }
+    stripe().incrementAndGet(bucketIndex(latency));
+    sampleCount.increment();
+    total.add(latency);
+    min.accumulate(latency);
+    max.accumulate(latency);
+  }
+
+  public long sampleCount() {
+    return sampleCount.sum();
+  }
+
+  public long total() {
+    return total.sum();
+  }
+
+  /** @return the smallest value or -1 if there are no samples */
+  public long min() {
+    return (sampleCount.sum() > 0 ? min.get() : -1);
+  }
+
+  /** @return the largest value or -1 if there are no samples */
+  public long max() {
+    return max.get();
+  }
+
+  /** Creates an immutable copy of the current state. Samples which are recorded concurrently
+   *  may be contained in the histogram but not yet in the totals or vice versa. */
+  public LatencySnapshot snapshot() {
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < STRIPE_COUNT; i++) {
+      AtomicLongArray stripe = stripes.get(i);
+      if (stripe != null) {
+        for (int j = 0; j < BUCKET_COUNT; j++) {
+          counts[j] += stripe.get(j);
+        }
+      }
+    }
+    long count = sampleCount.sum();
+    return new LatencySnapshot(counts, count, total.sum(),
+        (count > 0 ? min.get() : -1), (count > 0 ? max.get() : -1));
+  }
+
+  public void reset() {
+    for (int i = 0; i < STRIPE_COUNT; i++) {
+      stripes.set(i, null);
+    }
+    sampleCount.reset();
+    total.reset();
+    min.reset();
+    max.reset();
+  }
+
+  // bucket layout ---------------------------------------------------------------------------------------------------
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+    return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + (int) (value >>> shift) - HALF_SUB_BUCKET_COUNT;
+  }
+
+  static long lowestValueOf(int bucketIndex) {
+    if (bucketIndex < SUB_BUCKET_COUNT) {
+      return bucketIndex;
+    }
+    int offset = bucketIndex - SUB_BUCKET_COUNT;
+    int shift = offset / HALF_SUB_BUCKET_COUNT + 1;
+    return (long) (offset % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT) << shift;
+  }
+
+  static long highestValueOf(int bucketIndex) {
+    return (bucketIndex + 1 < BUCKET_COUNT ? lowestValueOf(bucketIndex + 1) - 1 : Long.MAX_VALUE);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private AtomicLongArray stripe() {
+    int index = (int) Thread.currentThread().getId() & (STRIPE_COUNT - 1);
+    AtomicLongArray stripe = stripes.get(index);
+    if (stripe == null) {
+      stripes.compareAndSet(index, null, new AtomicLongArray(BUCKET_COUNT));
+      stripe = stripes.get(index);
+    }
+    return stripe;
+  }
+
+  private static int stripeCount() {
+    int processors = Runtime.getRuntime().availableProcessors();
+    return Integer.highestOneBit(Math.max(1, processors * 2 - 1)) << 1;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + sampleCount() + " samples]";
+  }
+
+}
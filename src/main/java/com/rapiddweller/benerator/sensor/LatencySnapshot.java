@@ -0,0 +1,144 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sensor;
+
+/**
+ * Immutable state of a {@link LatencyRecorder} which provides statistics and percentiles.
+ * Snapshots of different recorders or points in time can be merged.<br/><br/>
+ * Created: 18.10.2026 17:31:06
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class LatencySnapshot {
+
+  /** The percentiles which are reported by default: p50, p90, p99 and p99.9 */
+  public static final double[] STANDARD_PERCENTILES = { 50, 90, 99, 99.9 };
+
+  public static final LatencySnapshot EMPTY = new LatencySnapshot(new long[LatencyRecorder.BUCKET_COUNT], 0, 0, -1, -1);
+
+  private final long[] counts;
+  private final long sampleCount;
+  private final long total;
+  private final long min;
+  private final long max;
+
+  LatencySnapshot(long[] counts, long sampleCount, long total, long min, long max) {
+    this.counts = counts;
+    this.sampleCount = sampleCount;
+    this.total = total;
+    this.min = min;
+    this.max = max;
+  }
+
+  public long sampleCount() {
+    return sampleCount;
+  }
+
+  public long total() {
+    return total;
+  }
+
+  /** @return the smallest value or -1 if there are no samples */
+  public long min() {
+    return min;
+  }
+
+  /** @return the largest value or -1 if there are no samples */
+  public long max() {
+    return max;
+  }
+
+  public double average() {
+    return (sampleCount > 0 ? (double) total / sampleCount : 0.);
+  }
+
+  /** Determines the value below or at which the given percentage of samples lies.
+   *  Values of 128 and above are reported as the highest value of their bucket, limited by {@link #max()}.
+   *  @param percentile the percentile, e.g. 99.9
+   *  @return the value at the percentile or -1 if there are no samples */
+  public long valueAtPercentile(double percentile) {
+    if (sampleCount == 0) {
+      return -1;
+    } else if (percentile <= 0) {
+      return min;
+    } else if (percentile >= 100) {
+      return max;
+    }
+    long targetCount = Math.max(1, (long) Math.ceil(percentile * histogramCount() / 100.));
+    long count = 0;
+    for (int i = LatencyRecorder.bucketIndex(Math.max(min, 0)); i < counts.length; i++) {
+      count += counts[i];
+      if (count >= targetCount) {
+        return Math.max(min, Math.min(LatencyRecorder.highestValueOf(i), max));
+      }
+    }
+    return max;
+  }
+
+  /** @return the number of samples in the bucket of the given value */
+  public long countOf(long value) {
+    return (value >= 0 ? counts[LatencyRecorder.bucketIndex(value)] : 0);
+  }
+
+  /** @return the number of samples in buckets above the bucket of the given value */
+  public long countAbove(long value) {
+    long count = 0;
+    for (int i = (value >= 0 ? LatencyRecorder.bucketIndex(value) + 1 : 0); i < counts.length; i++) {
+      count += counts[i];
+    }
+    return count;
+  }
+
+  /** Combines the samples of this and another snapshot into a new one. */
+  public LatencySnapshot merge(LatencySnapshot that) {
+    long[] mergedCounts = new long[counts.length];
+    for (int i = 0; i < counts.length; i++) {
+      mergedCounts[i] = this.counts[i] + that.counts[i];
+    }
+    return new LatencySnapshot(mergedCounts, this.sampleCount + that.sampleCount, this.total + that.total,
+        mergeMin(this.min, that.min), Math.max(this.max, that.max));
+  }
+
+  /** Formats the {@link #STANDARD_PERCENTILES}, e.g. 'p50=12 p90=20 p99=31 p99.9=45'. */
+  public String formatPercentiles() {
+    StringBuilder builder = new StringBuilder();
+    for (double percentile : STANDARD_PERCENTILES) {
+      if (builder.length() > 0) {
+        builder.append(' ');
+      }
+      builder.append(percentileLabel(percentile)).append('=').append(valueAtPercentile(percentile));
+    }
+    return builder.toString();
+  }
+
+  /** Formats a percentile as label like 'p50' or 'p99.9'. */
+  public static String percentileLabel(double percentile) {
+    return "p" + (percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile));
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private long histogramCount() {
+    long count = 0;
+    for (long bucketCount : counts) {
+      count += bucketCount;
+    }
+    return count;
+  }
+
+  private static long mergeMin(long min1, long min2) {
+    if (min1 < 0) {
+      return min2;
+    } else if (min2 < 0) {
+      return min1;
+    } else {
+      return Math.min(min1, min2);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return sampleCount + " samples, avg=" + average() + ", " + formatPercentiles() + ", max=" + max;
+  }
+
+}
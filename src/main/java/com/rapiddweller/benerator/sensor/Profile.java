@@ -14,8 +14,6 @@
  */
 package com.rapiddweller.benerator.sensor;
 
-import com.rapiddweller.stat.LatencyCounter;
-
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Collection;
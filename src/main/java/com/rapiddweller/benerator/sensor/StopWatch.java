@@ -15,11 +15,9 @@
 package com.rapiddweller.benerator.sensor;
 
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
-import com.rapiddweller.stat.CounterRepository;
-import com.rapiddweller.stat.LatencyCounter;
 
 /**
- * Stopwatch-style access to ContiPerf's {@link LatencyCounter} features.
+ * Stopwatch-style access to the {@link LatencyCounter} features.
  * A StopWach is created with a name and immediately starts measuring time.
  * When calling stop(), the elapsed time is registered at a central latency 
  * counter identified by the stopwatch's name.
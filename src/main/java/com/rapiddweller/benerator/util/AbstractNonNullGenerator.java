@@ -26,18 +26,22 @@
 
 package com.rapiddweller.benerator.util;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.NonNullGenerator;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 
 /**
- * Abstract implementation of the NonNullGenerator.<br/><br/>
+ * Abstract implementation of the NonNullGenerator.
+ * Batch generation is supported, but not advertised by {@link #isBatchable()},
+ * since child classes may depend on the context.<br/><br/>
  * Created: 26.07.2011 17:35:35
  *
  * @param <E> the type parameter
  * @author Volker Bergmann
  * @since 0.7.0
  */
-public abstract class AbstractNonNullGenerator<E> extends AbstractGenerator<E> implements NonNullGenerator<E> {
+public abstract class AbstractNonNullGenerator<E> extends AbstractGenerator<E>
+    implements NonNullGenerator<E>, BatchGenerator<E> {
 
   @Override
   public final ProductWrapper<E> generate(ProductWrapper<E> wrapper) {
@@ -48,4 +52,21 @@ public final ProductWrapper<E> generate(ProductWrapper<E> wrapper) {
   @Override
   public abstract E generate();
 
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    for (int i = 0; i < count; i++) {
+      E result = generate();
+      if (result == null) {
+        return i;
+      }
+      target[i] = result;
+    }
+    return count;
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return false;
+  }
+
 }
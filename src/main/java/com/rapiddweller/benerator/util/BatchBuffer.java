@@ -0,0 +1,70 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.util;
+
+import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+
+import java.util.Arrays;
+
+/**
+ * Buffers products which have been generated in a batch ahead of their usage.
+ * When the buffer is exhausted, products are taken from the source generator directly,
+ * so the sequence of products is the same as without buffering.<br/><br/>
+ * Created: 19.10.2026 14:31:08
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class BatchBuffer {
+
+  private final Generator<?> source;
+  private Object[] values;
+  private int size;
+  private int cursor;
+
+  public BatchBuffer(Generator<?> source) {
+    this.source = source;
+    this.values = new Object[0];
+    this.size = 0;
+    this.cursor = 0;
+  }
+
+  /** Generates the products for the next count requests, if the buffer is empty.
+   *  @param count the number of products to generate */
+  public void prefetch(int count) {
+    if (cursor < size || count <= 1) {
+      return;
+    }
+    if (values.length < count) {
+      values = new Object[count];
+    }
+    size = GeneratorUtil.generateBatch(source, values, count);
+    cursor = 0;
+  }
+
+  /** Provides the next buffered product or, if the buffer is empty, the next product of the source.
+   *  @param wrapper the wrapper to receive the product
+   *  @return the wrapper if a product was available, otherwise null */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public ProductWrapper<?> next(ProductWrapper<?> wrapper) {
+    if (cursor < size) {
+      Object value = values[cursor];
+      values[cursor++] = null;
+      return ((ProductWrapper) wrapper).wrap(value);
+    }
+    return source.generate((ProductWrapper) wrapper);
+  }
+
+  /** Discards the buffered products. */
+  public void clear() {
+    Arrays.fill(values, 0, size, null);
+    size = 0;
+    cursor = 0;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '[' + (size - cursor) + " of " + source + ']';
+  }
+
+}
@@ -2,7 +2,8 @@
 
 package com.rapiddweller.benerator.util;
 
-import com.rapiddweller.benerator.RandomProvider;
+import com.rapiddweller.benerator.SplittableRandomProvider;
+import com.rapiddweller.benerator.engine.BeneratorOpts;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
 import com.rapiddweller.common.Assert;
 import com.rapiddweller.common.StringUtil;
@@ -13,21 +14,54 @@
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
- * Default implementation of the {@link RandomProvider} interface.<br/><br/>
+ * Default implementation of the {@link com.rapiddweller.benerator.RandomProvider} interface.
+ * Each thread draws its numbers from a {@link SplittableRandom} stream of its own, which is split
+ * from a root stream on first usage, so threads do not contend for a shared seed.
+ * The root stream is seeded with the system property {@value BeneratorOpts#OPTS_RANDOM_SEED},
+ * if it is set.<br/><br/>
  * Created: 12.09.2021 08:55:55
  * @author Volker Bergmann
  * @since 2.0.0
  */
-public class DefaultRandomProvider implements RandomProvider {
+public class DefaultRandomProvider implements SplittableRandomProvider {
 
-  private final Random random = new Random();
+  private static final float FLOAT_UNIT = 0x1.0p-24f;
+
+  private final SplittableRandom root;
+  private final ThreadLocal<ThreadStream> threadStream;
+
+  public DefaultRandomProvider() {
+    this(BeneratorOpts.getRandomSeed());
+  }
+
+  public DefaultRandomProvider(Long seed) {
+    this.root = (seed != null ? new SplittableRandom(seed) : new SplittableRandom());
+    this.threadStream = ThreadLocal.withInitial(() -> new ThreadStream(splitRoot()));
+  }
+
+  // SplittableRandomProvider interface ------------------------------------------------------------------------------
+
+  @Override
+  public SplittableRandom split() {
+    return stream().split();
+  }
+
+  @Override
+  public SplittableRandom bind(SplittableRandom stream) {
+    ThreadStream holder = threadStream.get();
+    SplittableRandom previous = (holder.current != holder.own ? holder.current : null);
+    holder.current = (stream != null ? stream : holder.own);
+    return previous;
+  }
+
+  // RandomProvider interface ----------------------------------------------------------------------------------------
 
   /** Returns a random, uniformly distributed double value between 0.0 (inclusive) and 1.0 (exclusive). */
   public double randomDouble() {
-    return random.nextDouble();
+    return stream().nextDouble();
   }
 
   /** Returns a random, uniformly distributed long value between minInclusive and maxInclusive. */
@@ -35,17 +69,23 @@ public long randomLong(long minInclusive, long maxInclusive) {
     if (minInclusive > maxInclusive) {
       throw BeneratorExceptionFactory.getInstance().illegalArgument("min (" + minInclusive + ") > max (" + maxInclusive + ")");
     }
-    return minInclusive + randomLong(maxInclusive - minInclusive + 1);
+    long range = maxInclusive - minInclusive + 1;
+    if (range > 0) {
+      return minInclusive + stream().nextLong(range);
+    }
+    // the range exceeds Long.MAX_VALUE
+    SplittableRandom stream = stream();
+    long result;
+    do {
+      result = stream.nextLong();
+    } while (result < minInclusive || result > maxInclusive);
+    return result;
   }
 
   /** Returns a random, uniformly distributed long value between 0 (inclusive) and maxExclusive. */
   public long randomLong(long maxExclusive) {
     Assert.notNegative(maxExclusive, "maxExclusive");
-    long result = random.nextLong() % maxExclusive;
-    if (result < 0) {
-      result += maxExclusive;
-    }
-    return result;
+    return stream().nextLong(maxExclusive);
   }
 
   /** Returns a random, uniformly distributed int value between minInclusive and maxInclusive. */
@@ -53,17 +93,13 @@ public int randomInt(int minInclusive, int maxInclusive) {
     if (minInclusive > maxInclusive) {
       throw BeneratorExceptionFactory.getInstance().illegalArgument("min (" + minInclusive + ") > max (" + maxInclusive + ")");
     }
-    return minInclusive + randomInt(maxInclusive - minInclusive + 1);
+    return (int) (minInclusive + stream().nextLong((long) maxInclusive - minInclusive + 1));
   }
 
   /** Returns a random, uniformly distributed int value between 0 (inclusive) and maxExclusive. */
   public int randomInt(int maxExclusive) {
     Assert.notNegative(maxExclusive, "maxExclusive");
-    int result = random.nextInt() % maxExclusive;
-    if (result < 0) {
-      result += maxExclusive;
-    }
-    return result;
+    return stream().nextInt(maxExclusive);
   }
 
   /** Returns a random, uniformly distributed int value to be used as index of the array. */
@@ -96,11 +132,11 @@ public <T> T randomElement(List<T> values) {
   }
 
   public char randomDigit(int min) {
-    return (char) ('0' + min + random.nextInt(10 - min));
+    return (char) ('0' + min + stream().nextInt(10 - min));
   }
 
   public float randomProbability() {
-    return random.nextFloat();
+    return (stream().nextInt() >>> 8) * FLOAT_UNIT;
   }
 
   public Date randomDate(Date min, Date max) {
@@ -147,4 +183,29 @@ public Object randomFromWeightLiteral(String literal) {
     return samples[i].getValue();
   }
 
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private SplittableRandom splitRoot() {
+    synchronized (root) {
+      return root.split();
+    }
+  }
+
+  private SplittableRandom stream() {
+    return threadStream.get().current;
+  }
+
+  /** Holds a thread's own stream and the one it currently uses. */
+  private static final class ThreadStream {
+
+    final SplittableRandom own;
+    SplittableRandom current;
+
+    ThreadStream(SplittableRandom own) {
+      this.own = own;
+      this.current = own;
+    }
+
+  }
+
 }
@@ -0,0 +1,29 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.util;
+
+/**
+ * Provides a {@link ThreadLocal} double array for reuse as buffer in batch generation,
+ * which grows on demand.<br/><br/>
+ * Created: 19.10.2026 09:14:02
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class DoubleArrayProvider extends ThreadLocal<double[]> {
+
+  @Override
+  protected double[] initialValue() {
+    return new double[0];
+  }
+
+  /** @return the array of the current thread, with a length of at least minLength */
+  public double[] get(int minLength) {
+    double[] result = get();
+    if (result.length < minLength) {
+      result = new double[minLength];
+      set(result);
+    }
+    return result;
+  }
+
+}
@@ -26,11 +26,15 @@
 
 package com.rapiddweller.benerator.util;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.BeneratorFactory;
 import com.rapiddweller.benerator.Generator;
 import com.rapiddweller.benerator.GeneratorContext;
+import com.rapiddweller.benerator.NonNullGenerator;
 import com.rapiddweller.benerator.engine.BeneratorOpts;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.primitive.DoubleSource;
+import com.rapiddweller.benerator.primitive.LongSource;
 import com.rapiddweller.benerator.wrapper.GeneratorWrapper;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 import com.rapiddweller.common.IOUtil;
@@ -50,6 +54,9 @@ public class GeneratorUtil {
 
   private static final Logger logger = LoggerFactory.getLogger(GeneratorUtil.class);
 
+  private static final LongArrayProvider LONG_BUFFER = new LongArrayProvider();
+  private static final DoubleArrayProvider DOUBLE_BUFFER = new DoubleArrayProvider();
+
   private GeneratorUtil() {
     // private constructor to prevent instantiation of this class
   }
@@ -95,6 +102,128 @@ public static <T> T generateNonNull(Generator<T> generator) {
     return result;
   }
 
+  /**
+   * Generates up to count products of a {@link Generator} into the target array. {@link BatchGenerator}s
+   * are invoked in batch mode, all other generators once per product.
+   * @return the number of products generated. If it is less than count, the generator has become unavailable
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static int generateBatch(Generator<?> generator, Object[] target, int count) {
+    if (generator instanceof BatchGenerator) {
+      return ((BatchGenerator<?>) generator).generateBatch(target, count);
+    } else if (generator instanceof NonNullGenerator) {
+      NonNullGenerator<?> source = (NonNullGenerator<?>) generator;
+      for (int i = 0; i < count; i++) {
+        if ((target[i] = source.generate()) == null) {
+          return i;
+        }
+      }
+      return count;
+    } else {
+      ProductWrapper wrapper = getWrapper();
+      for (int i = 0; i < count; i++) {
+        if ((wrapper = generator.generate(wrapper)) == null) {
+          return i;
+        }
+        target[i] = wrapper.unwrap();
+      }
+      return count;
+    }
+  }
+
+  /** Tells if a {@link Generator}'s products may be generated in batches ahead of their usage.
+   *  @see BatchGenerator#isBatchable() */
+  public static boolean isBatchable(Generator<?> generator) {
+    return (generator instanceof BatchGenerator && ((BatchGenerator<?>) generator).isBatchable());
+  }
+
+  /** Provides a {@link Generator} as {@link LongSource}, if it supports the generation of primitive long values.
+   *  @return the generator as {@link LongSource} or null if it does not support primitive long values */
+  public static LongSource asLongSource(Generator<?> generator) {
+    return (generator instanceof LongSource && ((LongSource) generator).supportsLongs() ? (LongSource) generator : null);
+  }
+
+  /** Provides a {@link Generator} as {@link DoubleSource}, if it supports the generation of primitive double values.
+   *  @return the generator as {@link DoubleSource} or null if it does not support primitive double values */
+  public static DoubleSource asDoubleSource(Generator<?> generator) {
+    return (generator instanceof DoubleSource && ((DoubleSource) generator).supportsDoubles() ? (DoubleSource) generator : null);
+  }
+
+  /** Generates up to count numbers of a {@link Generator} as primitive long values into the target array.
+   *  {@link LongSource}s are invoked directly, the products of other generators are converted.
+   *  @return the number of values generated. If it is less than count, the generator has become unavailable */
+  public static int generateLongs(Generator<? extends Number> generator, long[] target, int count) {
+    LongSource longSource = asLongSource(generator);
+    if (longSource != null) {
+      return longSource.generateLongs(target, count);
+    }
+    DoubleSource doubleSource = asDoubleSource(generator);
+    if (doubleSource != null) {
+      // the buffer is taken from the thread while in use, so that nested conversions use another one
+      double[] buffer = DOUBLE_BUFFER.get(count);
+      DOUBLE_BUFFER.remove();
+      try {
+        int n = doubleSource.generateDoubles(buffer, count);
+        for (int i = 0; i < n; i++) {
+          target[i] = (long) buffer[i];
+        }
+        return n;
+      } finally {
+        DOUBLE_BUFFER.set(buffer);
+      }
+    }
+    ProductWrapper<Number> wrapper = getWrapper();
+    for (int i = 0; i < count; i++) {
+      if ((wrapper = nextNumber(generator, wrapper)) == null) {
+        return i;
+      }
+      target[i] = wrapper.unwrap().longValue();
+    }
+    return count;
+  }
+
+  /** Generates up to count numbers of a {@link Generator} as primitive double values into the target array.
+   *  {@link DoubleSource}s are invoked directly, the products of other generators are converted.
+   *  @return the number of values generated. If it is less than count, the generator has become unavailable */
+  public static int generateDoubles(Generator<? extends Number> generator, double[] target, int count) {
+    DoubleSource doubleSource = asDoubleSource(generator);
+    if (doubleSource != null) {
+      return doubleSource.generateDoubles(target, count);
+    }
+    LongSource longSource = asLongSource(generator);
+    if (longSource != null) {
+      // the buffer is taken from the thread while in use, so that nested conversions use another one
+      long[] buffer = LONG_BUFFER.get(count);
+      LONG_BUFFER.remove();
+      try {
+        int n = longSource.generateLongs(buffer, count);
+        for (int i = 0; i < n; i++) {
+          target[i] = buffer[i];
+        }
+        return n;
+      } finally {
+        LONG_BUFFER.set(buffer);
+      }
+    }
+    ProductWrapper<Number> wrapper = getWrapper();
+    for (int i = 0; i < count; i++) {
+      if ((wrapper = nextNumber(generator, wrapper)) == null) {
+        return i;
+      }
+      target[i] = wrapper.unwrap().doubleValue();
+    }
+    return count;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static ProductWrapper<Number> nextNumber(Generator<? extends Number> generator, ProductWrapper<Number> wrapper) {
+    ProductWrapper<Number> result = ((Generator) generator).generate(wrapper);
+    if (result != null && result.unwrap() == null) {
+      throw BeneratorExceptionFactory.getInstance().illegalGeneratorState("Generated null value: " + generator);
+    }
+    return result;
+  }
+
   protected static <T> ProductWrapper<T> getWrapper() {
     return new ProductWrapper<>();
   }
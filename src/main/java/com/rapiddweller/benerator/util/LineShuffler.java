@@ -28,23 +28,39 @@
 
 import com.rapiddweller.benerator.BeneratorFactory;
 import com.rapiddweller.benerator.RandomProvider;
+import com.rapiddweller.common.Encodings;
 import com.rapiddweller.common.IOUtil;
-import com.rapiddweller.common.ReaderLineIterator;
-import com.rapiddweller.common.StringUtil;
 import com.rapiddweller.common.ui.ConsolePrinter;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.FileWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 /**
- * Reads a text file, shuffles its lines and writes it to another file.<br/><br/>
+ * Reads a text file, shuffles its lines and writes it to another file.
+ * Files which exceed the memory limit are shuffled externally: Their lines are distributed randomly
+ * to temporary bucket files in the folder of the output file, then each bucket is shuffled in memory
+ * and appended to the output file. Buckets may be shuffled by several threads in parallel.
+ * The memory limit covers the lines in memory and the write buffers of the bucket files.
+ * Empty lines are skipped.<br/><br/>
  * Created: 16.07.2007 20:29:10
  */
 public class LineShuffler {
@@ -52,6 +68,17 @@ public class LineShuffler {
   public static final Logger logger = LoggerFactory.getLogger(LineShuffler.class);
   private static final RandomProvider random = BeneratorFactory.getInstance().getRandomProvider();
 
+  private static final int DEFAULT_BUFFER_SIZE = 100000;
+  private static final int DEFAULT_BUCKET_COUNT = 64;
+  /** Maximum number of bucket files open at the same time, well below common limits of open files per process.
+   *  Buckets which still exceed the memory limit are partitioned recursively. */
+  private static final int MAX_BUCKET_COUNT = 256;
+  /** Size of the write buffer of a bucket, as chosen by BufferedWriter by default */
+  private static final int WRITER_BUFFER_CHARS = 8192;
+  private static final int MIN_WRITER_BUFFER_CHARS = 128;
+  /** Estimated heap size of a String without its characters */
+  private static final int LINE_OVERHEAD = 48;
+
   public static void main(String[] args) throws IOException {
     if (args.length < 2) {
       printHelp();
@@ -59,61 +86,281 @@ public static void main(String[] args) throws IOException {
     }
     String inFilename = args[0];
     String outFilename = args[1];
-    int bufferSize = (args.length > 2 ? Integer.parseInt(args[2]) : 100000);
-    shuffle(inFilename, outFilename, bufferSize);
+    int bufferSize = (args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_BUFFER_SIZE);
+    int threads = (args.length > 3 ? Integer.parseInt(args[3]) : 1);
+    String encoding = (args.length > 4 ? args[4] : Encodings.UTF_8);
+    shuffle(inFilename, outFilename, encoding, bufferSize, Long.MAX_VALUE, threads);
   }
 
+  /** Shuffles a UTF-8 encoded file, holding at most bufferSize lines in memory. */
   public static void shuffle(String inFilename, String outFilename, int bufferSize) throws IOException {
-    logger.info("shuffling {} and writing to {} (max. {} lines)", inFilename, outFilename, bufferSize);
-    ReaderLineIterator iterator = new ReaderLineIterator(new BufferedReader(IOUtil.getReaderForURI(inFilename)));
-    List<String> lines = read(bufferSize, iterator);
-    shuffle(lines);
-    save(lines, outFilename);
+    shuffle(inFilename, outFilename, Encodings.UTF_8, bufferSize, Long.MAX_VALUE, 1);
+  }
+
+  /** Shuffles a file, holding at most about memoryLimit bytes of lines in memory.
+   *  @param threads the number of threads which shuffle buckets in parallel, sharing the memory limit */
+  public static void shuffle(String inFilename, String outFilename, String encoding, long memoryLimit, int threads)
+      throws IOException {
+    shuffle(inFilename, outFilename, encoding, Integer.MAX_VALUE, memoryLimit, threads);
   }
 
+  /** Shuffles the list in place, giving each permutation the same probability. */
   public static void shuffle(List<String> lines) {
-    int size = lines.size();
-    int iterations = size / 2;
-    for (int i = 0; i < iterations; i++) {
-      int i1 = random.randomInt(size);
-      int i2;
-      do {
-        i2 = random.randomInt(size);
-      } while (i1 == i2);
-      String tmp = lines.get(i1);
-      lines.set(i1, lines.get(i2));
-      lines.set(i2, tmp);
+    for (int i = lines.size() - 1; i > 0; i--) {
+      Collections.swap(lines, i, random.randomInt(i + 1));
     }
   }
 
   // private helpers -------------------------------------------------------------------------------------------------
 
-  private static List<String> read(int bufferSize, ReaderLineIterator iterator) {
-    List<String> lines = new ArrayList<>(Math.max(100000, bufferSize));
-    int lineCount = 0;
-    while (iterator.hasNext() && lineCount < bufferSize) {
-      String line = iterator.next();
-      if (!StringUtil.isEmpty(line)) {
-        lines.add(line);
-        lineCount++;
-        if (lineCount % 100000 == 99999) {
-          logger.info("parsed {} lines", lineCount);
-        }
-      }
+  private static void shuffle(String inFilename, String outFilename, String encoding,
+                              int maxLines, long maxBytes, int threads) throws IOException {
+    logger.info("shuffling {} and writing to {}", inFilename, outFilename);
+    File inFile = new File(inFilename);
+    File outFile = new File(outFilename).getAbsoluteFile();
+    try (ExternalShuffle shuffle = new ExternalShuffle(encoding, maxLines, maxBytes, threads, outFile.getParentFile());
+         BufferedReader in = IOUtil.getReaderForURI(inFilename, encoding);
+         BufferedWriter out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(outFile), encoding))) {
+      shuffle.shuffle(in, (inFile.isFile() ? inFile.length() : -1), out);
+    }
+    logger.info("saved {}", outFilename);
+  }
+
+  private static String[] shuffle(String[] lines, SplittableRandom stream) {
+    for (int i = lines.length - 1; i > 0; i--) {
+      int j = stream.nextInt(i + 1);
+      String tmp = lines[i];
+      lines[i] = lines[j];
+      lines[j] = tmp;
     }
     return lines;
   }
 
-  private static void save(List<String> lines, String outputFilename) throws IOException {
-    logger.info("saving {}...", outputFilename);
-    try (PrintWriter printer = new PrintWriter(new BufferedWriter(new FileWriter(outputFilename)))) {
+  private static String nextLine(BufferedReader in) throws IOException {
+    String line;
+    do {
+      line = in.readLine();
+    } while (line != null && line.isEmpty());
+    return line;
+  }
+
+  private static void printHelp() {
+    ConsolePrinter.printStandard("Parameters: inFile outFile [buffer size [threads [encoding]]]");
+  }
+
+  /** Shuffles input of any size within a memory limit. Input which exceeds the limit is partitioned
+   *  to bucket files, oversized buckets are partitioned recursively. */
+  private static class ExternalShuffle implements Closeable {
+
+    private final String encoding;
+    private final int maxLines;
+    private final long maxBytes;
+    private final long writerBytes;
+    private final int maxBucketCount;
+    private final int threads;
+    private final File tempFolder;
+    private final ExecutorService executor;
+
+    ExternalShuffle(String encoding, int maxLines, long maxBytes, int threads, File tempFolder) {
+      this.encoding = encoding;
+      this.threads = Math.max(1, threads);
+      this.maxLines = Math.max(1, maxLines / this.threads);
+      // a quarter of the memory is reserved for the write buffers of the buckets
+      long limit = Math.max(1, maxBytes / this.threads);
+      this.writerBytes = Math.min(limit / 4, 2L * MAX_BUCKET_COUNT * WRITER_BUFFER_CHARS);
+      this.maxBytes = Math.max(1, limit - writerBytes);
+      this.maxBucketCount = (int) Math.max(2, Math.min(MAX_BUCKET_COUNT, writerBytes / (2 * MIN_WRITER_BUFFER_CHARS)));
+      this.tempFolder = tempFolder;
+      this.executor = (this.threads > 1 ? Executors.newFixedThreadPool(this.threads) : null);
+    }
+
+    void shuffle(BufferedReader in, long inputLength, BufferedWriter out) throws IOException {
+      List<String> chunk = new ArrayList<>();
+      long chunkBytes = 0;
+      long chunkChars = 0;
+      String line;
+      while ((line = nextLine(in)) != null) {
+        chunk.add(line);
+        chunkBytes += sizeOf(line);
+        chunkChars += line.length() + 1;
+        if (!fits(chunk.size(), chunkBytes)) {
+          int bucketCount = bucketCount(chunk.size(), chunkBytes, chunkChars, inputLength);
+          partition(chunk, in, bucketCount, out);
+          return;
+        }
+      }
+      long seed = random.randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+      write(LineShuffler.shuffle(chunk.toArray(new String[0]), new SplittableRandom(seed)), out);
+    }
+
+    private void partition(List<String> chunk, BufferedReader in, int bucketCount, BufferedWriter out)
+        throws IOException {
+      logger.debug("partitioning input to {} buckets", bucketCount);
+      Bucket[] buckets = new Bucket[bucketCount];
+      int bufferChars = (int) Math.max(MIN_WRITER_BUFFER_CHARS,
+          Math.min(WRITER_BUFFER_CHARS, writerBytes / (2L * bucketCount)));
+      try {
+        for (int i = 0; i < bucketCount; i++) {
+          buckets[i] = new Bucket(File.createTempFile("shuffle", ".tmp", tempFolder), encoding, bufferChars);
+        }
+        for (String line : chunk) {
+          buckets[random.randomInt(bucketCount)].add(line);
+        }
+        long lineCount = chunk.size();
+        chunk.clear();
+        String line;
+        while ((line = nextLine(in)) != null) {
+          buckets[random.randomInt(bucketCount)].add(line);
+          if (++lineCount % 1000000 == 0) {
+            logger.info("partitioned {} lines", lineCount);
+          }
+        }
+        for (Bucket bucket : buckets) {
+          bucket.closeWriter();
+        }
+        shuffleBuckets(buckets, out);
+      } finally {
+        for (Bucket bucket : buckets) {
+          if (bucket != null) {
+            bucket.delete();
+          }
+        }
+      }
+    }
+
+    /** Shuffles the buckets which fit into memory by up to threads buckets in parallel
+     *  and writes them to the output in order. */
+    private void shuffleBuckets(Bucket[] buckets, BufferedWriter out) throws IOException {
+      List<Future<String[]>> results = new ArrayList<>(Collections.nCopies(buckets.length, null));
+      int submitted = 0;
+      for (int i = 0; i < buckets.length; i++) {
+        for (; submitted < buckets.length && submitted < i + threads; submitted++) {
+          Bucket bucket = buckets[submitted];
+          if (fits(bucket.lineCount, bucket.byteCount)) {
+            SplittableRandom stream = new SplittableRandom(random.randomLong(Long.MIN_VALUE, Long.MAX_VALUE));
+            results.set(submitted, submit(new FutureTask<>(() -> LineShuffler.shuffle(bucket.read(), stream))));
+          }
+        }
+        Future<String[]> result = results.set(i, null);
+        if (result != null) {
+          write(await(result), out);
+        } else {
+          try (BufferedReader in = buckets[i].reader()) {
+            shuffle(in, buckets[i].file.length(), out);
+          }
+        }
+        buckets[i].delete();
+      }
+    }
+
+    private boolean fits(long lineCount, long byteCount) {
+      return (lineCount <= 1 || (lineCount <= maxLines && byteCount <= maxBytes));
+    }
+
+    private int bucketCount(int chunkLines, long chunkBytes, long chunkChars, long inputLength) {
+      if (inputLength < 0) {
+        return Math.min(DEFAULT_BUCKET_COUNT, maxBucketCount);
+      }
+      double scale = (double) inputLength / chunkChars;
+      double count = 2 * Math.max(chunkLines * scale / maxLines, chunkBytes * scale / maxBytes);
+      return (int) Math.min(maxBucketCount, Math.max(2, Math.ceil(count)));
+    }
+
+    private static long sizeOf(String line) {
+      return LINE_OVERHEAD + 2L * line.length();
+    }
+
+    private Future<String[]> submit(FutureTask<String[]> task) {
+      if (executor != null) {
+        executor.execute(task);
+      } else {
+        task.run();
+      }
+      return task;
+    }
+
+    private static String[] await(Future<String[]> result) throws IOException {
+      try {
+        return result.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while shuffling");
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof IOException) {
+          throw (IOException) e.getCause();
+        } else if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new IOException("Error shuffling lines", e.getCause());
+      }
+    }
+
+    private static void write(String[] lines, BufferedWriter out) throws IOException {
       for (String line : lines) {
-        printer.println(line);
+        out.write(line);
+        out.newLine();
+      }
+    }
+
+    @Override
+    public void close() {
+      if (executor != null) {
+        executor.shutdownNow();
       }
     }
   }
 
-  private static void printHelp() {
-    ConsolePrinter.printStandard("Parameters: inFile outFile [buffer size]");
+  /** Temporary file which receives a random subset of the lines to shuffle. */
+  private static class Bucket {
+
+    final File file;
+    final String encoding;
+    BufferedWriter writer;
+    long lineCount;
+    long byteCount;
+
+    Bucket(File file, String encoding, int bufferChars) throws IOException {
+      this.file = file;
+      this.encoding = encoding;
+      this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), encoding), bufferChars);
+      this.lineCount = 0;
+      this.byteCount = 0;
+    }
+
+    void add(String line) throws IOException {
+      writer.write(line);
+      writer.write('\n');
+      lineCount++;
+      byteCount += ExternalShuffle.sizeOf(line);
+    }
+
+    void closeWriter() throws IOException {
+      writer.close();
+      writer = null;
+    }
+
+    BufferedReader reader() throws IOException {
+      return new BufferedReader(new InputStreamReader(new FileInputStream(file), encoding));
+    }
+
+    String[] read() throws IOException {
+      String[] lines = new String[(int) lineCount];
+      try (BufferedReader in = reader()) {
+        for (int i = 0; i < lines.length; i++) {
+          lines[i] = in.readLine();
+        }
+      }
+      return lines;
+    }
+
+    void delete() {
+      if (writer != null) {
+        IOUtil.close(writer);
+      }
+      if (file.exists() && !file.delete()) {
+        logger.warn("Unable to delete temporary file {}", file);
+      }
+    }
   }
+
 }
@@ -0,0 +1,29 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.util;
+
+/**
+ * Provides a {@link ThreadLocal} long array for reuse as buffer in batch generation,
+ * which grows on demand.<br/><br/>
+ * Created: 19.10.2026 09:12:44
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class LongArrayProvider extends ThreadLocal<long[]> {
+
+  @Override
+  protected long[] initialValue() {
+    return new long[0];
+  }
+
+  /** @return the array of the current thread, with a length of at least minLength */
+  public long[] get(int minLength) {
+    long[] result = get();
+    if (result.length < minLength) {
+      result = new long[minLength];
+      set(result);
+    }
+    return result;
+  }
+
+}
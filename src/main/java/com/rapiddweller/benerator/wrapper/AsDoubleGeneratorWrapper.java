@@ -26,7 +26,12 @@
 
 package com.rapiddweller.benerator.wrapper;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.primitive.DoubleSource;
+import com.rapiddweller.benerator.primitive.LongSource;
+import com.rapiddweller.benerator.util.DoubleArrayProvider;
+import com.rapiddweller.benerator.util.GeneratorUtil;
 
 /**
  * Double Generator that maps products from a generator of a different number type.<br/>
@@ -36,7 +41,10 @@
  * @param <E> the type parameter
  * @author Volker Bergmann
  */
-public class AsDoubleGeneratorWrapper<E extends Number> extends GeneratorWrapper<E, Double> {
+public class AsDoubleGeneratorWrapper<E extends Number> extends GeneratorWrapper<E, Double>
+    implements BatchGenerator<Double>, DoubleSource {
+
+  private final DoubleArrayProvider buffer = new DoubleArrayProvider();
 
   /**
    * Instantiates a new As double generator wrapper.
@@ -62,4 +70,45 @@ public ProductWrapper<Double> generate(ProductWrapper<Double> wrapper) {
     return wrapper.wrap(number.unwrap().doubleValue());
   }
 
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    assertInitialized();
+    if (GeneratorUtil.asDoubleSource(getSource()) != null || GeneratorUtil.asLongSource(getSource()) != null) {
+      double[] values = buffer.get(count);
+      int n = GeneratorUtil.generateDoubles(getSource(), values, count);
+      for (int i = 0; i < n; i++) {
+        target[i] = values[i];
+      }
+      return n;
+    }
+    int n = GeneratorUtil.generateBatch(getSource(), target, count);
+    for (int i = 0; i < n; i++) {
+      if (target[i] != null) {
+        target[i] = ((Number) target[i]).doubleValue();
+      }
+    }
+    return n;
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return GeneratorUtil.isBatchable(getSource());
+  }
+
+  @Override
+  public boolean supportsDoubles() {
+    return (GeneratorUtil.asDoubleSource(getSource()) != null || GeneratorUtil.asLongSource(getSource()) != null);
+  }
+
+  @Override
+  public double nextDouble() {
+    DoubleSource doubleSource = GeneratorUtil.asDoubleSource(getSource());
+    return (doubleSource != null ? doubleSource.nextDouble() : ((LongSource) getSource()).nextLong());
+  }
+
+  @Override
+  public int generateDoubles(double[] target, int count) {
+    return GeneratorUtil.generateDoubles(getSource(), target, count);
+  }
+
 }
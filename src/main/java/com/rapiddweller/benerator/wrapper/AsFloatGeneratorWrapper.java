@@ -26,7 +26,10 @@
 
 package com.rapiddweller.benerator.wrapper;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.util.DoubleArrayProvider;
+import com.rapiddweller.benerator.util.GeneratorUtil;
 
 /**
  * Converts the {@link Number} products of another {@link Generator} to {@link Float}.<br/>
@@ -37,7 +40,10 @@
  * @author Volker Bergmann
  * @since 0.6.0
  */
-public class AsFloatGeneratorWrapper<E extends Number> extends GeneratorWrapper<E, Float> {
+public class AsFloatGeneratorWrapper<E extends Number> extends GeneratorWrapper<E, Float>
+    implements BatchGenerator<Float> {
+
+  private final DoubleArrayProvider buffer = new DoubleArrayProvider();
 
   /**
    * Instantiates a new As float generator wrapper.
@@ -63,4 +69,29 @@ public ProductWrapper<Float> generate(ProductWrapper<Float> wrapper) {
     return wrapper.wrap(tmp.unwrap().floatValue());
   }
 
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    assertInitialized();
+    if (GeneratorUtil.asDoubleSource(getSource()) != null || GeneratorUtil.asLongSource(getSource()) != null) {
+      double[] values = buffer.get(count);
+      int n = GeneratorUtil.generateDoubles(getSource(), values, count);
+      for (int i = 0; i < n; i++) {
+        target[i] = (float) values[i];
+      }
+      return n;
+    }
+    int n = GeneratorUtil.generateBatch(getSource(), target, count);
+    for (int i = 0; i < n; i++) {
+      if (target[i] != null) {
+        target[i] = ((Number) target[i]).floatValue();
+      }
+    }
+    return n;
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return GeneratorUtil.isBatchable(getSource());
+  }
+
 }
@@ -26,7 +26,10 @@
 
 package com.rapiddweller.benerator.wrapper;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.util.GeneratorUtil;
+import com.rapiddweller.benerator.util.LongArrayProvider;
 
 /**
  * Converts the {@link Number} products of another {@link Generator} to {@link Integer}.<br/><br/>
@@ -35,7 +38,10 @@
  * @author Volker Bergmann
  * @since 0.6.0
  */
-public class AsIntegerGeneratorWrapper<E extends Number> extends GeneratorWrapper<E, Integer> {
+public class AsIntegerGeneratorWrapper<E extends Number> extends GeneratorWrapper<E, Integer>
+    implements BatchGenerator<Integer> {
+
+  private final LongArrayProvider buffer = new LongArrayProvider();
 
   public AsIntegerGeneratorWrapper(Generator<E> source) {
     super(source);
@@ -57,4 +63,29 @@ public ProductWrapper<Integer> generate(ProductWrapper<Integer> wrapper) {
     return wrapper.wrap(unwrappedValue != null ? unwrappedValue.intValue() : null);
   }
 
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    assertInitialized();
+    if (GeneratorUtil.asLongSource(getSource()) != null) {
+      long[] values = buffer.get(count);
+      int n = GeneratorUtil.generateLongs(getSource(), values, count);
+      for (int i = 0; i < n; i++) {
+        target[i] = (int) values[i];
+      }
+      return n;
+    }
+    int n = GeneratorUtil.generateBatch(getSource(), target, count);
+    for (int i = 0; i < n; i++) {
+      if (target[i] != null) {
+        target[i] = ((Number) target[i]).intValue();
+      }
+    }
+    return n;
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return GeneratorUtil.isBatchable(getSource());
+  }
+
 }
@@ -26,7 +26,11 @@
 
 package com.rapiddweller.benerator.wrapper;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.primitive.LongSource;
+import com.rapiddweller.benerator.util.GeneratorUtil;
+import com.rapiddweller.benerator.util.LongArrayProvider;
 
 /**
  * Long Generator that maps products from a Double generator.<br/>
@@ -36,7 +40,10 @@
  * @param <E> the type parameter
  * @author Volker Bergmann
  */
-public class AsLongGeneratorWrapper<E extends Number> extends GeneratorWrapper<E, Long> {
+public class AsLongGeneratorWrapper<E extends Number> extends GeneratorWrapper<E, Long>
+    implements BatchGenerator<Long>, LongSource {
+
+  private final LongArrayProvider buffer = new LongArrayProvider();
 
   /**
    * Instantiates a new As long generator wrapper.
@@ -63,4 +70,44 @@ public ProductWrapper<Long> generate(ProductWrapper<Long> wrapper) {
     return wrapper.wrap(feed.longValue());
   }
 
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    assertInitialized();
+    if (GeneratorUtil.asLongSource(getSource()) != null) {
+      long[] values = buffer.get(count);
+      int n = GeneratorUtil.generateLongs(getSource(), values, count);
+      for (int i = 0; i < n; i++) {
+        target[i] = values[i];
+      }
+      return n;
+    }
+    int n = GeneratorUtil.generateBatch(getSource(), target, count);
+    for (int i = 0; i < n; i++) {
+      if (target[i] != null) {
+        target[i] = ((Number) target[i]).longValue();
+      }
+    }
+    return n;
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return GeneratorUtil.isBatchable(getSource());
+  }
+
+  @Override
+  public boolean supportsLongs() {
+    return (GeneratorUtil.asLongSource(getSource()) != null);
+  }
+
+  @Override
+  public long nextLong() {
+    return ((LongSource) getSource()).nextLong();
+  }
+
+  @Override
+  public int generateLongs(long[] target, int count) {
+    return GeneratorUtil.generateLongs(getSource(), target, count);
+  }
+
 }
@@ -26,19 +26,24 @@
 
 package com.rapiddweller.benerator.wrapper;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.Generator;
 import com.rapiddweller.benerator.NonNullGenerator;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.primitive.DoubleSource;
+import com.rapiddweller.benerator.primitive.LongSource;
 import com.rapiddweller.benerator.util.GeneratorUtil;
 
 /**
- * Adapter class which makes an arbitrary {@link Generator} available as {@link NonNullGenerator}.<br/><br/>
+ * Adapter class which makes an arbitrary {@link Generator} available as {@link NonNullGenerator}.
+ * Primitive values of a {@link LongSource} or {@link DoubleSource} are forwarded.<br/><br/>
  * Created: 27.07.2011 12:12:12
  *
  * @param <E> the type parameter
  * @author Volker Bergmann
  * @since 0.7.0
  */
-public class AsNonNullGenerator<E> extends GeneratorProxy<E> implements NonNullGenerator<E> {
+public class AsNonNullGenerator<E> extends GeneratorProxy<E> implements NonNullGenerator<E>, BatchGenerator<E>, LongSource, DoubleSource {
 
   /**
    * Instantiates a new As non null generator.
@@ -54,4 +59,51 @@ public E generate() {
     return GeneratorUtil.generateNonNull(getSource());
   }
 
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    int n = GeneratorUtil.generateBatch(getSource(), target, count);
+    for (int i = 0; i < n; i++) {
+      if (target[i] == null) {
+        throw BeneratorExceptionFactory.getInstance().illegalGeneratorState(
+            "Generated null value in generateBatch(): " + getSource());
+      }
+    }
+    return n;
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return GeneratorUtil.isBatchable(getSource());
+  }
+
+  @Override
+  public boolean supportsLongs() {
+    return (GeneratorUtil.asLongSource(getSource()) != null);
+  }
+
+  @Override
+  public long nextLong() {
+    return ((LongSource) getSource()).nextLong();
+  }
+
+  @Override
+  public int generateLongs(long[] target, int count) {
+    return ((LongSource) getSource()).generateLongs(target, count);
+  }
+
+  @Override
+  public boolean supportsDoubles() {
+    return (GeneratorUtil.asDoubleSource(getSource()) != null);
+  }
+
+  @Override
+  public double nextDouble() {
+    return ((DoubleSource) getSource()).nextDouble();
+  }
+
+  @Override
+  public int generateDoubles(double[] target, int count) {
+    return ((DoubleSource) getSource()).generateDoubles(target, count);
+  }
+
 }
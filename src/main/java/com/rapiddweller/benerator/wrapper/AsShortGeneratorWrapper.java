@@ -26,7 +26,10 @@
 
 package com.rapiddweller.benerator.wrapper;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.util.GeneratorUtil;
+import com.rapiddweller.benerator.util.LongArrayProvider;
 
 /**
  * Converts the {@link Number} products of another {@link Generator} to {@link Short}.<br/>
@@ -37,7 +40,10 @@
  * @author Volker Bergmann
  * @since 0.6.0
  */
-public class AsShortGeneratorWrapper<E extends Number> extends GeneratorWrapper<E, Short> {
+public class AsShortGeneratorWrapper<E extends Number> extends GeneratorWrapper<E, Short>
+    implements BatchGenerator<Short> {
+
+  private final LongArrayProvider buffer = new LongArrayProvider();
 
   /**
    * Instantiates a new As short generator wrapper.
@@ -64,4 +70,29 @@ public ProductWrapper<Short> generate(ProductWrapper<Short> wrapper) {
     return wrapper.wrap(feed.shortValue());
   }
 
+  @Override
+  public int generateBatch(Object[] target, int count) {
+    assertInitialized();
+    if (GeneratorUtil.asLongSource(getSource()) != null) {
+      long[] values = buffer.get(count);
+      int n = GeneratorUtil.generateLongs(getSource(), values, count);
+      for (int i = 0; i < n; i++) {
+        target[i] = (short) values[i];
+      }
+      return n;
+    }
+    int n = GeneratorUtil.generateBatch(getSource(), target, count);
+    for (int i = 0; i < n; i++) {
+      if (target[i] != null) {
+        target[i] = ((Number) target[i]).shortValue();
+      }
+    }
+    return n;
+  }
+
+  @Override
+  public boolean isBatchable() {
+    return GeneratorUtil.isBatchable(getSource());
+  }
+
 }
@@ -26,14 +26,17 @@
 
 package com.rapiddweller.benerator.wrapper;
 
+import com.rapiddweller.benerator.BatchGenerator;
 import com.rapiddweller.benerator.Generator;
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.InvalidGeneratorSetupException;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.util.GeneratorUtil;
 import com.rapiddweller.common.ArrayFormat;
 import com.rapiddweller.common.ArrayUtil;
 import com.rapiddweller.common.ConversionException;
 import com.rapiddweller.common.Converter;
+import com.rapiddweller.common.converter.AnyConverter;
 
 /**
  * Reads products from a source Generator and applies a Converter to transform them into the target products.<br/><br/>
@@ -43,7 +46,7 @@
  * @author Volker Bergmann
  * @since 0.1
  */
-public class ConvertingGenerator<S, T> extends GeneratorWrapper<S, T> {
+public class ConvertingGenerator<S, T> extends GeneratorWrapper<S, T> implements BatchGenerator<T> {
 
   /**
    * The converter to apply to the source's products
@@ -61,6 +64,10 @@ public ConvertingGenerator(Generator<S> source, Converter<?, ?>... converters) {
     this.converters = converters;
   }
 
+  public Converter<?, ?>[] getConverters() {
+    return converters;
+  }
+
   // Generator interface ---------------------------------------------------------------------------------------------
 
   @Override
@@ -99,6 +106,34 @@ public ProductWrapper<T> generate(ProductWrapper<T> wrapper) {
     }
   }
 
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public int generateBatch(Object[] target, int count) {
+    try {
+      int n = GeneratorUtil.generateBatch(getSource(), target, count);
+      for (Converter converter : converters) {
+        for (int i = 0; i < n; i++) {
+          target[i] = converter.convert(target[i]);
+        }
+      }
+      return n;
+    } catch (ConversionException e) {
+      throw BeneratorExceptionFactory.getInstance().illegalGeneratorState("Conversion error", e);
+    }
+  }
+
+  /** Tells if the source is batchable and all converters are {@link AnyConverter}s,
+   *  which depend on their target type only. Other converters might evaluate the context. */
+  @Override
+  public boolean isBatchable() {
+    for (Converter<?, ?> converter : converters) {
+      if (!(converter instanceof AnyConverter)) {
+        return false;
+      }
+    }
+    return GeneratorUtil.isBatchable(getSource());
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + "[source=" + getSource() + ", " +
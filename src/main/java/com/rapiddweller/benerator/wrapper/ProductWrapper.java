@@ -120,6 +120,21 @@ public ProductWrapper<E> setTag(String key, String value) {
     return this;
   }
 
+  /**
+   * Creates a new wrapper with the same product and tags,
+   * which can be handed over to another thread while this one is reused.
+   *
+   * @return the copy
+   * @since 3.3.0
+   */
+  public ProductWrapper<E> copy() {
+    ProductWrapper<E> copy = new ProductWrapper<>(product);
+    if (tags != null && !tags.isEmpty()) {
+      copy.tags = new HashMap<>(tags);
+    }
+    return copy;
+  }
+
   @Override
   public String toString() {
     return String.valueOf(product);
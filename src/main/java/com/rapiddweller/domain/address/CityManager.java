@@ -26,12 +26,12 @@
 
 package com.rapiddweller.domain.address;
 
+import com.rapiddweller.benerator.csv.CSVTable;
+import com.rapiddweller.benerator.csv.CSVTableCache;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
 import com.rapiddweller.common.*;
 import com.rapiddweller.common.exception.ExceptionFactory;
-import com.rapiddweller.format.DataContainer;
 import com.rapiddweller.format.csv.BeanCSVWriter;
-import com.rapiddweller.format.csv.CSVLineIterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,37 +78,35 @@ public static void readCities(Country country, String filename,
 
   private static int parseCityFile(Country country, String filename, Map<String, String> defaults) {
     logger.debug("Parsing city definitions in file {}", filename);
-    try (CSVLineIterator iterator = new CSVLineIterator(filename, ';', Encodings.UTF_8)) {
-      DataContainer<String[]> container = new DataContainer<>();
-      String[] header = iterator.next(container).getData();
-      AtomicInteger warnCount = new AtomicInteger();
-      while ((container = iterator.next(container)) != null) {
-        String[] cells = container.getData();
-        if (cells.length == 0) {
-          continue;
-        }
-        if (logger.isDebugEnabled()) {
-          logger.debug(ArrayFormat.format(";", cells));
-        }
-        if (cells.length == 1) {
-          continue;
-        }
-        Map<String, String> instance = new HashMap<>();
-        for (int i = 0; i < cells.length; i++) {
-          instance.put(header[i], cells[i]);
-        }
-        logger.debug("{}", instance);
+    CSVTable table = CSVTableCache.getTable(filename, ';', false, Encodings.UTF_8);
+    String[] header = table.getRow(0);
+    AtomicInteger warnCount = new AtomicInteger();
+    Map<String, String> instance = new HashMap<>();
+    for (int row = 1; row < table.getRowCount(); row++) {
+      String[] cells = table.getRow(row);
+      if (cells.length == 0) {
+        continue;
+      }
+      if (logger.isDebugEnabled()) {
+        logger.debug(ArrayFormat.format(";", cells));
+      }
+      if (cells.length == 1) {
+        continue;
+      }
+      instance.clear();
+      for (int i = 0; i < cells.length; i++) {
+        instance.put(header[i], cells[i]);
+      }
+      logger.debug("{}", instance);
 
-        String stateId = instance.get("state.id");
-        String stateName = instance.get("state.name");
-        State state = getOrCreateState(stateId, stateName, country);
+      String stateId = instance.get("state.id");
+      String stateName = instance.get("state.name");
+      State state = getOrCreateState(stateId, stateName, country);
 
-        int lineNumber = iterator.lineCount();
-        CityId cityId = createCityId(instance, lineNumber);
-        getOrCreateCity(cityId, state, instance, defaults, warnCount);
-      }
-      return warnCount.get();
+      CityId cityId = createCityId(instance, row + 1);
+      getOrCreateCity(cityId, state, instance, defaults, warnCount);
     }
+    return warnCount.get();
   }
 
   private static State getOrCreateState(String stateId, String stateName, Country country) {
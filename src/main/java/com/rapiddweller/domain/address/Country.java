@@ -29,6 +29,8 @@
 import com.rapiddweller.benerator.BeneratorFactory;
 import com.rapiddweller.benerator.Generator;
 import com.rapiddweller.benerator.RandomProvider;
+import com.rapiddweller.benerator.csv.CSVTable;
+import com.rapiddweller.benerator.csv.CSVTableCache;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
 import com.rapiddweller.benerator.primitive.RegexStringGenerator;
 import com.rapiddweller.benerator.util.WrapperProvider;
@@ -37,10 +39,9 @@
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.LocaleUtil;
 import com.rapiddweller.common.StringUtil;
+import com.rapiddweller.common.SystemInfo;
 import com.rapiddweller.common.collection.OrderedNameMap;
-import com.rapiddweller.format.DataContainer;
 import com.rapiddweller.format.csv.CSVBeanPersistor;
-import com.rapiddweller.format.csv.CSVLineIterator;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
@@ -248,11 +249,11 @@ public static Country getFallback() {
   }
 
   private static void parseConfigFile() {
-    try (CSVLineIterator iterator = new CSVLineIterator(COUNTRY_CSV, ',', true)) {
+    try {
       logger.debug("Parsing country setup file {}", COUNTRY_CSV);
-      DataContainer<String[]> container = new DataContainer<>();
-      while ((container = iterator.next(container)) != null) {
-        String[] cells = container.getData();
+      CSVTable table = CSVTableCache.getTable(COUNTRY_CSV, ',', true, SystemInfo.getFileEncoding());
+      for (int row = 0; row < table.getRowCount(); row++) {
+        String[] cells = table.getRow(row);
         String isoCode = cells[0];
         String defaultLocale = cellValueOrDefault(cells, 1, "en");
         String phoneCode = cellValueOrDefault(cells, 2, null);
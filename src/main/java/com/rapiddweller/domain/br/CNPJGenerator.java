@@ -26,13 +26,14 @@
 
 package com.rapiddweller.domain.br;
 
+import com.rapiddweller.benerator.BeneratorFactory;
 import com.rapiddweller.benerator.NonNullGenerator;
+import com.rapiddweller.benerator.RandomProvider;
 import com.rapiddweller.benerator.sample.WeightedCSVSampleGenerator;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 import com.rapiddweller.common.Encodings;
 
 import java.util.ArrayList;
-import java.util.Random;
 
 /**
  * Generates Brazilian CNPJ numbers.
@@ -54,7 +55,7 @@ public class CNPJGenerator extends WeightedCSVSampleGenerator<String>
    */
   private final boolean formatted;
 
-  private final Random random;
+  private final RandomProvider random;
 
   /**
    * Instantiates a new Cnpj generator.
@@ -70,7 +71,7 @@ public CNPJGenerator() {
    */
   public CNPJGenerator(boolean formatted) {
     super(LOCAL, Encodings.UTF_8, ',');
-    this.random = new Random();
+    this.random = BeneratorFactory.getInstance().getRandomProvider();
     this.formatted = formatted;
   }
 
@@ -117,7 +118,7 @@ private String generateCNPJ(String sufix) {
     StringBuilder buf = new StringBuilder();
     ArrayList<Integer> digits = new ArrayList<>();
     for (int i = 0; i < 8; i++) {
-      digits.add(random.nextInt(9));
+      digits.add(random.randomInt(9));
     }
     for (int i = 0; i < 4; i++) {
       digits.add(Integer.parseInt(sufix.substring(i, i + 1)));
@@ -26,10 +26,11 @@
 
 package com.rapiddweller.domain.br;
 
+import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.RandomProvider;
 import com.rapiddweller.benerator.util.ThreadSafeNonNullGenerator;
 
 import java.util.ArrayList;
-import java.util.Random;
 
 /**
  * Generates Brazilian CPF numbers. CPF stands for 'Cadastro de Pessoa Fisica'
@@ -46,7 +47,7 @@ public class CPFGenerator extends ThreadSafeNonNullGenerator<String> {
    * defaults to true
    */
   private final boolean formatted;
-  private final Random random;
+  private final RandomProvider random;
 
   /**
    * Instantiates a new Cpf generator.
@@ -61,7 +62,7 @@ public CPFGenerator() {
    * @param formatted the formatted
    */
   public CPFGenerator(boolean formatted) {
-    this.random = new Random();
+    this.random = BeneratorFactory.getInstance().getRandomProvider();
     this.formatted = formatted;
   }
 
@@ -79,7 +80,7 @@ public String generate() {
     ArrayList<Integer> digits = new ArrayList<>();
 
     for (int i = 0; i < 9; i++) {
-      digits.add(random.nextInt(9));
+      digits.add(random.randomInt(9));
     }
     addDigit(digits);
     addDigit(digits);
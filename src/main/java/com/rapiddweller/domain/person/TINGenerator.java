@@ -26,10 +26,10 @@
 
 package com.rapiddweller.domain.person;
 
+import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.RandomProvider;
 import com.rapiddweller.benerator.util.ThreadSafeNonNullGenerator;
 
-import java.util.Random;
-
 /**
  * Generates European Tax Identification Numbers (like the German 'Steueridentifikationsnummer').<br/>
  * <br/>
@@ -40,7 +40,7 @@
  */
 public class TINGenerator extends ThreadSafeNonNullGenerator<String> {
 
-  private final Random random = new Random();
+  private final RandomProvider random = BeneratorFactory.getInstance().getRandomProvider();
 
   @Override
   public Class<String> getGeneratedType() {
@@ -56,7 +56,7 @@ public String generate() {
     for (int i = 0; i < 10; i++) {
       boolean done = true;
       do {
-        int digit = random.nextInt(10);
+        int digit = random.randomInt(10);
         if (!digitsUsed[digit]) {
           buffer[i] = (char) ('0' + digit);
           digitsUsed[digit] = true;
@@ -72,10 +72,10 @@ public String generate() {
     }
     // assure there is a double digit
     if (doubleCount == 0) {
-      int i = random.nextInt(10);
+      int i = random.randomInt(10);
       int j;
       do {
-        j = random.nextInt(10);
+        j = random.randomInt(10);
       } while (j == i);
       buffer[j] = buffer[i];
     }
@@ -53,6 +53,7 @@ public class ComplexTypeDescriptor extends TypeDescriptor implements VariableHol
 
 
   private NamedValueList<InstanceDescriptor> parts; // TODO use only ComponentDescriptors
+  private volatile ComponentIndex componentIndex;
 
   // constructors ----------------------------------------------------------------------------------------------------
 
@@ -84,11 +85,13 @@ public void addPart(InstanceDescriptor part) {
   public void addComponent(ComponentDescriptor component) {
     linkToParentTypeComponent(component);
     parts.add(component.getName(), component);
+    componentIndex = null;
   }
 
   public void setComponent(ComponentDescriptor component) {
     linkToParentTypeComponent(component);
     parts.set(component.getName(), component);
+    componentIndex = null;
   }
 
   /** Searches the parent type descriptor for a component of the same name and,
@@ -106,6 +109,20 @@ public ComponentDescriptor getComponent(String name) {
     return BeneratorFactory.getInstance().getComponent(name, parts, (ComplexTypeDescriptor) getParent());
   }
 
+  /** Provides the {@link ComponentIndex} of the current components. It is created on the first call
+   *  and recreated after components have been added or replaced here or in the parent type.
+   *  @since 3.3.0 */
+  public ComponentIndex getComponentIndex() {
+    ComponentIndex index = componentIndex;
+    TypeDescriptor currentParent = getParent();
+    if (index == null || !index.isValidFor(currentParent)) {
+      ComponentIndex parentIndex = (currentParent != null ? ((ComplexTypeDescriptor) currentParent).getComponentIndex() : null);
+      index = new ComponentIndex(this, currentParent, parentIndex);
+      componentIndex = index;
+    }
+    return index;
+  }
+
   public List<InstanceDescriptor> getParts() {
     NamedValueList<InstanceDescriptor> result =
         NamedValueList.createCaseInsensitiveList();
@@ -166,6 +183,7 @@ public List<ReferenceDescriptor> getReferenceComponents() {
   @Override
   public void addVariable(VariableDescriptor variable) {
     parts.add(variable.getName(), variable);
+    componentIndex = null;
   }
 
   public String getDynamicSource() {
@@ -184,6 +202,7 @@ protected void init() {
     super.init();
     addConfig(DYNAMIC_SOURCE, String.class);
     this.parts = new NamedValueList<>(NamedValueList.INSENSITIVE);
+    this.componentIndex = null;
   }
 
   // java.lang.Object overrides --------------------------------------------------------------------------------------
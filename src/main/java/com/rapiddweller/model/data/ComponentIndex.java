@@ -0,0 +1,221 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.model.data;
+
+import com.rapiddweller.benerator.engine.BeneratorOpts;
+import com.rapiddweller.common.Converter;
+import com.rapiddweller.common.converter.AnyConverter;
+import com.rapiddweller.common.converter.ConverterManager;
+import com.rapiddweller.script.PrimitiveType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns a fixed index to each component of a {@link ComplexTypeDescriptor}
+ * and caches the information which is needed for setting a component value of an {@link Entity}:
+ * the resolution of the component name, the Java type of the component and the converter to that type.
+ * An index is created lazily by {@link ComplexTypeDescriptor#getComponentIndex()}
+ * and replaced when the descriptor's components change.<br/><br/>
+ * Created: 18.10.2026 16:05:41
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class ComponentIndex {
+
+  /** Marks a name which does not relate to a component. */
+  private static final Slot NO_SLOT = new Slot(-1, null);
+
+  /** Limits the number of cached name resolutions for entities with arbitrary component names. */
+  private static final int MAX_RESOLVED_NAMES = 10000;
+
+  private final ComplexTypeDescriptor descriptor;
+  private final TypeDescriptor parent;
+  private final ComponentIndex parentIndex;
+  private final Slot[] slots;
+  private final String[] names;
+  private final Map<String, Integer> exactIndices;
+  private final Map<String, Slot> resolvedSlots;
+  private final boolean slotStorage;
+
+  ComponentIndex(ComplexTypeDescriptor descriptor, TypeDescriptor parent, ComponentIndex parentIndex) {
+    this.descriptor = descriptor;
+    this.parent = parent;
+    this.parentIndex = parentIndex;
+    List<ComponentDescriptor> components = descriptor.getComponents();
+    this.slots = new Slot[components.size()];
+    this.names = new String[slots.length];
+    this.exactIndices = new HashMap<>(slots.length * 2);
+    for (int i = 0; i < slots.length; i++) {
+      ComponentDescriptor component = components.get(i);
+      slots[i] = new Slot(i, component);
+      names[i] = component.getName();
+      exactIndices.putIfAbsent(names[i], i);
+    }
+    this.resolvedSlots = new ConcurrentHashMap<>();
+    this.slotStorage = BeneratorOpts.isSlotEntities();
+  }
+
+  /** @return the number of components */
+  public int size() {
+    return slots.length;
+  }
+
+  /** @return the name of the component with the given index */
+  public String nameAt(int index) {
+    return names[index];
+  }
+
+  /** Finds the index of a component, ignoring the case of the name.
+   *  @param name the name of the component
+   *  @return the index of the component or -1 if the descriptor has no component of that name */
+  public int indexOf(String name) {
+    Slot slot = slot(name);
+    return (slot != null ? slot.index : -1);
+  }
+
+  /** Tells if entities of the descriptor store their components in an array
+   *  instead of a hash map, see {@link BeneratorOpts#OPTS_SLOT_ENTITIES}. */
+  public boolean isSlotStorage() {
+    return slotStorage;
+  }
+
+  // package-private helpers -----------------------------------------------------------------------------------------
+
+  /** Tells if the index still reflects the descriptor's parent type. */
+  boolean isValidFor(TypeDescriptor currentParent) {
+    return (currentParent == parent
+        && (parent == null || ((ComplexTypeDescriptor) parent).getComponentIndex() == parentIndex));
+  }
+
+  /** @return the index of a component of exactly the given name, or -1 */
+  int exactIndexOf(String name) {
+    Integer index = exactIndices.get(name);
+    return (index != null ? index : -1);
+  }
+
+  /** Resolves a name to a component like {@link ComplexTypeDescriptor#getComponent(String)} does.
+   *  @return the component's slot or null if the name does not relate to a component */
+  Slot slot(String name) {
+    Slot slot = resolvedSlots.get(name);
+    if (slot == null) {
+      slot = resolveSlot(name);
+      if (resolvedSlots.size() < MAX_RESOLVED_NAMES) {
+        resolvedSlots.put(name, slot);
+      }
+    }
+    return (slot != NO_SLOT ? slot : null);
+  }
+
+  private Slot resolveSlot(String name) {
+    ComponentDescriptor component = descriptor.getComponent(name);
+    if (component == null) {
+      return NO_SLOT;
+    }
+    for (Slot slot : slots) {
+      if (slot.component == component) {
+        return slot;
+      }
+    }
+    // a component which is hidden in the component list, e.g. by a variable of the same name
+    return new Slot(-1, component);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + descriptor.getName() + ", " + slots.length + " components]";
+  }
+
+
+  /** Holds the cached information about one component. */
+  static final class Slot {
+
+    final int index;
+    final ComponentDescriptor component;
+    private volatile TypeInfo typeInfo;
+    private volatile ConverterInfo converterInfo;
+
+    Slot(int index, ComponentDescriptor component) {
+      this.index = index;
+      this.component = component;
+    }
+
+    String getName() {
+      return component.getName();
+    }
+
+    /** Determines the Java type to which values of the component are converted.
+     *  The result is cached as long as the component's type descriptor and its primitive type stay the same.
+     *  @return the Java type or null, if the component is not of a simple type */
+    Class<?> javaType(ComplexTypeDescriptor owner) {
+      TypeDescriptor type = component.getTypeDescriptor();
+      if (!(type instanceof SimpleTypeDescriptor)) {
+        return null;
+      }
+      PrimitiveType primitiveType = ((SimpleTypeDescriptor) type).getPrimitiveType();
+      if (primitiveType == null) {
+        primitiveType = PrimitiveType.STRING;
+      }
+      TypeInfo info = typeInfo;
+      if (info == null || info.type != type || info.primitiveType != primitiveType) {
+        Class<?> javaType = owner.getDataModel().getBeanDescriptorProvider().concreteType(primitiveType.getName());
+        info = new TypeInfo(type, primitiveType, javaType);
+        typeInfo = info;
+      }
+      return info.javaType;
+    }
+
+    /** Converts a value like {@link AnyConverter#convert(Object, Class)} does,
+     *  but reuses the converter of the last source type if it is thread-safe. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Object convert(Object value, Class<?> javaType) {
+      if (value == null || value.getClass() == javaType) {
+        return AnyConverter.convert(value, javaType);
+      }
+      ConverterInfo info = converterInfo;
+      if (info != null && info.sourceType == value.getClass() && info.targetType == javaType) {
+        return info.converter.convert(value);
+      }
+      Converter converter = ConverterManager.getInstance().createConverter(value.getClass(), javaType);
+      if (converter.isThreadSafe()) {
+        converterInfo = new ConverterInfo(value.getClass(), javaType, converter);
+      }
+      return converter.convert(value);
+    }
+
+    @Override
+    public String toString() {
+      return index + ":" + (component != null ? component.getName() : null);
+    }
+  }
+
+  private static final class TypeInfo {
+
+    final TypeDescriptor type;
+    final PrimitiveType primitiveType;
+    final Class<?> javaType;
+
+    TypeInfo(TypeDescriptor type, PrimitiveType primitiveType, Class<?> javaType) {
+      this.type = type;
+      this.primitiveType = primitiveType;
+      this.javaType = javaType;
+    }
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static final class ConverterInfo {
+
+    final Class<?> sourceType;
+    final Class<?> targetType;
+    final Converter converter;
+
+    ConverterInfo(Class<?> sourceType, Class<?> targetType, Converter converter) {
+      this.sourceType = sourceType;
+      this.targetType = targetType;
+      this.converter = converter;
+    }
+  }
+
+}
@@ -33,9 +33,6 @@
 import com.rapiddweller.common.CompositeFormatter;
 import com.rapiddweller.common.NullSafeComparator;
 import com.rapiddweller.common.collection.OrderedNameMap;
-import com.rapiddweller.common.converter.AnyConverter;
-import com.rapiddweller.platform.java.BeanDescriptorProvider;
-import com.rapiddweller.script.PrimitiveType;
 import com.rapiddweller.common.ArrayUtil;
 import org.bson.types.ObjectId;
 
@@ -67,7 +64,7 @@ public Entity(String name, DescriptorProvider descriptorProvider, Object... comp
 
   public Entity(ComplexTypeDescriptor descriptor, Object... componentKeyValuePairs) {
     this.descriptor = descriptor;
-    this.components = BeneratorFactory.getInstance().createComponentMap();
+    this.components = createComponentMap(descriptor);
     if (componentKeyValuePairs != null) {
       for (int i = 0; i < componentKeyValuePairs.length; i += 2) {
         setComponent((String) componentKeyValuePairs[i], componentKeyValuePairs[i + 1]);
@@ -112,6 +109,20 @@ public OrderedNameMap<Object> getComponents() {
     return components;
   }
 
+  /** Provides a component value by its index in the {@link ComplexTypeDescriptor#getComponentIndex()}
+   *  of the entity's descriptor. Exporters and database systems can use it to read many columns
+   *  of entities of the same type without looking up their names.
+   *  @param componentIndex the index of the component
+   *  @return the value of the component
+   *  @since 3.3.0 */
+  public Object getComponentByIndex(int componentIndex) {
+    ComponentIndex index = descriptor.getComponentIndex();
+    if (components instanceof SlotComponentMap && ((SlotComponentMap) components).getIndex() == index) {
+      return ((SlotComponentMap) components).getSlot(componentIndex);
+    }
+    return components.get(index.nameAt(componentIndex));
+  }
+
   public void setComponents(OrderedNameMap<Object> components) {
     this.components = components;
   }
@@ -123,23 +134,20 @@ public void set(String componentName, Object component) {
   @Override
   public void setComponent(String componentName, Object component) {
     if (descriptor != null) {
-      ComponentDescriptor componentDescriptor = descriptor.getComponent(componentName);
-      String internalComponentName = componentName;
-      if (componentDescriptor != null && componentDescriptor.getTypeDescriptor() instanceof SimpleTypeDescriptor) {
-        SimpleTypeDescriptor componentType = (SimpleTypeDescriptor) componentDescriptor.getTypeDescriptor();
-        PrimitiveType primitiveType = componentType.getPrimitiveType();
-        if (primitiveType == null) {
-          primitiveType = PrimitiveType.STRING;
+      ComponentIndex index = descriptor.getComponentIndex();
+      ComponentIndex.Slot slot = index.slot(componentName);
+      Class<?> javaType = (slot != null ? slot.javaType(descriptor) : null);
+      if (javaType != null) {
+        component = slot.convert(component, javaType);
+        if (slot.index >= 0 && components instanceof SlotComponentMap
+            && ((SlotComponentMap) components).getIndex() == index) {
+          ((SlotComponentMap) components).putSlot(slot.index, component);
+          return;
         }
-        BeanDescriptorProvider beanProvider = descriptor.getDataModel().getBeanDescriptorProvider();
-        Class<?> javaType = beanProvider.concreteType(primitiveType.getName());
-        component = AnyConverter.convert(component, javaType);
-        internalComponentName = componentDescriptor.getName();
+        componentName = slot.getName();
       }
-      components.put(internalComponentName, component);
-    } else {
-      components.put(componentName, component);
     }
+    components.put(componentName, component);
   }
 
   public void remove(String componentName) {
@@ -175,8 +183,22 @@ public Object componentValues(String[] idComponentNames) {
 
   // private helpers -------------------------------------------------------------------------------------------------
 
+  private static OrderedNameMap<Object> createComponentMap(ComplexTypeDescriptor descriptor) {
+    if (descriptor != null) {
+      ComponentIndex index = descriptor.getComponentIndex();
+      if (index.isSlotStorage()) {
+        return new SlotComponentMap(index);
+      }
+    }
+    return BeneratorFactory.getInstance().createComponentMap();
+  }
+
   private void copyComponentsFrom(Entity prototype) {
-    this.components = new OrderedNameMap<>(prototype.components);
+    if (prototype.components instanceof SlotComponentMap) {
+      this.components = new SlotComponentMap((SlotComponentMap) prototype.components);
+    } else {
+      this.components = new OrderedNameMap<>(prototype.components);
+    }
     for (Map.Entry<String, Object> component : this.components.entrySet()) {
       Object value = component.getValue();
       component.setValue(copyOrSelf(value));
@@ -0,0 +1,412 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.model.data;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.NullSafeComparator;
+import com.rapiddweller.common.StringUtil;
+import com.rapiddweller.common.collection.ListBasedSet;
+import com.rapiddweller.common.collection.OrderedNameMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Component map of an {@link Entity} which stores the values of declared components in an array
+ * indexed by a {@link ComponentIndex} and other values in a list. It behaves like the case-insensitive
+ * {@link OrderedNameMap} which is used by default: Keys are stored as they are put, lookups check exact
+ * names before ignoring the case, and iteration follows the order of insertion.
+ * Views like {@link #entrySet()} are snapshots whose entries write through to the map.<br/><br/>
+ * Created: 18.10.2026 16:31:20
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+class SlotComponentMap extends OrderedNameMap<Object> {
+
+  private static final Object UNSET = new Object();
+
+  /** Marks an entry of {@link #order} which refers to the next element of {@link #extraKeys}. */
+  private static final int EXTRA = -1;
+
+  private final ComponentIndex index;
+  private final Object[] values;
+  private int[] order;
+  private int count;
+  private List<String> extraKeys;
+  private List<Object> extraValues;
+
+  SlotComponentMap(ComponentIndex index) {
+    super(1); // case-insensitive like BeneratorFactory.createComponentMap(), but the proxied map stays unused
+    this.index = index;
+    this.values = new Object[index.size()];
+    Arrays.fill(values, UNSET);
+    this.order = new int[index.size()];
+    this.count = 0;
+  }
+
+  SlotComponentMap(SlotComponentMap prototype) {
+    super(1);
+    this.index = prototype.index;
+    this.values = prototype.values.clone();
+    this.order = prototype.order.clone();
+    this.count = prototype.count;
+    if (prototype.extraKeys != null) {
+      this.extraKeys = new ArrayList<>(prototype.extraKeys);
+      this.extraValues = new ArrayList<>(prototype.extraValues);
+    }
+  }
+
+  ComponentIndex getIndex() {
+    return index;
+  }
+
+  /** @return the value of the component with the given index */
+  Object getSlot(int slot) {
+    Object value = values[slot];
+    if (value != UNSET) {
+      return value;
+    }
+    return (extraKeys != null ? get(index.nameAt(slot)) : null);
+  }
+
+  /** Sets the value of the component with the given index. */
+  Object putSlot(int slot, Object value) {
+    Object old = values[slot];
+    values[slot] = value;
+    if (old == UNSET) {
+      append(slot);
+      return null;
+    }
+    return old;
+  }
+
+  // Map interface ---------------------------------------------------------------------------------------------------
+
+  @Override
+  public Object getRealMap() {
+    return this;
+  }
+
+  @Override
+  public int size() {
+    return count;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return (count == 0);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return (findSlot(key) >= 0 || findExtra(key) >= 0);
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    return (indexOfValue(value) >= 0);
+  }
+
+  @Override
+  public Object get(Object key) {
+    int slot = findSlot(key);
+    if (slot >= 0) {
+      return values[slot];
+    }
+    int extra = findExtra(key);
+    return (extra >= 0 ? extraValues.get(extra) : null);
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    int slot = index.exactIndexOf(key);
+    if (slot >= 0) {
+      return putSlot(slot, value);
+    }
+    int extra = (extraKeys != null ? extraKeys.indexOf(key) : -1);
+    if (extra >= 0) {
+      return extraValues.set(extra, value);
+    }
+    if (extraKeys == null) {
+      extraKeys = new ArrayList<>();
+      extraValues = new ArrayList<>();
+    }
+    extraKeys.add(key);
+    extraValues.add(value);
+    append(EXTRA);
+    return null;
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ?> map) {
+    for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+      put(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  public Object remove(Object key) {
+    int slot = findSlot(key);
+    if (slot >= 0) {
+      Object old = values[slot];
+      values[slot] = UNSET;
+      removePosition(positionOfSlot(slot));
+      return old;
+    }
+    int extra = findExtra(key);
+    if (extra >= 0) {
+      removePosition(positionOfExtra(extra));
+      extraKeys.remove(extra);
+      return extraValues.remove(extra);
+    }
+    return null;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(values, UNSET);
+    count = 0;
+    extraKeys = null;
+    extraValues = null;
+  }
+
+  @Override
+  public Set<String> keySet() {
+    List<String> keys = new ArrayList<>(count);
+    int extra = 0;
+    for (int i = 0; i < count; i++) {
+      keys.add(order[i] != EXTRA ? index.nameAt(order[i]) : extraKeys.get(extra++));
+    }
+    return new ListBasedSet<>(keys);
+  }
+
+  @Override
+  public List<Object> values() {
+    List<Object> result = new ArrayList<>(count);
+    int extra = 0;
+    for (int i = 0; i < count; i++) {
+      result.add(order[i] != EXTRA ? values[order[i]] : extraValues.get(extra++));
+    }
+    return result;
+  }
+
+  @Override
+  public Set<Map.Entry<String, Object>> entrySet() {
+    List<Map.Entry<String, Object>> entries = new ArrayList<>(count);
+    int extra = 0;
+    for (int i = 0; i < count; i++) {
+      entries.add(order[i] != EXTRA ? new Entry(index.nameAt(order[i]), order[i]) : new Entry(extraKeys.get(extra++), EXTRA));
+    }
+    return new ListBasedSet<>(entries);
+  }
+
+  // OrderedNameMap interface ----------------------------------------------------------------------------------------
+
+  @Override
+  public Object valueAt(int position) {
+    if (order[position] != EXTRA) {
+      return values[order[position]];
+    }
+    int extra = 0;
+    for (int i = 0; i < position; i++) {
+      if (order[i] == EXTRA) {
+        extra++;
+      }
+    }
+    return extraValues.get(extra);
+  }
+
+  @Override
+  public int indexOfValue(Object value) {
+    int extra = 0;
+    for (int i = 0; i < count; i++) {
+      Object candidate = (order[i] != EXTRA ? values[order[i]] : extraValues.get(extra++));
+      if (NullSafeComparator.equals(candidate, value)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public Map.Entry<String, Object> getEntry(String key) {
+    int slot = findSlot(key);
+    if (slot >= 0) {
+      return new Entry(index.nameAt(slot), slot);
+    }
+    int extra = findExtra(key);
+    return (extra >= 0 ? new Entry(extraKeys.get(extra), EXTRA) : null);
+  }
+
+  @Override
+  public boolean equalsIgnoreOrder(Map<String, Object> that) {
+    if (this == that) {
+      return true;
+    }
+    if (that == null || this.size() != that.size()) {
+      return false;
+    }
+    for (Map.Entry<String, Object> entry : entrySet()) {
+      if (!that.containsKey(entry.getKey()) || !NullSafeComparator.equals(entry.getValue(), that.get(entry.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean equals(Object o) {
+    return (o instanceof Map && equalsIgnoreOrder((Map<String, Object>) o));
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 0;
+    for (Map.Entry<String, Object> entry : entrySet()) {
+      result += entry.hashCode();
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("{");
+    int extra = 0;
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      if (order[i] != EXTRA) {
+        builder.append(index.nameAt(order[i])).append('=').append(values[order[i]]);
+      } else {
+        builder.append(extraKeys.get(extra)).append('=').append(extraValues.get(extra));
+        extra++;
+      }
+    }
+    return builder.append('}').toString();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** Finds the slot of a key which has been set, preferring an exact name match to one which ignores the case. */
+  private int findSlot(Object key) {
+    if (!(key instanceof String)) {
+      return -1;
+    }
+    int slot = index.exactIndexOf((String) key);
+    if (slot >= 0 && values[slot] != UNSET) {
+      return slot;
+    }
+    if (extraKeys != null && extraKeys.contains(key)) {
+      return -1;
+    }
+    slot = index.indexOf((String) key);
+    return (slot >= 0 && values[slot] != UNSET ? slot : -1);
+  }
+
+  private int findExtra(Object key) {
+    if (extraKeys == null || !(key instanceof String)) {
+      return -1;
+    }
+    int extra = extraKeys.indexOf(key);
+    if (extra >= 0) {
+      return extra;
+    }
+    for (int i = 0; i < extraKeys.size(); i++) {
+      if (StringUtil.equalsIgnoreCase(extraKeys.get(i), (String) key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void append(int slotOrExtra) {
+    if (count == order.length) {
+      order = Arrays.copyOf(order, Math.max(4, order.length * 2));
+    }
+    order[count++] = slotOrExtra;
+  }
+
+  private int positionOfSlot(int slot) {
+    for (int i = 0; i < count; i++) {
+      if (order[i] == slot) {
+        return i;
+      }
+    }
+    throw BeneratorExceptionFactory.getInstance().programmerStateError("Slot " + slot + " not found in " + this);
+  }
+
+  private int positionOfExtra(int extra) {
+    int n = 0;
+    for (int i = 0; i < count; i++) {
+      if (order[i] == EXTRA && n++ == extra) {
+        return i;
+      }
+    }
+    throw BeneratorExceptionFactory.getInstance().programmerStateError("Extra entry " + extra + " not found in " + this);
+  }
+
+  private void removePosition(int position) {
+    System.arraycopy(order, position + 1, order, position, count - position - 1);
+    count--;
+  }
+
+
+  /** Map entry which reads and writes the current value of its key. */
+  private class Entry implements Map.Entry<String, Object> {
+
+    private final String key;
+    private final int slot;
+
+    Entry(String key, int slot) {
+      this.key = key;
+      this.slot = slot;
+    }
+
+    @Override
+    public String getKey() {
+      return key;
+    }
+
+    @Override
+    public Object getValue() {
+      if (slot == EXTRA) {
+        return get(key);
+      }
+      Object value = values[slot];
+      return (value != UNSET ? value : null);
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      return (slot != EXTRA ? putSlot(slot, value) : put(key, value));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      Map.Entry<?, ?> that = (Map.Entry<?, ?>) o;
+      return key.equals(that.getKey()) && NullSafeComparator.equals(getValue(), that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      Object value = getValue();
+      return key.hashCode() ^ (value != null ? value.hashCode() : 0);
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + getValue();
+    }
+  }
+
+}
@@ -37,6 +37,7 @@
 import com.rapiddweller.format.csv.CSVUtil;
 import com.rapiddweller.model.data.ComplexTypeDescriptor;
 import com.rapiddweller.model.data.ComponentDescriptor;
+import com.rapiddweller.model.data.ComponentIndex;
 import com.rapiddweller.model.data.Entity;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
@@ -71,6 +72,8 @@ public class CSVEntityExporter extends TextFileExporter {
   // state attributes ------------------------------------------------------------------------------------------------
 
   private boolean lfRequired;
+  private ComponentIndex columnIndex;
+  private int[] columnSlots;
 
   // constructors ----------------------------------------------------------------------------------------------------
 
@@ -124,6 +127,7 @@ public void setColumns(String[] columns) {
       this.columns = columns.clone();
       StringUtil.trimAll(this.columns);
     }
+    this.columnIndex = null;
   }
 
   public void setSeparator(char separator) {
@@ -168,11 +172,12 @@ protected void startConsumingImpl(Object object) {
     } else {
       lfRequired = true;
     }
+    int[] slots = columnSlots(entity);
     for (int i = 0; i < columns.length; i++) {
       if (i > 0) {
         printer.print(separator);
       }
-      Object value = entity.getComponent(columns[i]);
+      Object value = (slots != null && slots[i] >= 0 ? entity.getComponentByIndex(slots[i]) : entity.getComponent(columns[i]));
       String out;
       if (value == null) {
         out = getNullString();
@@ -183,6 +188,22 @@ protected void startConsumingImpl(Object object) {
     }
   }
 
+  /** Maps the columns to the component indices of the entity's type, if there is one. */
+  private int[] columnSlots(Entity entity) {
+    if (entity.descriptor() == null) {
+      return null;
+    }
+    ComponentIndex index = entity.descriptor().getComponentIndex();
+    if (index != columnIndex) {
+      columnSlots = new int[columns.length];
+      for (int i = 0; i < columns.length; i++) {
+        columnSlots[i] = index.indexOf(columns[i]);
+      }
+      columnIndex = index;
+    }
+    return columnSlots;
+  }
+
   @Override
   protected void postInitPrinter(Object object) {
     Entity entity = (Entity) object;
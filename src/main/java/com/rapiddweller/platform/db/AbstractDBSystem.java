@@ -30,6 +30,7 @@
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.environment.SystemRef;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.sample.IndexedSourceProvider;
 import com.rapiddweller.benerator.storage.AbstractStorageSystem;
 import com.rapiddweller.benerator.storage.StorageSystemInserter;
 import com.rapiddweller.benerator.util.DeprecationLogger;
@@ -56,6 +57,7 @@
 import com.rapiddweller.jdbacl.ResultSetConverter;
 import com.rapiddweller.jdbacl.SQLUtil;
 import com.rapiddweller.jdbacl.dialect.OracleDialect;
+import com.rapiddweller.jdbacl.dialect.PostgreSQLDialect;
 import com.rapiddweller.jdbacl.model.DBCatalog;
 import com.rapiddweller.jdbacl.model.DBColumn;
 import com.rapiddweller.jdbacl.model.DBDataType;
@@ -71,6 +73,7 @@
 import com.rapiddweller.jdbacl.model.jdbc.JDBCMetaDataUtil;
 import com.rapiddweller.model.data.ComplexTypeDescriptor;
 import com.rapiddweller.model.data.ComponentDescriptor;
+import com.rapiddweller.model.data.ComponentIndex;
 import com.rapiddweller.model.data.DataModel;
 import com.rapiddweller.model.data.Entity;
 import com.rapiddweller.model.data.IdDescriptor;
@@ -100,6 +103,7 @@
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.rapiddweller.jdbacl.SQLUtil.createCatSchTabString;
@@ -114,6 +118,8 @@
 public abstract class AbstractDBSystem extends AbstractStorageSystem implements ConnectionProvider {
 
   private static final int DEFAULT_FETCH_SIZE = 100;
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+  static final int IN_QUERY_SIZE = 100;
   private static final VersionNumber MIN_ORACLE_VERSION = VersionNumber.valueOf("10" + ".2.0.4");
       // little trick to satisfy SonarCube which thinks this is an IP address
   private static final TypeDescriptor[] EMPTY_TYPE_DESCRIPTOR_ARRAY = new TypeDescriptor[0];
@@ -125,7 +131,12 @@ public abstract class AbstractDBSystem extends AbstractStorageSystem implements
   protected static LoggerEscalator escalator = new LoggerEscalator();
   private final TypeMapper driverTypeMapper;
   private final AtomicInteger invalidationCount;
+  private final Map<ColumnWritePlan.Key, ColumnWritePlan> writePlans;
+  private volatile List<String> specialDataTypes;
   protected boolean batch;
+  protected int batchSize;
+  protected long batchBytes;
+  protected boolean batchRewrite;
   protected boolean readOnly;
   protected volatile Database database;
   protected DBMetaDataImporter importer;
@@ -194,6 +205,9 @@ private AbstractDBSystem(String id, DataModel dataModel) {
     setFetchSize(DEFAULT_FETCH_SIZE);
     setMetaCache(false);
     setBatch(false);
+    setBatchSize(DEFAULT_BATCH_SIZE);
+    setBatchBytes(0);
+    setBatchRewrite(false);
     setReadOnly(false);
     setLazy(true);
     setDynamicQuerySupported(true);
@@ -201,6 +215,8 @@ private AbstractDBSystem(String id, DataModel dataModel) {
     this.driverTypeMapper = driverTypeMapper();
     this.connectedBefore = false;
     this.invalidationCount = new AtomicInteger();
+    this.writePlans = new ConcurrentHashMap<>();
+    this.specialDataTypes = null;
   }
 
 
@@ -358,6 +374,36 @@ public void setBatch(boolean batch) {
     this.batch = batch;
   }
 
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /** Sets the maximum number of rows to collect in the batch of a prepared statement before it is executed.
+   *  A value of 0 means that batches are executed only on flush or commit. */
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public long getBatchBytes() {
+    return batchBytes;
+  }
+
+  /** Sets the (estimated) maximum number of bytes to collect in the batch of a prepared statement
+   *  before it is executed. A value of 0 means that there is no limit. */
+  public void setBatchBytes(long batchBytes) {
+    this.batchBytes = batchBytes;
+  }
+
+  public boolean isBatchRewrite() {
+    return batchRewrite;
+  }
+
+  /** Tells if the JDBC driver shall be configured to rewrite batched statements,
+   *  which is supported for PostgreSQL and MySQL/MariaDB. */
+  public void setBatchRewrite(boolean batchRewrite) {
+    this.batchRewrite = batchRewrite;
+  }
+
   public int getFetchSize() {
     return fetchSize;
   }
@@ -455,6 +501,76 @@ public Entity queryEntityById(String tableName, Object id) {
     }
   }
 
+  /** Queries the entities of a table in which the given columns have one of the given value combinations.
+   *  The value combinations are queried in chunks of {@link #IN_QUERY_SIZE} using one reusable prepared statement
+   *  per table and column set. Smaller chunks are padded by repeating their first value combination.
+   *  @param tableName the name of the table to query
+   *  @param columnNames the names of the columns to match
+   *  @param values the value combinations to look up, each one in the order of the column names
+   *  @return the matching entities */
+  public List<Entity> queryEntitiesByColumnValues(String tableName, String[] columnNames, Collection<Object[]> values) {
+    logger.debug("queryEntitiesByColumnValues({}, {})", tableName, columnNames);
+    ComplexTypeDescriptor descriptor = (ComplexTypeDescriptor) getTypeDescriptor(tableName);
+    String tableSpec = createCatSchTabString(catalogName, schemaName, tableName, getDialect());
+    String sql = renderColumnValuesQuery(tableSpec, columnNames, IN_QUERY_SIZE);
+    List<Entity> result = new ArrayList<>();
+    List<Object[]> chunk = new ArrayList<>(IN_QUERY_SIZE);
+    Iterator<Object[]> iterator = values.iterator();
+    if (!iterator.hasNext()) {
+      return result;
+    }
+    PreparedStatement statement = getSelectByColumnValuesStatement(sql);
+    try {
+      while (iterator.hasNext()) {
+        chunk.add(iterator.next());
+        if (chunk.size() == IN_QUERY_SIZE || !iterator.hasNext()) {
+          queryChunk(statement, descriptor, chunk, result);
+          chunk.clear();
+        }
+      }
+      return result;
+    } catch (SQLException e) {
+      throw BeneratorExceptionFactory.getInstance().dbQueryFailed("Error querying " + tableName, e);
+    } finally {
+      releaseSelectByColumnValuesStatement(statement);
+    }
+  }
+
+  static String renderColumnValuesQuery(String tableSpec, String[] columnNames, int slots) {
+    StringBuilder builder = new StringBuilder(SELECT).append('*').append(FROM).append(tableSpec).append(WHERE);
+    if (columnNames.length == 1) {
+      builder.append(columnNames[0]).append(" in (");
+      for (int i = 0; i < slots; i++) {
+        builder.append(i > 0 ? ", ?" : "?");
+      }
+      builder.append(')');
+    } else {
+      for (int i = 0; i < slots; i++) {
+        builder.append(i > 0 ? " or (" : "(");
+        for (int j = 0; j < columnNames.length; j++) {
+          builder.append(j > 0 ? " and " : "").append(columnNames[j]).append(" = ?");
+        }
+        builder.append(')');
+      }
+    }
+    return builder.toString();
+  }
+
+  private void queryChunk(PreparedStatement statement, ComplexTypeDescriptor descriptor, List<Object[]> chunk,
+                          List<Entity> result) throws SQLException {
+    int paramIndex = 1;
+    for (int slot = 0; slot < IN_QUERY_SIZE; slot++) {
+      for (Object value : chunk.get(slot < chunk.size() ? slot : 0)) {
+        statement.setObject(paramIndex++, value);
+      }
+    }
+    try (ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        result.add(ResultSet2EntityConverter.convert(resultSet, descriptor));
+      }
+    }
+  }
+
   public long countEntities(String tableName) {
     logger.debug("countEntities({})", tableName);
     String query = "select count(*) from " +
@@ -470,7 +586,10 @@ public DataSource<Entity> queryEntities(String type, String selector, Context co
     String tableSpec = createCatSchTabString(catalogName, schemaName, type, getDialect());
     String sql = renderSelectorQuery(tableSpec, "*", selector);
     DataSource<ResultSet> source = createQuery(sql, context);
-    return new EntityResultSetDataSource(source, (ComplexTypeDescriptor) getTypeDescriptor(type));
+    // large unfiltered tables can be sampled by primary key without loading all rows
+    IndexedSourceProvider<Entity> indexProvider =
+        (StringUtil.isEmpty(selector) ? () -> DBKeyIndex.create(this, type, DBKeyIndex.MIN_ROWS) : null);
+    return new EntityResultSetDataSource(source, (ComplexTypeDescriptor) getTypeDescriptor(type), indexProvider);
   }
 
   @Override
@@ -508,8 +627,35 @@ public Consumer inserter(String tableName) {
     return new StorageSystemInserter(this, (ComplexTypeDescriptor) getTypeDescriptor(tableName));
   }
 
+  /** Creates a {@link Consumer} that bulk-loads entities into PostgreSQL tables using COPY.
+   *  It is available for PostgreSQL databases only. */
+  public Consumer copyInserter() {
+    if (!(getDialect() instanceof PostgreSQLDialect)) {
+      throw BeneratorExceptionFactory.getInstance().illegalOperation(
+          "copyInserter() is only supported for PostgreSQL databases, but " + id + " is " + getDbType());
+    }
+    return new PostgresCopyInserter(this);
+  }
+
   protected abstract PreparedStatement getSelectByPKStatement(ComplexTypeDescriptor descriptor);
 
+  /** Provides a prepared statement for a query of {@link #queryEntitiesByColumnValues(String, String[], Collection)}.
+   *  This default implementation prepares a new statement on each call and closes it in
+   *  {@link #releaseSelectByColumnValuesStatement(PreparedStatement)}. Subclasses may override both methods
+   *  in order to reuse statements. */
+  protected PreparedStatement getSelectByColumnValuesStatement(String sql) {
+    try {
+      return getConnection().prepareStatement(sql);
+    } catch (SQLException e) {
+      throw BeneratorExceptionFactory.getInstance().dbQueryFailed("Error preparing statement: " + sql, e);
+    }
+  }
+
+  /** Is called when a statement of {@link #getSelectByColumnValuesStatement(String)} is not used any more. */
+  protected void releaseSelectByColumnValuesStatement(PreparedStatement statement) {
+    DBUtil.close(statement);
+  }
+
   public boolean tableExists(String tableName) {
     logger.debug("tableExists({})", tableName);
     return (getTypeDescriptor(tableName) != null);
@@ -546,7 +692,8 @@ public void setSequenceValue(String sequenceName, long value) throws SQLExceptio
 
   protected Connection createConnection() {
     try {
-      Connection connection = DBUtil.connect(url, driver, user, password, readOnly);
+      String connectUrl = (batch && batchRewrite ? batchRewriteUrl(url) : url);
+      Connection connection = DBUtil.connect(connectUrl, driver, user, password, readOnly);
       if (!connectedBefore) {
         DBUtil.logMetaData(connection);
         connectedBefore = true;
@@ -561,6 +708,25 @@ protected Connection createConnection() {
     }
   }
 
+  /** Adds the driver-specific URL parameter for rewriting batched statements, if the driver supports it.
+   *  @param url the JDBC URL of the database
+   *  @return the URL with the rewrite parameter, or the unchanged URL if the driver is not supported or
+   *      the parameter is already set */
+  static String batchRewriteUrl(String url) {
+    String param;
+    if (url.startsWith("jdbc:postgresql:")) {
+      param = "reWriteBatchedInserts";
+    } else if (url.startsWith("jdbc:mysql:") || url.startsWith("jdbc:mariadb:")) {
+      param = "rewriteBatchedStatements";
+    } else {
+      return url;
+    }
+    if (url.contains(param + '=')) {
+      return url;
+    }
+    return url + (url.indexOf('?') < 0 ? '?' : '&') + param + "=true";
+  }
+
   public void invalidate() {
     database = null;
     typeDescriptors = null;
@@ -571,6 +737,8 @@ public void invalidate() {
       CachingDBImporter.deleteCacheFile(url, user, catalogName, schemaName);
     }
     invalidationCount.incrementAndGet();
+    writePlans.clear();
+    specialDataTypes = null;
   }
 
   public int invalidationCount() {
@@ -689,20 +857,24 @@ protected abstract PreparedStatement getStatement(
 
   private void persistOrUpdate(Entity entity, boolean insert) {
     fetchMetadataIfNecessary();
-    List<ColumnInfo> writeColumnInfos = getWriteColumnInfos(entity, insert);
+    ColumnWritePlan plan = getWritePlan(entity, insert);
     try {
       String tableName = entity.type();
-      PreparedStatement statement = getStatement(entity.descriptor(), insert, writeColumnInfos);
-      for (int i = 0; i < writeColumnInfos.size(); i++) {
-        ColumnInfo info = writeColumnInfos.get(i);
-        Object jdbcValue = entity.getComponent(info.name);
+      PreparedStatement statement = getStatement(entity.descriptor(), insert, plan.getColumnInfos());
+      long rowBytes = 0;
+      for (int i = 0; i < plan.size(); i++) {
+        ColumnInfo info = plan.getColumnInfo(i);
+        Object jdbcValue = plan.getValue(entity, i);
         if (info.type != null) {
           jdbcValue = AnyConverter.convert(jdbcValue, info.type);
         }
-        handleOracleType(tableName, statement, i, info, jdbcValue);
+        setParameter(tableName, statement, i, info, jdbcValue, plan.isAlwaysSetObject(i));
+        if (batchBytes > 0) {
+          rowBytes += estimateSize(jdbcValue);
+        }
       }
       if (batch) {
-        statement.addBatch();
+        addBatch(tableName, statement, rowBytes);
       } else {
         int rowCount = statement.executeUpdate();
         if (rowCount == 0) {
@@ -715,11 +887,32 @@ private void persistOrUpdate(Entity entity, boolean insert) {
     }
   }
 
-  private void handleOracleType(String tableName, PreparedStatement statement, int i, ColumnInfo info, Object jdbcValue) {
+  /** Adds the current parameters of the statement to its batch. Child classes may override this
+   *  to execute the batch when it has reached the configured {@link #batchSize} or {@link #batchBytes}.
+   *  @param tableName the name of the table to write to
+   *  @param statement the statement of which to add the parameters to the batch
+   *  @param rowBytes the estimated size of the row in bytes, or 0 if {@link #batchBytes} is not set
+   *  @throws SQLException if adding to the batch fails */
+  protected void addBatch(String tableName, PreparedStatement statement, long rowBytes) throws SQLException {
+    statement.addBatch();
+  }
+
+  private static long estimateSize(Object jdbcValue) {
+    if (jdbcValue == null) {
+      return 0;
+    } else if (jdbcValue instanceof CharSequence) {
+      return ((CharSequence) jdbcValue).length();
+    } else if (jdbcValue instanceof byte[]) {
+      return ((byte[]) jdbcValue).length;
+    } else {
+      return 8;
+    }
+  }
+
+  private void setParameter(String tableName, PreparedStatement statement, int i, ColumnInfo info, Object jdbcValue,
+                            boolean alwaysSetObject) {
     try {
-      boolean criticalOracleType =
-          (dialect instanceof OracleDialect && (info.sqlType == Types.NCLOB || info.sqlType == Types.OTHER));
-      if (jdbcValue != null || criticalOracleType) { // Oracle is not able to perform setNull() on NCLOBs and NVARCHAR2
+      if (jdbcValue != null || alwaysSetObject) {
         statement.setObject(i + 1, jdbcValue);
       } else {
         statement.setNull(i + 1, info.sqlType);
@@ -901,7 +1094,60 @@ public ComplexTypeDescriptor mapTableToComplexTypeDescriptor(
     return complexType;
   }
 
+  /** Provides the cached {@link ColumnWritePlan} for the entity's table, descriptor and operation,
+   *  creating it on the first call and after each {@link #invalidate()}. */
+  ColumnWritePlan getWritePlan(Entity entity, boolean insert) {
+    ColumnWritePlan.Key key = new ColumnWritePlan.Key(entity.type(), insert, entity.descriptor());
+    int currentInvalidationCount = invalidationCount.get();
+    ColumnWritePlan plan = writePlans.get(key);
+    if (plan == null || !plan.isValid(currentInvalidationCount)) {
+      plan = createWritePlan(entity, insert, currentInvalidationCount);
+      if (isEntityIndependent(entity)) {
+        writePlans.put(key, plan);
+      }
+    }
+    return plan;
+  }
+
+  private ColumnWritePlan createWritePlan(Entity entity, boolean insert, int currentInvalidationCount) {
+    List<ColumnInfo> columnInfos = createWriteColumnInfos(entity, insert);
+    boolean oracle = (getDialect() instanceof OracleDialect);
+    boolean[] alwaysSetObject = new boolean[columnInfos.size()];
+    for (int i = 0; i < alwaysSetObject.length; i++) {
+      int sqlType = columnInfos.get(i).sqlType;
+      // Oracle is not able to perform setNull() on NCLOBs and NVARCHAR2
+      alwaysSetObject[i] = (oracle && (sqlType == Types.NCLOB || sqlType == Types.OTHER));
+    }
+    ComponentIndex componentIndex = (entity.descriptor() != null ? entity.descriptor().getComponentIndex() : null);
+    return new ColumnWritePlan(columnInfos, alwaysSetObject, currentInvalidationCount, componentIndex);
+  }
+
+  /** Tells if the column infos of an entity can be derived from meta data only.
+   *  This is not the case if a column type is unknown and {@link #acceptUnknownColumnTypes} is set,
+   *  since the type to write is then inferred from the entity's data. */
+  private boolean isEntityIndependent(Entity entity) {
+    if (!acceptUnknownColumnTypes) {
+      return true;
+    }
+    ComplexTypeDescriptor typeDescriptor = (ComplexTypeDescriptor) getTypeDescriptor(entity.type());
+    for (ComponentDescriptor component : typeDescriptor.getComponents()) {
+      TypeDescriptor type = component.getTypeDescriptor();
+      if (type instanceof SimpleTypeDescriptor && ((SimpleTypeDescriptor) type).getPrimitiveType() == null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Provides the columns to write for an entity in the order of the related insert or update statement.
+   *  @param entity the entity to write
+   *  @param insert true for insert, false for update
+   *  @return an unmodifiable list of the column infos */
   public List<ColumnInfo> getWriteColumnInfos(Entity entity, boolean insert) {
+    return getWritePlan(entity, insert).getColumnInfos();
+  }
+
+  private List<ColumnInfo> createWriteColumnInfos(Entity entity, boolean insert) {
     String tableName = entity.type();
     DBTable table;
     if (entity.descriptor instanceof LazyTableComplexTypeDescriptor) {
@@ -950,6 +1196,15 @@ private boolean ignoreColumn(ComponentDescriptor colDescriptor, ComplexTypeDescr
 
   // get special data type of data system, using later to handle special cases
   private List<String> getSpecialDataTypes() {
+    List<String> result = specialDataTypes;
+    if (result == null) {
+      result = Collections.unmodifiableList(fetchSpecialDataTypes());
+      specialDataTypes = result;
+    }
+    return result;
+  }
+
+  private List<String> fetchSpecialDataTypes() {
     String dbProductName = getDbMetaData().getDatabaseProductName();
 
     List<String> specialTypes = new ArrayList<>();
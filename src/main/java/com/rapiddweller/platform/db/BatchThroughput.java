@@ -0,0 +1,60 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.common.HF;
+
+/**
+ * Sums up the rows and execution times of the JDBC batches which were executed for one table.<br/><br/>
+ * Created: 18.10.2026 15:02:44
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class BatchThroughput {
+
+  private final String tableName;
+  private long rows;
+  private long batches;
+  private long nanos;
+
+  public BatchThroughput(String tableName) {
+    this.tableName = tableName;
+    this.rows = 0;
+    this.batches = 0;
+    this.nanos = 0;
+  }
+
+  public String getTableName() {
+    return tableName;
+  }
+
+  public long getRows() {
+    return rows;
+  }
+
+  public long getBatches() {
+    return batches;
+  }
+
+  public long getMillis() {
+    return nanos / 1000000;
+  }
+
+  /** @return the number of rows per second, measured on the execution of the batches only */
+  public double getRowsPerSecond() {
+    return (nanos > 0 ? rows * 1E9 / nanos : 0);
+  }
+
+  void addBatch(int batchRows, long batchNanos) {
+    this.rows += batchRows;
+    this.batches++;
+    this.nanos += batchNanos;
+  }
+
+  @Override
+  public String toString() {
+    return tableName + ": " + HF.pluralize(rows, "row") + " in " + HF.pluralize(batches, "batch", "batches") +
+        ", " + HF.format(getMillis()) + " ms, " + HF.format((long) getRowsPerSecond()) + " rows/s";
+  }
+
+}
@@ -0,0 +1,116 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.jdbacl.ColumnInfo;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.ComponentIndex;
+import com.rapiddweller.model.data.Entity;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Holds the precomputed information for writing entities of one descriptor to one table:
+ * the column order, the Java type to which each column value is converted and
+ * the strategy for setting each parameter of the related {@link java.sql.PreparedStatement}.<br/><br/>
+ * Created: 18.10.2026 14:21:07
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+class ColumnWritePlan {
+
+  private final List<ColumnInfo> columnInfos;
+  private final boolean[] alwaysSetObject;
+  private final int invalidationCount;
+  private final ComponentIndex componentIndex;
+  private final int[] componentIndices;
+
+  ColumnWritePlan(List<ColumnInfo> columnInfos, boolean[] alwaysSetObject, int invalidationCount,
+                  ComponentIndex componentIndex) {
+    this.columnInfos = Collections.unmodifiableList(columnInfos);
+    this.alwaysSetObject = alwaysSetObject;
+    this.invalidationCount = invalidationCount;
+    this.componentIndex = componentIndex;
+    this.componentIndices = new int[columnInfos.size()];
+    for (int i = 0; i < componentIndices.length; i++) {
+      componentIndices[i] = (componentIndex != null ? componentIndex.indexOf(columnInfos.get(i).name) : -1);
+    }
+  }
+
+  public List<ColumnInfo> getColumnInfos() {
+    return columnInfos;
+  }
+
+  public int size() {
+    return columnInfos.size();
+  }
+
+  public ColumnInfo getColumnInfo(int index) {
+    return columnInfos.get(index);
+  }
+
+  /** Reads the value of a column from an entity. If the entity's type has the {@link ComponentIndex}
+   *  for which the plan was created, the value is read by index, otherwise by name. */
+  public Object getValue(Entity entity, int index) {
+    int componentIndex = componentIndices[index];
+    if (componentIndex >= 0 && entity.descriptor() != null
+        && entity.descriptor().getComponentIndex() == this.componentIndex) {
+      return entity.getComponentByIndex(componentIndex);
+    }
+    return entity.getComponent(columnInfos.get(index).name);
+  }
+
+  /** Tells if null values of the column must be written with setObject() instead of setNull(),
+   *  which is the case for Oracle's NCLOB and OTHER columns. */
+  public boolean isAlwaysSetObject(int index) {
+    return alwaysSetObject[index];
+  }
+
+  /** Tells if the plan was created after the latest invalidation of the database meta data. */
+  public boolean isValid(int currentInvalidationCount) {
+    return (invalidationCount == currentInvalidationCount);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + columnInfos;
+  }
+
+
+  /** Identifies a {@link ColumnWritePlan} by table name, operation and entity descriptor.
+   *  Descriptors are compared by equality like in the statement cache of the {@link ConnectionHolder}. */
+  static class Key {
+
+    private final String tableName;
+    private final boolean insert;
+    private final ComplexTypeDescriptor descriptor;
+
+    Key(String tableName, boolean insert, ComplexTypeDescriptor descriptor) {
+      this.tableName = tableName;
+      this.insert = insert;
+      this.descriptor = descriptor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key that = (Key) o;
+      return (this.insert == that.insert && Objects.equals(this.tableName, that.tableName)
+          && Objects.equals(this.descriptor, that.descriptor));
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(tableName, insert, descriptor);
+    }
+
+  }
+
+}
@@ -40,6 +40,8 @@
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -56,6 +58,9 @@ public class ConnectionHolder implements Closeable {
   public final Map<ComplexTypeDescriptor, PreparedStatement> insertStatements;
   public final Map<ComplexTypeDescriptor, PreparedStatement> updateStatements;
   public final Map<ComplexTypeDescriptor, PreparedStatement> selectByPKStatements;
+  private final Map<String, PreparedStatement> selectByColumnValuesStatements;
+  private final Map<PreparedStatement, StatementBatch> batches;
+  private final Map<String, BatchThroughput> throughputs;
   private final AbstractDBSystem db;
   private Connection connection;
 
@@ -63,6 +68,9 @@ public ConnectionHolder(AbstractDBSystem db) {
     this.insertStatements = new OrderedMap<>();
     this.updateStatements = new OrderedMap<>();
     this.selectByPKStatements = new OrderedMap<>();
+    this.selectByColumnValuesStatements = new OrderedMap<>();
+    this.batches = new IdentityHashMap<>();
+    this.throughputs = new OrderedMap<>();
     this.db = db;
     this.connection = null; // lazily initialized
   }
@@ -90,7 +98,10 @@ private void flushStatements(Map<ComplexTypeDescriptor, PreparedStatement> state
       PreparedStatement statement = entry.getValue();
       if (statement != null) {
         // need to finish old statement
-        if (db.isBatch()) {
+        StatementBatch batch = batches.remove(statement);
+        if (batch != null) {
+          batch.execute();
+        } else if (db.isBatch()) {
           statement.executeBatch();
         }
         jdbcLogger.debug("Closing statement: {}", statement);
@@ -100,6 +111,46 @@ private void flushStatements(Map<ComplexTypeDescriptor, PreparedStatement> state
     }
   }
 
+  /** Adds the current parameters of the statement to its batch. When the batch has reached the database's
+   *  batch size or batch bytes limit, it is executed together with the pending batches of all statements
+   *  which were created before it, in the order of {@link #commit()}, so that parent rows are
+   *  always inserted before the rows which reference them. */
+  public void addBatch(String tableName, PreparedStatement statement, long rowBytes) throws SQLException {
+    StatementBatch batch = batches.get(statement);
+    if (batch == null) {
+      BatchThroughput throughput = throughputs.computeIfAbsent(tableName, BatchThroughput::new);
+      batch = new StatementBatch(statement, throughput, db.getBatchSize(), db.getBatchBytes());
+      batches.put(statement, batch);
+    }
+    if (batch.add(rowBytes)) {
+      if (!executeBatchesUpTo(insertStatements, statement)) {
+        executeBatchesUpTo(updateStatements, statement);
+      }
+      batch.execute();
+    }
+  }
+
+  /** Executes the pending batches of the statements up to the given one.
+   *  @return true if the given statement was found, otherwise false */
+  private boolean executeBatchesUpTo(Map<ComplexTypeDescriptor, PreparedStatement> statements,
+                                     PreparedStatement last) throws SQLException {
+    for (PreparedStatement statement : statements.values()) {
+      StatementBatch batch = (statement != null ? batches.get(statement) : null);
+      if (batch != null) {
+        batch.execute();
+      }
+      if (statement == last) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** @return the throughput of the executed JDBC batches per table */
+  public List<BatchThroughput> getBatchThroughputs() {
+    return new ArrayList<>(throughputs.values());
+  }
+
   public PreparedStatement getSelectByPKStatement(ComplexTypeDescriptor descriptor) {
     try {
       PreparedStatement statement = selectByPKStatements.get(descriptor);
@@ -130,6 +181,23 @@ private PreparedStatement createSelectByPKStatement(ComplexTypeDescriptor descri
     return statement;
   }
 
+  /** Provides a cached prepared statement for the given query SQL. */
+  public PreparedStatement getSelectByColumnValuesStatement(String sql) {
+    try {
+      PreparedStatement statement = selectByColumnValuesStatements.get(sql);
+      if (statement == null) {
+        jdbcLogger.debug("Creating prepared statement: {}", sql);
+        statement = DBUtil.prepareStatement(getConnection(), sql, db.isReadOnly());
+        selectByColumnValuesStatements.put(sql, statement);
+      } else {
+        statement.clearParameters();
+      }
+      return statement;
+    } catch (SQLException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error creating statement", e);
+    }
+  }
+
   public PreparedStatement getStatement(
       ComplexTypeDescriptor descriptor, boolean insert, List<ColumnInfo> columnInfos) {
     try {
@@ -172,6 +240,13 @@ private PreparedStatement createStatement(
   @Override
   public void close() {
     commit();
+    for (BatchThroughput throughput : throughputs.values()) {
+      jdbcLogger.info("Batch throughput of {}", throughput);
+    }
+    for (PreparedStatement statement : selectByColumnValuesStatements.values()) {
+      DBUtil.close(statement);
+    }
+    selectByColumnValuesStatements.clear();
     DBUtil.close(connection);
   }
 
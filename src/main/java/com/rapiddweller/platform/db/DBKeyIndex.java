@@ -0,0 +1,83 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.benerator.sample.ArrayIndexedSource;
+import com.rapiddweller.benerator.sample.IndexedSource;
+import com.rapiddweller.common.ObjectNotFoundException;
+import com.rapiddweller.jdbacl.model.DBTable;
+import com.rapiddweller.model.data.Entity;
+
+/**
+ * Provides random access to the rows of a database table with a single-column primary key:
+ * Only the primary key values are held in memory, the rows are queried by primary key on access.
+ * Rows which have been deleted after the creation of the index are provided as null.<br/><br/>
+ * Created: 18.10.2026 23:42:10
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+class DBKeyIndex implements IndexedSource<Entity> {
+
+  /** Minimum number of rows for which an index is used. Smaller tables are loaded completely,
+   *  which is cheaper than a query per access. */
+  static final long MIN_ROWS = 10000;
+
+  private final AbstractDBSystem db;
+  private final String tableName;
+  private final IndexedSource<?> keys;
+
+  DBKeyIndex(AbstractDBSystem db, String tableName, IndexedSource<?> keys) {
+    this.db = db;
+    this.tableName = tableName;
+    this.keys = keys;
+  }
+
+  /** Creates a {@link DBKeyIndex} for all rows of a table.
+   *  @param minRows the minimum number of rows of the table
+   *  @return the index or null if the table is not known in the metadata (like views),
+   *      has no single-column primary key or less than minRows rows */
+  static DBKeyIndex create(AbstractDBSystem db, String tableName, long minRows) {
+    DBTable table;
+    try {
+      table = db.getTable(tableName);
+    } catch (ObjectNotFoundException e) {
+      return null;
+    }
+    if (table.getPKColumnNames().length != 1 || (minRows > 0 && db.countEntities(tableName) < minRows)) {
+      return null;
+    }
+    IndexedSource<?> keys = ArrayIndexedSource.of(db.queryEntityIds(tableName, null, null).iterator());
+    return new DBKeyIndex(db, tableName, keys);
+  }
+
+  @Override
+  public Class<Entity> getType() {
+    return Entity.class;
+  }
+
+  @Override
+  public long size() {
+    return keys.size();
+  }
+
+  @Override
+  public Entity get(long index) {
+    return db.queryEntityById(tableName, keys.get(index));
+  }
+
+  @Override
+  public boolean mayMissElements() {
+    return true;
+  }
+
+  @Override
+  public void close() {
+    keys.close();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '[' + tableName + ", " + keys.size() + " rows]";
+  }
+
+}
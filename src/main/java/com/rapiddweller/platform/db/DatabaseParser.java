@@ -46,6 +46,7 @@
 import com.rapiddweller.common.parser.BooleanParser;
 import com.rapiddweller.common.parser.FullyQualifiedClassNameParser;
 import com.rapiddweller.common.parser.NonNegativeIntegerParser;
+import com.rapiddweller.common.parser.NonNegativeLongParser;
 import com.rapiddweller.common.parser.StringParser;
 import com.rapiddweller.common.parser.AbstractTypedParser;
 import com.rapiddweller.format.xml.AttrInfo;
@@ -57,6 +58,9 @@
 
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_ACC_UNK_COL_TYPES;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_BATCH;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_BATCH_BYTES;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_BATCH_REWRITE;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_BATCH_SIZE;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_CATALOG;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_DRIVER;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_ENVIRONMENT;
@@ -133,6 +137,18 @@ public class DatabaseParser extends AbstractBeneratorDescriptorParser {
       ATT_BATCH, false, BeneratorErrorIds.SYN_DB_BATCH,
       new ScriptableParser<>(new BooleanParser()), FALSE);
 
+  public static final AttrInfo<Expression<Integer>> BATCH_SIZE = new AttrInfo<>(
+      ATT_BATCH_SIZE, false, BeneratorErrorIds.SYN_DB_BATCH_SIZE,
+      new ScriptableParser<>(new NonNegativeIntegerParser()), "1000");
+
+  public static final AttrInfo<Expression<Long>> BATCH_BYTES = new AttrInfo<>(
+      ATT_BATCH_BYTES, false, BeneratorErrorIds.SYN_DB_BATCH_BYTES,
+      new ScriptableParser<>(new NonNegativeLongParser()), "0");
+
+  public static final AttrInfo<Expression<Boolean>> BATCH_REWRITE = new AttrInfo<>(
+      ATT_BATCH_REWRITE, false, BeneratorErrorIds.SYN_DB_BATCH_REWRITE,
+      new ScriptableParser<>(new BooleanParser()), FALSE);
+
   public static final AttrInfo<Expression<Integer>> FETCH_SIZE = new AttrInfo<>(
       ATT_FETCH_SIZE, false, BeneratorErrorIds.SYN_DB_FETCH_SIZE,
       new ScriptableParser<>(new NonNegativeIntegerParser()), "100");
@@ -151,7 +167,8 @@ public class DatabaseParser extends AbstractBeneratorDescriptorParser {
 
   private static final AttrInfoSupport ATTR_INFO = new AttrInfoSupport(BeneratorErrorIds.SYN_DB_ILLEGAL_ATTR,
       new DatabaseValidator(), ID, ENVIRONMENT, SYSTEM, URL, DRIVER, USER, PASSWORD, CATALOG, SCHEMA,
-      TABLE_FILTER, INCL_TABLES, EXCL_TABLES, META_CACHE, BATCH, FETCH_SIZE, READ_ONLY, LAZY, ACC_UNK_COL_TYPES);
+      TABLE_FILTER, INCL_TABLES, EXCL_TABLES, META_CACHE, BATCH, BATCH_SIZE, BATCH_BYTES, BATCH_REWRITE,
+      FETCH_SIZE, READ_ONLY, LAZY, ACC_UNK_COL_TYPES);
 
   public DatabaseParser() {
     super(EL_DATABASE, ATTR_INFO, BeneratorRootStatement.class, IfStatement.class);
@@ -176,6 +193,9 @@ public DefineDatabaseStatement doParse(
       Expression<String> excludeTables = EXCL_TABLES.parse(element);
       Expression<Boolean> metaCache = META_CACHE.parse(element);
       Expression<Boolean> batch = BATCH.parse(element);
+      Expression<Integer> batchSize = BATCH_SIZE.parse(element);
+      Expression<Long> batchBytes = BATCH_BYTES.parse(element);
+      Expression<Boolean> batchRewrite = BATCH_REWRITE.parse(element);
       Expression<Integer> fetchSize = FETCH_SIZE.parse(element);
       Expression<Boolean> readOnly = READ_ONLY.parse(element);
       Expression<Boolean> lazy = LAZY.parse(element);
@@ -183,7 +203,7 @@ public DefineDatabaseStatement doParse(
           ACC_UNK_COL_TYPES.parse(element), new GlobalAcceptUnknownSimpleTypeExpression());
       return createDatabaseStatement(id, environment, system, url, driver, user,
           password, catalog, schema, tableFilter, includeTables,
-          excludeTables, metaCache, batch, fetchSize, readOnly, lazy,
+          excludeTables, metaCache, batch, batchSize, batchBytes, batchRewrite, fetchSize, readOnly, lazy,
           acceptUnknownColumnTypes, context);
     } catch (ConversionException e) {
       throw ExceptionFactory.getInstance().configurationError("Error parsing <database>", e);
@@ -197,13 +217,15 @@ protected DefineDatabaseStatement createDatabaseStatement(
       Expression<String> catalog, Expression<String> schema,
       Expression<String> tableFilter, Expression<String> includeTables,
       Expression<String> excludeTables, Expression<Boolean> metaCache,
-      Expression<Boolean> batch, Expression<Integer> fetchSize,
+      Expression<Boolean> batch, Expression<Integer> batchSize,
+      Expression<Long> batchBytes, Expression<Boolean> batchRewrite,
+      Expression<Integer> fetchSize,
       Expression<Boolean> readOnly, Expression<Boolean> lazy,
       Expression<Boolean> acceptUnknownColumnTypes,
       BeneratorParseContext context) {
     return new DefineDatabaseStatement(id, environment, system, url, driver, user, password, catalog, schema,
         metaCache, tableFilter, includeTables, excludeTables,
-        batch, fetchSize, readOnly, lazy, acceptUnknownColumnTypes, context.getResourceManager());
+        batch, batchSize, batchBytes, batchRewrite, fetchSize, readOnly, lazy, acceptUnknownColumnTypes, context.getResourceManager());
   }
 
   static class GlobalAcceptUnknownSimpleTypeExpression extends DynamicExpression<Boolean> {
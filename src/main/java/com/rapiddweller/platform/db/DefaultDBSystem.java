@@ -34,6 +34,7 @@
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.List;
 
 /**
@@ -87,6 +88,16 @@ protected PreparedStatement getSelectByPKStatement(
     return connectionHolder.getSelectByPKStatement(descriptor);
   }
 
+  @Override
+  protected PreparedStatement getSelectByColumnValuesStatement(String sql) {
+    return connectionHolder.getSelectByColumnValuesStatement(sql);
+  }
+
+  @Override
+  protected void releaseSelectByColumnValuesStatement(PreparedStatement statement) {
+    // the statement is cached and closed by the connection holder
+  }
+
   @Override
   protected PreparedStatement getStatement(ComplexTypeDescriptor descriptor,
                                            boolean insert,
@@ -94,4 +105,14 @@ protected PreparedStatement getStatement(ComplexTypeDescriptor descriptor,
     return connectionHolder.getStatement(descriptor, insert, columnInfos);
   }
 
+  @Override
+  protected void addBatch(String tableName, PreparedStatement statement, long rowBytes) throws SQLException {
+    connectionHolder.addBatch(tableName, statement, rowBytes);
+  }
+
+  /** @return the throughput of the executed JDBC batches per table */
+  public List<BatchThroughput> getBatchThroughputs() {
+    return connectionHolder.getBatchThroughputs();
+  }
+
 }
@@ -59,6 +59,9 @@ public class DefineDatabaseStatement implements Statement {
   private final Expression<String> includeTables;
   private final Expression<String> excludeTables;
   private final Expression<Boolean> batch;
+  private final Expression<Integer> batchSize;
+  private final Expression<Long> batchBytes;
+  private final Expression<Boolean> batchRewrite;
   private final Expression<Integer> fetchSize;
   private final Expression<Boolean> readOnly;
   private final Expression<Boolean> lazy;
@@ -69,7 +72,9 @@ public DefineDatabaseStatement(Expression<String> id, Expression<String> environ
                                  Expression<String> url, Expression<String> driver, Expression<String> user, Expression<String> password,
                                  Expression<String> catalog, Expression<String> schema, Expression<Boolean> metaCache,
                                  Expression<String> tableFilter, Expression<String> includeTables, Expression<String> excludeTables,
-                                 Expression<Boolean> batch, Expression<Integer> fetchSize, Expression<Boolean> readOnly, Expression<Boolean> lazy,
+                                 Expression<Boolean> batch, Expression<Integer> batchSize, Expression<Long> batchBytes,
+                                 Expression<Boolean> batchRewrite,
+                                 Expression<Integer> fetchSize, Expression<Boolean> readOnly, Expression<Boolean> lazy,
                                  Expression<Boolean> acceptUnknownColumnTypes, ResourceManager resourceManager) {
     if (id == null) {
       throw BeneratorExceptionFactory.getInstance().configurationError("No database id defined");
@@ -88,6 +93,9 @@ public DefineDatabaseStatement(Expression<String> id, Expression<String> environ
     this.includeTables = includeTables;
     this.excludeTables = excludeTables;
     this.batch = batch;
+    this.batchSize = batchSize;
+    this.batchBytes = batchBytes;
+    this.batchRewrite = batchRewrite;
     this.fetchSize = fetchSize;
     this.readOnly = readOnly;
     this.lazy = lazy;
@@ -151,6 +159,9 @@ public boolean execute(BeneratorContext context) {
     db.setIncludeTables(ExpressionUtil.evaluate(includeTables, context));
     db.setExcludeTables(ExpressionUtil.evaluate(excludeTables, context));
     db.setBatch(ExpressionUtil.evaluate(batch, context));
+    db.setBatchSize(ExpressionUtil.evaluate(batchSize, context));
+    db.setBatchBytes(ExpressionUtil.evaluate(batchBytes, context));
+    db.setBatchRewrite(ExpressionUtil.evaluate(batchRewrite, context));
     db.setFetchSize(ExpressionUtil.evaluate(fetchSize, context));
     db.setReadOnly(ExpressionUtil.evaluate(readOnly, context));
     Boolean isLazy = ExpressionUtil.evaluate(lazy, context);
@@ -26,6 +26,8 @@
 
 package com.rapiddweller.platform.db;
 
+import com.rapiddweller.benerator.sample.IndexedSource;
+import com.rapiddweller.benerator.sample.IndexedSourceProvider;
 import com.rapiddweller.format.DataIterator;
 import com.rapiddweller.format.DataSource;
 import com.rapiddweller.model.data.AbstractEntitySource;
@@ -36,17 +38,25 @@
 
 /**
  * Iterates a ResultSet, returning Entities.
+ * If an {@link IndexedSourceProvider} is specified, it is used for random access to the entities.
  * @author Volker Bergmann
  * @since 0.3.04
  */
-public class EntityResultSetDataSource extends AbstractEntitySource {
+public class EntityResultSetDataSource extends AbstractEntitySource implements IndexedSourceProvider<Entity> {
 
   private final DataSource<ResultSet> source;
   private final ComplexTypeDescriptor entityDescriptor;
+  private final IndexedSourceProvider<Entity> indexProvider;
 
   public EntityResultSetDataSource(DataSource<ResultSet> source, ComplexTypeDescriptor entityDescriptor) {
+    this(source, entityDescriptor, null);
+  }
+
+  public EntityResultSetDataSource(DataSource<ResultSet> source, ComplexTypeDescriptor entityDescriptor,
+                                   IndexedSourceProvider<Entity> indexProvider) {
     this.source = source;
     this.entityDescriptor = entityDescriptor;
+    this.indexProvider = indexProvider;
   }
 
   @Override
@@ -54,6 +64,11 @@ public DataIterator<Entity> iterator() {
     return new ResultSetEntityIterator(source.iterator(), entityDescriptor);
   }
 
+  @Override
+  public IndexedSource<Entity> createIndexedSource() {
+    return (indexProvider != null ? indexProvider.createIndexedSource() : null);
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + '[' + source + ']';
@@ -29,6 +29,7 @@
 import com.rapiddweller.jdbacl.model.DBTable;
 import com.rapiddweller.model.data.ComplexTypeDescriptor;
 import com.rapiddweller.model.data.ComponentDescriptor;
+import com.rapiddweller.model.data.ComponentIndex;
 import com.rapiddweller.model.data.InstanceDescriptor;
 import com.rapiddweller.model.data.ReferenceDescriptor;
 import com.rapiddweller.model.data.VariableDescriptor;
@@ -86,6 +87,12 @@ public ComponentDescriptor getComponent(String name) {
     return super.getComponent(name);
   }
 
+  @Override
+  public ComponentIndex getComponentIndex() {
+    assureLoaded();
+    return super.getComponentIndex();
+  }
+
   @Override
   public List<ComponentDescriptor> getComponents() {
     assureLoaded();
@@ -33,6 +33,7 @@
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
 import com.rapiddweller.benerator.util.UnsafeNonNullGenerator;
 import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.converter.AnyConverter;
 import com.rapiddweller.format.DataContainer;
 import com.rapiddweller.format.DataIterator;
 import com.rapiddweller.format.DataSource;
@@ -46,10 +47,21 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
- * Uses a database table to fetch and increment values like a database sequence.<br/><br/>
+ * Uses a database table to fetch and increment values like a database sequence.
+ * By default, each value is read and incremented in the table individually.
+ * With a {@link #setBlockSize(int) blockSize} greater than 1, a block of values is reserved
+ * by a single conditional update of the table value and handed out locally, keeping one block
+ * per selector value or parameter combination. On {@link #close()}, the unused values of a block
+ * are returned if the table value has not been changed since the reservation.<br/><br/>
  * Created: 09.08.2010 14:44:06
  * @param <E> the type parameter
  * @author Volker Bergmann
@@ -57,7 +69,13 @@
  */
 public class SequenceTableGenerator<E extends Number> extends UnsafeNonNullGenerator<E> {
 
+  /** The number of attempts for reserving a block, if the table value is changed concurrently */
+  private static final int MAX_RESERVATION_ATTEMPTS = 100;
+
+  private static final Object[] NO_PARAMS = new Object[0];
+
   protected long increment;
+  private int blockSize;
   private String table;
   private String column;
   private AbstractDBSystem database;
@@ -65,6 +83,7 @@
   private String query;
   private IncrementorStrategy incrementorStrategy;
   private PreparedStatement parameterizedAccessorStatement;
+  private final Map<Object, Block> blocks;
 
   public SequenceTableGenerator() {
     this(null, null, null);
@@ -81,6 +100,8 @@ public SequenceTableGenerator(String table, String column, AbstractDBSystem db,
     this.database = db;
     this.selector = selector;
     this.increment = 1L;
+    this.blockSize = 1;
+    this.blocks = new ConcurrentHashMap<>();
   }
 
   public void setTable(String table) {
@@ -103,6 +124,11 @@ public void setIncrement(long increment) {
     this.increment = increment;
   }
 
+  /** Sets the number of values to reserve with one table update. The default 1 updates the table for each value. */
+  public void setBlockSize(int blockSize) {
+    this.blockSize = blockSize;
+  }
+
   // Generator interface implementation ------------------------------------------------------------------------------
 
   @Override
@@ -118,17 +144,25 @@ public void init(GeneratorContext context) throws InvalidGeneratorSetupException
     if (database == null) {
       throw new InvalidGeneratorSetupException("db is null");
     }
+    if (blockSize < 1) {
+      throw new InvalidGeneratorSetupException("blockSize", "must be positive, but is " + blockSize);
+    }
     // initialize
     query = SQLUtil.renderQuery(database.getCatalog(), database.getSchema(),
         table, column, selector, database.getDialect());
-    incrementorStrategy = createIncrementor();
+    if (blockSize == 1) {
+      incrementorStrategy = createIncrementor();
+    }
     super.init(context);
   }
 
-  private IncrementorStrategy createIncrementor() {
+  private String renderTableName() {
     DatabaseDialect dialect = database.getDialect();
-    String renderedTableName = (dialect.quoteTableNames ? '"' + table + '"' : table);
-    String incrementorSql = "update " + renderedTableName + " set " + column + " = ?";
+    return (dialect.quoteTableNames ? '"' + table + '"' : table);
+  }
+
+  private IncrementorStrategy createIncrementor() {
+    String incrementorSql = "update " + renderTableName() + " set " + column + " = ?";
     if (selector != null) {
       incrementorSql = ScriptUtil.combineScriptableParts(incrementorSql, " where ", selector);
     }
@@ -146,6 +180,9 @@ public E generate() {
       return null;
     }
     assertInitialized();
+    if (blockSize > 1) {
+      return generateFromBlock(NO_PARAMS);
+    }
     DataSource<?> iterable = database.query(query, true, context);
     DataIterator<?> iterator = null;
     E result;
@@ -169,6 +206,9 @@ public E generateWithParams(Object... params) {
     if (this.state == GeneratorState.CLOSED) {
       return null;
     }
+    if (blockSize > 1) {
+      return generateFromBlock(params);
+    }
     ResultSet resultSet = null;
     E result = null;
     try {
@@ -197,6 +237,9 @@ public E generateWithParams(Object... params) {
 
   @Override
   public void close() {
+    if (this.state != GeneratorState.CLOSED) {
+      returnUnusedValues();
+    }
     IOUtil.close(incrementorStrategy);
     DBUtil.close(parameterizedAccessorStatement);
     super.close();
@@ -207,6 +250,137 @@ public String toString() {
     return getClass().getSimpleName() + "[" + selector + "]";
   }
 
+  // block reservation ---------------------------------------------------------------------------------------------
+
+  @SuppressWarnings("unchecked")
+  private E generateFromBlock(Object[] params) {
+    String selectorText = evaluateSelector();
+    Object key = blockKey(selectorText, params);
+    Block block = blocks.get(key);
+    long value = (block != null ? block.next(increment) : -1);
+    if (block == null || value >= block.end) {
+      synchronized (blocks) {
+        block = blocks.get(key);
+        value = (block != null ? block.next(increment) : -1);
+        if (block == null || value >= block.end) {
+          block = reserveBlock(selectorText, params);
+          if (block == null) {
+            close();
+            return null;
+          }
+          blocks.put(key, block);
+          value = block.next(increment);
+        }
+      }
+    }
+    return (E) (block.type == Long.class ? Long.valueOf(value) : AnyConverter.convert(value, block.type));
+  }
+
+  private String evaluateSelector() {
+    if (selector != null && ScriptUtil.isScript(selector)) {
+      return String.valueOf(ScriptUtil.parseUnspecificText(selector).evaluate(context));
+    }
+    return selector;
+  }
+
+  private static Object blockKey(String selectorText, Object[] params) {
+    List<Object> key = new ArrayList<>(params.length + 1);
+    key.add(selectorText);
+    key.addAll(Arrays.asList(params));
+    return key;
+  }
+
+  /** Reads the current table value and advances it by a block of values if it was not changed in between. */
+  private Block reserveBlock(String selectorText, Object[] params) {
+    for (int attempt = 0; attempt < MAX_RESERVATION_ATTEMPTS; attempt++) {
+      Number current = queryCurrentValue(selectorText, params);
+      if (current == null) {
+        return null;
+      }
+      long start = current.longValue();
+      long end = start + blockSize * increment;
+      if (updateValue(selectorText, params, start, end)) {
+        return new Block(selectorText, params, start, end, current.getClass());
+      }
+    }
+    throw BeneratorExceptionFactory.getInstance().illegalGeneratorState("Failed to reserve a block of "
+        + blockSize + " values in " + MAX_RESERVATION_ATTEMPTS + " attempts: " + this);
+  }
+
+  private Number queryCurrentValue(String selectorText, Object[] params) {
+    String sql = SQLUtil.renderQuery(database.getCatalog(), database.getSchema(),
+        table, column, selectorText, database.getDialect());
+    try (PreparedStatement statement = database.getConnection().prepareStatement(sql)) {
+      for (int i = 0; i < params.length; i++) {
+        statement.setObject(i + 1, params[i]);
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return (resultSet.next() ? (Number) resultSet.getObject(1) : null);
+      }
+    } catch (SQLException e) {
+      throw BeneratorExceptionFactory.getInstance().dbQueryFailed(
+          "Error fetching value in " + getClass().getSimpleName(), e);
+    }
+  }
+
+  /** Sets the table value to newValue if it still has the expected value.
+   *  @return true if the value was updated, false if it has been changed concurrently */
+  private boolean updateValue(String selectorText, Object[] params, long expectedValue, long newValue) {
+    String condition = column + " = ?";
+    if (selectorText != null) {
+      condition = "(" + selectorText + ") and " + condition;
+    }
+    String sql = "update " + renderTableName() + " set " + column + " = ? where " + condition;
+    try (PreparedStatement statement = database.getConnection().prepareStatement(sql)) {
+      statement.setLong(1, newValue);
+      for (int i = 0; i < params.length; i++) {
+        statement.setObject(2 + i, params[i]);
+      }
+      statement.setLong(2 + params.length, expectedValue);
+      return (statement.executeUpdate() > 0);
+    } catch (SQLException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Failed to run SQL: " + sql, e);
+    }
+  }
+
+  /** Sets the table values back to the first unused value of each block,
+   *  unless they have been advanced by another client since the reservation. */
+  private void returnUnusedValues() {
+    for (Block block : blocks.values()) {
+      long next = block.cursor.get();
+      if (next < block.end) {
+        try {
+          updateValue(block.selector, block.params, block.end, next);
+        } catch (RuntimeException e) {
+          logger.warn("Failed to return unused values {}..{} of {}", next, block.end - 1, this, e);
+        }
+      }
+    }
+    blocks.clear();
+  }
+
+  /** Range of reserved values which are handed out without accessing the database. */
+  private static final class Block {
+
+    final String selector;
+    final Object[] params;
+    final long end;
+    final AtomicLong cursor;
+    final Class<? extends Number> type;
+
+    Block(String selector, Object[] params, long start, long end, Class<? extends Number> type) {
+      this.selector = selector;
+      this.params = params.clone();
+      this.end = end;
+      this.cursor = new AtomicLong(start);
+      this.type = type;
+    }
+
+    long next(long increment) {
+      return cursor.getAndAdd(increment);
+    }
+  }
+
   // IncrementorStrategy ---------------------------------------------------------------------------------------------
 
   interface IncrementorStrategy extends Closeable {
@@ -0,0 +1,63 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Collects rows in the JDBC batch of a {@link PreparedStatement} and tells when the batch
+ * has reached a maximum number of rows or (estimated) bytes, so that it can be executed
+ * before driver memory consumption grows with the page size.<br/><br/>
+ * Created: 18.10.2026 14:56:12
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+class StatementBatch {
+
+  private final PreparedStatement statement;
+  private final BatchThroughput throughput;
+  private final int maxRows;
+  private final long maxBytes;
+  private int rows;
+  private long bytes;
+
+  /** @param statement the statement of which to manage the batch
+   *  @param throughput the {@link BatchThroughput} in which to record executed batches
+   *  @param maxRows the maximum number of rows in a batch, or 0 for no limit
+   *  @param maxBytes the maximum estimated number of bytes in a batch, or 0 for no limit */
+  StatementBatch(PreparedStatement statement, BatchThroughput throughput, int maxRows, long maxBytes) {
+    this.statement = statement;
+    this.throughput = throughput;
+    this.maxRows = maxRows;
+    this.maxBytes = maxBytes;
+    this.rows = 0;
+    this.bytes = 0;
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  /** Adds the current parameters of the statement to its batch.
+   *  @return true if the batch has reached the row or byte limit and needs to be executed */
+  public boolean add(long rowBytes) throws SQLException {
+    statement.addBatch();
+    rows++;
+    bytes += rowBytes;
+    return ((maxRows > 0 && rows >= maxRows) || (maxBytes > 0 && bytes >= maxBytes));
+  }
+
+  /** Executes the pending rows of the batch, if any. */
+  public void execute() throws SQLException {
+    if (rows == 0) {
+      return;
+    }
+    long startNanos = System.nanoTime();
+    statement.executeBatch();
+    throughput.addBatch(rows, System.nanoTime() - startNanos);
+    rows = 0;
+    bytes = 0;
+  }
+
+}
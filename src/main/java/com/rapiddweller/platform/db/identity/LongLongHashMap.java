@@ -0,0 +1,153 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db.identity;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map with primitive long keys and values,
+ * which uses 16 bytes per slot and no objects per entry.<br/><br/>
+ * Created: 18.10.2026 13:12:40
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+class LongLongHashMap {
+
+  private static final int MIN_CAPACITY = 16;
+
+  /** The key 0 marks free slots, so an entry with key 0 is held separately. */
+  private static final long FREE = 0L;
+
+  private long[] keys;
+  private long[] values;
+  private int mask;
+  private int size;
+  private boolean hasFreeKey;
+  private long freeKeyValue;
+
+  LongLongHashMap() {
+    this(MIN_CAPACITY);
+  }
+
+  LongLongHashMap(int initialCapacity) {
+    allocate(Integer.highestOneBit(Math.max(MIN_CAPACITY, initialCapacity - 1) << 1));
+    this.size = 0;
+    this.hasFreeKey = false;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /** @return the number of bytes occupied by the slot arrays */
+  public long memoryBytes() {
+    return 16L * keys.length;
+  }
+
+  public long get(long key, long defaultValue) {
+    if (key == FREE) {
+      return (hasFreeKey ? freeKeyValue : defaultValue);
+    }
+    for (int i = slot(key); ; i = (i + 1) & mask) {
+      long k = keys[i];
+      if (k == key) {
+        return values[i];
+      } else if (k == FREE) {
+        return defaultValue;
+      }
+    }
+  }
+
+  public boolean containsKey(long key) {
+    if (key == FREE) {
+      return hasFreeKey;
+    }
+    for (int i = slot(key); ; i = (i + 1) & mask) {
+      long k = keys[i];
+      if (k == key) {
+        return true;
+      } else if (k == FREE) {
+        return false;
+      }
+    }
+  }
+
+  /** @return true if the key was added, false if the value of an existing key was replaced */
+  public boolean put(long key, long value) {
+    if (key == FREE) {
+      boolean added = !hasFreeKey;
+      hasFreeKey = true;
+      freeKeyValue = value;
+      if (added) {
+        size++;
+      }
+      return added;
+    }
+    for (int i = slot(key); ; i = (i + 1) & mask) {
+      long k = keys[i];
+      if (k == key) {
+        values[i] = value;
+        return false;
+      } else if (k == FREE) {
+        keys[i] = key;
+        values[i] = value;
+        if (++size > keys.length / 2) {
+          rehash(keys.length * 2);
+        }
+        return true;
+      }
+    }
+  }
+
+  /** Copies all entries into two arrays ordered by key.
+   *  @return an array with the sorted keys at index 0 and the related values at index 1 */
+  public long[][] sortedEntries() {
+    long[] sortedKeys = new long[size];
+    int n = 0;
+    if (hasFreeKey) {
+      sortedKeys[n++] = FREE;
+    }
+    for (long key : keys) {
+      if (key != FREE) {
+        sortedKeys[n++] = key;
+      }
+    }
+    Arrays.sort(sortedKeys);
+    long[] sortedValues = new long[size];
+    for (int i = 0; i < size; i++) {
+      sortedValues[i] = get(sortedKeys[i], 0);
+    }
+    return new long[][] { sortedKeys, sortedValues };
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private int slot(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  private void allocate(int capacity) {
+    this.keys = new long[capacity];
+    this.values = new long[capacity];
+    this.mask = capacity - 1;
+  }
+
+  private void rehash(int capacity) {
+    long[] oldKeys = keys;
+    long[] oldValues = values;
+    allocate(capacity);
+    for (int i = 0; i < oldKeys.length; i++) {
+      long key = oldKeys[i];
+      if (key != FREE) {
+        int j = slot(key);
+        while (keys[j] != FREE) {
+          j = (j + 1) & mask;
+        }
+        keys[j] = key;
+        values[j] = oldValues[i];
+      }
+    }
+  }
+
+}
@@ -0,0 +1,201 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db.identity;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+/**
+ * Read-only file of long key-value pairs in ascending key order, which is memory-mapped
+ * in segments of 1 GB and searched binarily. The operating system decides which
+ * parts of the file are held in memory.<br/><br/>
+ * Created: 18.10.2026 13:31:05
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+class LongLongRun implements Closeable {
+
+  private static final Logger logger = LoggerFactory.getLogger(LongLongRun.class);
+
+  static final int ENTRY_BYTES = 16;
+  static final long SEGMENT_BYTES = 1L << 30;
+  private static final long ENTRIES_PER_SEGMENT = SEGMENT_BYTES / ENTRY_BYTES;
+
+  private final File file;
+  private final long entryCount;
+  private MappedByteBuffer[] segments;
+
+  private LongLongRun(File file, long entryCount) throws IOException {
+    this.file = file;
+    this.entryCount = entryCount;
+    long fileSize = entryCount * ENTRY_BYTES;
+    this.segments = new MappedByteBuffer[(int) ((fileSize + SEGMENT_BYTES - 1) / SEGMENT_BYTES)];
+    try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+      for (int i = 0; i < segments.length; i++) {
+        long position = i * SEGMENT_BYTES;
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_BYTES, fileSize - position));
+      }
+    }
+  }
+
+  /** Writes sorted entries to a file and maps it.
+   *  @param file the file to write
+   *  @param keys the keys in ascending order
+   *  @param values the values related to the keys */
+  static LongLongRun write(File file, long[] keys, long[] values) {
+    try (DataOutputStream out = open(file)) {
+      for (int i = 0; i < keys.length; i++) {
+        out.writeLong(keys[i]);
+        out.writeLong(values[i]);
+      }
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().fileCreationFailed("Error writing key run " + file, e);
+    }
+    return map(file, keys.length);
+  }
+
+  /** Merges runs into a new file. If a key occurs in several runs, the value of the latest run is used.
+   *  @param file the file to write
+   *  @param runs the runs to merge, the oldest first */
+  static LongLongRun merge(File file, List<LongLongRun> runs) {
+    long[] cursors = new long[runs.size()];
+    long count = 0;
+    try (DataOutputStream out = open(file)) {
+      while (true) {
+        // find the smallest key
+        boolean found = false;
+        long minKey = 0;
+        for (int i = 0; i < cursors.length; i++) {
+          if (cursors[i] < runs.get(i).entryCount) {
+            long key = runs.get(i).keyAt(cursors[i]);
+            if (!found || key < minKey) {
+              minKey = key;
+              found = true;
+            }
+          }
+        }
+        if (!found) {
+          break;
+        }
+        // take the value of the latest run and skip the key in all runs
+        long value = 0;
+        for (int i = 0; i < cursors.length; i++) {
+          if (cursors[i] < runs.get(i).entryCount && runs.get(i).keyAt(cursors[i]) == minKey) {
+            value = runs.get(i).valueAt(cursors[i]);
+            cursors[i]++;
+          }
+        }
+        out.writeLong(minKey);
+        out.writeLong(value);
+        count++;
+      }
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().fileCreationFailed("Error merging key runs to " + file, e);
+    }
+    return map(file, count);
+  }
+
+  public long getEntryCount() {
+    return entryCount;
+  }
+
+  public long getFileSize() {
+    return entryCount * ENTRY_BYTES;
+  }
+
+  public long get(long key, long defaultValue) {
+    long index = indexOf(key);
+    return (index >= 0 ? valueAt(index) : defaultValue);
+  }
+
+  /** @return the index of the entry with the key or -1 if the key is not contained */
+  long indexOf(long key) {
+    long low = 0;
+    long high = entryCount - 1;
+    while (low <= high) {
+      long mid = (low + high) >>> 1;
+      long midKey = keyAt(mid);
+      if (midKey < key) {
+        low = mid + 1;
+      } else if (midKey > key) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -1;
+  }
+
+  long valueAt(long index) {
+    return segments[(int) (index / ENTRIES_PER_SEGMENT)].getLong((int) (index % ENTRIES_PER_SEGMENT) * ENTRY_BYTES + 8);
+  }
+
+  /** Unmaps the segments and deletes the file. The run must not be used any more afterwards.
+   *  If the JVM does not permit unmapping, the file is deleted on exit, since some operating systems
+   *  like Windows refuse to delete files which are still mapped. */
+  @Override
+  public void close() {
+    boolean unmapped = true;
+    for (MappedByteBuffer segment : segments) {
+      unmapped &= unmap(segment);
+    }
+    segments = null;
+    if (!unmapped || !file.delete()) {
+      file.deleteOnExit();
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static DataOutputStream open(File file) throws IOException {
+    return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16));
+  }
+
+  private static LongLongRun map(File file, long entryCount) {
+    try {
+      return new LongLongRun(file, entryCount);
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().fileAccessException("Error mapping key run " + file, e);
+    }
+  }
+
+  /** Releases the memory mapping of a buffer immediately instead of leaving it to garbage collection.
+   *  The JDK offers no public API for this, so the method uses sun.misc.Unsafe.invokeCleaner() reflectively.
+   *  @return true if the buffer was unmapped */
+  private static boolean unmap(MappedByteBuffer buffer) {
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(theUnsafe.get(null), buffer);
+      return true;
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      logger.debug("Unable to unmap buffer", e);
+      return false;
+    }
+  }
+
+  private long keyAt(long index) {
+    return segments[(int) (index / ENTRIES_PER_SEGMENT)].getLong((int) (index % ENTRIES_PER_SEGMENT) * ENTRY_BYTES);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + file.getName() + ", " + entryCount + " entries]";
+  }
+
+}
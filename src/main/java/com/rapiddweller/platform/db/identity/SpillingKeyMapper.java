@@ -0,0 +1,433 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db.identity;
+
+import com.rapiddweller.common.FileUtil;
+import com.rapiddweller.common.HF;
+import com.rapiddweller.common.bean.ObjectOrArray;
+import com.rapiddweller.common.exception.ExceptionFactory;
+import com.rapiddweller.common.iterator.TabularIterator;
+import com.rapiddweller.jdbacl.identity.IdentityModel;
+import com.rapiddweller.jdbacl.identity.IdentityProvider;
+import com.rapiddweller.jdbacl.identity.KeyMapper;
+import com.rapiddweller.jdbacl.identity.mem.MemKeyMapper;
+import com.rapiddweller.jdbacl.model.Database;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link KeyMapper} for transcoding very large tables. It behaves like the {@link MemKeyMapper},
+ * but stores source-to-target primary key mappings of integral numbers in primitive long maps
+ * and moves them to memory-mapped files when their memory consumption exceeds a limit.
+ * Mappings of other key types and natural keys are held on the heap.<br/><br/>
+ * Created: 18.10.2026 14:08:33
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class SpillingKeyMapper extends KeyMapper implements Closeable {
+
+  private static final Logger logger = LoggerFactory.getLogger(SpillingKeyMapper.class);
+
+  public static final long DEFAULT_MEMORY_LIMIT = 256L * 1024 * 1024;
+
+  /** Estimated number of bytes per long mapping in memory, considering a load factor of 0.5. */
+  static final int BYTES_PER_MEMORY_ENTRY = 32;
+
+
+  private final Connection target;
+  private final String targetDbId;
+  private final Database database;
+  private final long memoryLimit;
+  private final Map<String, Connection> sources;
+  private final Map<String, Map<String, SourceTableMapper>> sourceMappers;
+  private final Map<String, TargetTableMapper> targetMappers;
+  private final List<SpillingLongLongMap> longMaps;
+  private File directory;
+
+  private long memoryEntryCount;
+  private long longMappingCount;
+  private long objectMappingCount;
+  private long spilledEntryCount;
+  private long storeCount;
+  private long lookupCount;
+  private long nanos;
+
+  /** @param target the connection to the target database
+   *  @param targetDbId the id of the target database
+   *  @param identityProvider the provider of the identity definitions
+   *  @param database the meta data of the target database
+   *  @param memoryLimit the number of bytes which may be used for long mappings before they are moved to files */
+  public SpillingKeyMapper(Connection target, String targetDbId, IdentityProvider identityProvider,
+                           Database database, long memoryLimit) {
+    super(identityProvider);
+    this.target = target;
+    this.targetDbId = targetDbId;
+    this.database = database;
+    this.memoryLimit = memoryLimit;
+    this.sources = new HashMap<>();
+    this.sourceMappers = new HashMap<>();
+    this.targetMappers = new HashMap<>();
+    this.longMaps = new ArrayList<>();
+    this.directory = null;
+  }
+
+  // KeyMapper interface implementation ------------------------------------------------------------------------------
+
+  @Override
+  public void registerSource(String sourceDbId, Connection connection) {
+    sources.putIfAbsent(sourceDbId, connection);
+  }
+
+  @Override
+  public void store(String sourceDbId, IdentityModel identity, String naturalKey, Object sourcePK, Object targetPK) {
+    long startNanos = System.nanoTime();
+    if (targetPK != null) {
+      getTargetMapper(identity).storeNk(targetPK, naturalKey);
+    }
+    getSourceMapper(sourceDbId, identity).store(sourcePK, naturalKey, targetPK);
+    storeCount++;
+    nanos += System.nanoTime() - startNanos;
+  }
+
+  @Override
+  public Object getTargetPK(String sourceDbId, IdentityModel identity, Object sourcePK) {
+    long startNanos = System.nanoTime();
+    Object result = getSourceMapper(sourceDbId, identity).getTargetPK(sourcePK);
+    lookupCount++;
+    nanos += System.nanoTime() - startNanos;
+    return result;
+  }
+
+  @Override
+  public Object getTargetPK(IdentityModel identity, String naturalKey) {
+    long startNanos = System.nanoTime();
+    Object result = getTargetMapper(identity).getTargetPK(naturalKey);
+    lookupCount++;
+    nanos += System.nanoTime() - startNanos;
+    return result;
+  }
+
+  @Override
+  public String getNaturalKey(String dbId, IdentityModel identity, Object pk) {
+    long startNanos = System.nanoTime();
+    String result;
+    if (dbId.equals(targetDbId)) {
+      result = getTargetMapper(identity).getNaturalKey(pk);
+    } else {
+      result = getSourceMapper(dbId, identity).getNaturalKey(pk);
+    }
+    lookupCount++;
+    nanos += System.nanoTime() - startNanos;
+    return result;
+  }
+
+  // metrics ---------------------------------------------------------------------------------------------------------
+
+  /** @return the number of primary key mappings stored as primitive longs.
+   *  Overwriting a mapping which has already been moved to a file is counted as a new mapping */
+  public long getLongMappingCount() {
+    return longMappingCount;
+  }
+
+  /** @return the number of primary key mappings stored as objects on the heap */
+  public long getObjectMappingCount() {
+    return objectMappingCount;
+  }
+
+  /** @return the number of long mappings which have been moved to files */
+  public long getSpilledEntryCount() {
+    return spilledEntryCount;
+  }
+
+  public long getMemoryBytes() {
+    long bytes = 0;
+    for (SpillingLongLongMap map : longMaps) {
+      bytes += map.getMemoryBytes();
+    }
+    return bytes;
+  }
+
+  public long getDiskBytes() {
+    long bytes = 0;
+    for (SpillingLongLongMap map : longMaps) {
+      bytes += map.getDiskBytes();
+    }
+    return bytes;
+  }
+
+  public int getFileCount() {
+    int count = 0;
+    for (SpillingLongLongMap map : longMaps) {
+      count += map.getRunCount();
+    }
+    return count;
+  }
+
+  /** @return the number of store and lookup operations per second, measured inside the mapper */
+  public double getOperationsPerSecond() {
+    return (nanos > 0 ? (storeCount + lookupCount) * 1E9 / nanos : 0);
+  }
+
+  public String getMetrics() {
+    return HF.pluralize(longMappingCount, "long mapping") + " (" + HF.format(spilledEntryCount) + " spilled to " +
+        HF.pluralize(getFileCount(), "file") + " of " + HF.format(getDiskBytes() / 1024) + " kB, " +
+        HF.format(getMemoryBytes() / 1024) + " kB in memory), " +
+        HF.pluralize(objectMappingCount, "object mapping") + ", " +
+        HF.format(storeCount) + " stores, " + HF.format(lookupCount) + " lookups, " +
+        HF.format((long) getOperationsPerSecond()) + " ops/s";
+  }
+
+  /** Deletes all files and releases the memory. */
+  @Override
+  public void close() {
+    for (SpillingLongLongMap map : longMaps) {
+      map.close();
+    }
+    longMaps.clear();
+    sourceMappers.clear();
+    targetMappers.clear();
+    if (directory != null) {
+      FileUtil.deleteDirectory(directory);
+      directory = null;
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private SourceTableMapper getSourceMapper(String dbId, IdentityModel identity) {
+    return sourceMappers.computeIfAbsent(dbId, k -> new HashMap<>())
+        .computeIfAbsent(identity.getTableName(), k -> new SourceTableMapper(dbId, identity));
+  }
+
+  private TargetTableMapper getTargetMapper(IdentityModel identity) {
+    return targetMappers.computeIfAbsent(identity.getTableName(), k -> new TargetTableMapper(identity));
+  }
+
+  private SpillingLongLongMap createLongMap(String dbId, String tableName) {
+    if (directory == null) {
+      try {
+        directory = Files.createTempDirectory("benerator-keys-").toFile();
+      } catch (IOException e) {
+        throw ExceptionFactory.getInstance().fileCreationFailed("Error creating directory for key mapping", e);
+      }
+    }
+    SpillingLongLongMap map = new SpillingLongLongMap(directory, dbId + '.' + tableName + '.' + longMaps.size());
+    longMaps.add(map);
+    return map;
+  }
+
+  private void longEntryAdded() {
+    longMappingCount++;
+    if (++memoryEntryCount * BYTES_PER_MEMORY_ENTRY > memoryLimit) {
+      SpillingLongLongMap largest = longMaps.get(0);
+      for (SpillingLongLongMap map : longMaps) {
+        if (map.getMemoryEntryCount() > largest.getMemoryEntryCount()) {
+          largest = map;
+        }
+      }
+      int count = largest.spill();
+      memoryEntryCount -= count;
+      spilledEntryCount += count;
+      logger.debug("Spilled {} key mappings of {}", count, largest);
+    }
+  }
+
+  /** @return true if the value is an integral number which fits into a long */
+  static boolean isLong(Object value) {
+    if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      return true;
+    } else if (value instanceof BigDecimal) {
+      BigDecimal decimal = (BigDecimal) value;
+      if (decimal.signum() == 0) {
+        return true;
+      }
+      decimal = decimal.stripTrailingZeros();
+      return (decimal.scale() <= 0 && decimal.precision() - decimal.scale() < 19);
+    } else {
+      return (value instanceof BigInteger && ((BigInteger) value).bitLength() < 64);
+    }
+  }
+
+  /** @return the long value of a number for which {@link #isLong(Object)} returned true */
+  static long toLong(Object value) {
+    if (value instanceof BigDecimal) {
+      BigDecimal decimal = (BigDecimal) value;
+      return (decimal.signum() == 0 ? 0 : decimal.stripTrailingZeros().longValueExact());
+    }
+    return ((Number) value).longValue();
+  }
+
+  static Object fromLong(long value, Class<?> type) {
+    if (type == Integer.class) {
+      return (int) value;
+    } else if (type == Short.class) {
+      return (short) value;
+    } else if (type == Byte.class) {
+      return (byte) value;
+    } else if (type == BigDecimal.class) {
+      return BigDecimal.valueOf(value);
+    } else if (type == BigInteger.class) {
+      return BigInteger.valueOf(value);
+    } else {
+      return value;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + targetDbId + "]";
+  }
+
+  // table mappers ---------------------------------------------------------------------------------------------------
+
+  /** Maps primary keys to natural keys of one table. If it is queried before the first store() call,
+   *  it imports the natural keys of all table rows from the database. */
+  private abstract class AbstractTableMapper {
+
+    final String dbId;
+    final IdentityModel identity;
+    final Map<ObjectOrArray, String> pkToNk;
+    boolean initialized;
+
+    AbstractTableMapper(String dbId, IdentityModel identity) {
+      this.dbId = dbId;
+      this.identity = identity;
+      this.pkToNk = new HashMap<>();
+      this.initialized = false;
+    }
+
+    void storeNk(Object pk, String nk) {
+      initialized = true;
+      if (nk != null) {
+        pkToNk.put(new ObjectOrArray(pk), nk);
+      }
+    }
+
+    String getNaturalKey(Object pk) {
+      assureInitialized();
+      return pkToNk.get(new ObjectOrArray(pk));
+    }
+
+    abstract Connection getConnection();
+
+    void assureInitialized() {
+      if (initialized) {
+        return;
+      }
+      initialized = true;
+      logger.debug("Populating key mapper for table {} on database {}", identity.getTableName(), dbId);
+      try (TabularIterator iterator = identity.createNkPkIterator(
+          getConnection(), dbId, SpillingKeyMapper.this, database)) {
+        while (iterator.hasNext()) {
+          Object[] row = iterator.next();
+          storeNk(identity.extractPK(row), identity.extractNK(row));
+        }
+      } catch (IOException e) {
+        throw ExceptionFactory.getInstance().operationFailed(
+            "Error populating key mapper for table " + identity.getTableName(), e);
+      }
+    }
+  }
+
+  private class SourceTableMapper extends AbstractTableMapper {
+
+    private SpillingLongLongMap longPkToTargetPk;
+    private Class<?> targetPkType;
+    private final Map<ObjectOrArray, Object> objectPkToTargetPk;
+
+    SourceTableMapper(String dbId, IdentityModel identity) {
+      super(dbId, identity);
+      this.longPkToTargetPk = null;
+      this.targetPkType = null;
+      this.objectPkToTargetPk = new HashMap<>();
+    }
+
+    void store(Object sourcePK, String nk, Object targetPK) {
+      storeNk(sourcePK, nk);
+      if (targetPK == null) {
+        return;
+      }
+      if (isLong(sourcePK) && isLong(targetPK) && (targetPkType == null || targetPkType == targetPK.getClass())) {
+        long longSourcePK = toLong(sourcePK);
+        long longTargetPK = toLong(targetPK);
+        if (longPkToTargetPk == null) {
+          longPkToTargetPk = createLongMap(dbId, identity.getTableName());
+          targetPkType = targetPK.getClass();
+        }
+        if (!objectPkToTargetPk.isEmpty() && objectPkToTargetPk.remove(new ObjectOrArray(sourcePK)) != null) {
+          objectMappingCount--;
+        }
+        if (longPkToTargetPk.put(longSourcePK, longTargetPK)) {
+          longEntryAdded();
+        }
+      } else if (objectPkToTargetPk.put(new ObjectOrArray(sourcePK), targetPK) == null) {
+        objectMappingCount++;
+      }
+    }
+
+    Object getTargetPK(Object sourcePK) {
+      assureInitialized();
+      if (!objectPkToTargetPk.isEmpty()) {
+        Object result = objectPkToTargetPk.get(new ObjectOrArray(sourcePK));
+        if (result != null) {
+          return result;
+        }
+      }
+      if (longPkToTargetPk != null && isLong(sourcePK)) {
+        long longSourcePK = toLong(sourcePK);
+        // Long.MIN_VALUE is a legal target PK, so it is only taken as 'not found' if the key is really absent
+        long result = longPkToTargetPk.get(longSourcePK, Long.MIN_VALUE);
+        if (result != Long.MIN_VALUE || longPkToTargetPk.containsKey(longSourcePK)) {
+          return fromLong(result, targetPkType);
+        }
+      }
+      return null;
+    }
+
+    @Override
+    Connection getConnection() {
+      return sources.get(dbId);
+    }
+  }
+
+  private class TargetTableMapper extends AbstractTableMapper {
+
+    private final Map<String, Object> nkToPk;
+
+    TargetTableMapper(IdentityModel identity) {
+      super(targetDbId, identity);
+      this.nkToPk = new HashMap<>();
+    }
+
+    @Override
+    void storeNk(Object pk, String nk) {
+      super.storeNk(pk, nk);
+      if (nk != null) {
+        nkToPk.put(nk, pk);
+      }
+    }
+
+    Object getTargetPK(String nk) {
+      assureInitialized();
+      return nkToPk.get(nk);
+    }
+
+    @Override
+    Connection getConnection() {
+      return target;
+    }
+  }
+
+}
@@ -0,0 +1,139 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db.identity;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Long-to-long map which holds its recent entries in a {@link LongLongHashMap}
+ * and can move them to a sorted, memory-mapped {@link LongLongRun} file on request.
+ * Lookups check the memory first and then the runs from the latest to the oldest.
+ * When the number of runs exceeds {@link #MAX_RUNS}, they are merged into one.<br/><br/>
+ * Created: 18.10.2026 13:52:17
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+class SpillingLongLongMap implements Closeable {
+
+  static final int MAX_RUNS = 8;
+
+  private final File directory;
+  private final String name;
+  private LongLongHashMap memory;
+  private final List<LongLongRun> runs;
+  private int fileCount;
+
+  /** @param directory the directory in which to create run files
+   *  @param name a name which is unique in the directory and used as file name prefix */
+  SpillingLongLongMap(File directory, String name) {
+    this.directory = directory;
+    this.name = name;
+    this.memory = new LongLongHashMap();
+    this.runs = new ArrayList<>();
+    this.fileCount = 0;
+  }
+
+  /** @return true if the key was added to the memory part of the map */
+  public boolean put(long key, long value) {
+    return memory.put(key, value);
+  }
+
+  public long get(long key, long defaultValue) {
+    if (memory.containsKey(key)) {
+      return memory.get(key, defaultValue);
+    }
+    for (int i = runs.size() - 1; i >= 0; i--) {
+      LongLongRun run = runs.get(i);
+      long index = run.indexOf(key);
+      if (index >= 0) {
+        return run.valueAt(index);
+      }
+    }
+    return defaultValue;
+  }
+
+  public boolean containsKey(long key) {
+    if (memory.containsKey(key)) {
+      return true;
+    }
+    for (LongLongRun run : runs) {
+      if (run.indexOf(key) >= 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public int getMemoryEntryCount() {
+    return memory.size();
+  }
+
+  public long getMemoryBytes() {
+    return memory.memoryBytes();
+  }
+
+  public long getDiskEntryCount() {
+    long count = 0;
+    for (LongLongRun run : runs) {
+      count += run.getEntryCount();
+    }
+    return count;
+  }
+
+  public long getDiskBytes() {
+    long bytes = 0;
+    for (LongLongRun run : runs) {
+      bytes += run.getFileSize();
+    }
+    return bytes;
+  }
+
+  public int getRunCount() {
+    return runs.size();
+  }
+
+  /** Writes the memory entries to a new run file and frees the memory.
+   *  @return the number of entries written */
+  public int spill() {
+    int count = memory.size();
+    if (count == 0) {
+      return 0;
+    }
+    long[][] entries = memory.sortedEntries();
+    memory = new LongLongHashMap();
+    runs.add(LongLongRun.write(newFile(), entries[0], entries[1]));
+    if (runs.size() > MAX_RUNS) {
+      LongLongRun merged = LongLongRun.merge(newFile(), runs);
+      for (LongLongRun run : runs) {
+        run.close();
+      }
+      runs.clear();
+      runs.add(merged);
+    }
+    return count;
+  }
+
+  @Override
+  public void close() {
+    for (LongLongRun run : runs) {
+      run.close();
+    }
+    runs.clear();
+    memory = new LongLongHashMap();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private File newFile() {
+    return new File(directory, name + '-' + (fileCount++) + ".keys");
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + name + "]";
+  }
+
+}
@@ -0,0 +1,229 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db.postgres;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.storage.StorageSystemConsumer;
+import com.rapiddweller.common.converter.AnyConverter;
+import com.rapiddweller.jdbacl.ColumnInfo;
+import com.rapiddweller.jdbacl.DatabaseDialect;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.db.AbstractDBSystem;
+import org.postgresql.PGConnection;
+import org.postgresql.util.PGobject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+
+import static com.rapiddweller.jdbacl.SQLUtil.appendColumnName;
+import static com.rapiddweller.jdbacl.SQLUtil.createCatSchTabString;
+
+/**
+ * Bulk-loads entities into PostgreSQL tables using 'COPY ... FROM STDIN' in CSV format.
+ * The rows are collected per page and sent to the database on {@link #flush()},
+ * so that the connection remains available for queries while a page is generated.
+ * When the table or column set of the consumed entities changes,
+ * the rows collected so far are sent first, preserving the order of insertion.
+ * Rows are also sent when they reach {@value #MAX_BUFFER_BYTES} bytes,
+ * so memory consumption is limited for large pages or runs without paging.<br/><br/>
+ * Created: 18.10.2026 16:10:23
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class PostgresCopyInserter extends StorageSystemConsumer {
+
+  private static final Logger logger = LoggerFactory.getLogger(PostgresCopyInserter.class);
+
+  static final int MAX_BUFFER_BYTES = 8 * 1024 * 1024;
+
+  private final AbstractDBSystem db;
+  private String tableName;
+  private List<ColumnInfo> columnInfos;
+  private String copySql;
+  private ByteArrayOutputStream buffer;
+  private Writer writer;
+  private long rowCount;
+
+  public PostgresCopyInserter(AbstractDBSystem db) {
+    super(db);
+    this.db = db;
+    this.tableName = null;
+    this.columnInfos = null;
+    this.copySql = null;
+    this.buffer = new ByteArrayOutputStream();
+    this.writer = new OutputStreamWriter(buffer, StandardCharsets.UTF_8);
+    this.rowCount = 0;
+  }
+
+  @Override
+  public void startProductConsumption(Object object) {
+    Entity entity = (Entity) object;
+    List<ColumnInfo> entityColumns = db.getWriteColumnInfos(entity, true);
+    if (!entity.type().equals(tableName) || !sameColumns(entityColumns, columnInfos)) {
+      sendRows();
+      tableName = entity.type();
+      columnInfos = entityColumns;
+      copySql = copySql(tableName, entityColumns, db);
+    }
+    try {
+      for (int i = 0; i < columnInfos.size(); i++) {
+        ColumnInfo info = columnInfos.get(i);
+        Object value = entity.getComponent(info.name);
+        if (info.type != null) {
+          value = AnyConverter.convert(value, info.type);
+        }
+        if (i > 0) {
+          writer.write(',');
+        }
+        writeCsvValue(value, writer);
+      }
+      writer.write('\n');
+      rowCount++;
+      if (buffer.size() >= MAX_BUFFER_BYTES) {
+        sendRows();
+      }
+    } catch (IOException | SQLException e) {
+      throw BeneratorExceptionFactory.getInstance().serviceFailed("Error in copying " + entity, e);
+    }
+  }
+
+  @Override
+  public void flush() {
+    sendRows();
+    super.flush();
+  }
+
+  @Override
+  public void close() {
+    sendRows();
+    super.close();
+  }
+
+  @Override
+  public boolean isThreadSafe() {
+    return false;
+  }
+
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
+  /** Sends the data to the database. Child classes may override this to capture the COPY stream.
+   *  @param sql the COPY statement
+   *  @param in the rows in CSV format
+   *  @return the number of rows copied */
+  protected long copyIn(String sql, InputStream in) throws SQLException, IOException {
+    PGConnection connection = db.getConnection().unwrap(PGConnection.class);
+    return connection.getCopyAPI().copyIn(sql, in);
+  }
+
+  /** Renders the COPY statement for a table of the database's catalog and schema,
+   *  quoting table and column names like the INSERT statements of the {@link DatabaseDialect}. */
+  static String copySql(String tableName, List<ColumnInfo> columnInfos, AbstractDBSystem db) {
+    DatabaseDialect dialect = db.getDialect();
+    String table = createCatSchTabString(db.getCatalog(), db.getSchema(), db.getTable(tableName).getName(), dialect);
+    StringBuilder builder = new StringBuilder("COPY ").append(table).append(" (");
+    for (int i = 0; i < columnInfos.size(); i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      appendColumnName(columnInfos.get(i).name, builder, dialect);
+    }
+    return builder.append(") FROM STDIN WITH (FORMAT csv)").toString();
+  }
+
+  /** Writes a value in the CSV format of PostgreSQL's COPY command.
+   *  Null values are written as unquoted empty strings, all other values are quoted. */
+  static void writeCsvValue(Object value, Writer writer) throws IOException, SQLException {
+    if (value == null) {
+      return;
+    }
+    String text = csvText(value);
+    writer.write('"');
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '"') {
+        writer.write('"');
+      }
+      writer.write(c);
+    }
+    writer.write('"');
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static boolean sameColumns(List<ColumnInfo> columns1, List<ColumnInfo> columns2) {
+    if (columns1 == columns2) {
+      return true;
+    } else if (columns1 == null || columns2 == null || columns1.size() != columns2.size()) {
+      return false;
+    }
+    for (int i = 0; i < columns1.size(); i++) {
+      if (!columns1.get(i).name.equals(columns2.get(i).name)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String csvText(Object value) throws SQLException {
+    if (value instanceof PGobject) {
+      // JSON, arrays, geometry, bit, time and custom types
+      return ((PGobject) value).getValue();
+    } else if (value instanceof byte[]) {
+      return byteaHex((byte[]) value);
+    } else if (value instanceof Clob) {
+      Clob clob = (Clob) value;
+      return clob.getSubString(1, (int) clob.length());
+    } else if (value instanceof Date && !(value instanceof java.sql.Date) && !(value instanceof java.sql.Time)
+        && !(value instanceof Timestamp)) {
+      return new Timestamp(((Date) value).getTime()).toString();
+    } else {
+      return value.toString();
+    }
+  }
+
+  private static String byteaHex(byte[] bytes) {
+    StringBuilder builder = new StringBuilder(2 + bytes.length * 2).append("\\x");
+    for (byte b : bytes) {
+      builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return builder.toString();
+  }
+
+  private void sendRows() {
+    if (rowCount == 0) {
+      return;
+    }
+    try {
+      writer.flush();
+      long copied = copyIn(copySql, new ByteArrayInputStream(buffer.toByteArray()));
+      logger.debug("Copied {} rows: {}", copied, copySql);
+    } catch (IOException | SQLException e) {
+      throw BeneratorExceptionFactory.getInstance().serviceFailed("Error in " + copySql, e);
+    } finally {
+      buffer = new ByteArrayOutputStream();
+      writer = new OutputStreamWriter(buffer, StandardCharsets.UTF_8);
+      rowCount = 0;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + db + "]";
+  }
+
+}
@@ -0,0 +1,270 @@
+package com.rapiddweller.platform.mongodb;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.model.data.Entity;
+import org.bson.Document;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.rapiddweller.platform.mongodb.MongoDBUtils.convertEntityToDocument;
+
+/**
+ * Buffers the entities to be inserted or replaced per collection and sends them as unordered bulk writes,
+ * when a collection's buffer reaches the batch size or the estimated batch bytes, on {@link #flush()} and
+ * on {@link #close()}. Entities are converted to documents and written by a background thread,
+ * so they must not be modified after having been passed to this writer. Bulk writes are executed in the order
+ * of their submission, when too many of them are pending, the producer waits.
+ * Write errors are reported with the failing entities by the next call on the producing thread.
+ */
+public class MongoDBBatchWriter implements Flushable, Closeable {
+
+  /** Maximum number of failing entities which are listed in an error message */
+  private static final int MAX_REPORTED_ERRORS = 10;
+
+  /** Maximum number of bulk writes which are queued or executed at the same time */
+  static final int MAX_PENDING_WRITES = 3;
+
+  /** Sends a list of write models to a collection, e.g. with {@code MongoCollection.bulkWrite()}. */
+  public interface BulkWriter {
+    void write(String collection, List<WriteModel<Document>> models);
+  }
+
+  private final BulkWriter writer;
+  private final int batchSize;
+  private final long batchBytes;
+  private final Map<String, Batch> batches;
+  private final ExecutorService executor;
+  private final Semaphore writePermits;
+  private final List<Future<?>> pendingWrites;
+  private final AtomicReference<RuntimeException> failure;
+
+  /** @param writer the target of the bulk writes
+   *  @param batchSize the maximum number of entities per bulk write
+   *  @param batchBytes the maximum estimated size of the entities of a bulk write, or 0 for no limit */
+  public MongoDBBatchWriter(BulkWriter writer, int batchSize, long batchBytes) {
+    if (batchSize <= 0) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("batchSize must be positive: " + batchSize);
+    }
+    this.writer = writer;
+    this.batchSize = batchSize;
+    this.batchBytes = batchBytes;
+    this.batches = new HashMap<>();
+    // a single writer thread keeps the bulk writes in order, the permits limit the memory used by pending writes
+    this.executor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "MongoDBBatchWriter");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.writePermits = new Semaphore(MAX_PENDING_WRITES);
+    this.pendingWrites = new ArrayList<>();
+    this.failure = new AtomicReference<>();
+  }
+
+  public void insert(String collection, Entity entity) {
+    add(collection, entity, false);
+  }
+
+  public void replace(String collection, Entity entity) {
+    add(collection, entity, true);
+  }
+
+  /** Sends all buffered entities and waits until they have been written. */
+  @Override
+  public void flush() {
+    for (Batch batch : batches.values()) {
+      submit(batch);
+    }
+    for (Future<?> write : pendingWrites) {
+      awaitWrite(write);
+    }
+    pendingWrites.clear();
+    checkFailure();
+  }
+
+  @Override
+  public void close() {
+    try {
+      flush();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void add(String collection, Entity entity, boolean replace) {
+    checkFailure();
+    Batch batch = batches.computeIfAbsent(collection, Batch::new);
+    if (!batch.isEmpty() && batch.replace != replace) {
+      submit(batch); // keeps inserts and replacements in order, since each bulk write is unordered
+    }
+    batch.add(entity, replace, (batchBytes > 0 ? estimateSize(entity) : 0));
+    if (batch.size() >= batchSize || (batchBytes > 0 && batch.bytes >= batchBytes)) {
+      submit(batch);
+    }
+  }
+
+  private void submit(Batch batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    String collection = batch.collection;
+    List<Entity> entities = batch.drain();
+    boolean replace = batch.replace;
+    pendingWrites.removeIf(Future::isDone);
+    try {
+      writePermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Interrupted while writing to MongoDB", e);
+    }
+    try {
+      pendingWrites.add(executor.submit(() -> {
+        try {
+          write(collection, entities, replace);
+        } finally {
+          writePermits.release();
+        }
+      }));
+    } catch (RuntimeException e) {
+      writePermits.release();
+      throw e;
+    }
+  }
+
+  private void write(String collection, List<Entity> entities, boolean replace) {
+    try {
+      List<WriteModel<Document>> models = new ArrayList<>(entities.size());
+      for (Entity entity : entities) {
+        Document document = convertEntityToDocument(entity);
+        models.add(replace ? new ReplaceOneModel<>(Filters.eq("_id", entity.get("_id")), document) :
+            new InsertOneModel<>(document));
+      }
+      writer.write(collection, models);
+    } catch (MongoBulkWriteException e) {
+      failure.compareAndSet(null, BeneratorExceptionFactory.getInstance().serviceFailed(
+          formatErrors(collection, entities, e.getWriteErrors()), e));
+    } catch (RuntimeException e) {
+      failure.compareAndSet(null, BeneratorExceptionFactory.getInstance().serviceFailed(
+          "Failed to write " + entities.size() + " entities to collection '" + collection + "'", e));
+    }
+  }
+
+  static String formatErrors(String collection, List<Entity> entities, List<BulkWriteError> errors) {
+    StringBuilder message = new StringBuilder("Failed to write ").append(errors.size()).append(" of ")
+        .append(entities.size()).append(" entities to collection '").append(collection).append("':");
+    Iterator<BulkWriteError> iterator = errors.iterator();
+    for (int i = 0; i < MAX_REPORTED_ERRORS && iterator.hasNext(); i++) {
+      BulkWriteError error = iterator.next();
+      message.append("\n- ").append(entities.get(error.getIndex())).append(": ").append(error.getMessage());
+    }
+    if (errors.size() > MAX_REPORTED_ERRORS) {
+      message.append("\n- ...");
+    }
+    return message.toString();
+  }
+
+  private void awaitWrite(Future<?> write) {
+    try {
+      write.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Interrupted while writing to MongoDB", e);
+    } catch (ExecutionException e) {
+      throw BeneratorExceptionFactory.getInstance().serviceFailed("Failed to write to MongoDB", e.getCause());
+    }
+  }
+
+  private void checkFailure() {
+    RuntimeException e = failure.getAndSet(null);
+    if (e != null) {
+      throw e;
+    }
+  }
+
+  static long estimateSize(Object value) {
+    if (value == null) {
+      return 0;
+    } else if (value instanceof CharSequence) {
+      return ((CharSequence) value).length();
+    } else if (value instanceof byte[]) {
+      return ((byte[]) value).length;
+    } else if (value instanceof Entity) {
+      long size = 0;
+      for (Map.Entry<String, Object> component : ((Entity) value).getComponents().entrySet()) {
+        size += component.getKey().length() + estimateSize(component.getValue());
+      }
+      return size;
+    } else if (value instanceof Collection) {
+      long size = 0;
+      for (Object element : (Collection<?>) value) {
+        size += estimateSize(element);
+      }
+      return size;
+    } else if (value.getClass().isArray()) {
+      long size = 0;
+      for (int i = 0; i < Array.getLength(value); i++) {
+        size += estimateSize(Array.get(value, i));
+      }
+      return size;
+    } else {
+      return 8;
+    }
+  }
+
+  /** Entities waiting to be written to one collection. */
+  private static class Batch {
+
+    final String collection;
+    List<Entity> entities;
+    boolean replace;
+    long bytes;
+
+    Batch(String collection) {
+      this.collection = collection;
+      this.entities = new ArrayList<>();
+    }
+
+    void add(Entity entity, boolean replace, long size) {
+      this.replace = replace;
+      this.entities.add(entity);
+      this.bytes += size;
+    }
+
+    boolean isEmpty() {
+      return entities.isEmpty();
+    }
+
+    int size() {
+      return entities.size();
+    }
+
+    List<Entity> drain() {
+      List<Entity> result = entities;
+      this.entities = new ArrayList<>();
+      this.bytes = 0;
+      return result;
+    }
+  }
+
+}
@@ -37,6 +37,10 @@ public class MongoDBSystem extends CustomStorageSystem {
   private final MongoDBClientProvider mongoDBClientProvider;
   private final MongoDBClient mongoDBClient;
   private final Map<String, List<String>> entityPaths = new HashMap<>();
+  private boolean batch;
+  private int batchSize = 1000;
+  private long batchBytes;
+  private MongoDBBatchWriter batchWriter;
 
   public MongoDBSystem(DataModel dataModel, String id, String host, Integer port, String database, String user,
                        String password, String authenticationDatabase, String authMechanism, Boolean clean) {
@@ -109,6 +113,7 @@ private static String getOrElseReturnDefault(SystemRef systemRef, String key, St
 
   @Override
   public DataSource<Entity> queryEntities(String collection, String query, Context context) {
+    flush();
     MongoDBDataSource mongoDBDataSource = new MongoDBDataSource(mongoDBClientProvider, collection, query, context);
     ComplexTypeDescriptor descriptor = (ComplexTypeDescriptor) getTypeDescriptor(collection);
     if (descriptor == null) {
@@ -122,6 +127,7 @@ public DataSource<Entity> queryEntities(String collection, String query, Context
 
   @Override
   public DataSource<Object> queryEntityIds(String entity, String query, Context context) {
+    flush();
     String collection = getCollection(entity);
     MongoDBDataSource mongoDBDataSource = new MongoDBDataSource(mongoDBClientProvider, collection, query, context);
     DocumentIdToEntityConverter documentIdToEntityConverter = createDocumentIdToEntityConverter(collection);
@@ -148,23 +154,54 @@ private List<String> getIdFieldPath(String entity) {
 
   @Override
   public DataSource<Object> query(String query, boolean simplify, Context context) {
+    flush();
     MongoDBDataSource mongoDBDataSource = new MongoDBDataSource(mongoDBClientProvider, null, query, context);
     DocumentToObjectConverter documentConverter = new DocumentToObjectConverter(simplify);
     return new ConvertingDataSource<>(mongoDBDataSource, documentConverter);
   }
 
+  /** Activates buffered bulk writes: Entities are collected per collection and sent as unordered bulk writes
+   *  when {@link #setBatchSize(int) batchSize} or {@link #setBatchBytes(long) batchBytes} is reached,
+   *  on {@link #flush()} and on {@link #close()}. */
+  public void setBatch(boolean batch) {
+    this.batch = batch;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public void setBatchBytes(long batchBytes) {
+    this.batchBytes = batchBytes;
+  }
+
   @Override
   public void store(Entity entity) {
     String entityType = getEntityType(entity);
     addTypeDescriptor(entity.descriptor);
-    mongoDBClient.insertDocument(entityType, convertEntityToDocument(entity));
+    if (batch) {
+      getBatchWriter().insert(entityType, entity);
+    } else {
+      mongoDBClient.insertDocument(entityType, convertEntityToDocument(entity));
+    }
   }
 
   @Override
   public void update(Entity entity) {
     String entityType = getEntityType(entity);
     addTypeDescriptor(entity.descriptor);
-    mongoDBClient.replaceDocument(entityType, Filters.eq("_id", entity.get("_id")), convertEntityToDocument(entity));
+    if (batch) {
+      getBatchWriter().replace(entityType, entity);
+    } else {
+      mongoDBClient.replaceDocument(entityType, Filters.eq("_id", entity.get("_id")), convertEntityToDocument(entity));
+    }
+  }
+
+  private MongoDBBatchWriter getBatchWriter() {
+    if (batchWriter == null) {
+      batchWriter = new MongoDBBatchWriter(mongoDBClient::bulkWrite, batchSize, batchBytes);
+    }
+    return batchWriter;
   }
 
   private String getEntityType(Entity entity) {
@@ -228,12 +265,20 @@ private boolean isUnknownType(TypeDescriptor typeDescriptor) {
 
   @Override
   public void flush() {
-    // not needed
+    if (batchWriter != null) {
+      batchWriter.flush();
+    }
   }
 
   @Override
   public void close() {
-    mongoDBClient.close();
+    try {
+      if (batchWriter != null) {
+        batchWriter.close();
+      }
+    } finally {
+      mongoDBClient.close();
+    }
   }
 
   public Consumer inserter(String target) {
@@ -243,6 +288,7 @@ public Consumer inserter(String target) {
   }
 
   public Consumer deleter(String target) {
+    flush();
     mongoDBClient.getDatabase(this.mongoDBClientProvider.getDatabase()).getCollection(target).drop();
     return new NoConsumer();
   }
@@ -2,6 +2,8 @@
 
 import com.mongodb.MongoClient;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
 import com.rapiddweller.platform.mongodb.datasource.MongoDBRunCommandResult;
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -56,6 +58,11 @@ public void replaceDocument(String collectionName, Bson filter, Document documen
         this.getDatabase(this.database).getCollection(collectionName).replaceOne(filter, document);
     }
 
+    /** Sends the write models to the collection in one unordered bulk write. */
+    public void bulkWrite(String collectionName, List<WriteModel<Document>> models) {
+        this.getDatabase(this.database).getCollection(collectionName).bulkWrite(models, new BulkWriteOptions().ordered(false));
+    }
+
     public void cleanDatabase() {
         dropAllCollections();
     }
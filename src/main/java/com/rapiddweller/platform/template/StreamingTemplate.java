@@ -0,0 +1,97 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.template;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.format.script.Script;
+import com.rapiddweller.format.script.ScriptFactory;
+import com.rapiddweller.format.script.ScriptUtil;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Template which is split into a header, a repeating section and a footer, so that the
+ * {@link TemplateFileEntityExporter} can render each record of the section as soon as it is complete.
+ * The section is declared by two FreeMarker comment lines:
+ * <pre>
+ *   header
+ *   &lt;#-- stream countries as country --&gt;
+ *   ${country.name} ${country_index}
+ *   &lt;#-- /stream --&gt;
+ *   footer
+ * </pre>
+ * Created: 19.10.2026 00:21:37
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class StreamingTemplate {
+
+  private static final Pattern START = Pattern.compile(
+      "^[ \\t]*<#--\\s*stream\\s+(\\w+)\\s+as\\s+(\\w+)\\s*-->[ \\t]*(\\r?\\n)?", Pattern.MULTILINE);
+  private static final Pattern END = Pattern.compile(
+      "^[ \\t]*<#--\\s*/stream\\s*-->[ \\t]*(\\r?\\n)?", Pattern.MULTILINE);
+
+  private final String sectionType;
+  private final String variable;
+  private final Script header;
+  private final Script section;
+  private final Script footer;
+
+  private StreamingTemplate(String sectionType, String variable, Script header, Script section, Script footer) {
+    this.sectionType = sectionType;
+    this.variable = variable;
+    this.header = header;
+    this.section = section;
+    this.footer = footer;
+  }
+
+  /** Parses a template text.
+   *  @param text the template text
+   *  @param engineId the id of the script engine to use for the template parts, e.g. 'ftl'
+   *  @return the parsed template or null if the text does not declare a streaming section */
+  public static StreamingTemplate parse(String text, String engineId) {
+    Matcher start = START.matcher(text);
+    if (!start.find()) {
+      return null;
+    }
+    Matcher end = END.matcher(text);
+    if (!end.find(start.end())) {
+      throw BeneratorExceptionFactory.getInstance().parsingError(
+          "Missing <#-- /stream --> for streaming section '" + start.group(1) + "'");
+    }
+    ScriptFactory factory = ScriptUtil.getFactory(engineId, true);
+    return new StreamingTemplate(start.group(1), start.group(2),
+        factory.parseText(text.substring(0, start.start())),
+        factory.parseText(text.substring(start.end(), end.start())),
+        factory.parseText(text.substring(end.end())));
+  }
+
+  /** @return the type of the top-level entities which are rendered by the section */
+  public String getSectionType() {
+    return sectionType;
+  }
+
+  /** @return the variable by which the section accesses the current record */
+  public String getVariable() {
+    return variable;
+  }
+
+  public Script getHeader() {
+    return header;
+  }
+
+  public Script getSection() {
+    return section;
+  }
+
+  public Script getFooter() {
+    return footer;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + sectionType + " as " + variable + "]";
+  }
+
+}
@@ -34,6 +34,7 @@
 import com.rapiddweller.common.Context;
 import com.rapiddweller.common.FileUtil;
 import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.SystemInfo;
 import com.rapiddweller.common.accessor.FeatureAccessor;
 import com.rapiddweller.common.context.ContextAware;
 import com.rapiddweller.common.context.DefaultContext;
@@ -48,6 +49,8 @@
 import org.slf4j.Logger;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -55,7 +58,10 @@
 
 /**
  * Exports generated data using template files,
- * for example based on the FreeMarker Template Language.<br/><br/>
+ * for example based on the FreeMarker Template Language.
+ * By default, all consumed entities are collected and the template is rendered on {@link #close()}.
+ * If the template declares a repeating section (see {@link StreamingTemplate}), each top-level entity
+ * of the section's type is rendered and released as soon as it has been consumed completely.<br/><br/>
  * Created: 27.06.2014 16:50:44
  * @author Volker Bergmann
  * @since 0.9.7
@@ -74,6 +80,10 @@ public class TemplateFileEntityExporter implements Consumer, ContextAware {
   private TemplateRecord root;
   private Stack<TemplateRecord> stack;
 
+  private StreamingTemplate streamingTemplate;
+  private PrintWriter out;
+  private int sectionIndex;
+
   private BeneratorContext context;
 
 
@@ -158,7 +168,9 @@ public void startConsuming(ProductWrapper<?> wrapper) {
     TemplateRecord productRecord = entityToRecord(product);
     String featureName = product.type();
     TemplateRecord parentRecord = stack.peek();
-    updateFeature(featureName, parentRecord, productRecord);
+    if (!isSectionRecord(featureName, parentRecord)) {
+      updateFeature(featureName, parentRecord, productRecord);
+    }
     stack.push(productRecord);
   }
 
@@ -169,25 +181,24 @@ public void finishConsuming(ProductWrapper<?> wrapper) {
       throw ExceptionFactory.getInstance().configurationError(
           "Trying to pop product from empty stack: '" + product + "'");
     }
-    stack.pop();
+    TemplateRecord record = stack.pop();
+    if (isSectionRecord(product.type(), stack.peek())) {
+      renderSection(record);
+    }
   }
 
   @Override
   public void close() {
-    if (root != null) {
+    if (streamingTemplate != null) {
+      closeStream();
+    } else if (root != null) {
       logger.debug("Writing file {}", uri);
       try {
         Script template = ScriptUtil.readFile(context.resolveRelativeUri(templateUri));
         mapRootToContext();
         Context subContext = new DefaultContext(context);
         String text = ToStringConverter.convert(template.evaluate(subContext), "");
-        String targetUri = context.resolveRelativeUri(uri);
-        String targetPath = targetUri.replace('/', File.separatorChar);
-        File folder = new File(targetPath).getParentFile();
-        if (folder != null) {
-          folder.mkdirs();
-        }
-        IOUtil.writeTextFile(targetPath, text, encoding);
+        IOUtil.writeTextFile(targetPath(), text, encoding);
       } catch (ScriptException e) {
         throw ExceptionFactory.getInstance().configurationError(
             "Error evaluating template " + templateUri, e);
@@ -202,13 +213,75 @@ public void close() {
 
   @Override
   public void flush() {
-    // nothing to do for this class
+    if (out != null) {
+      out.flush();
+    }
   }
 
   private void init() {
     this.root = BeanUtil.newInstance(recordType);
     this.stack = new Stack<>();
     this.stack.push(root);
+    String resolvedTemplateUri = context.resolveRelativeUri(templateUri);
+    this.streamingTemplate = StreamingTemplate.parse(
+        IOUtil.getContentOfURI(resolvedTemplateUri), FileUtil.suffix(resolvedTemplateUri));
+    this.sectionIndex = 0;
+  }
+
+  private boolean isSectionRecord(String type, TemplateRecord parent) {
+    return (streamingTemplate != null && parent == root && type.equals(streamingTemplate.getSectionType()));
+  }
+
+  private void renderSection(TemplateRecord record) {
+    if (out == null) {
+      openStream();
+    }
+    Context subContext = new DefaultContext(context);
+    subContext.set(streamingTemplate.getVariable(), record);
+    subContext.set(streamingTemplate.getVariable() + "_index", sectionIndex++);
+    render(streamingTemplate.getSection(), subContext);
+  }
+
+  private void openStream() {
+    logger.debug("Writing file {}", uri);
+    this.out = IOUtil.getPrinterForURI(targetPath(), (encoding != null ? encoding : SystemInfo.getFileEncoding()));
+    mapRootToContext();
+    render(streamingTemplate.getHeader(), new DefaultContext(context));
+  }
+
+  private void closeStream() {
+    if (out == null) {
+      openStream();
+    }
+    mapRootToContext();
+    render(streamingTemplate.getFooter(), new DefaultContext(context));
+    boolean failed = out.checkError();
+    out.close();
+    out = null;
+    streamingTemplate = null;
+    root = null;
+    if (failed) {
+      throw BeneratorExceptionFactory.getInstance().fileAccessException("Error writing file " + uri, null);
+    }
+  }
+
+  private void render(Script script, Context scriptContext) {
+    try {
+      script.execute(scriptContext, out);
+    } catch (ScriptException e) {
+      throw ExceptionFactory.getInstance().configurationError("Error evaluating template " + templateUri, e);
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().fileAccessException("Error writing file " + uri, e);
+    }
+  }
+
+  private String targetPath() {
+    String targetPath = context.resolveRelativeUri(uri).replace('/', File.separatorChar);
+    File folder = new File(targetPath).getParentFile();
+    if (folder != null) {
+      folder.mkdirs();
+    }
+    return targetPath;
   }
 
   private TemplateRecord entityToRecord(Entity entity) {
@@ -38,6 +38,7 @@ public class PlatformDescriptor extends DefaultPlatformDescriptor {
 
   private static boolean formattedByDefault = false;
   private static String collectionReferencePrefix = "tab:";
+  private static boolean streamingXlsx = true;
 
   public static boolean isFormattedByDefault() {
     return formattedByDefault;
@@ -55,6 +56,15 @@ public static void setCollectionReferencePrefix(String collectionReferencePrefix
     PlatformDescriptor.collectionReferencePrefix = collectionReferencePrefix;
   }
 
+  public static boolean isStreamingXlsx() {
+    return streamingXlsx;
+  }
+
+  /** Determines whether XLSX sources are parsed incrementally instead of loading the complete workbook. */
+  public static void setStreamingXlsx(boolean streamingXlsx) {
+    PlatformDescriptor.streamingXlsx = streamingXlsx;
+  }
+
   public PlatformDescriptor() {
     super("xls", PlatformDescriptor.class.getPackageName());
   }
@@ -63,7 +63,7 @@
 public class SingleSheetXLSEntityIterator implements DataIterator<Entity> {
 
   private String uri;
-  private final Workbook workbook;
+  private final TabSource tabs;
   private final boolean rowBased;
   private final boolean formatted;
   private final String emptyMarker;
@@ -98,18 +98,31 @@ public SingleSheetXLSEntityIterator(Sheet sheet,
                                       BeneratorContext context,
                                       boolean rowBased, boolean formatted,
                                       String emptyMarker) {
-    this.workbook = sheet.getWorkbook();
+    this(sheet.getSheetName(), createRawIterator(sheet, formatted, preprocessor, emptyMarker),
+        new WorkbookTabSource(sheet.getWorkbook(), formatted, preprocessor, emptyMarker),
+        preprocessor, entityDescriptor, context, rowBased, formatted, emptyMarker);
+  }
+
+  /** Maps the rows of a sheet which are provided by an arbitrary row-based iterator,
+   *  resolving collection references with the sheets of the tab source. */
+  SingleSheetXLSEntityIterator(String sheetName, DataIterator<Object[]> rows, TabSource tabs,
+                               Converter<String, ?> preprocessor,
+                               ComplexTypeDescriptor entityDescriptor,
+                               BeneratorContext context,
+                               boolean rowBased, boolean formatted,
+                               String emptyMarker) {
+    this.tabs = tabs;
     this.preprocessor = preprocessor;
     this.context = context;
     this.rowBased = rowBased;
     this.formatted = formatted;
     this.emptyMarker = emptyMarker;
-    this.source = createRawIterator(sheet, rowBased, preprocessor);
+    this.source = (rowBased ? rows : new OrthogonalArrayIterator<>(rows));
 
     // if not specified explicitly, determine entity type by sheet name
     this.entityDescriptor = entityDescriptor;
     if (this.entityDescriptor == null) {
-      String entityTypeName = sheet.getSheetName();
+      String entityTypeName = sheetName;
       if (context != null) {
         DataModel dataModel = context.getDataModel();
         this.entityDescriptor = (ComplexTypeDescriptor) dataModel
@@ -244,16 +257,12 @@ private void parseHeaders() {
     this.headers = (tmp != null ? normalizeHeaders(tmp.getData()) : null);
   }
 
-  private DataIterator<Object[]> createRawIterator(Sheet sheet,
-                                                   boolean rowBased,
-                                                   Converter<String, ?> preprocessor) {
+  private static DataIterator<Object[]> createRawIterator(Sheet sheet, boolean formatted,
+                                                          Converter<String, ?> preprocessor, String emptyMarker) {
     XLSLineIterator iterator = new XLSLineIterator(sheet, false, formatted, preprocessor);
     if (emptyMarker != null) {
       iterator.setEmptyMarker(emptyMarker);
     }
-    if (!rowBased) {
-      return new OrthogonalArrayIterator<>(iterator);
-    }
     return iterator;
   }
 
@@ -280,21 +289,20 @@ private void resolveCollections(Object[] rawData) {
   }
 
   private Entity[] mapTabToArray(String tabName, ComplexTypeDescriptor type) {
-    Sheet sheet = getSheet(tabName);
-    List<Entity> elements = parseAll(sheet, preprocessor, type, context, rowBased, formatted, emptyMarker);
-    return CollectionUtil.toArray(elements, Entity.class);
-  }
-
-  private Sheet getSheet(String tabName) {
-    for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
-      Sheet candidate = workbook.getSheetAt(i);
-      if (candidate.getSheetName().trim().equalsIgnoreCase(tabName.trim())) {
-        return candidate;
+    String sheetName = tabs.sheetName(tabName);
+    if (sheetName == null) {
+      throw BeneratorExceptionFactory.getInstance().configurationError(
+          "Tab '" + tabName + "' not found" + (uri != null ? " in " + uri : ""));
+    }
+    List<Entity> elements = new ArrayList<>();
+    try (SingleSheetXLSEntityIterator iterator = new SingleSheetXLSEntityIterator(sheetName, tabs.openRows(sheetName),
+        tabs, preprocessor, type, context, rowBased, formatted, emptyMarker)) {
+      DataContainer<Entity> container = new DataContainer<>();
+      while ((container = iterator.next(container)) != null) {
+        elements.add(container.getData());
       }
     }
-    // tab not found
-    throw BeneratorExceptionFactory.getInstance().configurationError(
-        "Tab '" + tabName + "' not found" + (uri != null ? " in " + uri : ""));
+    return CollectionUtil.toArray(elements, Entity.class);
   }
 
 
@@ -305,4 +313,49 @@ public String toString() {
     return getClass().getSimpleName() + "[" + source + "]";
   }
 
+
+  // tab source ------------------------------------------------------------------------------------------------------
+
+  /** Provides the sheets of a document which are referenced by cells with the collection reference prefix. */
+  interface TabSource {
+
+    /** @return the name of the sheet which matches the tab name ignoring case and surrounding whitespace,
+     *  or null if there is no such sheet */
+    String sheetName(String tabName);
+
+    /** @return a row-based iterator for the raw cell values of the sheet */
+    DataIterator<Object[]> openRows(String sheetName);
+  }
+
+  private static class WorkbookTabSource implements TabSource {
+
+    private final Workbook workbook;
+    private final boolean formatted;
+    private final Converter<String, ?> preprocessor;
+    private final String emptyMarker;
+
+    WorkbookTabSource(Workbook workbook, boolean formatted, Converter<String, ?> preprocessor, String emptyMarker) {
+      this.workbook = workbook;
+      this.formatted = formatted;
+      this.preprocessor = preprocessor;
+      this.emptyMarker = emptyMarker;
+    }
+
+    @Override
+    public String sheetName(String tabName) {
+      for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
+        String candidate = workbook.getSheetName(i);
+        if (candidate.trim().equalsIgnoreCase(tabName.trim())) {
+          return candidate;
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public DataIterator<Object[]> openRows(String sheetName) {
+      return createRawIterator(workbook.getSheet(sheetName), formatted, preprocessor, emptyMarker);
+    }
+  }
+
 }
\ No newline at end of file
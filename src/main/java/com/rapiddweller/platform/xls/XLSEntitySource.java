@@ -64,12 +64,20 @@ public XLSEntitySource(String uri, Converter<String, ?> preprocessor,
   @Override
   public DataIterator<Entity> iterator() {
     try {
-      if (sheetName != null) {
-        return new SingleSheetXLSEntityIterator(resolveUri(), sheetName,
+      String uri = resolveUri();
+      if (PlatformDescriptor.isStreamingXlsx() && XLSXStreamingWorkbook.isXlsx(uri)) {
+        boolean rowBased = (sheetName != null || entityType == null ||
+            entityType.isRowBased() == null || entityType.isRowBased());
+        XLSXStreamingEntityIterator iterator = new XLSXStreamingEntityIterator(
+            uri, sheetName, preprocessor, entityType, rowBased, formatted);
+        iterator.setContext(context);
+        return iterator;
+      } else if (sheetName != null) {
+        return new SingleSheetXLSEntityIterator(uri, sheetName,
             preprocessor, entityType, context, true, formatted,
             null);
       } else {
-        return new AllSheetsXLSEntityIterator(resolveUri(),
+        return new AllSheetsXLSEntityIterator(uri,
             preprocessor, entityType, formatted);
       }
     } catch (Exception e) {
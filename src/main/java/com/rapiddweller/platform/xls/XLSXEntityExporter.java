@@ -0,0 +1,328 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xls;
+
+import com.rapiddweller.benerator.consumer.FileExporter;
+import com.rapiddweller.benerator.consumer.FormattingConsumer;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.BeanUtil;
+import com.rapiddweller.model.data.ComponentDescriptor;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.model.data.SimpleTypeDescriptor;
+import com.rapiddweller.script.PrimitiveType;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exports entities to Excel XLSX files in a streaming manner with a constant memory footprint:
+ * Only the last {@link #setRowWindow(int) rowWindow} rows of a sheet are kept in memory,
+ * older rows are flushed to a temporary file, which is deleted on {@link #close()}.
+ * Each entity type is written to an own sheet, when a sheet has reached
+ * {@link #setMaxRowsPerSheet(int) maxRowsPerSheet} rows, a new one is started with a numbered name,
+ * e.g. 'person', 'person_2', 'person_3'. Cell styles are created once per data format
+ * and assigned to the cells column-wise.<br/><br/>
+ * Created: 18.10.2026 19:34:22
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class XLSXEntityExporter extends FormattingConsumer implements FileExporter {
+
+  private static final Logger logger = LoggerFactory.getLogger(XLSXEntityExporter.class);
+
+  // defaults --------------------------------------------------------------------------------------------------------
+
+  private static final String DEFAULT_URI = "export.xlsx";
+  private static final int DEFAULT_ROW_WINDOW = 100;
+  private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+  /** Excel's limit for sheet names, POI truncates longer names */
+  private static final int MAX_SHEET_NAME_LENGTH = 31;
+
+  // attributes ------------------------------------------------------------------------------------------------------
+
+  private String uri;
+  private int rowWindow;
+  private int maxRowsPerSheet;
+  private boolean compressTempFiles;
+
+  private SXSSFWorkbook workbook;
+  private final Map<String, SheetSeries> sheetSeries;
+  private final Map<String, CellStyle> styles;
+
+  // constructors ----------------------------------------------------------------------------------------------------
+
+  public XLSXEntityExporter() {
+    this(DEFAULT_URI);
+  }
+
+  public XLSXEntityExporter(String uri) {
+    this.uri = uri;
+    this.rowWindow = DEFAULT_ROW_WINDOW;
+    this.maxRowsPerSheet = MAX_ROWS;
+    this.compressTempFiles = true;
+    this.sheetSeries = new HashMap<>();
+    this.styles = new HashMap<>();
+    setDatePattern("m/d/yy");
+    setDecimalPattern("#,##0.##");
+    setIntegralPattern("0");
+    setTimePattern("h:mm:ss");
+    setTimestampPattern("m/d/yy h:mm");
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  @Override
+  public String getUri() {
+    return uri;
+  }
+
+  public void setUri(String uri) {
+    this.uri = uri;
+  }
+
+  public int getRowWindow() {
+    return rowWindow;
+  }
+
+  /** Sets the number of rows per sheet which are kept in memory. */
+  public void setRowWindow(int rowWindow) {
+    if (rowWindow <= 0) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("rowWindow must be positive: " + rowWindow);
+    }
+    this.rowWindow = rowWindow;
+  }
+
+  public int getMaxRowsPerSheet() {
+    return maxRowsPerSheet;
+  }
+
+  /** Sets the maximum number of rows per sheet including the header row,
+   *  it must be at least 2 and at most 1,048,576, which is the limit of the file format. */
+  public void setMaxRowsPerSheet(int maxRowsPerSheet) {
+    if (maxRowsPerSheet < 2 || maxRowsPerSheet > MAX_ROWS) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument(
+          "maxRowsPerSheet must be between 2 and " + MAX_ROWS + ": " + maxRowsPerSheet);
+    }
+    this.maxRowsPerSheet = maxRowsPerSheet;
+  }
+
+  public boolean isCompressTempFiles() {
+    return compressTempFiles;
+  }
+
+  /** Determines whether the temporary files of flushed rows are gzip-compressed. */
+  public void setCompressTempFiles(boolean compressTempFiles) {
+    this.compressTempFiles = compressTempFiles;
+  }
+
+  // Consumer interface ----------------------------------------------------------------------------------------------
+
+  @Override
+  public void startProductConsumption(Object object) {
+    logger.debug("exporting {}", object);
+    if (!(object instanceof Entity)) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("Expecting Entity");
+    }
+    Entity entity = (Entity) object;
+    SheetSeries series = getOrCreateSheetSeries(entity);
+    Row row = series.nextRow();
+    for (int i = 0; i < series.columns.size(); i++) {
+      Object value = entity.get(series.columns.get(i));
+      if (value != null) {
+        render(row.createCell(i), value, series.columnStyles[i]);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    if (workbook == null) {
+      createWorkbook(); // if no data was added, create an empty Excel document
+      workbook.createSheet();
+    }
+    File file = new File(uri);
+    File directory = file.getAbsoluteFile().getParentFile();
+    if (directory != null && !directory.exists() && !directory.mkdirs()) {
+      throw BeneratorExceptionFactory.getInstance().configurationError(
+          "filepath does not exists and can not be created: " + directory);
+    }
+    try (FileOutputStream out = new FileOutputStream(file)) {
+      workbook.write(out);
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().configurationError("Error writing XLSX file", e);
+    } finally {
+      workbook.dispose();
+      try {
+        workbook.close();
+      } catch (IOException e) {
+        logger.warn("Error closing workbook of {}", uri, e);
+      }
+      workbook = null;
+      sheetSeries.clear();
+      styles.clear();
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void createWorkbook() {
+    this.workbook = new SXSSFWorkbook(null, rowWindow, compressTempFiles);
+  }
+
+  private SheetSeries getOrCreateSheetSeries(Entity entity) {
+    if (workbook == null) {
+      createWorkbook();
+    }
+    String type = entity.type();
+    SheetSeries series = sheetSeries.get(type);
+    if (series == null) {
+      series = new SheetSeries(type, entity);
+      sheetSeries.put(type, series);
+    }
+    return series;
+  }
+
+  private CellStyle columnStyle(Entity entity, String componentName) {
+    ComponentDescriptor cd = entity.descriptor().getComponent(componentName);
+    PrimitiveType primitiveType = null;
+    if (cd != null) {
+      if (cd.getTypeDescriptor() instanceof SimpleTypeDescriptor) {
+        primitiveType = ((SimpleTypeDescriptor) cd.getTypeDescriptor()).getPrimitiveType();
+      } else {
+        throw BeneratorExceptionFactory.getInstance().illegalOperation("Can only export simple type attributes, " +
+            "failed to export " + entity.type() + '.' + cd.getName());
+      }
+    }
+    Class<?> javaType = (primitiveType != null ? primitiveType.getJavaType() : String.class);
+    String formatString = null;
+    if (BeanUtil.isIntegralNumberType(javaType)) {
+      formatString = getIntegralPattern();
+    } else if (BeanUtil.isDecimalNumberType(javaType)) {
+      formatString = getDecimalPattern();
+    } else if (Time.class.isAssignableFrom(javaType)) {
+      formatString = getTimePattern();
+    } else if (Timestamp.class.isAssignableFrom(javaType)) {
+      formatString = getTimestampPattern();
+    } else if (Date.class.isAssignableFrom(javaType)) {
+      formatString = getDatePattern();
+    }
+    return (formatString != null ? style(formatString) : null);
+  }
+
+  /** Returns the workbook's style for a data format, since the number of styles in a workbook is limited. */
+  private CellStyle style(String formatString) {
+    return styles.computeIfAbsent(formatString, f -> {
+      CellStyle style = workbook.createCellStyle();
+      style.setDataFormat(workbook.createDataFormat().getFormat(f));
+      return style;
+    });
+  }
+
+  private void render(Cell cell, Object value, CellStyle style) {
+    if (value instanceof Number) {
+      cell.setCellValue(((Number) value).doubleValue());
+    } else if (value instanceof Date) {
+      cell.setCellValue((Date) value);
+      if (style == null) {
+        style = style(getDatePattern()); // a date in a column of another type
+      }
+    } else if (value instanceof Boolean) {
+      cell.setCellValue((Boolean) value);
+    } else {
+      cell.setCellValue(plainConverter.convert(value));
+      return;
+    }
+    if (style != null) {
+      cell.setCellStyle(style);
+    }
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '(' + uri + ")";
+  }
+
+  @Override
+  public int hashCode() {
+    return uri.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    XLSXEntityExporter that = (XLSXEntityExporter) obj;
+    return (this.uri.equals(that.uri));
+  }
+
+  // helper class ----------------------------------------------------------------------------------------------------
+
+  /** The sheets of an entity type, which share the column layout derived from the type's first entity. */
+  private class SheetSeries {
+
+    final String type;
+    final List<String> columns;
+    final CellStyle[] columnStyles;
+    int sheetCount;
+    SXSSFSheet sheet;
+    int rowIndex;
+
+    SheetSeries(String type, Entity prototype) {
+      this.type = type;
+      this.columns = new ArrayList<>(prototype.getComponents().keySet());
+      this.columnStyles = new CellStyle[columns.size()];
+      for (int i = 0; i < columns.size(); i++) {
+        columnStyles[i] = columnStyle(prototype, columns.get(i));
+      }
+      this.sheetCount = 0;
+      startSheet();
+    }
+
+    Row nextRow() {
+      if (rowIndex >= maxRowsPerSheet) {
+        startSheet();
+      }
+      return sheet.createRow(rowIndex++);
+    }
+
+    private void startSheet() {
+      sheetCount++;
+      String suffix = (sheetCount == 1 ? "" : "_" + sheetCount);
+      // shorten the type name, not the suffix, so that the names of a series stay distinct
+      String sheetName = type.substring(0, Math.min(type.length(), MAX_SHEET_NAME_LENGTH - suffix.length())) + suffix;
+      logger.debug("Starting sheet '{}' in {}", sheetName, uri);
+      this.sheet = workbook.createSheet(sheetName);
+      Row headerRow = sheet.createRow(0);
+      for (int i = 0; i < columns.size(); i++) {
+        headerRow.createCell(i).setCellValue(columns.get(i));
+        if (columnStyles[i] != null) {
+          sheet.setDefaultColumnStyle(i, columnStyles[i]);
+        }
+      }
+      this.rowIndex = 1;
+    }
+  }
+
+}
@@ -0,0 +1,293 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xls;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.Converter;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.MathUtil;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses the XML of a single XLSX sheet with a StAX pull parser and provides the values
+ * of one row per {@link #next(DataContainer)} call, so that only the current row is held in memory.
+ * The values are resolved like in the DOM-based {@link com.rapiddweller.format.xls.XLSLineIterator}:
+ * Numbers become Long or Double values, numbers in date formats become Dates, text is
+ * checked for empty and null markers and passed through the preprocessor, and blank cells
+ * yield empty strings. In formatted mode, all values are formatted as displayed in Excel.
+ * Formula cells provide the result which was cached when the document was saved,
+ * since formulas cannot be evaluated without the document's object model.<br/><br/>
+ * Created: 18.10.2026 20:27:51
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class XLSXSheetRowIterator implements DataIterator<Object[]> {
+
+  private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+
+  private final String sheetName;
+  private final InputStream in;
+  private final XMLStreamReader reader;
+  private final SharedStrings sharedStrings;
+  private final StylesTable styles;
+  private final boolean date1904;
+  private final boolean formatted;
+  private final Converter<String, ?> preprocessor;
+  private String emptyMarker;
+  private String nullMarker;
+
+  private final DataFormatter dataFormatter;
+  private final Map<Integer, Boolean> dateStyles;
+  private final List<Object> rowBuffer;
+  private boolean finished;
+
+  public XLSXSheetRowIterator(String sheetName, InputStream in, SharedStrings sharedStrings, StylesTable styles,
+                              boolean date1904, boolean formatted, Converter<String, ?> preprocessor) {
+    this.sheetName = sheetName;
+    this.in = in;
+    this.sharedStrings = sharedStrings;
+    this.styles = styles;
+    this.date1904 = date1904;
+    this.formatted = formatted;
+    this.preprocessor = preprocessor;
+    this.emptyMarker = "'";
+    this.dataFormatter = new DataFormatter();
+    this.dateStyles = new HashMap<>();
+    this.rowBuffer = new ArrayList<>();
+    try {
+      this.reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+    } catch (XMLStreamException e) {
+      IOUtil.close(in);
+      throw BeneratorExceptionFactory.getInstance().fileAccessException("Error opening sheet '" + sheetName + "'", e);
+    }
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  public String getEmptyMarker() {
+    return emptyMarker;
+  }
+
+  public void setEmptyMarker(String emptyMarker) {
+    this.emptyMarker = emptyMarker;
+  }
+
+  public String getNullMarker() {
+    return nullMarker;
+  }
+
+  public void setNullMarker(String nullMarker) {
+    this.nullMarker = nullMarker;
+  }
+
+  // DataIterator interface implementation ---------------------------------------------------------------------------
+
+  @Override
+  public Class<Object[]> getType() {
+    return Object[].class;
+  }
+
+  @Override
+  public synchronized DataContainer<Object[]> next(DataContainer<Object[]> container) {
+    if (finished) {
+      return null;
+    }
+    try {
+      while (reader.hasNext()) {
+        if (reader.next() == XMLStreamConstants.START_ELEMENT && "row".equals(reader.getLocalName())) {
+          return container.setData(parseRow());
+        }
+      }
+      close();
+      return null;
+    } catch (XMLStreamException e) {
+      throw BeneratorExceptionFactory.getInstance().parsingError("Error parsing sheet '" + sheetName + "'", e);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (!finished) {
+      finished = true;
+      try {
+        reader.close();
+      } catch (XMLStreamException e) {
+        // the input stream is closed anyway
+      }
+      IOUtil.close(in);
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private Object[] parseRow() throws XMLStreamException {
+    rowBuffer.clear();
+    int column = -1;
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT && "c".equals(reader.getLocalName())) {
+        String ref = reader.getAttributeValue(null, "r");
+        column = (ref != null ? columnIndex(ref) : column + 1);
+        Object value = parseCell();
+        while (rowBuffer.size() <= column) {
+          rowBuffer.add(null);
+        }
+        rowBuffer.set(column, value);
+      } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(reader.getLocalName())) {
+        break;
+      }
+    }
+    return rowBuffer.toArray();
+  }
+
+  private Object parseCell() throws XMLStreamException {
+    String type = reader.getAttributeValue(null, "t");
+    String styleAttr = reader.getAttributeValue(null, "s");
+    int style = (styleAttr != null ? Integer.parseInt(styleAttr) : 0);
+    String value = null;
+    String inlineText = null;
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        String name = reader.getLocalName();
+        if ("v".equals(name)) {
+          value = reader.getElementText();
+        } else if ("is".equals(name)) {
+          inlineText = parseInlineString();
+        } else if ("f".equals(name)) {
+          reader.getElementText(); // the cached result in <v> is used
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT && "c".equals(reader.getLocalName())) {
+        break;
+      }
+    }
+    if ("inlineStr".equals(type)) {
+      return resolveText(inlineText != null ? inlineText : "");
+    } else if (value == null) {
+      return ""; // blank cell
+    } else if ("s".equals(type)) {
+      return resolveText(sharedStrings.getItemAt(Integer.parseInt(value.trim())).getString());
+    } else if ("str".equals(type)) {
+      return resolveText(value);
+    } else if ("b".equals(type)) {
+      boolean b = "1".equals(value.trim()) || "true".equalsIgnoreCase(value.trim());
+      return (formatted ? (b ? "TRUE" : "FALSE") : b);
+    } else if ("e".equals(type)) {
+      throw BeneratorExceptionFactory.getInstance().configurationError(
+          "Error value " + value + " in sheet '" + sheetName + "'");
+    } else {
+      return resolveNumber(Double.parseDouble(value), style);
+    }
+  }
+
+  /** Concatenates the text runs of an inline string, skipping phonetic runs. */
+  private String parseInlineString() throws XMLStreamException {
+    StringBuilder builder = new StringBuilder();
+    int phoneticDepth = 0;
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        String name = reader.getLocalName();
+        if ("rPh".equals(name)) {
+          phoneticDepth++;
+        } else if ("t".equals(name) && phoneticDepth == 0) {
+          builder.append(reader.getElementText());
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        String name = reader.getLocalName();
+        if ("rPh".equals(name)) {
+          phoneticDepth--;
+        } else if ("is".equals(name)) {
+          break;
+        }
+      }
+    }
+    return builder.toString();
+  }
+
+  private Object resolveText(String text) {
+    Object result = text;
+    if (text.equals(emptyMarker) || "'".equals(text)) {
+      result = "";
+    } else if (text.equals(nullMarker)) {
+      result = null;
+    }
+    if (preprocessor != null) {
+      result = preprocessor.convert((String) result);
+    }
+    if (formatted && result != null && !(result instanceof String)) {
+      result = result.toString();
+    }
+    return result;
+  }
+
+  private Object resolveNumber(double value, int style) {
+    if (formatted) {
+      XSSFCellStyle cellStyle = styles.getStyleAt(style);
+      if (cellStyle == null) {
+        return dataFormatter.formatRawCellContents(value, 0, "General", date1904);
+      }
+      return dataFormatter.formatRawCellContents(
+          value, cellStyle.getDataFormat(), cellStyle.getDataFormatString(), date1904);
+    } else if (isDateStyle(style)) {
+      return DateUtil.getJavaDate(value, date1904);
+    } else if (MathUtil.isIntegralValue(value)) {
+      return (long) value;
+    } else {
+      return value;
+    }
+  }
+
+  private boolean isDateStyle(int style) {
+    return dateStyles.computeIfAbsent(style, s -> {
+      XSSFCellStyle cellStyle = styles.getStyleAt(s);
+      return (cellStyle != null &&
+          DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString()));
+    });
+  }
+
+  /** Calculates the 0-based column index from a cell reference like 'AB12'. */
+  static int columnIndex(String ref) {
+    int result = 0;
+    for (int i = 0; i < ref.length(); i++) {
+      char c = ref.charAt(i);
+      if (c < 'A' || c > 'Z') {
+        break;
+      }
+      result = result * 26 + (c - 'A' + 1);
+    }
+    return result - 1;
+  }
+
+  private static XMLInputFactory createXMLInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    return factory;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + sheetName + "]";
+  }
+
+}
@@ -0,0 +1,135 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xls;
+
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.Context;
+import com.rapiddweller.common.Converter;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.context.ContextAware;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+
+import java.util.List;
+
+/**
+ * Iterates one or all sheets of an XLSX document and maps their rows to {@link Entity} instances
+ * like {@link SingleSheetXLSEntityIterator} and {@link AllSheetsXLSEntityIterator}, but parses
+ * the sheets incrementally with an {@link XLSXStreamingWorkbook}, so that the first entity is available
+ * immediately and memory usage does not depend on the number of rows.<br/><br/>
+ * Created: 18.10.2026 21:08:14
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class XLSXStreamingEntityIterator implements DataIterator<Entity>, ContextAware {
+
+  private final String uri;
+  private final String sheetName;
+  private final Converter<String, ?> preprocessor;
+  private final ComplexTypeDescriptor entityDescriptor;
+  private final boolean rowBased;
+  private final boolean formatted;
+  private final String emptyMarker;
+  private BeneratorContext context;
+
+  private XLSXStreamingWorkbook workbook;
+  private List<String> sheetNames;
+  private int sheetNo;
+  private DataIterator<Entity> source;
+
+  /** @param sheetName the name of the sheet to iterate, or null for iterating all sheets */
+  public XLSXStreamingEntityIterator(String uri, String sheetName, Converter<String, ?> preprocessor,
+                                     ComplexTypeDescriptor entityDescriptor, boolean rowBased, boolean formatted) {
+    this.uri = uri;
+    this.sheetName = sheetName;
+    this.preprocessor = preprocessor;
+    this.entityDescriptor = entityDescriptor;
+    this.rowBased = rowBased;
+    this.formatted = formatted;
+    this.emptyMarker = (entityDescriptor != null ? entityDescriptor.getEmptyMarker() : null);
+    this.sheetNo = -1;
+  }
+
+  public String getUri() {
+    return uri;
+  }
+
+  // ContextAware interface implementation ---------------------------------------------------------------------------
+
+  @Override
+  public void setContext(Context context) {
+    this.context = (BeneratorContext) context;
+  }
+
+  // DataIterator interface implementation ---------------------------------------------------------------------------
+
+  @Override
+  public Class<Entity> getType() {
+    return Entity.class;
+  }
+
+  @Override
+  public synchronized DataContainer<Entity> next(DataContainer<Entity> container) {
+    if (sheetNo == -1) {
+      open();
+      nextSheet();
+    }
+    DataContainer<Entity> result;
+    do {
+      if (source == null) {
+        return null;
+      }
+      result = source.next(container);
+      if (result == null) {
+        nextSheet();
+      }
+    } while (result == null);
+    return result;
+  }
+
+  @Override
+  public synchronized void close() {
+    IOUtil.close(source);
+    source = null;
+    IOUtil.close(workbook);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void open() {
+    this.workbook = new XLSXStreamingWorkbook(uri, formatted, preprocessor, emptyMarker);
+    if (sheetName != null) {
+      if (!workbook.getSheetNames().contains(sheetName)) {
+        workbook.close();
+        throw BeneratorExceptionFactory.getInstance().configurationError(
+            "Sheet '" + sheetName + "' not found in file " + uri);
+      }
+      this.sheetNames = List.of(sheetName);
+    } else {
+      this.sheetNames = workbook.getSheetNames();
+    }
+  }
+
+  private void nextSheet() {
+    IOUtil.close(source);
+    if (sheetNo >= sheetNames.size() - 1) {
+      source = null;
+      return;
+    }
+    sheetNo++;
+    String name = sheetNames.get(sheetNo);
+    source = new SingleSheetXLSEntityIterator(name, workbook.openRows(name), workbook,
+        preprocessor, entityDescriptor, context, rowBased, formatted, emptyMarker);
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + uri + (sheetName != null ? ", " + sheetName : "") + "]";
+  }
+
+}
@@ -0,0 +1,179 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xls;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.Converter;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.format.DataIterator;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Provides read-only streaming access to the sheets of an XLSX document without building its object model.
+ * On opening, only the workbook structure, the styles and the shared strings are read,
+ * the sheets themselves are parsed on demand by {@link XLSXSheetRowIterator}s.
+ * Files are accessed directly, other URIs are loaded into memory as compressed package.<br/><br/>
+ * Created: 18.10.2026 20:49:36
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class XLSXStreamingWorkbook implements SingleSheetXLSEntityIterator.TabSource, Closeable {
+
+  private final String uri;
+  private final boolean formatted;
+  private final Converter<String, ?> preprocessor;
+  private final String emptyMarker;
+
+  private final OPCPackage pkg;
+  private final SharedStrings sharedStrings;
+  private final StylesTable styles;
+  private final boolean date1904;
+  private final Map<String, PackagePart> sheets;
+
+  public XLSXStreamingWorkbook(String uri, boolean formatted, Converter<String, ?> preprocessor, String emptyMarker) {
+    this.uri = uri;
+    this.formatted = formatted;
+    this.preprocessor = preprocessor;
+    this.emptyMarker = emptyMarker;
+    this.pkg = openPackage(uri);
+    try {
+      XSSFReader reader = new XSSFReader(pkg);
+      this.sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+      this.styles = reader.getStylesTable();
+      this.date1904 = isDate1904(reader);
+      this.sheets = new LinkedHashMap<>();
+      XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) reader.getSheetsData();
+      while (iterator.hasNext()) {
+        IOUtil.close(iterator.next());
+        sheets.put(iterator.getSheetName(), iterator.getSheetPart());
+      }
+    } catch (Exception e) {
+      pkg.revert();
+      throw BeneratorExceptionFactory.getInstance().fileAccessException("Error reading XLSX document " + uri, e);
+    }
+  }
+
+  public String getUri() {
+    return uri;
+  }
+
+  public List<String> getSheetNames() {
+    return new ArrayList<>(sheets.keySet());
+  }
+
+  /** Checks the content of a document, since file names do not reliably tell XLS from XLSX. */
+  public static boolean isXlsx(String uri) {
+    try (InputStream in = FileMagic.prepareToCheckMagic(IOUtil.getInputStreamForURI(uri))) {
+      return (FileMagic.valueOf(in) == FileMagic.OOXML);
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().fileAccessException("Error reading " + uri, e);
+    }
+  }
+
+  // TabSource interface implementation ------------------------------------------------------------------------------
+
+  @Override
+  public String sheetName(String tabName) {
+    for (String candidate : sheets.keySet()) {
+      if (candidate.trim().equalsIgnoreCase(tabName.trim())) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public DataIterator<Object[]> openRows(String sheetName) {
+    PackagePart part = sheets.get(sheetName);
+    if (part == null) {
+      throw BeneratorExceptionFactory.getInstance().configurationError(
+          "Sheet '" + sheetName + "' not found in file " + uri);
+    }
+    try {
+      XLSXSheetRowIterator iterator = new XLSXSheetRowIterator(sheetName, part.getInputStream(),
+          sharedStrings, styles, date1904, formatted, preprocessor);
+      if (emptyMarker != null) {
+        iterator.setEmptyMarker(emptyMarker);
+      }
+      return iterator;
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().fileAccessException(
+          "Error opening sheet '" + sheetName + "' of " + uri, e);
+    }
+  }
+
+  // Closeable interface implementation ------------------------------------------------------------------------------
+
+  @Override
+  public void close() {
+    pkg.revert(); // closes the read-only package without saving
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static OPCPackage openPackage(String uri) {
+    try {
+      File file = new File(uri);
+      if (file.isFile()) {
+        return OPCPackage.open(file, PackageAccess.READ);
+      }
+      try (InputStream in = IOUtil.getInputStreamForURI(uri)) {
+        return OPCPackage.open(in);
+      }
+    } catch (Exception e) {
+      throw BeneratorExceptionFactory.getInstance().fileAccessException("Error opening XLSX document " + uri, e);
+    }
+  }
+
+  /** Reads the workbook properties to find out if dates are counted from 1904 instead of 1900. */
+  private static boolean isDate1904(XSSFReader reader) throws Exception {
+    try (InputStream in = reader.getWorkbookData()) {
+      XMLInputFactory factory = XMLInputFactory.newFactory();
+      factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+      XMLStreamReader xml = factory.createXMLStreamReader(in);
+      try {
+        while (xml.hasNext()) {
+          if (xml.next() == XMLStreamConstants.START_ELEMENT) {
+            String name = xml.getLocalName();
+            if ("workbookPr".equals(name)) {
+              String value = xml.getAttributeValue(null, "date1904");
+              return ("1".equals(value) || "true".equalsIgnoreCase(value));
+            } else if ("sheets".equals(name)) {
+              return false;
+            }
+          }
+        }
+        return false;
+      } finally {
+        xml.close();
+      }
+    }
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + uri + "]";
+  }
+
+}
@@ -27,7 +27,9 @@
 package com.rapiddweller.task;
 
 /**
- * Listens to page invocations of a PagedTassk.<br/>
+ * Listens to page invocations of a PagedTassk.
+ * When a task is executed by several threads, each worker reports its own pages,
+ * so listeners are called from the worker threads, but never concurrently.<br/>
  * <br/>
  * Created: 06.09.2007 08:48:27
  *
@@ -0,0 +1,203 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.task;
+
+import com.rapiddweller.common.Context;
+import com.rapiddweller.common.ErrorHandler;
+import com.rapiddweller.common.HF;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executes a group of worker {@link Task}s concurrently, each one in its own thread and {@link Context},
+ * splitting the requested number of invocations among them.
+ * Each worker is run by a {@link TaskExecutor}, so paging behaves like in single-threaded execution,
+ * but per worker. The {@link PageListener}s are informed about the pages of all workers,
+ * one call at a time.<br/><br/>
+ * Created: 18.10.2026 12:05:31
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class ParallelTaskExecutor {
+
+  private static final Logger logger = LoggerFactory.getLogger(ParallelTaskExecutor.class);
+
+  private ParallelTaskExecutor() {
+    // private constructor to prevent instantiation of this utility class
+  }
+
+  /** Executes the workers concurrently and returns the total number of successful invocations.
+   *  @param workers the worker tasks, each one is accessed by a single thread only
+   *  @param contexts the contexts to use for the workers, one per worker
+   *  @param executorService the {@link ExecutorService} to run the workers
+   *  @param requestedInvocations the total number of invocations to perform, or null for running
+   *      each worker until it becomes unavailable
+   *  @param minInvocations the minimum number of invocations that must be performed in total
+   *  @param pageListeners the {@link PageListener}s to inform about page starts and ends of each worker
+   *  @param pageSize the page size to apply to each worker
+   *  @param errorHandler the {@link ErrorHandler} to use
+   *  @param infoLog tells if execution details shall be logged on info level
+   *  @return the total number of invocations performed by all workers */
+  public static long execute(List<? extends Task> workers, List<? extends Context> contexts,
+                             ExecutorService executorService, Long requestedInvocations, Long minInvocations,
+                             List<PageListener> pageListeners, long pageSize, ErrorHandler errorHandler,
+                             boolean infoLog) {
+    int threadCount = workers.size();
+    logExecutionInfo(workers.get(0), requestedInvocations, pageSize, threadCount, infoLog);
+    AtomicLong counter = new AtomicLong();
+    List<PageListener> listeners = synchronizedListeners(pageListeners);
+    List<Future<?>> futures = new ArrayList<>(threadCount);
+    for (int i = 0; i < threadCount; i++) {
+      Long share = share(requestedInvocations, i, threadCount);
+      if (share != null && share == 0) {
+        continue;
+      }
+      CountingTaskProxy worker = new CountingTaskProxy(workers.get(i), counter);
+      Context workerContext = contexts.get(i);
+      futures.add(executorService.submit(() -> TaskExecutor.execute(worker, workerContext, share, null,
+          listeners, pageSize, false, errorHandler, false)));
+    }
+    awaitCompletion(futures);
+    long actualCount = counter.get();
+    if (minInvocations != null && actualCount < minInvocations) {
+      throw new TaskUnavailableException(workers.get(0), minInvocations, actualCount);
+    }
+    return actualCount;
+  }
+
+  /** Calculates the number of invocations the worker with the given index has to perform.
+   *  The remainder of an uneven split is distributed among the first workers.
+   *  @param total the total number of requested invocations, or null for an unlimited number
+   *  @param index the index of the worker
+   *  @param threadCount the number of workers
+   *  @return the number of invocations for the worker, or null for an unlimited number */
+  static Long share(Long total, int index, int threadCount) {
+    if (total == null) {
+      return null;
+    }
+    long share = total / threadCount;
+    return (index < total % threadCount ? share + 1 : share);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static List<PageListener> synchronizedListeners(List<PageListener> pageListeners) {
+    if (pageListeners == null || pageListeners.isEmpty()) {
+      return pageListeners;
+    }
+    return Collections.singletonList(new SynchronizedPageListener(pageListeners));
+  }
+
+  private static void awaitCompletion(List<Future<?>> futures) {
+    RuntimeException failure = null;
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        cancelAll(futures);
+        throw new TaskException("Interrupted while waiting for worker tasks", e);
+      } catch (ExecutionException e) {
+        if (failure == null) {
+          cancelAll(futures);
+          Throwable cause = e.getCause();
+          failure = (cause instanceof RuntimeException ?
+              (RuntimeException) cause : new TaskException("Worker task failed", cause));
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private static void cancelAll(List<Future<?>> futures) {
+    for (Future<?> future : futures) {
+      future.cancel(true);
+    }
+  }
+
+  private static void logExecutionInfo(Task task, Long requestedInvocations, long pageSize, int threadCount,
+                                       boolean infoLog) {
+    if (infoLog ? logger.isInfoEnabled() : logger.isDebugEnabled()) {
+      String info = "Running task " + task + " " +
+          (requestedInvocations == null ? "as long as available" : HF.pluralize(requestedInvocations, "time")) +
+          " with page size " + HF.format(pageSize) + " in " + threadCount + " threads";
+      if (infoLog) {
+        logger.info(info);
+      } else {
+        logger.debug(info);
+      }
+    }
+  }
+
+  /** Counts the successful invocations of a worker task in a counter that is shared by all workers. */
+  static class CountingTaskProxy extends TaskProxy<Task> {
+
+    private final AtomicLong counter;
+
+    CountingTaskProxy(Task realTask, AtomicLong counter) {
+      super(realTask);
+      this.counter = counter;
+    }
+
+    @Override
+    public TaskResult execute(Context context, ErrorHandler errorHandler) {
+      TaskResult result = super.execute(context, errorHandler);
+      if (result != TaskResult.UNAVAILABLE) {
+        counter.incrementAndGet();
+      }
+      return result;
+    }
+
+    @Override
+    public void close() {
+      // the worker's lifecycle is managed by its creator
+    }
+
+    @Override
+    public Object clone() {
+      return new CountingTaskProxy(realTask, counter);
+    }
+
+    @Override
+    public String toString() {
+      return realTask.toString();
+    }
+
+  }
+
+  /** Forwards the page events of all workers to the listeners, one event at a time. */
+  static class SynchronizedPageListener implements PageListener {
+
+    private final List<PageListener> listeners;
+
+    SynchronizedPageListener(List<PageListener> listeners) {
+      this.listeners = listeners;
+    }
+
+    @Override
+    public synchronized void pageStarting() {
+      for (PageListener listener : listeners) {
+        listener.pageStarting();
+      }
+    }
+
+    @Override
+    public synchronized void pageFinished() {
+      for (PageListener listener : listeners) {
+        listener.pageFinished();
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,111 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark;
+
+import com.rapiddweller.common.FileUtil;
+import com.rapiddweller.common.exception.ParseException;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link BenchmarkBaseline} and {@link BaselineComparison}.<br/><br/>
+ * Created: 19.10.2026 14:33:12
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class BenchmarkBaselineTest {
+
+  @Test
+  public void testJsonRoundTrip() {
+    BenchmarkBaseline baseline = createBaseline(1000., 2000.);
+    BenchmarkBaseline copy = BenchmarkBaseline.parseJson(baseline.toJson());
+    assertEquals("3.3.0", copy.getVersion());
+    assertEquals("host-1", copy.getMachine());
+    assertEquals("Linux \"x86_64\"\twith 8 cores", copy.getOsInfo());
+    assertEquals("strict", copy.getMode());
+    List<BenchmarkBaseline.Entry> entries = copy.getEntries();
+    assertEquals(2, entries.size());
+    BenchmarkBaseline.Entry csv = entries.get(0);
+    assertEquals("file-csv", csv.getBenchmark());
+    assertNull(csv.getSystem());
+    assertEquals("[write]", csv.getSensor());
+    assertEquals("CE", csv.getExecutionMode());
+    assertEquals(3, csv.getStatistics().getCount());
+    assertEquals(1000., csv.getStatistics().getMean(), 0);
+    assertEquals(12.5, csv.getStatistics().getStdDev(), 0);
+    BenchmarkBaseline.Entry db = entries.get(1);
+    assertEquals("builtin#h2", db.getSystem());
+    assertEquals("db-small-table [read] @ builtin#h2 (EE 4 Threads)", db.getKey());
+    assertTrue(copy.isSameMachine(baseline));
+  }
+
+  @Test
+  public void testSaveAndLoad() {
+    String path = "target/baseline-test/test-baseline.json";
+    try {
+      BenchmarkBaseline baseline = createBaseline(1000., 2000.);
+      baseline.save(path);
+      BenchmarkBaseline copy = BenchmarkBaseline.load(path);
+      assertEquals(baseline.toJson(), copy.toJson());
+    } finally {
+      FileUtil.deleteDirectory(new File("target/baseline-test"));
+    }
+  }
+
+  @Test(expected = ParseException.class)
+  public void testIllegalJson() {
+    BenchmarkBaseline.parseJson("{ \"benerator\": \"3.3.0\", ");
+  }
+
+  @Test
+  public void testComparison_withinTolerance() {
+    BaselineComparison comparison = createBaseline(950., 2100.)
+        .compareWith(createBaseline(1000., 2000.), 0.1);
+    assertEquals(2, comparison.getDeviations().size());
+    assertEquals(-0.05, comparison.getDeviations().get(0).getChange(), 1E-9);
+    assertEquals(0.05, comparison.getDeviations().get(1).getChange(), 1E-9);
+    assertFalse(comparison.hasRegressions());
+    assertTrue(comparison.getUnmatchedKeys().isEmpty());
+  }
+
+  @Test
+  public void testComparison_regression() {
+    BaselineComparison comparison = createBaseline(850., 2000.)
+        .compareWith(createBaseline(1000., 2000.), 0.1);
+    assertTrue(comparison.hasRegressions());
+    List<BaselineComparison.Deviation> regressions = comparison.getRegressions();
+    assertEquals(1, regressions.size());
+    assertEquals("file-csv [write] (CE)", regressions.get(0).getKey());
+  }
+
+  @Test
+  public void testComparison_newBenchmark() {
+    BenchmarkBaseline current = createBaseline(1000., 2000.);
+    current.addEntry(new BenchmarkBaseline.Entry("gen-string", null, "[generate]", "CE",
+        ThroughputStatistics.of(500.)));
+    BaselineComparison comparison = current.compareWith(createBaseline(1000., 2000.), 0.1);
+    assertFalse(comparison.hasRegressions());
+    assertEquals(1, comparison.getUnmatchedKeys().size());
+    assertEquals("gen-string [generate] (CE)", comparison.getUnmatchedKeys().get(0));
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private static BenchmarkBaseline createBaseline(double csvThroughput, double dbThroughput) {
+    BenchmarkBaseline baseline = new BenchmarkBaseline("3.3.0", "host-1", "Linux \"x86_64\"\twith 8 cores",
+        "16 GB RAM", "11.0.20", "strict", "2026-10-19T14:33:12Z");
+    baseline.addEntry(new BenchmarkBaseline.Entry("file-csv", null, "[write]", "CE",
+        new ThroughputStatistics(3, csvThroughput, 12.5)));
+    baseline.addEntry(new BenchmarkBaseline.Entry("db-small-table", "builtin#h2", "[read]", "EE 4 Threads",
+        new ThroughputStatistics(3, dbThroughput, 30.)));
+    return baseline;
+  }
+
+}
@@ -0,0 +1,69 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark;
+
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link ThroughputStatistics}.<br/><br/>
+ * Created: 19.10.2026 14:21:53
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class ThroughputStatisticsTest {
+
+  @Test
+  public void testSingleSample() {
+    ThroughputStatistics statistics = ThroughputStatistics.of(1000.);
+    assertEquals(1, statistics.getCount());
+    assertEquals(1000., statistics.getMean(), 0);
+    assertEquals(0., statistics.getStdDev(), 0);
+    assertEquals(0., statistics.getConfidence95(), 0);
+  }
+
+  @Test
+  public void testSeveralSamples() {
+    ThroughputStatistics statistics = ThroughputStatistics.of(90., 100., 110., 100.);
+    assertEquals(4, statistics.getCount());
+    assertEquals(100., statistics.getMean(), 1E-9);
+    assertEquals(Math.sqrt(200. / 3), statistics.getStdDev(), 1E-9);
+    // t quantile for 3 degrees of freedom
+    assertEquals(3.182 * Math.sqrt(200. / 3) / 2, statistics.getConfidence95(), 1E-9);
+    assertEquals(100. - statistics.getConfidence95(), statistics.getLowerBound(), 1E-9);
+    assertEquals(100. + statistics.getConfidence95(), statistics.getUpperBound(), 1E-9);
+  }
+
+  @Test
+  public void testManySamples() {
+    double[] samples = new double[100];
+    Arrays.fill(samples, 0, 50, 90.);
+    Arrays.fill(samples, 50, 100, 110.);
+    ThroughputStatistics statistics = ThroughputStatistics.of(samples);
+    assertEquals(100., statistics.getMean(), 1E-9);
+    // normal distribution quantile
+    assertEquals(1.96 * statistics.getStdDev() / 10, statistics.getConfidence95(), 1E-9);
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testNoSamples() {
+    ThroughputStatistics.of();
+  }
+
+  @Test
+  public void testMergedSensorResult() {
+    ExecutionMode ce = new ExecutionMode(false, 1);
+    SensorResult merged = SensorResult.merge(Arrays.asList(
+        new SensorResult("[s]", 1000, ce, 1000),
+        new SensorResult("[s]", 1000, ce, 500)));
+    assertEquals(2000, merged.getCount());
+    assertEquals(1500, merged.getDuration());
+    assertEquals(2, merged.getStatistics().getCount());
+    assertEquals(1500., merged.entitiesPerSecond(), 1E-9);
+  }
+
+}
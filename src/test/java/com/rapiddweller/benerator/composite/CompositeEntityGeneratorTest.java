@@ -0,0 +1,94 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.composite;
+
+import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.SequenceTestGenerator;
+import com.rapiddweller.benerator.distribution.sequence.StepLongGenerator;
+import com.rapiddweller.benerator.sample.SampleGenerator;
+import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.benerator.util.GeneratorUtil;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link CompositeEntityGenerator}.<br/><br/>
+ * Created: 19.10.2026 15:12:44
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class CompositeEntityGeneratorTest extends GeneratorTest {
+
+  @Test
+  public void testGenerate() {
+    CompositeEntityGenerator generator = createGenerator("p", new StepLongGenerator(1, 2));
+    generator.init(context);
+    assertEquals(createEntity("person", "id", 1L, "name", "Alice"), GeneratorUtil.generateNonNull(generator));
+    assertEquals(createEntity("person", "id", 2L, "name", "Alice"), GeneratorUtil.generateNonNull(generator));
+    assertUnavailable(generator);
+  }
+
+  @Test
+  public void testGenerateBatch_columnWise() {
+    CompositeEntityGenerator generator = createGenerator(null, new StepLongGenerator(1, 5));
+    generator.init(context);
+    assertTrue(generator.isBatchable());
+    Object[] target = new Object[3];
+    assertEquals(3, generator.generateBatch(target, 3));
+    for (int i = 0; i < 3; i++) {
+      assertEquals(createEntity("person", "id", i + 1L, "name", "Alice"), target[i]);
+    }
+    assertEquals(2, generator.generateBatch(target, 3));
+    assertEquals(4L, ((Entity) target[0]).get("id"));
+    assertEquals(5L, ((Entity) target[1]).get("id"));
+    assertUnavailable(generator);
+  }
+
+  @Test
+  public void testGenerateBatch_namedInstance() {
+    // a named instance is visible to sibling scripts, so it is not generated ahead
+    CompositeEntityGenerator generator = createGenerator("p", new StepLongGenerator(1, 5));
+    generator.init(context);
+    assertFalse(generator.isBatchable());
+    Object[] target = new Object[3];
+    assertEquals(3, generator.generateBatch(target, 3));
+    assertEquals(3L, ((Entity) target[2]).get("id"));
+    assertSame(target[2], context.get("p"));
+    assertEquals(2, generator.generateBatch(target, 3));
+    assertNull(context.get("p"));
+  }
+
+  @Test
+  public void testGenerateBatch_entityWise() {
+    CompositeEntityGenerator generator = createGenerator("p", new SequenceTestGenerator<>(1L, 2L, 3L));
+    generator.init(context);
+    assertFalse(generator.isBatchable());
+    Object[] target = new Object[2];
+    assertEquals(2, generator.generateBatch(target, 2));
+    assertEquals(createEntity("person", "id", 1L, "name", "Alice"), target[0]);
+    assertEquals(createEntity("person", "id", 2L, "name", "Alice"), target[1]);
+    assertEquals(1, generator.generateBatch(target, 2));
+    assertEquals(3L, ((Entity) target[0]).get("id"));
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private CompositeEntityGenerator createGenerator(String instanceName, Generator<Long> idGenerator) {
+    ComplexTypeDescriptor type = createComplexType("person");
+    List<GenerationStep<Entity>> steps = new ArrayList<>();
+    steps.add(new PlainEntityComponentBuilder("id", idGenerator, null, null));
+    steps.add(new PlainEntityComponentBuilder("name", new SampleGenerator<>(String.class, "Alice"), null, null));
+    return new CompositeEntityGenerator(instanceName, new BlankEntityGenerator(type), steps, context);
+  }
+
+}
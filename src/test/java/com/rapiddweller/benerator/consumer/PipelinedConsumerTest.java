@@ -0,0 +1,183 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.consumer;
+
+import com.rapiddweller.benerator.test.ConsumerMock;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.ThreadAware;
+import com.rapiddweller.common.ThreadUtil;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the {@link PipelinedConsumer}.<br/><br/>
+ * Created: 19.10.2026 10:02:17
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class PipelinedConsumerTest {
+
+  @Test
+  public void testOrderedChain() {
+    ConsumerMock a = new ConsumerMock(true);
+    ConsumerMock b = new ConsumerMock(true);
+    PipelinedConsumer pipeline = new PipelinedConsumer("test", new ConsumerChain(a, b), 2, true);
+    List<Integer> expected = new ArrayList<>();
+    ProductWrapper<Integer> wrapper = new ProductWrapper<>();
+    for (int i = 0; i < 100; i++) {
+      pipeline.startConsuming(wrapper.wrap(i));
+      pipeline.finishConsuming(wrapper);
+      expected.add(i);
+    }
+    pipeline.flush();
+    assertEquals(expected, a.getProducts());
+    assertEquals(expected, b.getProducts());
+    assertEquals(1, a.flushCount.get());
+    assertEquals(1, b.flushCount.get());
+    pipeline.close();
+    assertEquals(1, a.closeCount.get());
+    assertEquals(1, b.closeCount.get());
+  }
+
+  @Test
+  public void testFlushAwaitsConsumption() {
+    ConsumerMock target = new ConsumerMock(false, 0, 1, 3);
+    PipelinedConsumer pipeline = new PipelinedConsumer("test", target, 100, true);
+    for (int i = 0; i < 20; i++) {
+      pipeline.finishConsuming(new ProductWrapper<>(i));
+    }
+    pipeline.flush();
+    assertEquals(20, target.finishConsumingCount.get());
+    assertEquals(ConsumerMock.FLUSH, target.invocations.get(target.invocations.size() - 1));
+    pipeline.close();
+  }
+
+  @Test
+  public void testBackPressure() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger consumed = new AtomicInteger();
+    PipelinedConsumer pipeline = new PipelinedConsumer("test", new AbstractConsumer() {
+      @Override
+      public void startProductConsumption(Object object) {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        consumed.incrementAndGet();
+      }
+    }, 2, true);
+    CountDownLatch produced = new CountDownLatch(1);
+    Thread producer = new Thread(() -> {
+      for (int i = 0; i < 10; i++) {
+        pipeline.finishConsuming(new ProductWrapper<>(i));
+      }
+      produced.countDown();
+    });
+    producer.start();
+    // one product is held by the consumer and two are queued, so the producer must block
+    assertFalse(produced.await(200, TimeUnit.MILLISECONDS));
+    release.countDown();
+    assertTrue(produced.await(5, TimeUnit.SECONDS));
+    pipeline.await();
+    assertEquals(10, consumed.get());
+    pipeline.close();
+  }
+
+  @Test
+  public void testUnorderedThreads() {
+    ThreadSafeConsumer target = new ThreadSafeConsumer();
+    PipelinedConsumer pipeline = new PipelinedConsumer("test", target, 10, false, 4);
+    for (int i = 0; i < 200; i++) {
+      pipeline.finishConsuming(new ProductWrapper<>(i));
+    }
+    pipeline.await();
+    assertEquals(200, target.count.get());
+    assertTrue(target.threadNames.size() > 1);
+    pipeline.close();
+  }
+
+  @Test
+  public void testNonThreadSafeConsumerUsesSingleThread() {
+    ConsumerMock target = new ConsumerMock(false);
+    PipelinedConsumer pipeline = new PipelinedConsumer("test", target, 10, false, 4);
+    for (int i = 0; i < 50; i++) {
+      pipeline.finishConsuming(new ProductWrapper<>(i));
+    }
+    pipeline.await();
+    assertEquals(50, target.startConsumingCount.get());
+    assertEquals(1, target.getThreadCount());
+    pipeline.close();
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testOrderedThreads() {
+    new PipelinedConsumer("test", new ThreadSafeConsumer(), 10, true, 2);
+  }
+
+  @Test
+  public void testFailure() {
+    PipelinedConsumer pipeline = new PipelinedConsumer("test", new AbstractConsumer() {
+      @Override
+      public void startProductConsumption(Object object) {
+        if (((Integer) object) == 1) {
+          throw new IllegalStateException("failed on " + object);
+        }
+      }
+    }, 10, true);
+    try {
+      // the failure is rethrown by the next invocation after its occurrence
+      for (int i = 0; i < 3; i++) {
+        pipeline.finishConsuming(new ProductWrapper<>(i));
+      }
+      pipeline.await();
+      fail("exception expected");
+    } catch (IllegalStateException e) {
+      assertEquals("failed on 1", e.getMessage());
+    }
+    // the failure is reported only once
+    pipeline.finishConsuming(new ProductWrapper<>(3));
+    pipeline.flush();
+    pipeline.close();
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  static class ThreadSafeConsumer extends AbstractConsumer implements ThreadAware {
+
+    final AtomicInteger count = new AtomicInteger();
+    final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void startProductConsumption(Object object) {
+      threadNames.add(Thread.currentThread().getName());
+      count.incrementAndGet();
+      ThreadUtil.sleepIgnoringException(1);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+      return true;
+    }
+
+    @Override
+    public boolean isParallelizable() {
+      return false;
+    }
+
+  }
+
+}
@@ -0,0 +1,75 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.csv;
+
+import com.rapiddweller.common.Encodings;
+import com.rapiddweller.common.FileUtil;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the {@link CSVTableCache}.<br/><br/>
+ * Created: 19.10.2026 16:41:05
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class CSVTableCacheTest {
+
+  private static final String RESOURCE = "/com/rapiddweller/benerator/csv/indexed.csv";
+  private static final String FILE = "src/test/resources/com/rapiddweller/benerator/csv/indexed.csv";
+
+  @Test
+  public void testResource() {
+    CSVTable table = CSVTableCache.getTable(RESOURCE, ',', false, Encodings.UTF_8);
+    assertEquals(6, table.getRowCount());
+    assertArrayEquals(new String[] {"name", "comment", "count"}, table.getRow(0));
+    assertArrayEquals(new String[0], table.getRow(2));
+    assertArrayEquals(new String[] {"Bob", null, "2"}, table.getRow(3));
+    assertSame(table, CSVTableCache.getTable(RESOURCE, ',', false, Encodings.UTF_8));
+    assertNotSame(table, CSVTableCache.getTable(RESOURCE, ',', true, Encodings.UTF_8));
+  }
+
+  @Test
+  public void testFile() {
+    CSVTable table = CSVTableCache.getTable(FILE, ',', true, Encodings.UTF_8);
+    assertEquals(5, table.getRowCount());
+    assertArrayEquals(new String[] {"Doris", "last"}, table.getRow(4));
+    assertNotSame(table, CSVTableCache.getTable(FILE, ',', true, Encodings.UTF_8));
+  }
+
+  @Test
+  public void testWeights() {
+    CSVTable table = CSVTableCache.getTable("weighted-names.csv", ',', false, Encodings.UTF_8);
+    assertArrayEquals(new double[] {3., 2., 1.}, table.getWeights(), 0.);
+    assertSame(table.getWeights(), table.getWeights());
+  }
+
+  @Test
+  public void testCacheFile() throws IOException {
+    String[][] rows = CSVTableCache.parse(FILE, ',', false, Encodings.UTF_8);
+    File folder = Files.createTempDirectory("CSVTableCacheTest").toFile();
+    try {
+      File cacheFile = new File(folder, "indexed.csv.bin");
+      CSVTableCache.writeCacheFile(rows, cacheFile, "key", "stamp");
+      String[][] copy = CSVTableCache.readCacheFile(cacheFile, "key", "stamp");
+      assertEquals(rows.length, copy.length);
+      for (int i = 0; i < rows.length; i++) {
+        assertArrayEquals(rows[i], copy[i]);
+      }
+      assertNull(CSVTableCache.readCacheFile(cacheFile, "key", "modified"));
+      assertNull(CSVTableCache.readCacheFile(cacheFile, "other", "stamp"));
+    } finally {
+      FileUtil.deleteDirectory(folder);
+    }
+  }
+
+}
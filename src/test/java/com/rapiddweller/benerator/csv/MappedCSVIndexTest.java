@@ -0,0 +1,96 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.csv;
+
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.format.csv.CSVLineIterator;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link MappedCSVIndex}.<br/><br/>
+ * Created: 18.10.2026 23:58:12
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class MappedCSVIndexTest {
+
+  private static final String FILE = "src/test/resources/com/rapiddweller/benerator/csv/indexed.csv";
+
+  @Test
+  public void testRows() {
+    MappedCSVIndex index = new MappedCSVIndex(new File(FILE), ',', StandardCharsets.UTF_8, true);
+    assertEquals(5, index.size());
+    assertArrayEquals(new String[] {"name", "comment", "count"}, index.get(0));
+    assertArrayEquals(new String[] {"Alice", "likes a, b and \"c\"", "1"}, index.get(1));
+    assertArrayEquals(new String[] {"Bob", null, "2"}, index.get(2));
+    String[] charly = index.get(3);
+    charly[1] = charly[1].replace("\r\n", "\n"); // the line break depends on the checkout's line endings
+    assertArrayEquals(new String[] {"Charly", "multi\nline", "3\t"}, charly);
+    assertArrayEquals(new String[] {"Doris", "last"}, index.get(4));
+    assertArrayEquals(new String[] {"Alice", "likes a, b and \"c\"", "1"}, index.get(1));
+  }
+
+  @Test
+  public void testEmptyLines() {
+    MappedCSVIndex index = new MappedCSVIndex(new File(FILE), ',', StandardCharsets.UTF_8, false);
+    assertEquals(6, index.size());
+    assertArrayEquals(new String[0], index.get(2));
+    assertArrayEquals(new String[] {"Bob", null, "2"}, index.get(3));
+  }
+
+  @Test
+  public void testConsistencyWithCSVLineIterator() {
+    checkConsistency(FILE, ',', true);
+    checkConsistency(FILE, ',', false);
+    checkConsistency(FILE, ';', true);
+    checkConsistency("src/test/resources/com/rapiddweller/benerator/csv/city_US.csv", ',', true);
+    checkConsistency("src/test/resources/com/rapiddweller/benerator/csv/empty.csv", ',', true);
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testIndexOutOfRange() {
+    new MappedCSVIndex(new File(FILE), ',', StandardCharsets.UTF_8, true).get(5);
+  }
+
+  @Test
+  public void testSupportsEncoding() {
+    assertTrue(MappedCSVIndex.supportsEncoding(StandardCharsets.UTF_8, ','));
+    assertTrue(MappedCSVIndex.supportsEncoding(StandardCharsets.ISO_8859_1, ';'));
+    assertTrue(MappedCSVIndex.supportsEncoding(Charset.forName("windows-1252"), '\t'));
+    assertFalse(MappedCSVIndex.supportsEncoding(StandardCharsets.UTF_16, ','));
+    assertFalse(MappedCSVIndex.supportsEncoding(Charset.forName("GBK"), ','));
+    assertFalse(MappedCSVIndex.supportsEncoding(StandardCharsets.UTF_8, '§'));
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void checkConsistency(String uri, char separator, boolean ignoreEmptyLines) {
+    List<String[]> expected = new ArrayList<>();
+    DataIterator<String[]> iterator = new CSVLineIterator(uri, separator, ignoreEmptyLines, "UTF-8");
+    DataContainer<String[]> container = new DataContainer<>();
+    while ((container = iterator.next(container)) != null) {
+      expected.add(container.getData());
+    }
+    IOUtil.close(iterator);
+    MappedCSVIndex index = new MappedCSVIndex(new File(uri), separator, StandardCharsets.UTF_8, ignoreEmptyLines);
+    assertEquals(expected.size(), index.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertArrayEquals(expected.get(i), index.get(i));
+    }
+  }
+
+}
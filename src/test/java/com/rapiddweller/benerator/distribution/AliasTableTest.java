@@ -0,0 +1,75 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.distribution;
+
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link AliasTable}.<br/><br/>
+ * Created: 18.10.2026 18:58:40
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class AliasTableTest {
+
+  @Test
+  public void testWeights() {
+    checkProbabilities(1, 2, 3, 4);
+    checkProbabilities(0, 5, 0, 1e-6, 1000);
+    checkProbabilities(7);
+  }
+
+  @Test
+  public void testZeroWeights() {
+    checkProbabilities(0, 0, 0);
+  }
+
+  @Test
+  public void testManyBuckets() {
+    double[] weights = new double[2000000];
+    for (int i = 0; i < weights.length; i++) {
+      weights[i] = (i % 2 == 0 ? 1 : 3);
+    }
+    AliasTable table = new AliasTable(weights);
+    assertEquals(2000000, table.size());
+    int[] counts = new int[2];
+    int n = 4000000;
+    for (int k = 0; k < n; k++) {
+      counts[table.sample((k + 0.5) / n) % 2]++;
+    }
+    assertEquals(0.25, (double) counts[0] / n, 0.001);
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testNegativeWeight() {
+    new AliasTable(new double[] { 1, -1 });
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testEmpty() {
+    new AliasTable(new double[0]);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void checkProbabilities(double... weights) {
+    AliasTable table = new AliasTable(weights);
+    double sum = 0;
+    for (double weight : weights) {
+      sum += weight;
+    }
+    int n = 1000000;
+    int[] counts = new int[weights.length];
+    for (int k = 0; k < n; k++) {
+      counts[table.sample((k + 0.5) / n)]++;
+    }
+    for (int i = 0; i < weights.length; i++) {
+      double expected = (sum > 0 ? weights[i] / sum : 1. / weights.length);
+      assertEquals("Wrong probability of index " + i, expected, (double) counts[i] / n, 1e-5);
+    }
+  }
+
+}
@@ -30,6 +30,10 @@
 import com.rapiddweller.benerator.test.GeneratorClassTest;
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
 /**
  * Tests the {@link ShuffleLongGenerator}.<br/><br/>
  * Created: 07.06.2006 20:23:39
@@ -115,4 +119,18 @@ public void testReset() {
     expectGeneratedSequence(generator, 0L, 2L, 1L, 3L).withCeasedAvailability();
   }
 
+  @Test
+  public void testGenerateLongs() {
+    ShuffleLongGenerator generator = new ShuffleLongGenerator(0, 3, 1, 2);
+    generator.init(context);
+    long[] target = new long[3];
+    assertEquals(3, generator.generateLongs(target, 3));
+    assertArrayEquals(new long[] { 0L, 2L, 1L }, target);
+    assertEquals(1, generator.generateLongs(target, 3));
+    assertEquals(3L, target[0]);
+    assertNull(generator.generate());
+    generator.reset();
+    assertEquals(0L, generator.nextLong());
+  }
+
 }
@@ -30,6 +30,10 @@
 import com.rapiddweller.benerator.test.GeneratorClassTest;
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 /**
  * Tests the {@link StepLongGenerator}.<br/><br/>
  * Created: 26.07.2007 18:11:19
@@ -83,4 +87,56 @@ public void testGranularity() throws IllegalGeneratorStateException {
     expectGeneratedSequence(simpleGenerator, 1L, 3L, 5L).withCeasedAvailability();
   }
 
+  @Test
+  public void testGenerateBatch() {
+    StepLongGenerator generator = new StepLongGenerator(1, 7, 2);
+    generator.init(context);
+    assertTrue(generator.isBatchable());
+    Object[] target = new Object[3];
+    assertEquals(3, generator.generateBatch(target, 3));
+    assertArrayEquals(new Object[] { 1L, 3L, 5L }, target);
+    assertEquals(1, generator.generateBatch(target, 3));
+    assertEquals(7L, target[0]);
+    assertEquals(0, generator.generateBatch(target, 3));
+    generator.reset();
+    assertEquals(1L, generator.generate().longValue());
+    StepLongGenerator decrementing = new StepLongGenerator(1, 5, -2);
+    decrementing.init(context);
+    assertEquals(3, decrementing.generateBatch(target, 3));
+    assertArrayEquals(new Object[] { 5L, 3L, 1L }, target);
+    assertEquals(null, decrementing.generate());
+  }
+
+  @Test
+  public void testGenerateLongs() {
+    StepLongGenerator generator = new StepLongGenerator(1, 7, 2);
+    generator.init(context);
+    assertTrue(generator.supportsLongs());
+    assertEquals(1L, generator.nextLong());
+    long[] target = new long[4];
+    assertEquals(3, generator.generateLongs(target, 4));
+    assertArrayEquals(new long[] { 3L, 5L, 7L, 0L }, target);
+    assertEquals(0, generator.generateLongs(target, 4));
+  }
+
+  @Test
+  public void testGenerateBatch_growingCount() {
+    StepLongGenerator generator = new StepLongGenerator(1, 6);
+    generator.init(context);
+    Object[] target = new Object[4];
+    assertEquals(2, generator.generateBatch(target, 2));
+    assertEquals(4, generator.generateBatch(target, 4));
+    assertArrayEquals(new Object[] { 3L, 4L, 5L, 6L }, target);
+    assertEquals(0, generator.generateBatch(target, 1));
+  }
+
+  @Test(expected = IllegalGeneratorStateException.class)
+  public void testNextLong_unavailable() {
+    StepLongGenerator generator = new StepLongGenerator(1, 2);
+    generator.init(context);
+    generator.nextLong();
+    generator.nextLong();
+    generator.nextLong();
+  }
+
 }
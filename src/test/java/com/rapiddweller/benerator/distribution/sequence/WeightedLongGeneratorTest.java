@@ -27,6 +27,7 @@
 package com.rapiddweller.benerator.distribution.sequence;
 
 import com.rapiddweller.benerator.IllegalGeneratorStateException;
+import com.rapiddweller.benerator.distribution.AbstractWeightFunction;
 import com.rapiddweller.benerator.distribution.WeightedLongGenerator;
 import com.rapiddweller.benerator.test.GeneratorClassTest;
 import org.junit.Test;
@@ -34,6 +35,8 @@
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * Tests the {@link WeightedLongGenerator}.<br/><br/>
  * Created: 18.06.2006 15:04:17
@@ -54,6 +57,26 @@ public void testRandomSequence() throws IllegalGeneratorStateException {
     checkUniformDistribution(-5, -1, 2, 10000, 0.1, -5, -3, -1);
   }
 
+  @Test
+  public void testWeightFunction() {
+    WeightedLongGenerator generator = new WeightedLongGenerator(10, 13, new AbstractWeightFunction() {
+      @Override
+      public double value(double param) {
+        return (param == 12 ? 0 : param - 9); // weights 1, 2, 0, 4
+      }
+    });
+    generator.init(context);
+    int[] counts = new int[4];
+    int n = 70000;
+    for (int i = 0; i < n; i++) {
+      counts[(int) (generator.generate() - 10)]++;
+    }
+    assertEquals(1. / 7, (double) counts[0] / n, 0.01);
+    assertEquals(2. / 7, (double) counts[1] / n, 0.01);
+    assertEquals(0, counts[2]);
+    assertEquals(4. / 7, (double) counts[3] / n, 0.01);
+  }
+
   // private helpers -------------------------------------------------------------------------------------------------
 
   private void checkUniformDistribution(int min, int max, int granularity,
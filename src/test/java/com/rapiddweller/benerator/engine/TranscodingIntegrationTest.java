@@ -60,6 +60,8 @@ public class TranscodingIntegrationTest extends AbstractBeneratorIntegrationTest
   private static final String DESCRIPTOR3_FILE_NAME = PARENT_FOLDER + "/transcode_partially.ben.xml";
   private static final String DESCRIPTOR4_FILE_NAME = PARENT_FOLDER + "/transcode_partially_to_non_empty_target.ben.xml";
   private static final String DESCRIPTOR5_FILE_NAME = PARENT_FOLDER + "/transcode_partially_with_cascade.ben.xml";
+  private static final String DESCRIPTOR6_FILE_NAME = PARENT_FOLDER + "/transcode_to_target_with_countries_spilling.ben.xml";
+  private static final String DESCRIPTOR7_FILE_NAME = PARENT_FOLDER + "/transcode_partially_with_cascade_spilling.ben.xml";
 
   @After
   public void clearDB() throws ConnectFailedException, SQLException {
@@ -101,10 +103,19 @@ public void testEmptyTarget() throws Exception {
 
   @Test
   public void testTargetWithCountries() throws Exception {
+    checkTargetWithCountries(DESCRIPTOR2_FILE_NAME);
+  }
+
+  @Test
+  public void testTargetWithCountries_spillingKeyMapper() throws Exception {
+    checkTargetWithCountries(DESCRIPTOR6_FILE_NAME);
+  }
+
+  private void checkTargetWithCountries(String descriptorFileName) throws Exception {
     DescriptorRunner runner = null;
     try {
       // run descriptor file
-      runner = new DescriptorRunner(DESCRIPTOR2_FILE_NAME, context);
+      runner = new DescriptorRunner(descriptorFileName, context);
       runner.run();
       AbstractDBSystem t = (AbstractDBSystem) context.get("t");
       // check countries
@@ -186,10 +197,19 @@ public void testPartialTranscodeToNonEmptyTarget() throws Exception {
 
   @Test
   public void testPartialTranscodeWithCascade() throws Exception {
+    checkPartialTranscodeWithCascade(DESCRIPTOR5_FILE_NAME);
+  }
+
+  @Test
+  public void testPartialTranscodeWithCascade_spillingKeyMapper() throws Exception {
+    checkPartialTranscodeWithCascade(DESCRIPTOR7_FILE_NAME);
+  }
+
+  private void checkPartialTranscodeWithCascade(String descriptorFileName) throws Exception {
     DescriptorRunner runner = null;
     try {
       // run descriptor file
-      runner = new DescriptorRunner(DESCRIPTOR5_FILE_NAME, context);
+      runner = new DescriptorRunner(descriptorFileName, context);
       runner.run();
       AbstractDBSystem t = (AbstractDBSystem) context.get("t");
 
@@ -39,7 +39,9 @@
 import com.rapiddweller.model.data.Entity;
 import org.junit.Test;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
@@ -522,4 +524,168 @@ public void testReferenceIgnored() {
     }
   }
 
+  @Test
+  public void testThreads() {
+    BeneratorMonitor.INSTANCE.setTotalGenerationCount(0);
+    Statement statement = parseXmlString(
+        "<generate type='dummy' count='1000' threads='4' pageSize='100' consumer='cons'>" +
+            "   <id name='id' type='long' />" +
+            "   <attribute name='x' type='int' min='1' max='10' />" +
+            "</generate>");
+    ConsumerMock consumer = new ConsumerMock(true);
+    context.setGlobal("cons", consumer);
+    statement.execute(context);
+    assertEquals(1000, consumer.startConsumingCount.get());
+    assertEquals(1000, consumer.finishConsumingCount.get());
+    assertEquals(1000L, BeneratorMonitor.INSTANCE.getTotalGenerationCount());
+    assertTrue(consumer.getThreadCount() > 1);
+    // the id generator is shared by the worker threads, so ids are unique
+    Set<Object> ids = new HashSet<>();
+    for (Object product : consumer.getProducts()) {
+      Entity entity = (Entity) product;
+      ids.add(entity.get("id"));
+      int x = (Integer) entity.get("x");
+      assertTrue(x >= 1 && x <= 10);
+    }
+    assertEquals(1000, ids.size());
+  }
+
+  @Test
+  public void testThreads_unevenSplit() {
+    Statement statement = parseXmlString("<generate type='dummy' count='10' threads='4' consumer='cons'/>");
+    ConsumerMock consumer = new ConsumerMock(false);
+    context.setGlobal("cons", consumer);
+    statement.execute(context);
+    assertEquals(10, consumer.startConsumingCount.get());
+  }
+
+  @Test
+  public void testThreads_subGenerate() {
+    Statement statement = parseXmlString(
+        "<generate type='a' count='3' threads='2' consumer='cons'>" +
+            "   <generate type='b' count='2' consumer='cons'/>" +
+            "</generate>");
+    ConsumerMock consumer = new ConsumerMock(false);
+    context.setGlobal("cons", consumer);
+    statement.execute(context);
+    // nested generation is not parallelized
+    assertEquals(9, consumer.startConsumingCount.get());
+    assertEquals(1, consumer.getThreadCount());
+  }
+
+  @Test
+  public void testBatchGeneration() {
+    ConsumerMock cons = new ConsumerMock(true);
+    context.setGlobal("cons", cons);
+    Statement statement = parseXmlString(
+        "<generate type='top' count='25' pageSize='10' consumer='cons'>" +
+            "   <attribute name='n' type='long' generator='" + IncrementGenerator.class.getName() + "' />" +
+            "   <attribute name='m' type='int' min='3' max='1000' distribution='step' />" +
+            "   <attribute name='c' type='string' pattern='[A-C]' />" +
+            "</generate>"
+    );
+    statement.execute(context);
+    // the pages are unchanged by batch generation
+    assertEquals(3, cons.flushCount.get());
+    assertEquals(25, cons.getProducts().size());
+    for (int i = 0; i < 25; i++) {
+      Entity product = (Entity) cons.getProducts().get(i);
+      assertEquals(i + 1L, product.get("n"));
+      assertEquals(i + 3, product.get("m"));
+      assertTrue(((String) product.get("c")).matches("[A-C]"));
+    }
+  }
+
+  @Test
+  public void testBatchGeneration_partReferencedByScript() {
+    ConsumerMock cons = new ConsumerMock(true);
+    context.setGlobal("cons", cons);
+    Statement statement = parseXmlString(
+        "<generate type='top' count='5' pageSize='10' consumer='cons'>" +
+            "   <part name='p'>" +
+            "     <attribute name='n' type='long' generator='" + IncrementGenerator.class.getName() + "' />" +
+            "   </part>" +
+            "   <attribute name='pn' type='long' script='p.n' />" +
+            "</generate>"
+    );
+    statement.execute(context);
+    assertEquals(5, cons.getProducts().size());
+    for (int i = 0; i < 5; i++) {
+      Entity product = (Entity) cons.getProducts().get(i);
+      assertEquals(i + 1L, ((Entity) product.get("p")).get("n"));
+      assertEquals(i + 1L, product.get("pn"));
+    }
+  }
+
+  @Test
+  public void testBatchGeneration_sharedGenerator() {
+    ConsumerMock cons = new ConsumerMock(true);
+    context.setGlobal("cons", cons);
+    context.setGlobal("inc", new IncrementGenerator());
+    // a generator shared by subsequent statements continues without gaps
+    for (int count = 15; count > 0; count -= 10) {
+      parseXmlString(
+          "<generate type='top' count='" + count + "' pageSize='10' consumer='cons'>" +
+              "   <attribute name='n' type='long' generator='inc' />" +
+              "</generate>"
+      ).execute(context);
+    }
+    assertEquals(20, cons.getProducts().size());
+    for (int i = 0; i < 20; i++) {
+      assertEquals(i + 1L, ((Entity) cons.getProducts().get(i)).get("n"));
+    }
+  }
+
+  @Test
+  public void testPipeline() {
+    BeneratorMonitor.INSTANCE.setTotalGenerationCount(0);
+    ConsumerMock cons = new ConsumerMock(true);
+    context.setGlobal("cons", cons);
+    Statement statement = parseXmlString(
+        "<generate type='top' count='4' pageSize='2' pipeline='1' consumer='cons'>" +
+            "   <id name='id' type='int' />" +
+            "</generate>"
+    );
+    statement.execute(context);
+    // the consumer is fed by a separate thread with the same page boundaries
+    List<String> expectedInvocations = CollectionUtil.toList(
+        ConsumerMock.START_CONSUMING, ConsumerMock.FINISH_CONSUMING,
+        ConsumerMock.START_CONSUMING, ConsumerMock.FINISH_CONSUMING,
+        ConsumerMock.FLUSH,
+        ConsumerMock.START_CONSUMING, ConsumerMock.FINISH_CONSUMING,
+        ConsumerMock.START_CONSUMING, ConsumerMock.FINISH_CONSUMING,
+        ConsumerMock.FLUSH
+    );
+    assertEquals(expectedInvocations, cons.invocations);
+    for (int i = 0; i < 4; i++) {
+      assertEquals(i + 1, ((Entity) cons.getProducts().get(i)).get("id"));
+    }
+    assertEquals(4L, BeneratorMonitor.INSTANCE.getTotalGenerationCount());
+  }
+
+  @Test
+  public void testPipeline_pageSize0() {
+    ConsumerMock cons = new ConsumerMock(false);
+    context.setGlobal("cons", cons);
+    Statement statement = parseXmlString(
+        "<generate type='top' count='100' pageSize='0' pipeline='10' consumer='cons' />");
+    statement.execute(context);
+    assertEquals(100, cons.finishConsumingCount.get());
+    assertEquals(0, cons.flushCount.get());
+  }
+
+  @Test
+  public void testPipeline_subGenerate() {
+    Statement statement = parseXmlString(
+        "<generate type='a' count='3' pipeline='10' consumer='cons'>" +
+            "   <generate type='b' count='2' consumer='cons'/>" +
+            "</generate>");
+    ConsumerMock consumer = new ConsumerMock(false);
+    context.setGlobal("cons", consumer);
+    statement.execute(context);
+    // products with nested generation are consumed synchronously
+    assertEquals(9, consumer.startConsumingCount.get());
+    assertEquals(1, consumer.getThreadCount());
+  }
+
 }
@@ -28,19 +28,19 @@
 
 import com.rapiddweller.benerator.test.ConsumerMock;
 import com.rapiddweller.benerator.test.GeneratorTest;
-import com.rapiddweller.format.DataContainer;
-import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.common.xml.XMLUtil;
 import com.rapiddweller.jdbacl.DBUtil;
 import com.rapiddweller.jdbacl.dialect.HSQLUtil;
-import com.rapiddweller.jdbacl.model.DBForeignKeyConstraint;
 import com.rapiddweller.model.data.Entity;
 import com.rapiddweller.platform.db.DefaultDBSystem;
+import com.rapiddweller.script.expression.ConstantExpression;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertNull;
 
 /**
  * Tests the {@link CascadeStatement}.<br/><br/>
@@ -92,15 +92,11 @@ public void setUpDatabase() {
    */
   @Test
   public void testResolveToManyReference() {
-    CascadeStatement.Reference ref = new CascadeStatement.Reference("referee", new String[] {"id"});
-    DBForeignKeyConstraint fk = db.getDbMetaData().getTable("referer").getForeignKeyConstraint("referee_id");
+    CascadeStatement.Reference ref = new CascadeStatement.Reference("referer", new String[] {"referee_id"});
     Entity fromEntity = createEntity("referee", "id", 2);
-    DataIterator<Entity> iterator = ref.resolveToManyReference(fromEntity, fk, db, context);
-    DataContainer<Entity> container = new DataContainer<>();
-    DataContainer<Entity> next = iterator.next(container);
-    assertNotNull("referee not found", next);
-    assertEquals(createEntity("REFERER", "ID", 4, "REFEREE_ID", 2, "THE_DATE", null), next.getData());
-    assertNull(iterator.next(container));
+    List<List<Entity>> result = ref.resolveReferences(List.of(fromEntity), db);
+    assertEquals(1, result.size());
+    assertEquals(List.of(createEntity("REFERER", "ID", 4, "REFEREE_ID", 2, "THE_DATE", null)), result.get(0));
   }
 
   /**
@@ -109,14 +105,63 @@ public void testResolveToManyReference() {
   @Test
   public void testResolveToOneReference() {
     CascadeStatement.Reference ref = new CascadeStatement.Reference("referer", new String[] {"referee_id"});
-    DBForeignKeyConstraint fk = db.getDbMetaData().getTable("referer").getForeignKeyConstraint("referee_id");
     Entity fromEntity = createEntity("referer", "id", 4, "referee_id", 2);
-    DataIterator<Entity> iterator = ref.resolveToOneReference(fromEntity, fk, db, context);
-    DataContainer<Entity> container = new DataContainer<>();
-    DataContainer<Entity> next = iterator.next(container);
-    assertNotNull("referee not found", next);
-    assertEquals(createEntity("REFEREE", "ID", 2, "N", 2), next.getData());
-    assertNull(iterator.next(container));
+    List<List<Entity>> result = ref.resolveReferences(List.of(fromEntity), db);
+    assertEquals(1, result.size());
+    assertEquals(List.of(createEntity("REFEREE", "ID", 2, "N", 2)), result.get(0));
+  }
+
+  /**
+   * Test resolving the references of several parents with one query, with missing, duplicate and null keys
+   * and a number of parents which exceeds the IN list size.
+   */
+  @Test
+  public void testResolveReferences_batch() {
+    db.execute("insert into referer (id, referee_id) values (6, 2)");
+    db.execute("insert into referer (id, referee_id) values (7, null)");
+    CascadeStatement.Reference ref = new CascadeStatement.Reference("referer", new String[] {"referee_id"});
+    List<Entity> parents = new ArrayList<>();
+    parents.add(createEntity("referee", "id", 2));
+    parents.add(createEntity("referee", "id", 3));
+    for (int i = 0; i < 150; i++) {
+      parents.add(createEntity("referee", "id", 100 + i));
+    }
+    parents.add(createEntity("referee", "id", 2L));
+    List<List<Entity>> result = ref.resolveReferences(parents, db);
+    assertEquals(parents.size(), result.size());
+    assertEquals(2, result.get(0).size());
+    assertEquals(List.of(createEntity("REFERER", "ID", 5, "REFEREE_ID", 3, "THE_DATE", null)), result.get(1));
+    assertEquals(0, result.get(2).size());
+    assertEquals(result.get(0), result.get(parents.size() - 1));
+    // to-one reference with a null foreign key
+    List<List<Entity>> toOne = ref.resolveReferences(
+        List.of(createEntity("referer", "id", 7, "referee_id", null), createEntity("referer", "id", 5, "referee_id", 3)), db);
+    assertEquals(0, toOne.get(0).size());
+    assertEquals(List.of(createEntity("REFEREE", "ID", 3, "N", 3)), toOne.get(1));
+  }
+
+  /**
+   * Tests that only the direct children of the parent entities are prefetched and that they can be discarded.
+   */
+  @Test
+  public void testPrefetch_directChildrenOnly() {
+    TranscodeStatement transcode = new TranscodeStatement(
+        new MutatingTypeExpression(XMLUtil.parseStringAsElement("<transcode table='referee'/>"), "referee"),
+        null, new ConstantExpression<>(db), null, null, null, null);
+    CascadeStatement child = new CascadeStatement("referer(referee_id)",
+        new MutatingTypeExpression(XMLUtil.parseStringAsElement("<cascade ref='referer(referee_id)'/>"), null),
+        transcode);
+    transcode.addSubStatement(child);
+    CascadeStatement grandChild = new CascadeStatement("referer(referee_id)",
+        new MutatingTypeExpression(XMLUtil.parseStringAsElement("<cascade ref='referer(referee_id)'/>"), null),
+        child);
+    child.addSubStatement(grandChild);
+    List<Entity> parents = List.of(createEntity("REFEREE", "ID", 2, "N", 2), createEntity("REFEREE", "ID", 3, "N", 3));
+    CascadeStatement.prefetch(parents, transcode.getSubStatements(), context);
+    assertEquals(2, child.prefetchedCount());
+    assertEquals(0, grandChild.prefetchedCount());
+    CascadeStatement.clearPrefetched(transcode.getSubStatements());
+    assertEquals(0, child.prefetchedCount());
   }
 
 }
@@ -33,6 +33,8 @@
 import com.rapiddweller.platform.template.TemplateFileEntityExporter;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * Tests the {@link TemplateFileEntityExporter}.<br/><br/>
  * Created: 27.06.2014 17:42:34
@@ -66,6 +68,37 @@ public void testCountries() {
     System.out.println(content);
   }
 
+  @Test
+  public void testStreaming() {
+    String uri = "target/" + getClass().getName() + "-stream.txt";
+    String templateUri = "com/rapiddweller/benerator/engine/template/countries_stream.ftl";
+    BeneratorContext context = parseAndExecuteXmlString(
+        "<setup>" +
+            "<bean id='con' class='TemplateFileEntityExporter'>" +
+            "	<property name='uri' value='" + uri + "'/>" +
+            "	<property name='templateUri' value='" + templateUri + "'/>" +
+            "</bean>" +
+            "<generate type='continent' count='1' consumer='con'>" +
+            "	<attribute name='name' constant='Utopia' />" +
+            "</generate>" +
+            "<generate type='countries' count='3' consumer='con'>" +
+            "	<id name='id' type='int' />" +
+            "	<attribute name='name' script='countries.id' />" +
+            "   <generate type='states' count='2' consumer='con'>" +
+            "      <id name='id' type='int' />" +
+            "      <attribute name='name' script='states.id' />" +
+            "   </generate>" +
+            "</generate>" +
+            "</setup>");
+    closeCon(context);
+    String content = IOUtil.getContentOfURI(uri);
+    assertEquals("Countries of Utopia:\n" +
+        "1. C1: S1, S2\n" +
+        "2. C2: S1, S2\n" +
+        "3. C3: S1, S2\n" +
+        "End of list.\n", content.replace("\r\n", "\n"));
+  }
+
   @Test
   public void testIFTDGN1() {
     BeneratorContext context = parseAndExecuteFile("com/rapiddweller/benerator/engine/template/IFTDGN1.ben.xml");
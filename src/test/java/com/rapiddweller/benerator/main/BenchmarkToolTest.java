@@ -3,8 +3,10 @@
 package com.rapiddweller.benerator.main;
 
 import com.rapiddweller.benerator.BeneratorMode;
+import com.rapiddweller.benerator.benchmark.BenchmarkBaseline;
 import com.rapiddweller.benerator.benchmark.BenchmarkToolConfig;
 import com.rapiddweller.benerator.benchmark.Benchmark;
+import com.rapiddweller.benerator.benchmark.ThroughputStatistics;
 import com.rapiddweller.benerator.environment.SystemRef;
 import com.rapiddweller.benerator.test.ModelTest;
 import com.rapiddweller.common.ArrayBuilder;
@@ -30,6 +32,7 @@
 public class BenchmarkToolTest extends ModelTest {
 
   private static final String[] BUILTIN_DBS = new String[] { "builtin#h2" };
+  private static final String BASELINE_FILE = "target/benchmark-baseline-test.json";
 
   @AfterClass
   public static void cleanUp() {
@@ -39,6 +42,7 @@ public static void cleanUp() {
     FileUtil.deleteIfExists(new File("results/1_Performance.csv"));
     FileUtil.deleteIfExists(new File("results/2_Info.csv"));
     FileUtil.deleteDirectory(new File("results"));
+    FileUtil.deleteIfExists(new File(BASELINE_FILE));
   }
 
   @Test
@@ -82,6 +86,46 @@ public void testFileOnly() {
     assertEquals("gen-string", config.getName());
   }
 
+  @Test
+  public void testMeasurementOptions() {
+    BenchmarkToolConfig config = BenchmarkTool.parseCommandLineConfig(
+        "--warmup", "2", "--iterations", "5", "--compare", "--saveBaseline",
+        "--baseline", "my-baseline.json", "--tolerance", "7.5", "gen-string");
+    assertEquals(2, config.getWarmup());
+    assertEquals(5, config.getIterations());
+    assertTrue(config.isCompare());
+    assertTrue(config.isSaveBaseline());
+    assertEquals("my-baseline.json", config.getBaseline());
+    assertEquals(7.5, config.getTolerance(), 0);
+  }
+
+  @Test
+  public void testDefaultBaseline() {
+    BenchmarkToolConfig config = BenchmarkTool.parseCommandLineConfig();
+    assertEquals(0, config.getWarmup());
+    assertEquals(1, config.getIterations());
+    assertEquals(10, config.getTolerance(), 0);
+    assertTrue(config.getBaseline().startsWith("benchmark-baseline-"));
+    assertTrue(config.getBaseline().endsWith(".json"));
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testZeroIterations() {
+    BenchmarkTool.parseCommandLineConfig("--iterations", "0");
+  }
+
+  @Test
+  public void testNoNetwork() {
+    BenchmarkToolConfig config = BenchmarkTool.parseCommandLineConfig("--noNetwork");
+    assertTrue(config.isNoNetwork());
+    assertBuiltinDbs(config.getSystems());
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testNoNetworkWithEnv() {
+    BenchmarkTool.parseCommandLineConfig("--noNetwork", "--env", "builtin#h2");
+  }
+
   @Test(expected = ConfigurationError.class)
   public void testEeFlagOnCe() {
     BenchmarkTool.parseCommandLineConfig("--ee");
@@ -134,6 +178,40 @@ public void testRealBenchmarkRun() throws IOException {
     runBenchmark("gen-string", null, 1);
   }
 
+  @Test
+  public void testNoNetworkRun() throws IOException {
+    assertEquals(0, BenchmarkTool.run("--ce", "--maxThreads", "1", "--minSecs", "0", "--noNetwork", "file-csv"));
+    assertEquals(0, BenchmarkTool.run("--ce", "--maxThreads", "1", "--minSecs", "0", "--noNetwork", "db-small-table"));
+  }
+
+  @Test
+  public void testIterations() throws IOException {
+    runBenchmark("gen-string", null, 0, "--warmup", "2", "--iterations", "3");
+  }
+
+  @Test
+  public void testBaseline() throws IOException {
+    String[] args = { "--ce", "--maxThreads", "1", "--minSecs", "0", "--iterations", "2",
+        "--baseline", BASELINE_FILE, "--saveBaseline", "gen-string" };
+    assertEquals(0, BenchmarkTool.run(args));
+    BenchmarkBaseline baseline = BenchmarkBaseline.load(BASELINE_FILE);
+    assertEquals(1, baseline.getEntries().size());
+    BenchmarkBaseline.Entry entry = baseline.getEntries().get(0);
+    assertEquals("gen-string", entry.getBenchmark());
+    assertEquals(2, entry.getStatistics().getCount());
+    // a much lower baseline throughput is no regression
+    saveScaledBaseline(baseline, 0.001);
+    assertEquals(0, BenchmarkTool.run("--ce", "--maxThreads", "1", "--minSecs", "0",
+        "--baseline", BASELINE_FILE, "--compare", "gen-string"));
+    // a much higher baseline throughput is a regression
+    saveScaledBaseline(baseline, 1000000);
+    assertEquals(BenchmarkTool.REGRESSION_EXIT_CODE, BenchmarkTool.run("--ce", "--maxThreads", "1", "--minSecs", "0",
+        "--baseline", BASELINE_FILE, "--compare", "--saveBaseline", "gen-string"));
+    // the baseline is not overwritten in case of regressions
+    assertEquals(entry.getStatistics().getMean() * 1000000,
+        BenchmarkBaseline.load(BASELINE_FILE).getEntries().get(0).getStatistics().getMean(), 1E-3);
+  }
+
   @Test
   public void testExport() throws IOException {
     BenchmarkTool.main(new String[] { "--minSecs", "0",
@@ -156,7 +234,8 @@ private void runBenchmark(String benchmarkName, String systemId) throws IOExcept
     runBenchmark(benchmarkName, systemId, 0);
   }
 
-  private void runBenchmark(String benchmarkName, String systemId, int minSecs) throws IOException {
+  private void runBenchmark(String benchmarkName, String systemId, int minSecs, String... options)
+      throws IOException {
     Benchmark setup = Benchmark.getInstance(benchmarkName);
     assertNotNull(setup);
     ArrayBuilder<String> builder = new ArrayBuilder<>(String.class);
@@ -164,10 +243,24 @@ private void runBenchmark(String benchmarkName, String systemId, int minSecs) th
     if (systemId != null) {
       builder.add("--env").add(systemId);
     }
+    builder.addAll(options);
     builder.add(benchmarkName);
     BenchmarkTool.main(builder.toArray());
   }
 
+  private static void saveScaledBaseline(BenchmarkBaseline baseline, double factor) {
+    BenchmarkBaseline scaled = new BenchmarkBaseline(baseline.getVersion(), baseline.getMachine(),
+        baseline.getOsInfo(), baseline.getCpuAndMemInfo(), baseline.getJavaVersion(), baseline.getMode(),
+        baseline.getCreated());
+    for (BenchmarkBaseline.Entry entry : baseline.getEntries()) {
+      ThroughputStatistics statistics = entry.getStatistics();
+      scaled.addEntry(new BenchmarkBaseline.Entry(entry.getBenchmark(), entry.getSystem(), entry.getSensor(),
+          entry.getExecutionMode(), new ThroughputStatistics(statistics.getCount(),
+          statistics.getMean() * factor, statistics.getStdDev() * factor)));
+    }
+    scaled.save(BASELINE_FILE);
+  }
+
   private void assertBuiltinDbs(SystemRef[] systems) {
     assertEquals(BUILTIN_DBS.length, systems.length);
     for (int i = 0; i < systems.length; i++) {
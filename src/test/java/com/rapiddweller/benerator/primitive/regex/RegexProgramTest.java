@@ -0,0 +1,131 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.primitive.regex;
+
+import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.RandomProvider;
+import com.rapiddweller.format.regex.RegexParser;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link RegexProgram}.<br/><br/>
+ * Created: 18.10.2026 22:04:18
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class RegexProgramTest {
+
+  private final RandomProvider random = BeneratorFactory.getInstance().getRandomProvider();
+
+  @Test
+  public void testLiteral() {
+    RegexProgram program = compile("ab\\.c", 0, null);
+    assertEquals("ab.c", render(program));
+    assertTrue(program.hasFixedLayout());
+    assertEquals(1, program.size());
+  }
+
+  @Test
+  public void testRenderMatches() {
+    checkMatches("[A-Z][a-z]{2,8}");
+    checkMatches("\\d{3}-\\d{4}");
+    checkMatches("(ab|c[de]{1,3})+x?");
+    checkMatches("[1-9]\\d{0,3}");
+    checkMatches("\\+[1-9]\\d{1,2}/\\d{1,5}/\\d{5,8}");
+    checkMatches("(0[1239] [1-9]([0-9]{2}) ([0-9]{2} ){2})|(0[1-9][0-9] ([0-9]{2} ){3})");
+    String byteValue = "([1-9]?[0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5])";
+    checkMatches("(" + byteValue + "\\.){3}" + byteValue);
+  }
+
+  @Test
+  public void testLengthLimits() {
+    RegexProgram program = compile("[a-z]*", 3, 5);
+    for (int i = 0; i < 100; i++) {
+      String product = render(program);
+      assertTrue(product, product.length() >= 3 && product.length() <= 5);
+    }
+    program = compile("x[a-z]+y", 0, 6);
+    for (int i = 0; i < 100; i++) {
+      assertTrue(render(program).length() <= 6);
+    }
+  }
+
+  @Test
+  public void testUnboundedDefault() {
+    RegexProgram program = compile("a*", 0, null);
+    for (int i = 0; i < 100; i++) {
+      assertTrue(render(program).length() <= 30);
+    }
+  }
+
+  @Test
+  public void testRenderAppends() {
+    RegexProgram program = compile("[xy]{2}", 0, null);
+    StringBuilder builder = new StringBuilder("pre-");
+    program.render(builder, random);
+    assertTrue(Pattern.matches("pre-[xy]{2}", builder));
+    program.renderRank(3, builder);
+    assertEquals("yy", builder.substring(6));
+  }
+
+  @Test
+  public void testRanks() {
+    RegexProgram program = compile("x[ab][0-2]", 0, null);
+    assertTrue(program.hasFixedLayout());
+    assertEquals(3, program.fixedLength());
+    assertEquals(6, program.size());
+    String[] expected = { "xa0", "xa1", "xa2", "xb0", "xb1", "xb2" };
+    for (int rank = 0; rank < expected.length; rank++) {
+      StringBuilder builder = new StringBuilder();
+      program.renderRank(rank, builder);
+      assertEquals(expected[rank], builder.toString());
+    }
+  }
+
+  @Test
+  public void testVariableLayout() {
+    assertFalse(compile("a{1,2}", 0, null).hasFixedLayout());
+    assertFalse(compile("a|b", 0, null).hasFixedLayout());
+    assertEquals(-1, compile("[ab]{1,2}", 0, null).size());
+  }
+
+  @Test
+  public void testUncountable() {
+    RegexProgram program = compile("[0-9a-z]{20}", 0, null);
+    assertTrue(program.hasFixedLayout());
+    assertEquals(-1, program.size());
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private static RegexProgram compile(String pattern, int minLength, Integer maxLength) {
+    return RegexProgram.compile(new RegexParser(Locale.ENGLISH).parseRegex(pattern), minLength, maxLength, 30);
+  }
+
+  private String render(RegexProgram program) {
+    StringBuilder builder = new StringBuilder();
+    program.render(builder, random);
+    return builder.toString();
+  }
+
+  private void checkMatches(String pattern) {
+    RegexProgram program = compile(pattern, 0, null);
+    Set<String> products = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      String product = render(program);
+      assertTrue("'" + product + "' does not match " + pattern, Pattern.matches(pattern, product));
+      products.add(product);
+    }
+    assertTrue(products.size() > 1);
+  }
+
+}
@@ -0,0 +1,100 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.primitive.regex;
+
+import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.NonNullGenerator;
+import com.rapiddweller.benerator.factory.StochasticGeneratorFactory;
+import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.format.regex.RegexParser;
+import com.rapiddweller.model.data.Uniqueness;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link UniqueCompiledRegexGenerator} and its use by the {@link StochasticGeneratorFactory}.<br/><br/>
+ * Created: 18.10.2026 22:11:52
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class UniqueCompiledRegexGeneratorTest extends GeneratorTest {
+
+  @Test
+  public void testOrdered() {
+    UniqueCompiledRegexGenerator generator = create("[ab]{3}", true);
+    expectGeneratedSequence(generator, "aaa", "aab", "aba", "abb", "baa", "bab", "bba", "bbb")
+        .withCeasedAvailability();
+  }
+
+  @Test
+  public void testScrambled() {
+    UniqueCompiledRegexGenerator generator = create("x[0-9]{4}", false);
+    Set<String> products = new HashSet<>();
+    for (int i = 0; i < 10000; i++) {
+      String product = generator.generate();
+      assertTrue(product.matches("x[0-9]{4}"));
+      assertTrue("Duplicate: " + product, products.add(product));
+    }
+    assertNull(generator.generate());
+  }
+
+  @Test
+  public void testReset() {
+    UniqueCompiledRegexGenerator generator = create("[a-c][0-1]", false);
+    String first = generator.generate();
+    while (generator.generate() != null) {
+      // exhaust the generator
+    }
+    generator.reset();
+    assertEquals(first, generator.generate());
+  }
+
+  @Test
+  public void testCoprimeStep() {
+    for (long size = 3; size < 200; size++) {
+      long step = UniqueCompiledRegexGenerator.coprimeStep(size, BeneratorFactory.getInstance().getRandomProvider());
+      assertTrue(step > 0 && step < size);
+      Set<Long> ranks = new HashSet<>();
+      long rank = 0;
+      for (int i = 0; i < size; i++) {
+        ranks.add(rank);
+        rank = (rank + step) % size;
+      }
+      assertEquals(size, ranks.size());
+    }
+  }
+
+  @Test
+  public void testFactory() {
+    StochasticGeneratorFactory factory = new StochasticGeneratorFactory();
+    NonNullGenerator<String> generator = factory.createRegexStringGenerator(
+        "[0-9]{2}", Locale.ENGLISH, 0, 30, Uniqueness.ORDERED);
+    assertTrue(generator instanceof UniqueCompiledRegexGenerator);
+    generator.init(context);
+    assertEquals("00", generator.generate());
+    assertEquals("01", generator.generate());
+    // variable length languages are generated by the generator tree
+    generator = factory.createRegexStringGenerator("[0-9]{1,2}", Locale.ENGLISH, 0, 30, Uniqueness.SIMPLE);
+    assertFalse(generator instanceof UniqueCompiledRegexGenerator);
+    generator.init(context);
+    expectUniqueProducts(generator, 110).withCeasedAvailability();
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private UniqueCompiledRegexGenerator create(String pattern, boolean ordered) {
+    RegexProgram program = RegexProgram.compile(new RegexParser(Locale.ENGLISH).parseRegex(pattern), 0, null, 30);
+    UniqueCompiledRegexGenerator generator = new UniqueCompiledRegexGenerator(program, ordered);
+    generator.init(context);
+    return generator;
+  }
+
+}
@@ -0,0 +1,153 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sample;
+
+import com.rapiddweller.benerator.InvalidGeneratorSetupException;
+import com.rapiddweller.benerator.SequenceTestGenerator;
+import com.rapiddweller.benerator.distribution.SequenceManager;
+import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.benerator.wrapper.WrapperFactory;
+import com.rapiddweller.common.converter.ToStringConverter;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link IndexedSampleGenerator}, the {@link ArrayIndexedSource} and the {@link IndexedSourceUtil}.<br/><br/>
+ * Created: 18.10.2026 23:52:36
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class IndexedSampleGeneratorTest extends GeneratorTest {
+
+  @Test
+  public void testSequence() {
+    IndexedSource<String> source = ArrayIndexedSource.of(new SequenceTestGenerator<>("A", "B", "C"));
+    IndexedSampleGenerator<String> generator =
+        new IndexedSampleGenerator<>(source, SequenceManager.STEP_SEQUENCE, false);
+    generator.init(context);
+    expectGeneratedSequence(generator, "A", "B", "C").withCeasedAvailability();
+  }
+
+  @Test
+  public void testUniqueRandom() {
+    IndexedSource<Integer> source = ArrayIndexedSource.of(new SequenceTestGenerator<>(1, 2, 3, 4, 5));
+    IndexedSampleGenerator<Integer> generator = new IndexedSampleGenerator<>(source, null, true);
+    generator.init(context);
+    expectUniquelyGeneratedSet(generator, 1, 2, 3, 4, 5).withCeasedAvailability();
+  }
+
+  @Test
+  public void testMissingElements() {
+    IndexedSampleGenerator<String> generator =
+        new IndexedSampleGenerator<>(withGap(), SequenceManager.STEP_SEQUENCE, false);
+    generator.init(context);
+    expectGeneratedSequence(generator, "A", "C", "D").withCeasedAvailability();
+    generator.reset();
+    Object[] target = new Object[3];
+    assertEquals(3, generator.generateBatch(target, 3));
+    assertArrayEquals(new Object[] { "A", "C", "D" }, target);
+    assertEquals(0, generator.generateBatch(target, 3));
+  }
+
+  @Test(expected = InvalidGeneratorSetupException.class)
+  public void testEmptySource() {
+    IndexedSource<String> source = ArrayIndexedSource.of(new SequenceTestGenerator<String>());
+    new IndexedSampleGenerator<>(source, null, false).init(context);
+  }
+
+  @Test
+  public void testPrimitiveStorage() {
+    IndexedSource<Long> longs = ArrayIndexedSource.of(new SequenceTestGenerator<>(3L, -1L, Long.MAX_VALUE));
+    assertEquals(3, longs.size());
+    assertEquals(Long.valueOf(Long.MAX_VALUE), longs.get(2));
+    IndexedSource<Integer> ints = ArrayIndexedSource.of(new SequenceTestGenerator<>(7, 8));
+    assertEquals(Integer.valueOf(8), ints.get(1));
+    IndexedSource<Double> doubles = ArrayIndexedSource.of(new SequenceTestGenerator<>(0.5, 1.5));
+    assertEquals(Double.valueOf(1.5), doubles.get(1));
+  }
+
+  @Test
+  public void testMixedStorage() {
+    IndexedSource<Object> source = ArrayIndexedSource.of(new SequenceTestGenerator<Object>(1, 2L, null, "x", 3.5));
+    assertArrayEquals(new Object[] {1, 2L, null, "x", 3.5},
+        new Object[] {source.get(0), source.get(1), source.get(2), source.get(3), source.get(4)});
+  }
+
+  @Test
+  public void testConvertingRandomAccessSource() {
+    IndexedSource<Integer> data = ArrayIndexedSource.of(new SequenceTestGenerator<>(1, 2, 3));
+    IndexedSourceProvider<Integer> provider = () -> data;
+    SequenceTestGenerator<Integer> iterating = new ProvidingTestGenerator(provider, 1, 2, 3);
+    IndexedSource<String> source = IndexedSourceUtil.createIndexedSource(
+        WrapperFactory.applyConverter(iterating, new ToStringConverter()), context);
+    assertEquals(3, source.size());
+    assertEquals("2", source.get(1));
+    assertEquals(0, iterating.generateCount);
+  }
+
+  @Test
+  public void testRandomAccessUnavailable() {
+    SequenceTestGenerator<Integer> iterating = new SequenceTestGenerator<>(1, 2, 3);
+    assertNull(IndexedSourceUtil.createRandomAccessSource(iterating));
+    IndexedSource<Integer> source = IndexedSourceUtil.createIndexedSource(iterating, context);
+    assertTrue(source instanceof ArrayIndexedSource);
+    assertSame(Integer.class, source.getType());
+    assertEquals(3, source.size());
+  }
+
+  /** {@link SequenceTestGenerator} which provides random access to its data. */
+  public static class ProvidingTestGenerator extends SequenceTestGenerator<Integer>
+      implements IndexedSourceProvider<Integer> {
+
+    private final IndexedSourceProvider<Integer> provider;
+
+    public ProvidingTestGenerator(IndexedSourceProvider<Integer> provider, Integer... sequence) {
+      super(sequence);
+      this.provider = provider;
+    }
+
+    @Override
+    public IndexedSource<Integer> createIndexedSource() {
+      return provider.createIndexedSource();
+    }
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  /** @return a source of "A" to "D", in which "B" is not available */
+  private static IndexedSource<String> withGap() {
+    IndexedSource<String> source = ArrayIndexedSource.of(new SequenceTestGenerator<>("A", "B", "C", "D"));
+    return new IndexedSource<String>() {
+      @Override
+      public Class<String> getType() {
+        return String.class;
+      }
+
+      @Override
+      public long size() {
+        return source.size();
+      }
+
+      @Override
+      public String get(long index) {
+        return (index == 1 ? null : source.get(index));
+      }
+
+      @Override
+      public boolean mayMissElements() {
+        return true;
+      }
+
+      @Override
+      public void close() {
+        source.close();
+      }
+    };
+  }
+
+}
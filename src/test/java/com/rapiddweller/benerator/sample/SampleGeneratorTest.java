@@ -26,12 +26,15 @@
 
 package com.rapiddweller.benerator.sample;
 
+import com.rapiddweller.benerator.distribution.SequenceManager;
 import com.rapiddweller.benerator.test.GeneratorClassTest;
 import com.rapiddweller.benerator.util.GeneratorUtil;
+import com.rapiddweller.common.CollectionUtil;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -95,4 +98,29 @@ public void testBigSet() {
     }
   }
 
+  @Test
+  public void testGenerateBatch() {
+    SampleGenerator<String> generator = new SampleGenerator<>(String.class, "A", "B", "C");
+    generator.init(context);
+    assertTrue(generator.isBatchable());
+    Object[] target = new Object[100];
+    assertEquals(100, generator.generateBatch(target, 100));
+    for (Object product : target) {
+      assertTrue("A".equals(product) || "B".equals(product) || "C".equals(product));
+    }
+  }
+
+  @Test
+  public void testGenerateBatch_unique() {
+    SampleGenerator<Integer> generator = new SampleGenerator<>(Integer.class, SequenceManager.STEP_SEQUENCE, true,
+        CollectionUtil.toList(3, 4, 5));
+    generator.init(context);
+    Object[] target = new Object[5];
+    assertEquals(3, generator.generateBatch(target, 5));
+    assertEquals(3, target[0]);
+    assertEquals(4, target[1]);
+    assertEquals(5, target[2]);
+    assertEquals(0, generator.generateBatch(target, 5));
+  }
+
 }
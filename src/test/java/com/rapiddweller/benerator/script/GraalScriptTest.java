@@ -0,0 +1,96 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.script;
+
+import com.rapiddweller.common.Context;
+import com.rapiddweller.common.context.DefaultContext;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link GraalScript} with pooled {@link PolyglotContext}s.<br/><br/>
+ * Created: 18.10.2026 15:58:40
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class GraalScriptTest {
+
+  @Test
+  public void testDefinitionsInNewContext() throws Exception {
+    Context context = new DefaultContext();
+    PolyglotContext first = PolyglotContext.borrow();
+    PolyglotContext second = PolyglotContext.borrow();
+    try {
+      first.evaluate(context, js("function tripleOf(x) { return 3 * x; }"));
+      // the second context has been created before the definition and receives it on its next evaluation
+      assertEquals(21, second.evaluate(context, js("tripleOf(7)")));
+    } finally {
+      second.release();
+      first.release();
+    }
+  }
+
+  @Test
+  public void testChangedBindings() {
+    Context context = new DefaultContext();
+    GraalScript script = js("n + 1");
+    context.set("n", 1);
+    assertEquals(2, script.evaluate(context));
+    context.set("n", 41);
+    assertEquals(42, script.evaluate(context));
+  }
+
+  @Test
+  public void testEntity() {
+    Context context = new DefaultContext();
+    Entity person = new Entity((ComplexTypeDescriptor) null);
+    person.set("name", "Alice");
+    context.set("person", person);
+    GraalScript script = js("person.name + '!'");
+    assertEquals("Alice!", script.evaluate(context));
+    // the entity is bound as a live view
+    person.set("name", "Bob");
+    assertEquals("Bob!", script.evaluate(context));
+  }
+
+  @Test
+  public void testConcurrentEvaluation() throws Exception {
+    GraalScript script = js("k * 2");
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        futures.add(executor.submit(() -> {
+          Context context = new DefaultContext();
+          int sum = 0;
+          for (int k = 0; k < 200; k++) {
+            context.set("k", k);
+            sum += (Integer) script.evaluate(context);
+          }
+          return sum;
+        }));
+      }
+      for (Future<Integer> future : futures) {
+        assertEquals(2 * 199 * 200 / 2, (int) future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private static GraalScript js(String text) {
+    return new GraalScript(text, GraalScript.getEngine(), "js");
+  }
+
+}
@@ -17,6 +17,7 @@
 import com.rapiddweller.common.SystemInfo;
 import com.rapiddweller.common.ui.ConsolePrinter;
 import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -36,6 +37,11 @@ public class CounterRepositoryTest {
 	
 	CounterRepository repository = CounterRepository.getInstance();
 
+	@Before
+	public void setUp() {
+		repository.clear(); // counters may remain from descriptor executions of other tests
+	}
+
 	@After
 	public void tearDown() {
 		repository.clear();
@@ -63,4 +69,18 @@ public void testFormatSummary() {
 		assertEquals(expectedSummary, summary);
 	}
 
+	@Test
+	public void testFormatSummaryWithRecorder() {
+		repository.addSample(NAME, 100);
+		LatencyRecorder recorder = repository.getOrCreateRecorder(NAME);
+		assertSame(recorder, repository.getRecorder(NAME));
+		recorder.record(1500);
+		String summary = repository.formatSummary();
+		String expectedSummary = "CounterRepositoryTest: 100 ms total, 1 inv, 100.0 ms/inv (avg.) "
+			+ "p50/p90/p99/p99.9: 1.5/1.5/1.5/1.5 \u00b5s" + SystemInfo.LF;
+		assertEquals(expectedSummary, summary);
+		repository.clear();
+		assertNull(repository.getRecorder(NAME));
+	}
+
 }
@@ -31,7 +31,7 @@
 import static org.junit.Assert.assertTrue;
 
 /**
- * Tests the {@link com.rapiddweller.stat.LatencyCounter}.<br/><br/>
+ * Tests the {@link LatencyCounter}.<br/><br/>
  * Created: 26.02.2012 18:31:16
  * @since 3.0.0
  * @author Volker Bergmann
@@ -88,7 +88,8 @@ public void testGetLatencyCount() {
 		assertEquals(0, counter.getLatencyCount(24));
 		assertEquals(1, counter.getLatencyCount(25));
 		assertEquals(1, counter.getLatencyCount(1025));
-		assertEquals(0, counter.getLatencyCount(1026));
+		assertEquals(1, counter.getLatencyCount(1026)); // in the same bucket 1024..1039
+		assertEquals(0, counter.getLatencyCount(1040));
 		assertEquals(0, counter.getLatencyCount(50000));
 	}
 
@@ -0,0 +1,121 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sensor;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link LatencyRecorder} and {@link LatencySnapshot}.<br/><br/>
+ * Created: 18.10.2026 18:02:37
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class LatencyRecorderTest {
+
+  @Test
+  public void testBucketLayout() {
+    for (int i = 0; i < LatencyRecorder.SUB_BUCKET_COUNT; i++) {
+      assertEquals(i, LatencyRecorder.bucketIndex(i));
+      assertEquals(i, LatencyRecorder.lowestValueOf(i));
+    }
+    assertEquals(0, LatencyRecorder.lowestValueOf(LatencyRecorder.bucketIndex(0)));
+    long previousHighest = LatencyRecorder.SUB_BUCKET_COUNT - 1;
+    for (int i = LatencyRecorder.SUB_BUCKET_COUNT; i < LatencyRecorder.BUCKET_COUNT; i++) {
+      long lowest = LatencyRecorder.lowestValueOf(i);
+      long highest = LatencyRecorder.highestValueOf(i);
+      assertEquals(previousHighest + 1, lowest);
+      assertEquals(i, LatencyRecorder.bucketIndex(lowest));
+      assertEquals(i, LatencyRecorder.bucketIndex(highest));
+      assertTrue("Bucket " + i + " is too wide", highest - lowest < lowest / 63);
+      previousHighest = highest;
+    }
+    assertEquals(Long.MAX_VALUE, previousHighest);
+    assertEquals(LatencyRecorder.BUCKET_COUNT - 1, LatencyRecorder.bucketIndex(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testStatistics() {
+    LatencyRecorder recorder = new LatencyRecorder();
+    assertEquals(-1, recorder.snapshot().valueAtPercentile(50));
+    assertEquals(-1, recorder.min());
+    for (int i = 1; i <= 1000; i++) {
+      recorder.record(i * 1000L);
+    }
+    LatencySnapshot snapshot = recorder.snapshot();
+    assertEquals(1000, snapshot.sampleCount());
+    assertEquals(500500000L, snapshot.total());
+    assertEquals(1000, snapshot.min());
+    assertEquals(1000000, snapshot.max());
+    assertEquals(500500., snapshot.average(), 0.);
+    assertAbout(500000, snapshot.valueAtPercentile(50));
+    assertAbout(900000, snapshot.valueAtPercentile(90));
+    assertAbout(990000, snapshot.valueAtPercentile(99));
+    assertAbout(999000, snapshot.valueAtPercentile(99.9));
+    assertEquals(1000000, snapshot.valueAtPercentile(100));
+    assertEquals(1000, snapshot.valueAtPercentile(0));
+    recorder.reset();
+    assertEquals(0, recorder.sampleCount());
+    assertEquals(-1, recorder.max());
+  }
+
+  @Test
+  public void testMerge() {
+    LatencyRecorder recorder1 = new LatencyRecorder();
+    recorder1.record(10);
+    recorder1.record(20);
+    LatencyRecorder recorder2 = new LatencyRecorder();
+    recorder2.record(5);
+    recorder2.record(30);
+    LatencySnapshot merged = recorder1.snapshot().merge(recorder2.snapshot()).merge(LatencySnapshot.EMPTY);
+    assertEquals(4, merged.sampleCount());
+    assertEquals(65, merged.total());
+    assertEquals(5, merged.min());
+    assertEquals(30, merged.max());
+    assertEquals(10, merged.valueAtPercentile(50));
+    assertEquals(1, merged.countOf(20));
+    assertEquals(2, merged.countAbove(10));
+    assertEquals("p50=10 p90=30 p99=30 p99.9=30", merged.formatPercentiles());
+  }
+
+  @Test
+  public void testConcurrentRecording() throws InterruptedException {
+    LatencyRecorder recorder = new LatencyRecorder();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      Thread thread = new Thread(() -> {
+        for (int i = 0; i < 10000; i++) {
+          recorder.record(i % 200);
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    LatencySnapshot snapshot = recorder.snapshot();
+    assertEquals(80000, snapshot.sampleCount());
+    assertEquals(80000, snapshot.countAbove(-1));
+    assertEquals(400, snapshot.countOf(0));
+    assertEquals(199, snapshot.max());
+  }
+
+  @Test
+  public void testPercentileLabel() {
+    assertEquals("p50", LatencySnapshot.percentileLabel(50));
+    assertEquals("p99.9", LatencySnapshot.percentileLabel(99.9));
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void assertAbout(long expected, long actual) {
+    assertTrue("Expected about " + expected + ", but found " + actual, Math.abs(actual - expected) <= expected / 64);
+  }
+
+}
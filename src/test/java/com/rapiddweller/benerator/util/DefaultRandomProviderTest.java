@@ -4,6 +4,16 @@
 
 import com.rapiddweller.benerator.RandomProvider;
 import com.rapiddweller.benerator.test.AbstractRandomProviderTest;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests the {@link DefaultRandomProvider}.<br/><br/>
@@ -18,4 +28,54 @@ protected RandomProvider getRandom() {
     return new DefaultRandomProvider();
   }
 
+  @Test
+  public void testSeed() {
+    DefaultRandomProvider random1 = new DefaultRandomProvider(42L);
+    DefaultRandomProvider random2 = new DefaultRandomProvider(42L);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(random1.randomLong(1000000), random2.randomLong(1000000));
+    }
+  }
+
+  @Test
+  public void testSplit_independentOfThread() throws InterruptedException {
+    DefaultRandomProvider random1 = new DefaultRandomProvider(42L);
+    long expected = random1.split().nextLong();
+    DefaultRandomProvider random2 = new DefaultRandomProvider(42L);
+    SplittableRandom stream = random2.split();
+    AtomicLong actual = new AtomicLong();
+    Thread thread = new Thread(() -> {
+      assertNull(random2.bind(stream));
+      actual.set(random2.randomLong(Long.MIN_VALUE, Long.MAX_VALUE));
+      assertSame(stream, random2.bind(null));
+    });
+    thread.start();
+    thread.join();
+    assertEquals(expected, actual.get());
+  }
+
+  @Test
+  public void testThreadStreams() throws InterruptedException {
+    DefaultRandomProvider random = new DefaultRandomProvider(42L);
+    long[] values = new long[2];
+    Thread thread = new Thread(() -> values[1] = random.randomLong(Long.MIN_VALUE, Long.MAX_VALUE));
+    thread.start();
+    thread.join();
+    values[0] = random.randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+    assertNotEquals(values[0], values[1]);
+  }
+
+  @Test
+  public void testRandomInt_fullRange() {
+    DefaultRandomProvider random = new DefaultRandomProvider(42L);
+    boolean negative = false;
+    boolean positive = false;
+    for (int i = 0; i < 100; i++) {
+      int value = random.randomInt(Integer.MIN_VALUE, Integer.MAX_VALUE);
+      negative |= (value < 0);
+      positive |= (value > 0);
+    }
+    assertTrue(negative && positive);
+  }
+
 }
@@ -28,15 +28,24 @@
 
 import com.rapiddweller.benerator.Generator;
 import com.rapiddweller.benerator.SequenceTestGenerator;
+import com.rapiddweller.benerator.distribution.sequence.StepLongGenerator;
 import com.rapiddweller.benerator.engine.BeneratorOpts;
+import com.rapiddweller.benerator.primitive.CharacterGenerator;
 import com.rapiddweller.benerator.primitive.IncrementGenerator;
 import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.benerator.wrapper.AsIntegerGeneratorWrapper;
+import com.rapiddweller.benerator.wrapper.WrapperFactory;
 import com.rapiddweller.common.SysUtil;
 import org.junit.Test;
 
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests the {@link GeneratorUtil} class.<br/><br/>
@@ -75,4 +84,67 @@ public void testAllProducts_cacheSizeOverride() {
     });
   }
 
+  @Test
+  public void testGenerateBatch_adapter() {
+    SequenceTestGenerator<Integer> source = new SequenceTestGenerator<>(1, 2, 3, 4);
+    source.init(context);
+    assertFalse(GeneratorUtil.isBatchable(source));
+    Object[] target = new Object[3];
+    assertEquals(3, GeneratorUtil.generateBatch(source, target, 3));
+    assertArrayEquals(new Object[] { 1, 2, 3 }, target);
+    assertEquals(1, GeneratorUtil.generateBatch(source, target, 3));
+    assertEquals(4, target[0]);
+    assertEquals(0, GeneratorUtil.generateBatch(source, target, 3));
+  }
+
+  @Test
+  public void testGenerateBatch_native() {
+    IncrementGenerator source = new IncrementGenerator(1, 2, 9);
+    source.init(context);
+    assertTrue(GeneratorUtil.isBatchable(source));
+    Object[] target = new Object[4];
+    assertEquals(4, GeneratorUtil.generateBatch(source, target, 4));
+    assertArrayEquals(new Object[] { 1L, 3L, 5L, 7L }, target);
+    assertEquals(1, GeneratorUtil.generateBatch(source, target, 4));
+    assertEquals(9L, target[0]);
+    assertEquals(null, source.generate());
+  }
+
+  @Test
+  public void testGenerateBatch_nonNull() {
+    CharacterGenerator source = new CharacterGenerator("[a-c]");
+    source.init(context);
+    Object[] target = new Object[50];
+    assertEquals(50, GeneratorUtil.generateBatch(source, target, 50));
+    for (Object c : target) {
+      assertTrue((Character) c >= 'a' && (Character) c <= 'c');
+    }
+  }
+
+  @Test
+  public void testGenerateLongs_primitive() {
+    AsIntegerGeneratorWrapper<Long> source = new AsIntegerGeneratorWrapper<>(
+        WrapperFactory.asNonNullGenerator(new StepLongGenerator(1, 4)));
+    source.init(context);
+    assertNotNull(GeneratorUtil.asLongSource(source.getSource()));
+    Object[] target = new Object[3];
+    assertEquals(3, source.generateBatch(target, 3));
+    assertArrayEquals(new Object[] { 1, 2, 3 }, target);
+    double[] doubles = new double[3];
+    assertEquals(1, GeneratorUtil.generateDoubles(source.getSource(), doubles, 3));
+    assertEquals(4., doubles[0], 0.);
+  }
+
+  @Test
+  public void testGenerateLongs_adapter() {
+    SequenceTestGenerator<Integer> source = new SequenceTestGenerator<>(1, 2, 3);
+    source.init(context);
+    assertNull(GeneratorUtil.asLongSource(source));
+    long[] target = new long[2];
+    assertEquals(2, GeneratorUtil.generateLongs(source, target, 2));
+    assertArrayEquals(new long[] { 1L, 2L }, target);
+    assertEquals(1, GeneratorUtil.generateLongs(source, target, 2));
+    assertEquals(3L, target[0]);
+  }
+
 }
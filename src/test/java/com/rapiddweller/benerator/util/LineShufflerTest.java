@@ -27,14 +27,24 @@
 package com.rapiddweller.benerator.util;
 
 import com.rapiddweller.common.CollectionUtil;
+import com.rapiddweller.common.Encodings;
+import com.rapiddweller.common.FileUtil;
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.ReaderLineIterator;
 import org.junit.Test;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -53,6 +63,20 @@ public void testShuffleList() {
     LineShuffler.shuffle(CollectionUtil.toList("1", "2", "3"));
   }
 
+  @Test
+  public void testShuffleList_uniform() {
+    Map<List<String>, Integer> counts = new HashMap<>();
+    for (int i = 0; i < 6000; i++) {
+      List<String> list = CollectionUtil.toList("1", "2", "3");
+      LineShuffler.shuffle(list);
+      counts.merge(list, 1, Integer::sum);
+    }
+    assertEquals(6, counts.size());
+    for (int count : counts.values()) {
+      assertTrue("Non-uniform distribution: " + counts, count > 800 && count < 1200);
+    }
+  }
+
   /**
    * Test shuffle file.
    *
@@ -77,4 +101,30 @@ public void testShuffleFile() throws IOException {
     }
   }
 
+  @Test
+  public void testShuffleFile_external() throws IOException {
+    File folder = Files.createTempDirectory("LineShufflerTest").toFile();
+    try {
+      List<String> lines = new ArrayList<>();
+      for (int i = 0; i < 10000; i++) {
+        lines.add("Zeile " + i + " \u00e4\u00f6\u00fc");
+      }
+      File inFile = new File(folder, "in.txt");
+      File outFile = new File(folder, "out.txt");
+      Charset charset = Charset.forName(Encodings.ISO_8859_1);
+      Files.write(inFile.toPath(), lines, charset);
+      LineShuffler.shuffle(inFile.getPath(), outFile.getPath(), Encodings.ISO_8859_1, 40000, 4);
+      List<String> result = Files.readAllLines(outFile.toPath(), charset);
+      assertEquals(lines.size(), result.size());
+      assertNotEquals(lines, result);
+      result.sort(null);
+      List<String> expected = new ArrayList<>(lines);
+      expected.sort(null);
+      assertEquals(expected, result);
+      assertEquals(2, folder.list().length); // temporary files have been removed
+    } finally {
+      FileUtil.deleteDirectory(folder);
+    }
+  }
+
 }
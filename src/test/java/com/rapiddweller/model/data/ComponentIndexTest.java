@@ -0,0 +1,172 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.model.data;
+
+import com.rapiddweller.benerator.engine.BeneratorOpts;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link ComponentIndex} and the slot-based component storage of {@link Entity}.<br/><br/>
+ * Created: 18.10.2026 16:58:03
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class ComponentIndexTest {
+
+  private DescriptorProvider dp;
+  private ComplexTypeDescriptor person;
+
+  @Before
+  public void setUp() {
+    this.dp = new DefaultDescriptorProvider("test", new DataModel());
+    this.person = new ComplexTypeDescriptor("person", dp);
+    person.setComponent(new PartDescriptor("name", dp, "string"));
+    person.setComponent(new PartDescriptor("age", dp, "int"));
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty(BeneratorOpts.OPTS_SLOT_ENTITIES);
+  }
+
+  @Test
+  public void testIndex() {
+    ComponentIndex index = person.getComponentIndex();
+    assertEquals(2, index.size());
+    assertEquals("name", index.nameAt(0));
+    assertEquals(1, index.indexOf("age"));
+    assertEquals(1, index.indexOf("AGE"));
+    assertEquals(-1, index.indexOf("other"));
+    assertSame(index, person.getComponentIndex());
+  }
+
+  @Test
+  public void testInvalidation() {
+    ComponentIndex index = person.getComponentIndex();
+    person.addComponent(new PartDescriptor("score", dp, "double"));
+    ComponentIndex newIndex = person.getComponentIndex();
+    assertNotSame(index, newIndex);
+    assertEquals(2, newIndex.indexOf("score"));
+  }
+
+  @Test
+  public void testParentInvalidation() {
+    ComplexTypeDescriptor employee = new ComplexTypeDescriptor("employee", dp, person);
+    employee.setComponent(new PartDescriptor("salary", dp, "int"));
+    assertEquals(-1, employee.getComponentIndex().indexOf("score"));
+    person.addComponent(new PartDescriptor("score", dp, "double"));
+    assertEquals(4, employee.getComponentIndex().size());
+    assertTrue(employee.getComponentIndex().indexOf("score") >= 0);
+  }
+
+  @Test
+  public void testConversion_map() {
+    checkConversion();
+  }
+
+  @Test
+  public void testConversion_slots() {
+    BeneratorOpts.setSlotEntities(true);
+    checkConversion();
+  }
+
+  @Test
+  public void testTypeChange() {
+    Entity entity = new Entity(person);
+    entity.set("age", "23");
+    assertEquals(23, entity.get("age"));
+    person.setComponent(new PartDescriptor("age", dp, "string"));
+    entity.set("age", 24);
+    assertEquals("24", entity.get("age"));
+  }
+
+  @Test
+  public void testSlotMap_order() {
+    BeneratorOpts.setSlotEntities(true);
+    Entity entity = new Entity(person);
+    assertTrue(entity.getComponents() instanceof SlotComponentMap);
+    entity.set("age", 23);
+    entity.set("extra", "x");
+    entity.set("name", "Alice");
+    assertEquals("{age=23, extra=x, name=Alice}", entity.getComponents().toString());
+    assertEquals(List.of("age", "extra", "name"), new ArrayList<>(entity.getComponents().keySet()));
+    assertEquals(List.of(23, "x", "Alice"), entity.getComponents().values());
+    assertEquals("x", entity.getComponents().valueAt(1));
+    assertEquals(2, entity.getComponents().indexOfValue("Alice"));
+    entity.remove("age");
+    assertEquals("{extra=x, name=Alice}", entity.getComponents().toString());
+    assertFalse(entity.componentIsSet("age"));
+    assertNull(entity.get("age"));
+    entity.remove("EXTRA");
+    assertEquals("{name=Alice}", entity.getComponents().toString());
+  }
+
+  @Test
+  public void testSlotMap_caseHandling() {
+    BeneratorOpts.setSlotEntities(true);
+    Entity entity = new Entity(person);
+    entity.set("NAME", "Alice");
+    assertEquals("{name=Alice}", entity.getComponents().toString());
+    assertEquals("Alice", entity.get("Name"));
+    entity.getComponents().put("Other", 1);
+    assertEquals(1, entity.get("other"));
+    assertTrue(entity.componentIsSet("OTHER"));
+  }
+
+  @Test
+  public void testSlotMap_entries() {
+    BeneratorOpts.setSlotEntities(true);
+    Entity entity = new Entity(person, "name", "Alice", "extra", "x");
+    for (Map.Entry<String, Object> entry : entity.getComponents().entrySet()) {
+      entry.setValue(entry.getValue() + "!");
+    }
+    assertEquals("Alice!", entity.get("name"));
+    assertEquals("x!", entity.get("extra"));
+    assertEquals("Alice!", entity.getComponents().getEntry("NAME").getValue());
+  }
+
+  @Test
+  public void testSlotMap_copyAndEquals() {
+    BeneratorOpts.setSlotEntities(true);
+    Entity alice = new Entity(person, "name", "Alice", "age", 23);
+    Entity copy = new Entity(alice);
+    assertEquals(alice, copy);
+    copy.set("age", 24);
+    assertEquals(23, alice.get("age"));
+    System.clearProperty(BeneratorOpts.OPTS_SLOT_ENTITIES);
+    Entity mapAlice = new Entity(new ComplexTypeDescriptor("person", dp), "name", "Alice", "age", 23);
+    assertTrue(alice.equalsIgnoringDescriptor(mapAlice));
+    assertTrue(alice.getComponents().equalsIgnoreOrder(mapAlice.getComponents()));
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void checkConversion() {
+    Entity entity = new Entity(person);
+    entity.set("Age", "23");
+    assertEquals(23, entity.get("age"));
+    entity.set("age", 24L);
+    assertEquals(24, entity.get("AGE"));
+    entity.set("name", 1);
+    assertEquals("1", entity.get("name"));
+    entity.set("other", 5L);
+    assertEquals(5L, entity.get("other"));
+    int ageIndex = person.getComponentIndex().indexOf("age");
+    assertEquals(24, entity.getComponentByIndex(ageIndex));
+    assertEquals("{age=24, name=1, other=5}", entity.getComponents().toString());
+  }
+
+}
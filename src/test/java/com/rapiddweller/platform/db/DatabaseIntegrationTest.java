@@ -622,6 +622,24 @@ public void testUpdater() throws Exception {
     closeAndCheckCleanup();
   }
 
+  @Test
+  public void testBatchSize() throws Exception {
+    db.setBatch(true);
+    db.setBatchSize(3);
+    parseAndExecuteXmlString(
+        "<generate type='referee' count='7' pageSize='10' consumer='db'>" +
+            "  <id name='id' type='int' min='10'/>" +
+            "</generate>");
+    List<Object[]> storedData = DBUtil.query("select count(*) from referee", db.getConnection());
+    assertEquals(9, ((Number) storedData.get(0)[0]).intValue());
+    // two batches have been executed automatically, the third one on the page's flush
+    BatchThroughput throughput = db.getBatchThroughputs().get(0);
+    assertEquals("REFEREE", throughput.getTableName());
+    assertEquals(7, throughput.getRows());
+    assertEquals(3, throughput.getBatches());
+    closeAndCheckCleanup();
+  }
+
   @Test(expected = ServiceFailedException.class)
   public void testUpdateOnNonExistingPK() {
     parseAndExecuteXmlString(
@@ -27,7 +27,12 @@
 package com.rapiddweller.platform.db;
 
 import com.rapiddweller.benerator.Consumer;
+import com.rapiddweller.benerator.distribution.IndexBasedSampleGeneratorProxy;
+import com.rapiddweller.benerator.distribution.SequenceManager;
 import com.rapiddweller.benerator.engine.DefaultBeneratorContext;
+import com.rapiddweller.benerator.sample.IndexedSource;
+import com.rapiddweller.benerator.sample.IndexedSourceProvider;
+import com.rapiddweller.benerator.wrapper.DataSourceGenerator;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 import com.rapiddweller.common.BeanUtil;
 import com.rapiddweller.common.ConfigurationError;
@@ -132,6 +137,93 @@ public void testReadWrite() {
     assertNotNull(db);
   }
 
+  @Test
+  public void testWritePlanCache() {
+    Entity alice = new Entity("Test", db, "ID", 1, "NAME", "Alice");
+    db.store(alice);
+    ColumnWritePlan insertPlan = db.getWritePlan(alice, true);
+    assertEquals("ID", insertPlan.getColumnInfo(0).name);
+    assertEquals("NAME", insertPlan.getColumnInfo(1).name);
+    Entity bob = new Entity("Test", db, "ID", 2, "NAME", "Bob");
+    db.store(bob);
+    assertSame(insertPlan, db.getWritePlan(bob, true));
+    // updates put the PK columns last
+    ColumnWritePlan updatePlan = db.getWritePlan(bob, false);
+    assertEquals("NAME", updatePlan.getColumnInfo(0).name);
+    assertEquals("ID", updatePlan.getColumnInfo(1).name);
+    // invalidation causes recalculation
+    db.invalidate();
+    assertNotSame(insertPlan, db.getWritePlan(bob, true));
+    assertEquals(2, db.countEntities("TEST"));
+  }
+
+  @Test
+  public void testBatchSize() {
+    db.setBatch(true);
+    db.setBatchSize(2);
+    for (int i = 1; i <= 5; i++) {
+      db.store(new Entity("Test", db, "ID", i, "NAME", "N" + i));
+    }
+    // the first two batches have been executed automatically, the last row is pending
+    BatchThroughput throughput = db.getBatchThroughputs().get(0);
+    assertEquals(4, throughput.getRows());
+    assertEquals(2, throughput.getBatches());
+    assertEquals(4, db.countEntities("TEST"));
+    db.commit();
+    assertEquals(5, throughput.getRows());
+    assertEquals(3, throughput.getBatches());
+    assertEquals(5, db.countEntities("TEST"));
+  }
+
+  @Test
+  public void testBatchSize_parentBeforeChild() throws SQLException {
+    Connection connection = db.createConnection();
+    try {
+      DBUtil.executeUpdate("drop table Child if exists", connection);
+      DBUtil.executeUpdate("drop table Parent if exists", connection);
+      DBUtil.executeUpdate("create table Parent (ID int, constraint PARENT_PK primary key (ID))", connection);
+      DBUtil.executeUpdate("create table Child (ID int, PARENT_ID int, constraint CHILD_PK primary key (ID), "
+          + "constraint CHILD_PARENT_FK foreign key (PARENT_ID) references Parent (ID))", connection);
+      db.invalidate();
+      db.setBatch(true);
+      db.setBatchSize(2);
+      db.store(new Entity("Parent", db, "ID", 1));
+      db.store(new Entity("Child", db, "ID", 1, "PARENT_ID", 1));
+      // the child batch is full and must not be executed before the pending parent row
+      db.store(new Entity("Child", db, "ID", 2, "PARENT_ID", 1));
+      assertEquals(1, db.countEntities("PARENT"));
+      assertEquals(2, db.countEntities("CHILD"));
+      db.commit();
+    } finally {
+      DBUtil.executeUpdate("drop table Child if exists", connection);
+      DBUtil.executeUpdate("drop table Parent if exists", connection);
+      DBUtil.close(connection);
+    }
+  }
+
+  @Test
+  public void testBatchBytes() {
+    db.setBatch(true);
+    db.setBatchSize(0);
+    db.setBatchBytes(20);
+    db.store(new Entity("Test", db, "ID", 1, "NAME", "short"));
+    assertEquals(0, db.getBatchThroughputs().get(0).getBatches());
+    db.store(new Entity("Test", db, "ID", 2, "NAME", "somewhat longer"));
+    assertEquals(1, db.getBatchThroughputs().get(0).getBatches());
+    assertEquals(2, db.countEntities("TEST"));
+  }
+
+  @Test
+  public void testBatchRewriteUrl() {
+    assertEquals("jdbc:postgresql://localhost:5432/db?reWriteBatchedInserts=true",
+        AbstractDBSystem.batchRewriteUrl("jdbc:postgresql://localhost:5432/db"));
+    assertEquals("jdbc:mysql://localhost/db?useSSL=false&rewriteBatchedStatements=true",
+        AbstractDBSystem.batchRewriteUrl("jdbc:mysql://localhost/db?useSSL=false"));
+    assertEquals("jdbc:mysql://localhost/db?rewriteBatchedStatements=false",
+        AbstractDBSystem.batchRewriteUrl("jdbc:mysql://localhost/db?rewriteBatchedStatements=false"));
+    assertEquals("jdbc:h2:mem:benerator", AbstractDBSystem.batchRewriteUrl("jdbc:h2:mem:benerator"));
+  }
+
   @Test
   public void testReadOnly() {
     db.setReadOnly(true);
@@ -242,6 +334,24 @@ public void testQueryEntities_ftl_selector() {
     iterator.close();
   }
 
+  @Test
+  public void testQueryEntities_context_selector_sampled() {
+    db.execute("insert into \"TEST\" (ID, NAME) values (1, 'Alice')");
+    db.execute("insert into \"TEST\" (ID, NAME) values (2, 'Bob')");
+    DefaultBeneratorContext context = new DefaultBeneratorContext();
+    context.set("pid", 1);
+    DataSource<Entity> source = db.queryEntities("TEST", "{ftl:ID = ${pid}}", context);
+    IndexBasedSampleGeneratorProxy<Entity> generator = new IndexBasedSampleGeneratorProxy<>(
+        new DataSourceGenerator<>(source), SequenceManager.RANDOM_SEQUENCE, false);
+    generator.init(context);
+    assertEquals("Alice", generator.generate(new ProductWrapper<>()).unwrap().get("NAME"));
+    // on reset, the query is evaluated with the current context
+    context.set("pid", 2);
+    generator.reset();
+    assertEquals("Bob", generator.generate(new ProductWrapper<>()).unwrap().get("NAME"));
+    generator.close();
+  }
+
   @Test
   public void testQueryEntities_ben_selector() {
     db.execute("insert into \"TEST\" (ID, NAME) values (1, 'Alice')");
@@ -303,6 +413,25 @@ public void testQueryEntityIds_ben_selector() {
     iterator2.close();
   }
 
+  @Test
+  public void testQueryEntities_indexed() {
+    db.execute("insert into \"TEST\" (ID, NAME) values (1, 'Alice')");
+    db.execute("insert into \"TEST\" (ID, NAME) values (2, 'Bob')");
+    DefaultBeneratorContext context = new DefaultBeneratorContext();
+    // small tables are loaded completely
+    assertNull(((IndexedSourceProvider<Entity>) db.queryEntities("TEST", null, context)).createIndexedSource());
+    assertNull(((IndexedSourceProvider<Entity>) db.queryEntities("TEST", "ID = 1", context)).createIndexedSource());
+    IndexedSource<Entity> index = DBKeyIndex.create(db, "TEST", 0);
+    assertEquals(2, index.size());
+    assertEquals("Bob", index.get(1).get("NAME"));
+    assertEquals("Alice", index.get(0).get("NAME"));
+    db.execute("delete from \"TEST\" where ID = 2");
+    assertNull(index.get(1));
+    index.close();
+    assertNull(DBKeyIndex.create(db, "TEST", 3));
+    assertNull(DBKeyIndex.create(db, "NO_SUCH_TABLE", 0));
+  }
+
   @Test
   public void testInserter() {
     Consumer inserter = db.inserter();
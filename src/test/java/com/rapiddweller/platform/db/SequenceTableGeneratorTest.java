@@ -31,6 +31,7 @@
 import com.rapiddweller.benerator.test.ConsumerMock;
 import com.rapiddweller.benerator.test.GeneratorTest;
 import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.jdbacl.DBUtil;
 import com.rapiddweller.jdbacl.dialect.HSQLUtil;
 import com.rapiddweller.model.data.DataModel;
 import com.rapiddweller.model.data.Entity;
@@ -156,6 +157,68 @@ public void testParameterizedSelector() {
     }
   }
 
+  @Test
+  public void testBlock_static() {
+    try (SequenceTableGenerator<Integer> generator = new SequenceTableGenerator<>("TT", "value", db, "id1 = 1 and id2 = 2")) {
+      generator.setBlockSize(10);
+      generator.init(context);
+      for (int i = 0; i < 25; i++) {
+        Number value = generator.generate();
+        assertEquals(Integer.class, value.getClass());
+        assertEquals(1000 + i, value.intValue());
+        assertEquals(1010 + (i / 10) * 10, currentValue(1, 2));
+      }
+      generator.close();
+      assertEquals(1025, currentValue(1, 2)); // unused values have been returned
+    }
+  }
+
+  @Test
+  public void testBlock_concurrentChange() {
+    try (SequenceTableGenerator<Integer> generator = new SequenceTableGenerator<>("TT", "value", db, "id1 = 1 and id2 = 2")) {
+      generator.setBlockSize(10);
+      generator.setIncrement(2);
+      generator.init(context);
+      assertEquals(1000, generator.generate().intValue());
+      assertEquals(1002, generator.generate().intValue());
+      assertEquals(1020, currentValue(1, 2));
+      db.execute("update TT set value = 1100 where id1 = 1 and id2 = 2"); // simulates another client
+      generator.close();
+      assertEquals(1100, currentValue(1, 2)); // no values are returned
+    }
+  }
+
+  @Test
+  public void testBlock_dynamicSelector() {
+    try (SequenceTableGenerator<Integer> generator = new SequenceTableGenerator<>("TT", "value", db)) {
+      generator.setSelector("{'id1 = ' + (1 + (num % 2)) + ' and id2 = ' + (2 + (num % 2))}");
+      generator.setBlockSize(5);
+      generator.init(context);
+      for (int i = 0; i < 20; i++) {
+        context.set("num", i);
+        assertEquals((i % 2 == 0 ? 1000 : 2000) + i / 2, generator.generate().intValue());
+      }
+      assertEquals(1010, currentValue(1, 2));
+      assertEquals(2010, currentValue(2, 3));
+    }
+  }
+
+  @Test
+  public void testBlock_parameterizedSelector() {
+    try (SequenceTableGenerator<Integer> generator = new SequenceTableGenerator<>("TT", "value", db, "id1 = ? and id2 = ?")) {
+      generator.setBlockSize(100);
+      generator.init(context);
+      assertEquals(1000, generator.generateWithParams(1, 2).intValue());
+      assertEquals(2000, generator.generateWithParams(2, 3).intValue());
+      assertEquals(1001, generator.generateWithParams(1, 2).intValue());
+      assertEquals(2001, generator.generateWithParams(2, 3).intValue());
+      assertEquals(1100, currentValue(1, 2));
+      assertNull(generator.generateWithParams(3, 4));
+    }
+    assertEquals(1002, currentValue(1, 2));
+    assertEquals(2002, currentValue(2, 3));
+  }
+
   @SuppressWarnings("unchecked")
   @Test
   public void testIntegration() throws Exception {
@@ -173,4 +236,10 @@ public void testIntegration() throws Exception {
     }
   }
 
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static int currentValue(int id1, int id2) {
+    return DBUtil.queryLong("select value from TT where id1 = " + id1 + " and id2 = " + id2, db.getConnection()).intValue();
+  }
+
 }
@@ -0,0 +1,58 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db.identity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link LongLongHashMap}.<br/><br/>
+ * Created: 18.10.2026 14:58:02
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class LongLongHashMapTest {
+
+  @Test
+  public void testPutAndGet() {
+    LongLongHashMap map = new LongLongHashMap();
+    for (long i = -500; i < 500; i++) {
+      assertTrue(map.put(i * 7, i));
+    }
+    assertFalse(map.put(0, 42));
+    assertEquals(1000, map.size());
+    for (long i = -500; i < 500; i++) {
+      assertEquals(i == 0 ? 42 : i, map.get(i * 7, -1));
+    }
+    assertEquals(-1, map.get(1, -1));
+  }
+
+  @Test
+  public void testContainsKey() {
+    LongLongHashMap map = new LongLongHashMap();
+    assertFalse(map.containsKey(0));
+    assertFalse(map.containsKey(Long.MIN_VALUE));
+    map.put(0, 1);
+    map.put(Long.MIN_VALUE, Long.MIN_VALUE);
+    assertTrue(map.containsKey(0));
+    assertTrue(map.containsKey(Long.MIN_VALUE));
+    assertFalse(map.containsKey(Long.MAX_VALUE));
+    assertEquals(Long.MIN_VALUE, map.get(Long.MIN_VALUE, 0));
+  }
+
+  @Test
+  public void testSortedEntries() {
+    LongLongHashMap map = new LongLongHashMap();
+    map.put(3, 30);
+    map.put(0, 0);
+    map.put(-5, -50);
+    long[][] entries = map.sortedEntries();
+    assertArrayEquals(new long[] { -5, 0, 3 }, entries[0]);
+    assertArrayEquals(new long[] { -50, 0, 30 }, entries[1]);
+  }
+
+}
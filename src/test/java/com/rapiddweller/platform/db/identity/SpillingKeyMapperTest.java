@@ -0,0 +1,115 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db.identity;
+
+import com.rapiddweller.jdbacl.identity.IdentityModel;
+import com.rapiddweller.jdbacl.identity.IdentityProvider;
+import com.rapiddweller.jdbacl.identity.NoIdentity;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link SpillingKeyMapper}.<br/><br/>
+ * Created: 18.10.2026 14:47:21
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class SpillingKeyMapperTest {
+
+  private static final IdentityModel IDENTITY = new NoIdentity("ITEM");
+
+  private SpillingKeyMapper mapper;
+
+  @Before
+  public void setUp() {
+    // allows for 100 long mappings in memory
+    mapper = new SpillingKeyMapper(null, "t", new IdentityProvider(), null,
+        100 * SpillingKeyMapper.BYTES_PER_MEMORY_ENTRY);
+  }
+
+  @After
+  public void tearDown() {
+    mapper.close();
+  }
+
+  @Test
+  public void testSpilling() {
+    for (int i = 0; i < 2000; i++) {
+      mapper.store("s", IDENTITY, null, (long) i, i + 100000L);
+    }
+    // overwrite mappings which have already been moved to files
+    mapper.store("s", IDENTITY, null, 5L, 5L);
+    mapper.store("s", IDENTITY, null, 1500L, 1500L);
+    assertEquals(2002, mapper.getLongMappingCount());
+    assertEquals(0, mapper.getObjectMappingCount());
+    assertTrue(mapper.getSpilledEntryCount() >= 1900);
+    assertTrue(mapper.getFileCount() <= SpillingLongLongMap.MAX_RUNS);
+    assertTrue(mapper.getDiskBytes() > 0);
+    for (int i = 0; i < 2000; i++) {
+      Object expected = (i == 5 || i == 1500 ? (long) i : i + 100000L);
+      assertEquals(expected, mapper.getTargetPK("s", IDENTITY, (long) i));
+    }
+    assertNull(mapper.getTargetPK("s", IDENTITY, 2000L));
+  }
+
+  @Test
+  public void testExtremeValues() {
+    mapper.store("s", IDENTITY, null, Long.MIN_VALUE, Long.MIN_VALUE);
+    mapper.store("s", IDENTITY, null, Long.MAX_VALUE, Long.MIN_VALUE);
+    mapper.store("s", IDENTITY, null, 0L, Long.MIN_VALUE);
+    assertEquals(3, mapper.getLongMappingCount());
+    for (int i = 1; i < 1000; i++) {
+      mapper.store("s", IDENTITY, null, (long) i, (long) i);
+    }
+    assertTrue(mapper.getSpilledEntryCount() > 0);
+    assertEquals(Long.MIN_VALUE, mapper.getTargetPK("s", IDENTITY, Long.MIN_VALUE));
+    assertEquals(Long.MIN_VALUE, mapper.getTargetPK("s", IDENTITY, Long.MAX_VALUE));
+    assertEquals(Long.MIN_VALUE, mapper.getTargetPK("s", IDENTITY, 0L));
+    assertNull(mapper.getTargetPK("s", IDENTITY, Long.MIN_VALUE + 1));
+  }
+
+  @Test
+  public void testNumberTypes() {
+    mapper.store("s", IDENTITY, null, new BigDecimal("10"), 1);
+    mapper.store("s", IDENTITY, null, 20, 2);
+    assertEquals(1, mapper.getTargetPK("s", IDENTITY, 10L));
+    assertEquals(1, mapper.getTargetPK("s", IDENTITY, new BigDecimal("10.00")));
+    assertEquals(2, mapper.getTargetPK("s", IDENTITY, new BigDecimal(20)));
+    // a target pk of another type is held as object
+    mapper.store("s", IDENTITY, null, 30, 3L);
+    assertEquals(3L, mapper.getTargetPK("s", IDENTITY, 30));
+    assertEquals(2, mapper.getLongMappingCount());
+    assertEquals(1, mapper.getObjectMappingCount());
+  }
+
+  @Test
+  public void testObjectKeys() {
+    mapper.store("s", IDENTITY, null, "A", "X");
+    mapper.store("s", IDENTITY, null, new Object[] { 1, "B" }, new Object[] { 2, "Y" });
+    mapper.store("s", IDENTITY, null, Long.MIN_VALUE, 1L);
+    assertEquals("X", mapper.getTargetPK("s", IDENTITY, "A"));
+    assertArrayEquals(new Object[] { 2, "Y" }, (Object[]) mapper.getTargetPK("s", IDENTITY, new Object[] { 1, "B" }));
+    assertEquals(1L, mapper.getTargetPK("s", IDENTITY, Long.MIN_VALUE));
+    assertEquals(2, mapper.getObjectMappingCount());
+    assertEquals(1, mapper.getLongMappingCount());
+  }
+
+  @Test
+  public void testNaturalKeys() {
+    mapper.store("s", IDENTITY, "Alice", 11, 1);
+    mapper.store("s", IDENTITY, "Bob", 12, 2);
+    assertEquals("Alice", mapper.getNaturalKey("s", IDENTITY, 11));
+    assertEquals("Bob", mapper.getNaturalKey("t", IDENTITY, 2));
+    assertEquals(2, mapper.getTargetPK(IDENTITY, "Bob"));
+    assertNull(mapper.getTargetPK(IDENTITY, "Carl"));
+  }
+
+}
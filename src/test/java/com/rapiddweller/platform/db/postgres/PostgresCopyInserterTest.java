@@ -0,0 +1,165 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db.postgres;
+
+import com.rapiddweller.common.exception.IllegalOperationError;
+import com.rapiddweller.model.data.DataModel;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.db.DefaultDBSystem;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.rapiddweller.jdbacl.dialect.H2Util.*;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link PostgresCopyInserter} with a stand-in for the COPY API
+ * and an H2 database as meta data source.<br/><br/>
+ * Created: 18.10.2026 16:44:10
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class PostgresCopyInserterTest {
+
+  private DefaultDBSystem db;
+
+  @Before
+  public void setUp() {
+    db = new DefaultDBSystem("db", IN_MEMORY_URL_PREFIX + "copytest", DRIVER, DEFAULT_USER, DEFAULT_PASSWORD,
+        new DataModel());
+    db.setSchema("PUBLIC");
+    db.execute("drop table if exists PARENT");
+    db.execute("drop table if exists CHILD");
+    db.execute("create table PARENT (ID int primary key, NAME varchar(30), DATA varbinary(10), ACTIVE boolean)");
+    db.execute("create table CHILD (ID int primary key, PARENT_ID int)");
+    db.invalidate();
+  }
+
+  @After
+  public void tearDown() {
+    db.execute("drop table PARENT");
+    db.execute("drop table CHILD");
+    db.close();
+  }
+
+  @Test
+  public void testRowsAndFlush() {
+    CapturingCopyInserter inserter = new CapturingCopyInserter(db);
+    inserter.startProductConsumption(new Entity("PARENT", db,
+        "ID", 1, "NAME", "Al \"the\" Pal", "DATA", new byte[] { 1, (byte) 0xAB }, "ACTIVE", true));
+    inserter.finishProductConsumption(null);
+    inserter.startProductConsumption(new Entity("PARENT", db, "ID", 2, "NAME", null, "ACTIVE", false));
+    assertEquals(0, inserter.copies.size());
+    inserter.flush();
+    assertEquals(1, inserter.copies.size());
+    assertEquals("COPY \"PUBLIC\".\"PARENT\" (\"ID\", \"NAME\", \"DATA\", \"ACTIVE\") FROM STDIN WITH (FORMAT csv)\n" +
+        "\"1\",\"Al \"\"the\"\" Pal\",\"\\x01ab\",\"true\"\n" +
+        "\"2\",,,\"false\"\n", inserter.copies.get(0));
+    inserter.flush();
+    assertEquals(1, inserter.copies.size());
+  }
+
+  @Test
+  public void testTableChangePreservesOrder() {
+    CapturingCopyInserter inserter = new CapturingCopyInserter(db);
+    inserter.startProductConsumption(new Entity("PARENT", db, "ID", 1, "NAME", "A"));
+    inserter.startProductConsumption(new Entity("CHILD", db, "ID", 11, "PARENT_ID", 1));
+    inserter.startProductConsumption(new Entity("CHILD", db, "ID", 12, "PARENT_ID", 1));
+    inserter.flush();
+    assertEquals(2, inserter.copies.size());
+    assertEquals("COPY \"PUBLIC\".\"PARENT\" (\"ID\", \"NAME\", \"DATA\", \"ACTIVE\") FROM STDIN WITH (FORMAT csv)\n" +
+        "\"1\",\"A\",,\n", inserter.copies.get(0));
+    assertEquals("COPY \"PUBLIC\".\"CHILD\" (\"ID\", \"PARENT_ID\") FROM STDIN WITH (FORMAT csv)\n" +
+        "\"11\",\"1\"\n\"12\",\"1\"\n", inserter.copies.get(1));
+  }
+
+  @Test
+  public void testNewColumnListWithSameColumns() {
+    CapturingCopyInserter inserter = new CapturingCopyInserter(db);
+    inserter.startProductConsumption(new Entity("CHILD", db, "ID", 11, "PARENT_ID", 1));
+    db.invalidate(); // makes the database create a new column list
+    inserter.startProductConsumption(new Entity("CHILD", db, "ID", 12, "PARENT_ID", 1));
+    inserter.flush();
+    assertEquals(1, inserter.copies.size());
+  }
+
+  @Test
+  public void testBufferLimit() {
+    CapturingCopyInserter inserter = new CapturingCopyInserter(db);
+    String name = "x".repeat(PostgresCopyInserter.MAX_BUFFER_BYTES / 3);
+    for (int i = 0; i < 4; i++) {
+      inserter.startProductConsumption(new Entity("PARENT", db, "ID", i, "NAME", name));
+    }
+    assertEquals(1, inserter.copies.size());
+    inserter.flush();
+    assertEquals(2, inserter.copies.size());
+  }
+
+  @Test
+  public void testSchemaAndQuotedNames() {
+    db.execute("create schema if not exists \"Sales\"");
+    db.execute("create table \"Sales\".\"Order\" (\"Id\" int primary key, \"select\" varchar(10))");
+    DefaultDBSystem salesDb = new DefaultDBSystem("sales", IN_MEMORY_URL_PREFIX + "copytest", DRIVER,
+        DEFAULT_USER, DEFAULT_PASSWORD, new DataModel());
+    try {
+      salesDb.setSchema("Sales");
+      CapturingCopyInserter inserter = new CapturingCopyInserter(salesDb);
+      inserter.startProductConsumption(new Entity("Order", salesDb, "Id", 1, "select", "x"));
+      inserter.flush();
+      assertEquals("COPY \"Sales\".\"Order\" (\"Id\", \"select\") FROM STDIN WITH (FORMAT csv)\n" +
+          "\"1\",\"x\"\n", inserter.copies.get(0));
+    } finally {
+      salesDb.execute("drop schema \"Sales\" cascade");
+      salesDb.close();
+    }
+  }
+
+  @Test(expected = IllegalOperationError.class)
+  public void testCopyInserterOnOtherDatabase() {
+    db.copyInserter();
+  }
+
+  @Test
+  public void testWriteCsvValue() throws Exception {
+    assertEquals("", csv(null));
+    assertEquals("\"\"", csv(""));
+    assertEquals("\"a,b\"", csv("a,b"));
+    assertEquals("\"{\"\"x\"\": 1}\"", csv(new JSONPGObject("{\"x\": 1}")));
+    assertEquals("\"{\"\"1\"\",\"\"2\"\"}\"", csv(new PGArrayObject(new Object[] { 1, 2 })));
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private static String csv(Object value) throws IOException, SQLException {
+    StringWriter writer = new StringWriter();
+    PostgresCopyInserter.writeCsvValue(value, writer);
+    return writer.toString();
+  }
+
+  static class CapturingCopyInserter extends PostgresCopyInserter {
+
+    final List<String> copies = new ArrayList<>();
+
+    CapturingCopyInserter(DefaultDBSystem db) {
+      super(db);
+    }
+
+    @Override
+    protected long copyIn(String sql, InputStream in) throws IOException {
+      String data = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      copies.add(sql + '\n' + data);
+      return data.chars().filter(c -> c == '\n').count();
+    }
+
+  }
+
+}
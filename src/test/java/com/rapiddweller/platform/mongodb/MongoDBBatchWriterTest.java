@@ -0,0 +1,181 @@
+package com.rapiddweller.platform.mongodb;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.rapiddweller.common.exception.ServiceFailedException;
+import com.rapiddweller.model.data.DataModel;
+import com.rapiddweller.model.data.DefaultDescriptorProvider;
+import com.rapiddweller.model.data.DescriptorProvider;
+import com.rapiddweller.model.data.Entity;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the {@link MongoDBBatchWriter} with a bulk writer that records its invocations.
+ */
+public class MongoDBBatchWriterTest {
+
+    @Test
+    public void testBatchSize() {
+        RecordingWriter target = new RecordingWriter();
+        MongoDBBatchWriter writer = new MongoDBBatchWriter(target, 2, 0);
+        for (int i = 0; i < 5; i++) {
+            writer.insert("person", person(i, "Alice"));
+        }
+        writer.flush();
+        assertEquals("[2, 2, 1]", target.sizes().toString());
+        assertTrue(target.models.get(0).get(0) instanceof InsertOneModel);
+        writer.close();
+    }
+
+    @Test
+    public void testBatchBytes() {
+        RecordingWriter target = new RecordingWriter();
+        MongoDBBatchWriter writer = new MongoDBBatchWriter(target, 1000, 30);
+        for (int i = 0; i < 4; i++) {
+            writer.insert("person", person(i, "0123456789"));
+        }
+        writer.close();
+        assertEquals("[2, 2]", target.sizes().toString());
+    }
+
+    @Test
+    public void testCollections() {
+        RecordingWriter target = new RecordingWriter();
+        MongoDBBatchWriter writer = new MongoDBBatchWriter(target, 1000, 0);
+        writer.insert("person", person(1, "Alice"));
+        writer.insert("address", person(2, "Main Street"));
+        writer.insert("person", person(3, "Bob"));
+        writer.close();
+        assertEquals(2, target.collections.size());
+        int personIndex = target.collections.indexOf("person");
+        assertEquals(2, target.models.get(personIndex).size());
+    }
+
+    @Test
+    public void testInsertReplaceOrder() {
+        RecordingWriter target = new RecordingWriter();
+        MongoDBBatchWriter writer = new MongoDBBatchWriter(target, 1000, 0);
+        writer.insert("person", person(1, "Alice"));
+        writer.insert("person", person(2, "Bob"));
+        writer.replace("person", person(1, "Alicia"));
+        writer.insert("person", person(3, "Charly"));
+        writer.close();
+        assertEquals("[2, 1, 1]", target.sizes().toString());
+        assertTrue(target.models.get(1).get(0) instanceof ReplaceOneModel);
+        assertTrue(target.models.get(2).get(0) instanceof InsertOneModel);
+    }
+
+    @Test
+    public void testOrderUnderBackpressure() {
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        RecordingWriter target = new RecordingWriter() {
+            @Override
+            public void write(String collection, List<WriteModel<Document>> models) {
+                threads.add(Thread.currentThread().getName());
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.write(collection, models);
+            }
+        };
+        MongoDBBatchWriter writer = new MongoDBBatchWriter(target, 1, 0);
+        int count = 5 * MongoDBBatchWriter.MAX_PENDING_WRITES;
+        for (int i = 0; i < count; i++) {
+            writer.insert("person", person(i, "Alice"));
+            writer.replace("person", person(i, "Alicia"));
+        }
+        writer.close();
+        assertEquals(2 * count, target.models.size());
+        for (int i = 0; i < count; i++) {
+            assertTrue(target.models.get(2 * i).get(0) instanceof InsertOneModel);
+            assertTrue(target.models.get(2 * i + 1).get(0) instanceof ReplaceOneModel);
+        }
+        for (String thread : threads) {
+            assertEquals("MongoDBBatchWriter", thread);
+        }
+    }
+
+    @Test
+    public void testNothingToWrite() {
+        RecordingWriter target = new RecordingWriter();
+        MongoDBBatchWriter writer = new MongoDBBatchWriter(target, 10, 0);
+        writer.flush();
+        writer.close();
+        assertEquals(0, target.models.size());
+    }
+
+    @Test
+    public void testBulkWriteError() {
+        MongoDBBatchWriter writer = new MongoDBBatchWriter((collection, models) -> {
+            BulkWriteError error = new BulkWriteError(11000, "duplicate key", new BsonDocument(), 1);
+            throw new MongoBulkWriteException(BulkWriteResult.unacknowledged(), Collections.singletonList(error),
+                null, new ServerAddress());
+        }, 10, 0);
+        writer.insert("person", person(1, "Alice"));
+        writer.insert("person", person(1, "Bob"));
+        try {
+            writer.flush();
+            fail(ServiceFailedException.class.getSimpleName() + " expected");
+        } catch (ServiceFailedException e) {
+            assertTrue(e.getMessage().contains("Failed to write 1 of 2 entities to collection 'person'"));
+            assertTrue(e.getMessage().contains("Bob"));
+            assertTrue(e.getMessage().contains("duplicate key"));
+        }
+        writer.close();
+    }
+
+    @Test
+    public void testEstimateSize() {
+        assertEquals(0, MongoDBBatchWriter.estimateSize(null));
+        assertEquals(3, MongoDBBatchWriter.estimateSize("abc"));
+        assertEquals(8, MongoDBBatchWriter.estimateSize(42));
+        assertEquals(16, MongoDBBatchWriter.estimateSize(new int[] { 1, 2 }));
+        assertEquals(3 + 8 + 4 + 5, MongoDBBatchWriter.estimateSize(person(1, "Alice")));
+    }
+
+    // helpers ---------------------------------------------------------------------------------------------------------
+
+    private static final DescriptorProvider DESCRIPTOR_PROVIDER = new DefaultDescriptorProvider("test", new DataModel());
+
+    private static Entity person(int id, String name) {
+        return new Entity("person", DESCRIPTOR_PROVIDER, "_id", id, "name", name);
+    }
+
+    static class RecordingWriter implements MongoDBBatchWriter.BulkWriter {
+
+        final List<String> collections = Collections.synchronizedList(new ArrayList<>());
+        final List<List<WriteModel<Document>>> models = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void write(String collection, List<WriteModel<Document>> models) {
+            this.collections.add(collection);
+            this.models.add(models);
+        }
+
+        List<Integer> sizes() {
+            List<Integer> result = new ArrayList<>();
+            for (List<WriteModel<Document>> batch : models) {
+                result.add(batch.size());
+            }
+            return result;
+        }
+    }
+
+}
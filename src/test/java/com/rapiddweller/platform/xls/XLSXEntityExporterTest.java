@@ -0,0 +1,152 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xls;
+
+import com.rapiddweller.common.FileUtil;
+import com.rapiddweller.model.data.Entity;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link XLSXEntityExporter}.<br/><br/>
+ * Created: 18.10.2026 19:58:07
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class XLSXEntityExporterTest extends XLSTest {
+
+  private static final File FILE = new File("target", XLSXEntityExporterTest.class.getSimpleName() + ".xlsx");
+
+  @After
+  public void tearDown() {
+    FileUtil.deleteIfExists(FILE);
+  }
+
+  @Test
+  public void testEmpty() throws IOException {
+    new XLSXEntityExporter(FILE.getPath()).close();
+    try (XSSFWorkbook workbook = read()) {
+      assertEquals(1, workbook.getNumberOfSheets());
+      assertNull(workbook.getSheetAt(0).getRow(0));
+    }
+  }
+
+  @Test
+  public void testTwoTypes() throws IOException {
+    XLSXEntityExporter exporter = new XLSXEntityExporter(FILE.getPath());
+    consume(exporter, PROD1, PROD2, PERSON1);
+    exporter.close();
+    try (XSSFWorkbook workbook = read()) {
+      assertEquals(2, workbook.getNumberOfSheets());
+      XSSFSheet products = workbook.getSheet("Product");
+      checkStrings(products.getRow(0), "ean", "price", "date", "avail", "updated");
+      checkProduct(PROD1, products.getRow(1));
+      checkProduct(PROD2, products.getRow(2));
+      assertNull(products.getRow(3));
+      XSSFSheet persons = workbook.getSheet("Person");
+      checkStrings(persons.getRow(0), "name", "age");
+      assertEquals(PERSON1_NAME, persons.getRow(1).getCell(0).getStringCellValue());
+      assertEquals(PERSON1_AGE, persons.getRow(1).getCell(1).getNumericCellValue(), 0);
+    }
+  }
+
+  @Test
+  public void testSheetRollover() throws IOException {
+    XLSXEntityExporter exporter = new XLSXEntityExporter(FILE.getPath());
+    exporter.setRowWindow(1);
+    exporter.setMaxRowsPerSheet(3);
+    consume(exporter, PROD1, PROD2, PROD1, PROD2, PROD1);
+    exporter.close();
+    try (XSSFWorkbook workbook = read()) {
+      assertEquals(3, workbook.getNumberOfSheets());
+      assertEquals("Product", workbook.getSheetName(0));
+      assertEquals("Product_2", workbook.getSheetName(1));
+      assertEquals("Product_3", workbook.getSheetName(2));
+      for (int i = 0; i < 3; i++) {
+        XSSFSheet sheet = workbook.getSheetAt(i);
+        checkStrings(sheet.getRow(0), "ean", "price", "date", "avail", "updated");
+        checkProduct(PROD1, sheet.getRow(1));
+      }
+      checkProduct(PROD2, workbook.getSheetAt(1).getRow(2));
+      assertNull(workbook.getSheetAt(2).getRow(2));
+    }
+  }
+
+  @Test
+  public void testSheetRollover_longTypeName() throws IOException {
+    String type = "ProductCatalogEntryWithAVeryLongName";
+    XLSXEntityExporter exporter = new XLSXEntityExporter(FILE.getPath());
+    exporter.setMaxRowsPerSheet(2);
+    for (int i = 0; i < 11; i++) {
+      consume(exporter, new Entity(type, p, "ean", EAN1));
+    }
+    exporter.close();
+    try (XSSFWorkbook workbook = read()) {
+      assertEquals(11, workbook.getNumberOfSheets());
+      assertEquals("ProductCatalogEntryWithAVeryLon", workbook.getSheetName(0));
+      assertEquals("ProductCatalogEntryWithAVeryL_2", workbook.getSheetName(1));
+      assertEquals("ProductCatalogEntryWithAVery_11", workbook.getSheetName(10));
+    }
+  }
+
+  @Test
+  public void testSharedStyles() throws IOException {
+    XLSXEntityExporter exporter = new XLSXEntityExporter(FILE.getPath());
+    exporter.setMaxRowsPerSheet(2);
+    consume(exporter, PROD1, PROD2, PROD1);
+    exporter.close();
+    try (XSSFWorkbook workbook = read()) {
+      XSSFCell date1 = workbook.getSheetAt(0).getRow(1).getCell(2);
+      XSSFCell date3 = workbook.getSheetAt(2).getRow(1).getCell(2);
+      assertTrue(DateUtil.isCellDateFormatted(date1));
+      assertEquals(date1.getCellStyle().getIndex(), date3.getCellStyle().getIndex());
+      // the default style and one style per data format
+      assertTrue(workbook.getNumCellStyles() <= 6);
+    }
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private static void consume(XLSXEntityExporter exporter, Entity... entities) {
+    for (Entity entity : entities) {
+      exporter.startProductConsumption(entity);
+      exporter.finishProductConsumption(entity);
+    }
+  }
+
+  private static XSSFWorkbook read() throws IOException {
+    assertTrue(FILE.exists());
+    return new XSSFWorkbook(new FileInputStream(FILE));
+  }
+
+  private static void checkStrings(XSSFRow row, String... values) {
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(values[i], row.getCell(i).getStringCellValue());
+    }
+  }
+
+  private static void checkProduct(Entity expected, XSSFRow row) {
+    assertEquals(expected.get("ean"), row.getCell(0).getStringCellValue());
+    assertEquals(((Number) expected.get("price")).doubleValue(), row.getCell(1).getNumericCellValue(), 0);
+    assertEquals(CellType.NUMERIC, row.getCell(2).getCellType());
+    assertEquals(expected.get("date"), row.getCell(2).getDateCellValue());
+    assertEquals(expected.get("avail"), row.getCell(3).getBooleanCellValue());
+    assertEquals(((java.util.Date) expected.get("updated")).getTime() / 1000,
+        row.getCell(4).getDateCellValue().getTime() / 1000);
+  }
+
+}
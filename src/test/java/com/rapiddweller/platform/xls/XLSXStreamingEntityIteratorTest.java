@@ -0,0 +1,251 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xls;
+
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.engine.DefaultBeneratorContext;
+import com.rapiddweller.common.FileUtil;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.format.util.DataUtil;
+import com.rapiddweller.model.data.Entity;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.usermodel.XSSFFormulaEvaluator;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link XLSXStreamingEntityIterator} and the {@link XLSXSheetRowIterator}
+ * with XLSX copies of the XLS test files, comparing the results with the DOM-based iterators.<br/><br/>
+ * Created: 18.10.2026 21:26:40
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class XLSXStreamingEntityIteratorTest extends XLSTest {
+
+  private static final String IMPORT_XLS = "com/rapiddweller/platform/xls/import-multisheet.ent.xls";
+  private static final String COUNTRY_XLS = "com/rapiddweller/platform/xls/country.ent.xls";
+  private static final String PRODUCT_COLUMNS_XLS = "com/rapiddweller/platform/xls/product-columns.ent.xls";
+
+  private static final File FILE = new File("target", XLSXStreamingEntityIteratorTest.class.getSimpleName() + ".xlsx");
+
+  private BeneratorContext context;
+
+  @Before
+  public void setUp() {
+    context = new DefaultBeneratorContext();
+  }
+
+  @After
+  public void tearDown() {
+    FileUtil.deleteIfExists(FILE);
+  }
+
+  @Test
+  public void testSingleSheet() throws IOException {
+    convertToXlsx(IMPORT_XLS);
+    try (XLSXStreamingEntityIterator iterator = createIterator("Product", true)) {
+      assertProduct(PROD1, DataUtil.nextNotNullData(iterator));
+      assertProduct(PROD2, DataUtil.nextNotNullData(iterator));
+      assertNull(iterator.next(new DataContainer<>()));
+    }
+  }
+
+  @Test
+  public void testAllSheets() throws IOException {
+    convertToXlsx(IMPORT_XLS);
+    try (XLSXStreamingEntityIterator iterator = createIterator(null, true)) {
+      assertProduct(PROD1, DataUtil.nextNotNullData(iterator));
+      assertProduct(PROD2, DataUtil.nextNotNullData(iterator));
+      assertPerson(PERSON1, DataUtil.nextNotNullData(iterator));
+      assertNull(iterator.next(new DataContainer<>()));
+    }
+  }
+
+  @Test
+  public void testSameResultAsWorkbook() throws IOException {
+    convertToXlsx(IMPORT_XLS);
+    List<Entity> expected = AllSheetsXLSEntityIterator.parseAll(FILE.getPath(), null, false);
+    List<Entity> actual = parseAll(createIterator(null, true));
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getComponents(), actual.get(i).getComponents());
+    }
+  }
+
+  @Test
+  public void testColumnBased() throws IOException {
+    convertToXlsx(PRODUCT_COLUMNS_XLS);
+    try (XLSXStreamingEntityIterator iterator = createIterator(null, false)) {
+      assertProduct(PROD1, DataUtil.nextNotNullData(iterator));
+      assertProduct(PROD2, DataUtil.nextNotNullData(iterator));
+      assertNull(iterator.next(new DataContainer<>()));
+    }
+  }
+
+  @Test
+  public void testCollectionMapping() throws IOException {
+    convertToXlsx(COUNTRY_XLS);
+    try (XLSXStreamingEntityIterator iterator = createIterator("country", true)) {
+      Entity germany = DataUtil.nextNotNullData(iterator);
+      assertEquals("Germany", germany.get("name"));
+      Entity[] states = (Entity[]) germany.get("states");
+      assertEquals(2, states.length);
+      assertEquals("Bayern", states[0].get("name"));
+      Entity[] cities = (Entity[]) states[0].get("cities");
+      assertEquals(2, cities.length);
+      assertEquals("Ingolstadt", cities[0].get("name"));
+      assertEquals("Regensburg", cities[1].get("name"));
+      Entity italy = DataUtil.nextNotNullData(iterator);
+      assertEquals(2, ((Entity[]) italy.get("states")).length);
+      assertNull(iterator.next(new DataContainer<>()));
+    }
+  }
+
+  @Test
+  public void testRowValues() throws IOException {
+    try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+      Sheet sheet = workbook.createSheet("values");
+      CellStyle dateStyle = workbook.createCellStyle();
+      dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+      Row row = sheet.createRow(0);
+      row.createCell(0).setCellValue("text");
+      row.createCell(1).setCellValue(42);
+      row.createCell(2).setCellValue(1.5);
+      Cell date = row.createCell(3);
+      date.setCellValue(DATE1);
+      date.setCellStyle(dateStyle);
+      row.createCell(4).setCellValue(true);
+      row.createCell(5);
+      row.createCell(7).setCellFormula("B1*2");
+      row.createCell(8).setCellValue("'");
+      row.createCell(9).setCellValue("NULL");
+      sheet.createRow(2).createCell(1).setCellValue("third");
+      XSSFFormulaEvaluator.evaluateAllFormulaCells(workbook);
+      save(workbook);
+    }
+    try (XLSXStreamingWorkbook workbook = new XLSXStreamingWorkbook(FILE.getPath(), false, null, null)) {
+      XLSXSheetRowIterator iterator = (XLSXSheetRowIterator) workbook.openRows("values");
+      iterator.setNullMarker("NULL");
+      assertArrayEquals(new Object[] { "text", 42L, 1.5, DATE1, true, "", null, 84L, "", null },
+          DataUtil.nextNotNullData(iterator));
+      assertArrayEquals(new Object[] { null, "third" }, DataUtil.nextNotNullData(iterator));
+      assertNull(iterator.next(new DataContainer<>()));
+    }
+    try (XLSXStreamingWorkbook workbook = new XLSXStreamingWorkbook(FILE.getPath(), true, null, null)) {
+      DataIterator<Object[]> iterator = workbook.openRows("values");
+      Object[] row = DataUtil.nextNotNullData(iterator);
+      assertEquals("42", row[1]);
+      assertEquals("1.5", row[2]);
+      assertEquals("2009-07-18", row[3]);
+      assertEquals("TRUE", row[4]);
+      assertEquals("84", row[7]);
+      iterator.close();
+    }
+  }
+
+  @Test
+  public void testIsXlsx() throws IOException {
+    convertToXlsx(IMPORT_XLS);
+    assertTrue(XLSXStreamingWorkbook.isXlsx(FILE.getPath()));
+    assertFalse(XLSXStreamingWorkbook.isXlsx(IMPORT_XLS));
+  }
+
+  @Test
+  public void testColumnIndex() {
+    assertEquals(0, XLSXSheetRowIterator.columnIndex("A1"));
+    assertEquals(25, XLSXSheetRowIterator.columnIndex("Z100"));
+    assertEquals(26, XLSXSheetRowIterator.columnIndex("AA3"));
+    assertEquals(16383, XLSXSheetRowIterator.columnIndex("XFD1"));
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private XLSXStreamingEntityIterator createIterator(String sheetName, boolean rowBased) {
+    XLSXStreamingEntityIterator iterator = new XLSXStreamingEntityIterator(
+        FILE.getPath(), sheetName, null, null, rowBased, false);
+    iterator.setContext(context);
+    return iterator;
+  }
+
+  private static List<Entity> parseAll(DataIterator<Entity> iterator) {
+    List<Entity> result = new ArrayList<>();
+    DataContainer<Entity> container = new DataContainer<>();
+    while ((container = iterator.next(container)) != null) {
+      result.add(container.getData());
+    }
+    iterator.close();
+    return result;
+  }
+
+  /** Copies the cells of an XLS file with values, formulas and data formats to an XLSX file. */
+  private static void convertToXlsx(String xlsUri) throws IOException {
+    try (InputStream in = IOUtil.getInputStreamForURI(xlsUri);
+         Workbook source = WorkbookFactory.create(in);
+         XSSFWorkbook target = new XSSFWorkbook()) {
+      for (Sheet sourceSheet : source) {
+        Sheet targetSheet = target.createSheet(sourceSheet.getSheetName());
+        for (Row sourceRow : sourceSheet) {
+          Row targetRow = targetSheet.createRow(sourceRow.getRowNum());
+          for (Cell sourceCell : sourceRow) {
+            copyCell(sourceCell, targetRow.createCell(sourceCell.getColumnIndex()), target);
+          }
+        }
+      }
+      XSSFFormulaEvaluator.evaluateAllFormulaCells(target);
+      save(target);
+    }
+  }
+
+  private static void copyCell(Cell source, Cell target, XSSFWorkbook workbook) {
+    switch (source.getCellType()) {
+      case STRING:
+        target.setCellValue(source.getStringCellValue());
+        break;
+      case NUMERIC:
+        target.setCellValue(source.getNumericCellValue());
+        CellStyle style = workbook.createCellStyle();
+        style.setDataFormat(workbook.createDataFormat().getFormat(source.getCellStyle().getDataFormatString()));
+        target.setCellStyle(style);
+        break;
+      case BOOLEAN:
+        target.setCellValue(source.getBooleanCellValue());
+        break;
+      case FORMULA:
+        target.setCellFormula(source.getCellFormula());
+        break;
+      default:
+        // blank cells stay blank
+    }
+  }
+
+  private static void save(Workbook workbook) throws IOException {
+    FILE.getParentFile().mkdirs();
+    try (OutputStream out = new FileOutputStream(FILE)) {
+      workbook.write(out);
+    }
+  }
+
+}
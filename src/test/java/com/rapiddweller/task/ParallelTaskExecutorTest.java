@@ -0,0 +1,109 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.task;
+
+import com.rapiddweller.common.Context;
+import com.rapiddweller.common.ErrorHandler;
+import com.rapiddweller.common.context.DefaultContext;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the {@link ParallelTaskExecutor}.<br/><br/>
+ * Created: 18.10.2026 13:02:17
+ * @author Volker Bergmann
+ * @since 3.3.0
+ */
+public class ParallelTaskExecutorTest {
+
+  private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool();
+
+  @AfterClass
+  public static void shutDown() {
+    EXECUTOR.shutdownNow();
+  }
+
+  @Test
+  public void testShare() {
+    assertEquals(3L, (long) ParallelTaskExecutor.share(10L, 0, 4));
+    assertEquals(3L, (long) ParallelTaskExecutor.share(10L, 1, 4));
+    assertEquals(2L, (long) ParallelTaskExecutor.share(10L, 2, 4));
+    assertEquals(2L, (long) ParallelTaskExecutor.share(10L, 3, 4));
+    assertEquals(0L, (long) ParallelTaskExecutor.share(2L, 3, 4));
+    assertNull(ParallelTaskExecutor.share(null, 1, 4));
+  }
+
+  @Test
+  public void testExecute() {
+    TaskMock.count.set(0);
+    long count = execute(4, 30L, null);
+    assertEquals(30, count);
+    assertEquals(30, TaskMock.count.get());
+  }
+
+  @Test
+  public void testFewerInvocationsThanThreads() {
+    TaskMock.count.set(0);
+    assertEquals(2, execute(4, 2L, null));
+    assertEquals(2, TaskMock.count.get());
+  }
+
+  @Test(expected = TaskUnavailableException.class)
+  public void testMinInvocationsViolated() {
+    execute(2, 3L, 5L);
+  }
+
+  @Test
+  public void testPageListeners_notConcurrent() {
+    AtomicInteger active = new AtomicInteger();
+    AtomicInteger maxActive = new AtomicInteger();
+    AtomicInteger finishedPages = new AtomicInteger();
+    PageListener listener = new PageListener() {
+      @Override
+      public void pageStarting() {
+        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+        Thread.yield();
+        active.decrementAndGet();
+      }
+      @Override
+      public void pageFinished() {
+        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+        finishedPages.incrementAndGet();
+        Thread.yield();
+        active.decrementAndGet();
+      }
+    };
+    assertEquals(30, execute(4, 30L, null, Collections.singletonList(listener)));
+    assertEquals(30, finishedPages.get());
+    assertEquals(1, maxActive.get());
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static long execute(int threads, Long requested, Long min) {
+    return execute(threads, requested, min, Collections.emptyList());
+  }
+
+  private static long execute(int threads, Long requested, Long min, List<PageListener> listeners) {
+    List<Task> workers = new ArrayList<>(threads);
+    List<Context> contexts = new ArrayList<>(threads);
+    for (int i = 0; i < threads; i++) {
+      Context context = new DefaultContext();
+      workers.add(new TaskMock(i, context));
+      contexts.add(context);
+    }
+    return ParallelTaskExecutor.execute(workers, contexts, EXECUTOR, requested, min,
+        listeners, 1, ErrorHandler.getDefault(), false);
+  }
+
+}
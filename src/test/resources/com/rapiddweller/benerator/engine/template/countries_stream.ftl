@@ -0,0 +1,5 @@
+Countries of ${continent[0].name}:
+<#-- stream countries as country -->
+${country_index + 1}. C${country.name}: <#list country.states as state>S${state.name}<#sep>, </#sep></#list>
+<#-- /stream -->
+End of list.